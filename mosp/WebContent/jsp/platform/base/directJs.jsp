@@ -29,6 +29,7 @@ import = "jp.mosp.framework.constant.MospConst"
 import = "jp.mosp.framework.js.DirectJs"
 import = "jp.mosp.framework.utils.MenuJsUtility"
 import = "jp.mosp.platform.constant.PlatformConst"
+import = "jp.mosp.platform.portal.action.MenuJsAction"
 import = "net.arnx.jsonic.JSON"
 %><%
 MospParams params = (MospParams)request.getAttribute(MospConst.ATT_MOSP_PARAMS);
@@ -88,11 +89,18 @@ for (String key : params.getGeneralParamKeySet()) {
 if (params.getUser() != null) {
 %>
 SELECT_MENU = <%= "'" + MenuJsUtility.getSelectMenu(params) + "'" %>;
-<%= MenuJsUtility.getMenuJs(params) %>
 <%
 }
 %>
 </script>
+<%
+if (params.getUser() != null) {
+%>
+<%-- メニュー用JS(ロール毎に保持しバージョン付きURLでキャッシュさせる) --%>
+<script type="text/javascript" src="..<%= MospConst.URL_SRV %>?<%= MospConst.PRM_CMD %>=<%= MenuJsAction.CMD_OUTPUT %>&amp;v=<%= MenuJsUtility.getMenuJsVersion(params) %>"></script>
+<%
+}
+%>
 <%-- modeActivateDate --%>
 <%!
 String toModeActivateDate(String name) {
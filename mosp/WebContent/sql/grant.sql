@@ -33,6 +33,7 @@ pft_reception_ic_card,
 pft_workflow,
 pft_workflow_comment,
 pft_message,
+pft_mail_outbox,
 pft_sub_approver,
 pfm_route_application,
 pfm_import,
@@ -78,6 +79,7 @@ pfm_approval_unit_id_seq,
 pfm_approval_route_id_seq,
 pfa_approval_route_unit_id_seq,
 pft_message_id_seq,
+pft_mail_outbox_id_seq,
 pft_sub_approver_id_seq,
 pfm_route_application_id_seq,
 pfm_import_id_seq,
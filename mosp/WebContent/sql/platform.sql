@@ -1142,6 +1142,39 @@ COMMENT ON COLUMN pft_message.insert_user IS '登録者';
 COMMENT ON COLUMN pft_message.update_date IS '更新日';
 COMMENT ON COLUMN pft_message.update_user IS '更新者';
 
+CREATE TABLE pft_mail_outbox
+(
+  pft_mail_outbox_id bigint NOT NULL DEFAULT 0,
+  mail_receiver text NOT NULL DEFAULT ''::character varying,
+  mail_title character varying(255) NOT NULL DEFAULT ''::character varying,
+  mail_text text NOT NULL DEFAULT ''::character varying,
+  log_text text NOT NULL DEFAULT ''::character varying,
+  send_status integer NOT NULL DEFAULT 0,
+  send_count integer NOT NULL DEFAULT 0,
+  next_send_time timestamp without time zone NOT NULL,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT pft_mail_outbox_pkey PRIMARY KEY (pft_mail_outbox_id)
+)
+;
+COMMENT ON TABLE pft_mail_outbox IS 'メール送信箱';
+COMMENT ON COLUMN pft_mail_outbox.pft_mail_outbox_id IS 'レコード識別ID';
+COMMENT ON COLUMN pft_mail_outbox.mail_receiver IS '受信者';
+COMMENT ON COLUMN pft_mail_outbox.mail_title IS '件名';
+COMMENT ON COLUMN pft_mail_outbox.mail_text IS '本文';
+COMMENT ON COLUMN pft_mail_outbox.log_text IS 'ログ出力文字列';
+COMMENT ON COLUMN pft_mail_outbox.send_status IS '送信状態';
+COMMENT ON COLUMN pft_mail_outbox.send_count IS '送信回数';
+COMMENT ON COLUMN pft_mail_outbox.next_send_time IS '次回送信時刻';
+COMMENT ON COLUMN pft_mail_outbox.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN pft_mail_outbox.insert_date IS '登録日';
+COMMENT ON COLUMN pft_mail_outbox.insert_user IS '登録者';
+COMMENT ON COLUMN pft_mail_outbox.update_date IS '更新日';
+COMMENT ON COLUMN pft_mail_outbox.update_user IS '更新者';
+
 
 CREATE TABLE pft_sub_approver
 (
@@ -1399,6 +1432,7 @@ CREATE SEQUENCE pfm_approval_unit_id_seq;
 CREATE SEQUENCE pfm_approval_route_id_seq;
 CREATE SEQUENCE pfa_approval_route_unit_id_seq;
 CREATE SEQUENCE pft_message_id_seq;
+CREATE SEQUENCE pft_mail_outbox_id_seq;
 CREATE SEQUENCE pft_sub_approver_id_seq;
 CREATE SEQUENCE pfm_route_application_id_seq;
 CREATE SEQUENCE pfm_import_id_seq;
@@ -1455,6 +1489,7 @@ CREATE INDEX pft_workflow_index1 ON pft_workflow(workflow);
 CREATE INDEX pft_workflow_index2 ON pft_workflow(workflow_status);
 CREATE INDEX pft_workflow_index3 ON pft_workflow(personal_id);
 CREATE INDEX pft_workflow_comment_index1 ON pft_workflow_comment(workflow);
+CREATE INDEX pft_mail_outbox_index1 ON pft_mail_outbox(send_status, next_send_time);
 CREATE INDEX pfm_app_property_index1 ON pfm_app_property(delete_flag, app_key);
 
 
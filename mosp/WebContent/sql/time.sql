@@ -391,6 +391,39 @@ COMMENT ON COLUMN tmd_time_record.insert_user IS '登録者';
 COMMENT ON COLUMN tmd_time_record.update_date IS '更新日';
 COMMENT ON COLUMN tmd_time_record.update_user IS '更新者';
 
+CREATE TABLE tmd_punch_log
+(
+  tmd_punch_log_id bigint NOT NULL DEFAULT 0,
+  personal_id character varying(10) NOT NULL DEFAULT ''::character varying,
+  record_type character varying(10) NOT NULL DEFAULT ''::character varying,
+  record_time timestamp without time zone NOT NULL,
+  device character varying(50) NOT NULL DEFAULT ''::character varying,
+  client_nonce character varying(50) NOT NULL DEFAULT ''::character varying,
+  apply_status integer NOT NULL DEFAULT 0,
+  apply_time timestamp without time zone,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT tmd_punch_log_pkey PRIMARY KEY (tmd_punch_log_id)
+)
+;
+COMMENT ON TABLE tmd_punch_log IS '打刻ログ';
+COMMENT ON COLUMN tmd_punch_log.tmd_punch_log_id IS 'レコード識別ID';
+COMMENT ON COLUMN tmd_punch_log.personal_id IS '個人ID';
+COMMENT ON COLUMN tmd_punch_log.record_type IS '打刻区分';
+COMMENT ON COLUMN tmd_punch_log.record_time IS '打刻時刻';
+COMMENT ON COLUMN tmd_punch_log.device IS '打刻端末';
+COMMENT ON COLUMN tmd_punch_log.client_nonce IS '打刻識別子';
+COMMENT ON COLUMN tmd_punch_log.apply_status IS '反映状態';
+COMMENT ON COLUMN tmd_punch_log.apply_time IS '反映時刻';
+COMMENT ON COLUMN tmd_punch_log.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN tmd_punch_log.insert_date IS '登録日';
+COMMENT ON COLUMN tmd_punch_log.insert_user IS '登録者';
+COMMENT ON COLUMN tmd_punch_log.update_date IS '更新日';
+COMMENT ON COLUMN tmd_punch_log.update_user IS '更新者';
+
 CREATE TABLE tmd_total_time
 (
   tmd_total_time_id bigint NOT NULL DEFAULT 0,
@@ -1903,6 +1936,39 @@ COMMENT ON COLUMN tmd_stock_holiday.insert_user IS '登録者';
 COMMENT ON COLUMN tmd_stock_holiday.update_date IS '更新日';
 COMMENT ON COLUMN tmd_stock_holiday.update_user IS '更新者';
 
+CREATE TABLE tmd_holiday_balance
+(
+  tmd_holiday_balance_id bigint NOT NULL DEFAULT 0,
+  personal_id character varying(10) NOT NULL DEFAULT ''::character varying,
+  holiday_type integer NOT NULL DEFAULT 0,
+  acquisition_date date NOT NULL,
+  limit_date date NOT NULL,
+  remain_day double precision NOT NULL DEFAULT 0,
+  remain_hour integer NOT NULL DEFAULT 0,
+  balance_date date NOT NULL,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT tmd_holiday_balance_pkey PRIMARY KEY (tmd_holiday_balance_id)
+)
+;
+COMMENT ON TABLE tmd_holiday_balance IS '休暇残高台帳';
+COMMENT ON COLUMN tmd_holiday_balance.tmd_holiday_balance_id IS 'レコード識別ID';
+COMMENT ON COLUMN tmd_holiday_balance.personal_id IS '個人ID';
+COMMENT ON COLUMN tmd_holiday_balance.holiday_type IS '休暇残高区分(0:算出済、2:ストック休暇)';
+COMMENT ON COLUMN tmd_holiday_balance.acquisition_date IS '取得日';
+COMMENT ON COLUMN tmd_holiday_balance.limit_date IS '期限日';
+COMMENT ON COLUMN tmd_holiday_balance.remain_day IS '残日数';
+COMMENT ON COLUMN tmd_holiday_balance.remain_hour IS '残時間';
+COMMENT ON COLUMN tmd_holiday_balance.balance_date IS '残高算出日';
+COMMENT ON COLUMN tmd_holiday_balance.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN tmd_holiday_balance.insert_date IS '登録日';
+COMMENT ON COLUMN tmd_holiday_balance.insert_user IS '登録者';
+COMMENT ON COLUMN tmd_holiday_balance.update_date IS '更新日';
+COMMENT ON COLUMN tmd_holiday_balance.update_user IS '更新者';
+
 
 CREATE TABLE tmt_stock_holiday
 (
@@ -2186,6 +2252,7 @@ CREATE SEQUENCE tmd_allowance_id_seq;
 CREATE SEQUENCE tmd_rest_id_seq;
 CREATE SEQUENCE tmd_go_out_id_seq;
 CREATE SEQUENCE tmd_time_record_id_seq;
+CREATE SEQUENCE tmd_punch_log_id_seq;
 CREATE SEQUENCE tmd_total_time_id_seq;
 CREATE SEQUENCE tmd_total_time_correction_id_seq;
 CREATE SEQUENCE tmd_total_leave_id_seq;
@@ -2218,6 +2285,7 @@ CREATE SEQUENCE tmd_holiday_id_seq;
 CREATE SEQUENCE tmd_paid_holiday_id_seq;
 CREATE SEQUENCE tmt_paid_holiday_id_seq;
 CREATE SEQUENCE tmd_stock_holiday_id_seq;
+CREATE SEQUENCE tmd_holiday_balance_id_seq;
 CREATE SEQUENCE tmt_stock_holiday_id_seq;
 CREATE SEQUENCE tmm_schedule_id_seq;
 CREATE SEQUENCE tmm_schedule_date_id_seq;
@@ -2238,12 +2306,18 @@ CREATE INDEX tmd_holiday_index1 ON tmd_holiday(personal_id, activate_date);
 CREATE INDEX tmd_holiday_request_index1 ON tmd_holiday_request(personal_id, request_start_date, request_end_date);
 CREATE INDEX tmd_overtime_request_index1 ON tmd_overtime_request(personal_id, request_date);
 CREATE INDEX tmd_paid_holiday_index1 ON tmd_paid_holiday(personal_id, activate_date, acquisition_date);
+CREATE INDEX tmd_paid_holiday_index2 ON tmd_paid_holiday(limit_date);
 CREATE INDEX tmd_rest_index1 ON tmd_rest(personal_id, work_date);
 CREATE INDEX tmd_stock_holiday_index1 ON tmd_stock_holiday(personal_id, activate_date, acquisition_date);
+CREATE INDEX tmd_holiday_balance_index1 ON tmd_holiday_balance(personal_id, holiday_type, balance_date);
+CREATE INDEX tmd_holiday_balance_index2 ON tmd_holiday_balance(holiday_type, balance_date);
 CREATE INDEX tmd_sub_holiday_index1 ON tmd_sub_holiday(personal_id, work_date);
 CREATE INDEX tmd_sub_holiday_request_index1 ON tmd_sub_holiday_request(personal_id, request_date);
 CREATE INDEX tmd_substitute_index1 ON tmd_substitute(personal_id, substitute_date);
 CREATE INDEX tmd_time_record_index1 ON tmd_time_record(personal_id, work_date);
+CREATE UNIQUE INDEX tmd_punch_log_index1 ON tmd_punch_log(personal_id, client_nonce);
+CREATE INDEX tmd_punch_log_index2 ON tmd_punch_log(apply_status, record_time);
+CREATE INDEX tmd_punch_log_index3 ON tmd_punch_log(personal_id, record_type, record_time);
 CREATE INDEX tmd_total_absence_index1 ON tmd_total_absence(personal_id, calculation_year, calculation_month);
 CREATE INDEX tmd_total_allowance_index1 ON tmd_total_allowance(personal_id, calculation_year, calculation_month);
 CREATE INDEX tmd_total_leave_index1 ON tmd_total_leave(personal_id, calculation_year, calculation_month);
@@ -253,6 +253,37 @@ public abstract class BaseBean implements BaseBeanInterface {
 		}
 	}
 	
+	/**
+	 * 個人単位ロック。<br>
+	 * 対象個人ID及びリソース名でロックし、トランザクション終了時まで保持する。<br>
+	 * テーブルロックと異なり、他の個人の処理とは競合しない。<br>
+	 * @param personalId   個人ID
+	 * @param resourceName リソース名
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void lockPersonal(String personalId, String resourceName) throws MospException {
+		PreparedStatement ps = null;
+		try {
+			RDBMSType rdbms = DatabaseUtility.getRDBMS(connection);
+			ps = connection.prepareStatement(rdbms.lockPersonalSQL());
+			ps.setString(1, personalId);
+			if (rdbms.isAdvisoryLock()) {
+				ps.setString(2, resourceName);
+			}
+			ps.executeQuery().close();
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			try {
+				if (ps != null) {
+					ps.close();
+				}
+			} catch (SQLException e) {
+				throw new MospException(e);
+			}
+		}
+	}
+	
 	/**
 	 * テーブルロック解除。
 	 * @throws MospException SQL例外が発生した場合
@@ -17,6 +17,9 @@
  */
 package jp.mosp.framework.base;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -28,6 +31,7 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
@@ -46,6 +50,11 @@ import jp.mosp.framework.utils.LogUtility;
 public abstract class BaseDao implements BaseDaoInterface {
 	
 	// 定数
+	/**
+	 * 一括処理で一度に扱うレコードの上限数。<br>
+	 */
+	protected static final int	MAX_BULK_ROWS	= 100;
+	
 	/**
 	 * 削除フラグ列名<br>
 	 * {@link #setCommonParams(BaseDtoInterface, boolean)}、
@@ -334,6 +343,23 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * パラメータ設定(InputStream)。<br>
+	 * バイト配列に読み込まず、ストリームから直接DBに送る。<br>
+	 * @param index インデックス
+	 * @param param パラメータ
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void setParam(int index, InputStream param) throws MospException {
+		try {
+			if (ps != null) {
+				ps.setBinaryStream(index, param);
+			}
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+	}
+	
 	/**
 	 * パラメータを設定する(Date)。<br>
 	 * @param index       インデックス
@@ -549,6 +575,41 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * ResultSetの現在行にある指定された列の値を、出力ストリームに書き出す。<br>
+	 * 列値をbyteの配列として保持せず、{@link MospConst#PROCESS_BYTES}毎に読み込んで書き出す。<br>
+	 * 列値がnullの場合は、何も書き出さない。<br>
+	 * @param columnLabel 取得対象列名
+	 * @param out         出力ストリーム
+	 * @return 書き出したバイト数
+	 * @throws MospException SQL例外或いは入出力例外が発生した場合
+	 */
+	protected long writeBytes(String columnLabel, OutputStream out) throws MospException {
+		try {
+			InputStream in = rs.getBinaryStream(columnLabel);
+			if (in == null) {
+				return 0L;
+			}
+			try {
+				long total = 0L;
+				byte[] buffer = new byte[MospConst.PROCESS_BYTES];
+				int len = in.read(buffer);
+				while (len >= 0) {
+					out.write(buffer, 0, len);
+					total += len;
+					len = in.read(buffer);
+				}
+				return total;
+			} finally {
+				in.close();
+			}
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} catch (IOException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+		}
+	}
+	
 	// 共通情報取得及び設定メソッド
 	/**
 	 * 共通情報取得。<br>
@@ -677,6 +738,47 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return nextValue(sequence);
 	}
 	
+	@Override
+	public long[] nextRecordIds(int count) throws MospException {
+		long[] ids = new long[count];
+		if (count == 0) {
+			return ids;
+		}
+		// シーケンス名を取得
+		String sequence = getTable(getClass()) + "_id_seq";
+		try {
+			// 一つのSQLで取得できる場合
+			String sql = getRdbmsType().nextValuesSQL();
+			if (sql != null) {
+				// 件数分の値を一度に取得
+				prepareStatement(sql);
+				setParam(1, sequence);
+				setParam(2, count);
+				executeQuery();
+				for (int i = 0; i < count; i++) {
+					next();
+					ids[i] = rs.getLong(1);
+				}
+				return ids;
+			}
+			// 一つのステートメントを件数分実行
+			prepareStatement(select() + "NEXTVAL(?)");
+			for (int i = 0; i < count; i++) {
+				setParam(1, sequence);
+				executeQuery();
+				next();
+				ids[i] = rs.getLong(1);
+				releaseResultSet();
+			}
+			return ids;
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	// SQL実行メソッド
 	/**
 	 * 検索系SQL実行。
@@ -831,6 +933,98 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return cnt;
 	}
 	
+	@Override
+	public int insert(List<? extends BaseDtoInterface> dtoList) throws MospException {
+		int size = dtoList.size();
+		if (size == 0) {
+			return 0;
+		}
+		// 複数行のVALUESを扱えないRDBMSの場合
+		if (getRdbmsType().isMultiRowValues() == false) {
+			int count = 0;
+			for (BaseDtoInterface dto : dtoList) {
+				count += insert(dto);
+			}
+			return count;
+		}
+		try {
+			// 上限数毎に一つのSQLで挿入
+			int count = 0;
+			index = 1;
+			prepareStatement(getInsertQuery(getClass(), size, MAX_BULK_ROWS));
+			for (int i = 0; i < size; i++) {
+				setParams(dtoList.get(i), true);
+				executeUpdate(getClass(), size, MAX_BULK_ROWS, i);
+				count += cnt;
+			}
+			cnt = count;
+			chkInsert(size);
+			return cnt;
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int logicalDelete(Collection<Long> ids) throws MospException {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		// キー列名取得
+		String key = getKeyList(getClass()).get(0);
+		List<Long> list = new ArrayList<Long>(ids);
+		int count = 0;
+		try {
+			// 上限数毎に処理
+			for (int from = 0; from < list.size(); from += MAX_BULK_ROWS) {
+				List<Long> sub = list.subList(from, Math.min(from + MAX_BULK_ROWS, list.size()));
+				StringBuffer sb = new StringBuffer();
+				sb.append("UPDATE ");
+				sb.append(getTable(getClass()));
+				sb.append(" SET ");
+				sb.append(equal(colDeleteFlag));
+				if (!colUpdateDate.isEmpty()) {
+					sb.append(comma());
+					sb.append(equal(colUpdateDate));
+				}
+				if (!colUpdateUser.isEmpty()) {
+					sb.append(comma());
+					sb.append(equal(colUpdateUser));
+				}
+				sb.append(where());
+				sb.append(key);
+				sb.append(in());
+				sb.append(leftParenthesis());
+				for (int i = 0; i < sub.size(); i++) {
+					if (i > 0) {
+						sb.append(comma());
+					}
+					sb.append("?");
+				}
+				sb.append(rightParenthesis());
+				prepareStatement(sb.toString());
+				index = 1;
+				setParam(index++, MospConst.DELETE_FLAG_ON);
+				if (!colUpdateDate.isEmpty()) {
+					setParam(index++, new Date(), true);
+				}
+				if (!colUpdateUser.isEmpty()) {
+					setParam(index++, userId);
+				}
+				for (long id : sub) {
+					setParam(index++, id);
+				}
+				executeUpdate();
+				chkUpdate(sub.size());
+				count += cnt;
+				releasePreparedStatement();
+			}
+			return count;
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
 	// SQL作成メソッド
 	/**
 	 * 全件検索SQLを取得する。<br>
@@ -851,6 +1045,28 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return query;
 	}
 	
+	/**
+	 * 指定列を除いた全件検索SQLを取得する。<br>
+	 * バイナリ等、大きな列を読み込まずに検索する場合に用いる。<br>
+	 * @param cls          DAOクラス
+	 * @param exceptColumn 除外列名
+	 * @return 全件検索SQL文字列(SELECT 列名 FROM テーブル名)
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected StringBuffer getSelectQuery(Class<?> cls, String exceptColumn) throws MospException {
+		// テーブル名取得
+		String table = getTable(cls);
+		// 列名リスト取得(除外列を除く)
+		List<String> columnList = getColumnList(cls);
+		columnList.remove(exceptColumn);
+		// SQL文字列準備
+		StringBuffer query = new StringBuffer();
+		// 検索SQLを取得
+		query.append(getSelectStatement(columnList));
+		query.append(from(table));
+		return query;
+	}
+	
 	/**
 	 * 検索SQLを取得する。<br>
 	 * @param table テーブル名
@@ -1471,6 +1687,15 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return " FOR UPDATE";
 	}
 	
+	/**
+	 * FOR UPDATE SKIP LOCKED SQL取得。<br>
+	 * 他のトランザクションがロックしているレコードを除いてロックする。<br>
+	 * @return FOR UPDATE SKIP LOCKED 文字列
+	 */
+	protected static String getForUpdateSkipLocked() {
+		return " FOR UPDATE SKIP LOCKED";
+	}
+	
 	/**
 	 * ORDER BY SQL取得。<br>
 	 * @return ORDER BY 文字列
@@ -18,6 +18,7 @@
 package jp.mosp.framework.base;
 
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -115,4 +116,30 @@ public interface BaseDaoInterface {
 	 */
 	long nextRecordId() throws MospException;
 	
+	/**
+	 * レコード識別IDを件数分取得する。<br>
+	 * @param count 件数
+	 * @return レコード識別ID配列
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	long[] nextRecordIds(int count) throws MospException;
+	
+	/**
+	 * 一括挿入。<br>
+	 * 複数行のVALUESを扱えるRDBMSでは、上限数毎に一つのSQLで挿入する。<br>
+	 * @param dtoList 対象DTOリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int insert(List<? extends BaseDtoInterface> dtoList) throws MospException;
+	
+	/**
+	 * 一括論理削除。<br>
+	 * レコード識別IDのレコードに削除フラグを立てる。<br>
+	 * @param ids レコード識別ID群
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int logicalDelete(Collection<Long> ids) throws MospException;
+	
 }
@@ -38,10 +38,12 @@ import jp.mosp.framework.instance.InstanceFactory;
 import jp.mosp.framework.log.LoggerInterface;
 import jp.mosp.framework.property.CommandProperty;
 import jp.mosp.framework.property.MospProperties;
+import jp.mosp.framework.utils.JsonUtility;
 import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.framework.utils.MenuJsUtility;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.framework.utils.RoleUtility;
-import net.arnx.jsonic.JSON;
+import jp.mosp.framework.utils.StoredVoUtility;
 
 /**
  * MosPフレームワークのFrontController。<br><br>
@@ -194,6 +196,8 @@ public class Controller extends HttpServlet {
 			// プロパティファイル読込
 			String docBase = getServletContext().getRealPath("");
 			ppt = parseMospProperties(docBase);
+			// 保持しているメニュー用JS文字列を破棄(設定ファイル再読込時のため)
+			MenuJsUtility.clearMenuJs();
 			// メッセージファイル(JavaScript)出力
 			MospUtility.outputMessageJs(ppt);
 			// MosPコントローラ初期化ログ出力
@@ -219,6 +223,9 @@ public class Controller extends HttpServlet {
 			handleException(e, request, response);
 		} catch (Error e) {
 			handleException(e, request, response);
+		} finally {
+			// アップロードファイル一時保存ファイルを削除
+			MospRequestParser.cleanup(request, getMospParams(request));
 		}
 	}
 	
@@ -236,6 +243,9 @@ public class Controller extends HttpServlet {
 			handleException(e, request, response);
 		} catch (Error e) {
 			handleException(e, request, response);
+		} finally {
+			// アップロードファイル一時保存ファイルを削除
+			MospRequestParser.cleanup(request, getMospParams(request));
 		}
 	}
 	
@@ -268,6 +278,8 @@ public class Controller extends HttpServlet {
 		action.init(mospParams);
 		// アクション実行
 		action.doAction();
+		// 表示中の画面以外のパンくずVOを圧縮
+		StoredVoUtility.compact(mospParams);
 		// 処理シーケンス発行
 		issueProcSeq(request);
 		// フォワード
@@ -450,6 +462,9 @@ public class Controller extends HttpServlet {
 		mospParams.addGeneralParam(MospConst.ATT_REQUEST_QUERY, request.getQueryString());
 		mospParams.addGeneralParam(MospConst.ATT_AUTHORIZATION, request.getHeader(MospConst.ATT_AUTHORIZATION));
 		mospParams.addGeneralParam(MospConst.ATT_CONTENT_TYPE, request.getHeader(MospConst.ATT_CONTENT_TYPE));
+		mospParams.addGeneralParam(MospConst.ATT_IF_NONE_MATCH, request.getHeader(MospConst.ATT_IF_NONE_MATCH));
+		mospParams.addGeneralParam(MospConst.ATT_RANGE, request.getHeader(MospConst.ATT_RANGE));
+		mospParams.addGeneralParam(MospConst.ATT_IF_RANGE, request.getHeader(MospConst.ATT_IF_RANGE));
 		// APIパラメータ及びAPIコマンドを設定(APIが利用できる場合)
 		setApiParams(request);
 		// コマンドが取得できなかった場合
@@ -883,6 +898,7 @@ public class Controller extends HttpServlet {
 	
 	/**
 	 * リクエストのメッセージボディ(JSON)を取得する。<br>
+	 * 解析は各APIBeanで行うため、上限文字数まで読み込んだ文字列をそのまま返す。<br>
 	 * @param request リクエスト
 	 * @return メッセージボディ(JSON)
 	 * @throws MospException メッセージボディの取得に失敗した場合
@@ -894,7 +910,9 @@ public class Controller extends HttpServlet {
 			// リクエストのメッセージボディを取得
 			reader = request.getReader();
 			// リクエストのメッセージボディ(JSON)を取得
-			return JSON.encode(JSON.decode(reader));
+			return JsonUtility.readBody(getMospParams(request), reader);
+		} catch (MospException e) {
+			throw e;
 		} catch (Throwable t) {
 			// 例外を発行
 			throw new MospException(t);
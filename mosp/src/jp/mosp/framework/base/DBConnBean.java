@@ -27,7 +27,9 @@ import javax.naming.NamingException;
 import javax.sql.DataSource;
 
 import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.utils.DatabaseUtility;
 import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.framework.utils.TransactionUtility;
 
 /**
  * DBとの接続を管理する。<br>
@@ -65,6 +67,12 @@ public class DBConnBean {
 	 */
 	private Connection			connection;
 	
+	/**
+	 * データベース種類。<br>
+	 * コネクション生成時に、接続先(データソース或いはDBのURL)毎に一度だけ特定される。<br>
+	 */
+	private RDBMSType			rdbmsType;
+	
 	
 	/**
 	 * DBコネクションを取得する。<br>
@@ -180,6 +188,35 @@ public class DBConnBean {
 		LogUtility.dbConnect(mospParams, connection.toString());
 	}
 	
+	/**
+	 * DB接続先キーを取得する。<br>
+	 * {@link #DBConnBean(MospParams)}で接続するDBを識別する文字列を返す。<br>
+	 * MosPユーザ毎に接続先が異なる場合(SaaS等)に、
+	 * バックグラウンドの処理を接続先毎に振り分けるために用いる。<br>
+	 * @param mospParams MosP処理情報
+	 * @return DB接続先キー
+	 */
+	public static String getConnectionKey(MospParams mospParams) {
+		// MosPユーザを取得
+		MospUser user = mospParams.getUser();
+		// MosPユーザにDB接続設定がある場合
+		if (user != null && user.getDbUrl() != null && user.getDbUrl().isEmpty() == false) {
+			// SaaSの場合或いはDB接続設定が揃っている場合
+			if ((user.getAspUserId() != null && user.getAspUserId().isEmpty() == false)
+					|| (user.getDbDriver() != null && user.getDbDriver().isEmpty() == false
+							&& user.getDbUser() != null && user.getDbUser().isEmpty() == false
+							&& user.getDbPass() != null && user.getDbPass().isEmpty() == false)) {
+				return user.getDbUrl() + " " + user.getDbUser();
+			}
+		}
+		// JNDI名(データソース)取得及び確認
+		String jndiName = mospParams.getApplicationProperty(APP_JDNI_DATA_SOURCE);
+		if (jndiName != null && jndiName.isEmpty() == false) {
+			return jndiName;
+		}
+		return mospParams.getApplicationProperty(APP_DB_URL) + " " + mospParams.getApplicationProperty(APP_DB_USER);
+	}
+	
 	/**
 	 * データソースを取得する。
 	 * @param jndiName JNDI名
@@ -215,6 +252,8 @@ public class DBConnBean {
 			Class.forName(rdbdriver);
 			connection = DriverManager.getConnection(rdbname, userid, password);
 			connection.setAutoCommit(false);
+			// データベース種類を特定
+			rdbmsType = DatabaseUtility.getRDBMS(rdbname, connection);
 		} catch (ClassNotFoundException e) {
 			// ドライバクラスが見つからない場合
 			throw new MospException(e, ExceptionConst.EX_FAIL_DB_CONNECT, null);
@@ -236,6 +275,8 @@ public class DBConnBean {
 			// コネクション取得
 			connection = dataSource.getConnection();
 			connection.setAutoCommit(false);
+			// データベース種類を特定
+			rdbmsType = DatabaseUtility.getRDBMS(dataSource, connection);
 		} catch (SQLException e) {
 			// SQL例外が発生した場合
 			throw new MospException(e, ExceptionConst.EX_FAIL_DB_CONNECT, null);
@@ -244,7 +285,7 @@ public class DBConnBean {
 	
 	/**
 	 * トランザクションをコミットする。<br>
-	 * {@link #connection}のトランザクションをコミットする。
+	 * {@link #connection}のトランザクションをコミットし、トランザクション終了時処理を実行する。
 	 * @throws MospException コミット時にSQL例外が発生した場合
 	 */
 	public void commit() throws MospException {
@@ -253,6 +294,8 @@ public class DBConnBean {
 				// コミット
 				connection.commit();
 			}
+			// トランザクション終了時処理
+			TransactionUtility.complete(connection);
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
@@ -260,7 +303,7 @@ public class DBConnBean {
 	
 	/**
 	 * トランザクションをロールバックする。<br>
-	 * {@link #connection}のトランザクションをロールバックする。
+	 * {@link #connection}のトランザクションをロールバックし、トランザクション終了時処理を実行する。
 	 * @throws MospException ロールバック時にSQL例外が発生した場合
 	 */
 	public void rollback() throws MospException {
@@ -269,6 +312,8 @@ public class DBConnBean {
 				// ロールバック
 				connection.rollback();
 			}
+			// トランザクション終了時処理
+			TransactionUtility.complete(connection);
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
@@ -288,6 +333,8 @@ public class DBConnBean {
 				connection.close();
 			}
 			if (connection != null) {
+				// トランザクション終了時処理
+				TransactionUtility.complete(connection);
 				connection = null;
 			}
 		} catch (SQLException e) {
@@ -303,12 +350,25 @@ public class DBConnBean {
 		return connection;
 	}
 	
+	/**
+	 * データベース種類を取得する。<br>
+	 * @return データベース種類
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	public RDBMSType getRdbmsType() throws MospException {
+		if (rdbmsType == null) {
+			rdbmsType = DatabaseUtility.getRDBMS(connection);
+		}
+		return rdbmsType;
+	}
+	
 	/**
 	 * DBコネクションインスタンス設定。
 	 * @param connection DBコネクション
 	 */
 	public void setConnection(Connection connection) {
 		this.connection = connection;
+		rdbmsType = null;
 	}
 	
 }
@@ -0,0 +1,45 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+import jp.mosp.platform.utils.MailOutboxUtility;
+import jp.mosp.time.utils.PunchLogUtility;
+
+/**
+ * MosPアプリケーションの開始及び終了時の処理を行う。<br>
+ * アプリケーション終了時に、バックグラウンドのスレッドを停止する。<br>
+ */
+public class MospContextListener implements ServletContextListener {
+	
+	@Override
+	public void contextInitialized(ServletContextEvent event) {
+		// 処理無し
+	}
+	
+	@Override
+	public void contextDestroyed(ServletContextEvent event) {
+		// メール送信スレッド停止
+		MailOutboxUtility.shutdown();
+		// 打刻反映スレッド停止
+		PunchLogUtility.shutdown();
+	}
+	
+}
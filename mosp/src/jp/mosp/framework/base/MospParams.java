@@ -172,6 +172,12 @@ public class MospParams {
 	 */
 	private List<String>					apiParams;
 	
+	/**
+	 * メッセージ作成用文字列バッファ。<br>
+	 * リクエスト内でメッセージを作成する際に再利用する。<br>
+	 */
+	private final StringBuilder				messageBuilder					= new StringBuilder();
+	
 	
 	/**
 	 * MosP処理情報を初期化する。<br>
@@ -206,6 +212,46 @@ public class MospParams {
 		errorMessageList = new ArrayList<String>(params.getErrorMessageList());
 	}
 	
+	/**
+	 * 並列処理用のMosP処理情報を作成する。<br><br>
+	 * MosP設定情報、ログ出力クラス群、コマンド、MosPユーザ及び範囲設定を引き継ぐ。<br>
+	 * メッセージ、汎用パラメータ及び操作範囲保持情報は、作成元と共有しない。<br>
+	 * 作成したMosP処理情報は、作成元とは別のスレッドで用いる。<br>
+	 * @return 並列処理用のMosP処理情報
+	 */
+	public MospParams createWorkerParams() {
+		MospParams params = new MospParams(properties, loggers);
+		params.command = command;
+		params.getStoredInfo().setUser(getUser());
+		params.getStoredInfo().setRangeMap(storedInfo.getRangeMap());
+		params.generalParamsMap = new HashMap<String, Object>(generalParamsMap);
+		return params;
+	}
+	
+	/**
+	 * バックグラウンド処理用のMosP処理情報を作成する。<br><br>
+	 * MosP設定情報及びログ出力クラス群を引き継ぐ。<br>
+	 * MosPユーザは、作成元のDB接続設定のみを引き継いだ処理用のユーザとする。<br>
+	 * 特定のユーザの操作によらず、接続先毎に繰り返し行う処理に用いる。<br>
+	 * @param userId 処理用ユーザID(登録者及び更新者として記録される)
+	 * @return バックグラウンド処理用のMosP処理情報
+	 */
+	public MospParams createBackgroundParams(String userId) {
+		MospParams params = new MospParams(properties, loggers);
+		MospUser user = new MospUser();
+		user.setUserId(userId);
+		MospUser current = getUser();
+		if (current != null) {
+			user.setAspUserId(current.getAspUserId());
+			user.setDbDriver(current.getDbDriver());
+			user.setDbUrl(current.getDbUrl());
+			user.setDbUser(current.getDbUser());
+			user.setDbPass(current.getDbPass());
+		}
+		params.setUser(user);
+		return params;
+	}
+	
 	/**
 	 * @return user
 	 */
@@ -465,7 +511,7 @@ public class MospParams {
 	 * @return メッセージ
 	 */
 	public String getMessage(String key, String... replacements) {
-		return properties.getMessage(key, replacements);
+		return properties.getMessage(key, replacements, messageBuilder);
 	}
 	
 	/**
@@ -475,7 +521,7 @@ public class MospParams {
 	 * @return メッセージ
 	 */
 	public String getCodedMessage(String key, String... replacements) {
-		String message = properties.getMessage(key, replacements);
+		String message = properties.getMessage(key, replacements, messageBuilder);
 		if (message.isEmpty()) {
 			return message;
 		}
@@ -736,6 +782,16 @@ public class MospParams {
 		return properties.getApplicationProperty(key, defaultValue);
 	}
 	
+	/**
+	 * アプリケーション設定情報を数値(long)で取得する。
+	 * @param key 対象キー
+	 * @param defaultValue 取得できなかった場合の値
+	 * @return MosPアプリケーション設定情報
+	 */
+	public long getApplicationProperty(String key, long defaultValue) {
+		return properties.getApplicationProperty(key, defaultValue);
+	}
+	
 	/**
 	 * アプリケーション設定情報を真偽値で取得する。
 	 * @param key 対象キー
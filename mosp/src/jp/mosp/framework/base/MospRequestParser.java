@@ -17,9 +17,13 @@
  */
 package jp.mosp.framework.base;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -31,21 +35,62 @@ import javax.servlet.http.HttpServletRequest;
 import jp.mosp.framework.constant.ExceptionConst;
 import jp.mosp.framework.constant.MospConst;
 
-import org.apache.commons.fileupload.FileItem;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
 import org.apache.commons.fileupload.FileUploadException;
-import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.fileupload.util.Streams;
 
 /**
  * HTTPサーブレットリクエストを解析する。<br>
  * <br>
+ * MultiPartフォームデータは、ストリーミングAPIで順に読み込む。<br>
+ * ファイルはメモリに保持せず一時ディレクトリに書き出し、
+ * リクエスト終了時に{@link #cleanup(HttpServletRequest, MospParams)}で削除する。<br>
+ * 書き出したファイルは{@link InputStream}として各処理に渡し、バイナリ登録時もそのままDBに送る。<br>
+ * ファイル毎及びリクエスト毎の上限(バイト)は、
+ * MosPアプリケーション設定(UploadFileSizeMax、UploadSizeMax)で設定する。<br>
  */
 public class MospRequestParser {
 	
 	/**
-	 * リクエスト文字エンコーディング。
+	 * MosPアプリケーション設定キー(アップロードファイル毎の上限(バイト))。<br>
+	 * 0以下が設定されている場合は、上限を設けない。<br>
 	 */
-	private static String encoding;
+	protected static final String	APP_UPLOAD_FILE_SIZE_MAX	= "UploadFileSizeMax";
+	
+	/**
+	 * MosPアプリケーション設定キー(アップロードリクエスト毎の上限(バイト))。<br>
+	 * 0以下が設定されている場合は、上限を設けない。<br>
+	 */
+	protected static final String	APP_UPLOAD_SIZE_MAX			= "UploadSizeMax";
+	
+	/**
+	 * アップロードファイル一時保存ディレクトリ名。<br>
+	 * 一時ディレクトリ下に作成する。<br>
+	 */
+	protected static final String	DIR_UPLOAD					= "mosp-upload";
+	
+	/**
+	 * アップロードファイル一時保存ファイル接頭辞。<br>
+	 */
+	protected static final String	PREFIX_UPLOAD				= "upload";
+	
+	/**
+	 * システムプロパティキー(一時ディレクトリ)。<br>
+	 */
+	protected static final String	PROP_TMP_DIR				= "java.io.tmpdir";
+	
+	/**
+	 * リクエスト属性キー(アップロードファイル一時保存ファイル群)。<br>
+	 */
+	protected static final String	ATT_UPLOAD_FILES			= "mospUploadFiles";
+	
+	/**
+	 * 上限が無い場合の値(commons-fileupload)。<br>
+	 */
+	protected static final long		NO_SIZE_MAX					= -1L;
 	
 	
 	/**
@@ -68,92 +113,179 @@ public class MospRequestParser {
 			mospParams.setRequestParamsMap(request.getParameterMap());
 			return;
 		}
-		// リクエスト文字エンコーディング設定
-		encoding = mospParams.getApplicationProperty(MospConst.APP_CHARACTER_ENCODING);
-		// MultiPartフィールドリスト取得
-		List<FileItem> multipartFieldList = getMultiPartFieldList(request);
+		// リクエスト文字エンコーディング取得
+		String encoding = mospParams.getApplicationProperty(MospConst.APP_CHARACTER_ENCODING);
 		// パラメータマップ及びファイルマップ準備
 		Map<String, String[]> parameterMap = new HashMap<String, String[]>();
 		Map<String, InputStream> fileMap = new HashMap<String, InputStream>();
-		// MultiPartフィールドリスト解析
-		for (FileItem item : multipartFieldList) {
-			// フォームデータ確認
-			if (item.isFormField()) {
-				// MultiPartフィールド設定
-				putMultiPartField(item, parameterMap);
-			} else {
-				// MultiPartファイル設定
-				putMultiPartFile(item, parameterMap, fileMap);
+		// アップロードファイル一時保存ファイル群を準備しリクエストに設定
+		List<File> files = new ArrayList<File>();
+		request.setAttribute(ATT_UPLOAD_FILES, files);
+		// ファイルマップをMosP処理情報に設定(解析途中で失敗した場合も開いたファイルを閉じるため)
+		mospParams.setRequestFilesMap(fileMap);
+		try {
+			// MultiPartフィールドを順に解析
+			FileItemIterator iterator = getUpload(mospParams).getItemIterator(request);
+			while (iterator.hasNext()) {
+				FileItemStream item = iterator.next();
+				// フォームデータ確認
+				if (item.isFormField()) {
+					// MultiPartフィールド設定
+					putMultiPartField(item, parameterMap, encoding);
+				} else {
+					// MultiPartファイル設定
+					putMultiPartFile(item, parameterMap, fileMap, files);
+				}
 			}
+		} catch (FileUploadException e) {
+			throw getParseException(e);
+		} catch (IOException e) {
+			throw getParseException(e);
 		}
-		// パラメータマップ及びファイルマップをMosP処理情報に設定
+		// パラメータマップをMosP処理情報に設定
 		mospParams.setRequestParamsMap(parameterMap);
-		mospParams.setRequestFilesMap(fileMap);
 	}
 	
 	/**
-	 * MultiPartフィールドリストを取得する。<br>
-	 * @param request リクエスト
-	 * @return MultiPartフィールドリスト
-	 * @throws MospException MultiPartフォームデータの解析に失敗した場合
+	 * リクエストファイルを閉じ、アップロードファイル一時保存ファイルを削除する。<br>
+	 * リクエスト終了時に用いる。<br>
+	 * @param request    リクエスト
+	 * @param mospParams MosP処理情報(取得できていない場合はnull)
 	 */
-	protected static List<FileItem> getMultiPartFieldList(HttpServletRequest request) throws MospException {
-		// MultiPartフィールドリスト取得準備
-		ServletFileUpload sfu = new ServletFileUpload(new DiskFileItemFactory());
-		// MultiPartフィールドリスト取得
-		List<?> multipartFieldList = null;
-		try {
-			multipartFieldList = sfu.parseRequest(request);
-		} catch (FileUploadException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_PARSE_MULTI, null);
+	public static void cleanup(HttpServletRequest request, MospParams mospParams) {
+		// アップロードファイル一時保存ファイル群を取得
+		Object attribute = request.getAttribute(ATT_UPLOAD_FILES);
+		if (attribute instanceof List<?> == false) {
+			return;
+		}
+		request.removeAttribute(ATT_UPLOAD_FILES);
+		// リクエストファイルを閉じる
+		if (mospParams != null && mospParams.getRequestFilesMap() != null) {
+			for (InputStream in : mospParams.getRequestFilesMap().values()) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// 処理無し(削除できない場合は終了時に削除)
+				}
+			}
+		}
+		// アップロードファイル一時保存ファイル毎に処理
+		for (Object file : (List<?>)attribute) {
+			// 削除(削除できない場合は終了時に削除)
+			if (((File)file).delete() == false) {
+				((File)file).deleteOnExit();
+			}
+		}
+	}
+	
+	/**
+	 * MultiPartフォームデータの解析に失敗した場合の例外を取得する。<br>
+	 * 上限を超えた場合は、上限を超えた旨の例外とする。<br>
+	 * @param throwable 発生した例外
+	 * @return 例外
+	 */
+	protected static MospException getParseException(Throwable throwable) {
+		// 読込中に発生した例外である場合
+		Throwable cause = throwable;
+		if (throwable instanceof FileUploadBase.FileUploadIOException && throwable.getCause() != null) {
+			cause = throwable.getCause();
+		}
+		// リクエスト毎の上限を超えた場合
+		if (cause instanceof FileUploadBase.SizeLimitExceededException) {
+			long permitted = ((FileUploadBase.SizeLimitExceededException)cause).getPermittedSize();
+			return new MospException(cause, ExceptionConst.EX_UPLOAD_SIZE_OVER, String.valueOf(permitted));
 		}
-		// MultiPartフィールドリスト再設定準備
-		List<FileItem> list = new ArrayList<FileItem>();
-		// MultiPartフィールドリスト再設定
-		for (Object obj : multipartFieldList) {
-			list.add((FileItem)obj);
+		// ファイル毎の上限を超えた場合
+		if (cause instanceof FileUploadBase.FileSizeLimitExceededException) {
+			long permitted = ((FileUploadBase.FileSizeLimitExceededException)cause).getPermittedSize();
+			return new MospException(cause, ExceptionConst.EX_UPLOAD_SIZE_OVER, String.valueOf(permitted));
 		}
-		return list;
+		return new MospException(cause, ExceptionConst.EX_FAIL_PARSE_MULTI, null);
+	}
+	
+	/**
+	 * MultiPartフォームデータ解析クラスを取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return MultiPartフォームデータ解析クラス
+	 */
+	protected static ServletFileUpload getUpload(MospParams mospParams) {
+		ServletFileUpload sfu = new ServletFileUpload();
+		sfu.setFileSizeMax(getSizeMax(mospParams, APP_UPLOAD_FILE_SIZE_MAX));
+		sfu.setSizeMax(getSizeMax(mospParams, APP_UPLOAD_SIZE_MAX));
+		return sfu;
+	}
+	
+	/**
+	 * アップロードの上限(バイト)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param key        MosPアプリケーション設定キー
+	 * @return アップロードの上限(バイト)
+	 */
+	protected static long getSizeMax(MospParams mospParams, String key) {
+		long sizeMax = mospParams.getApplicationProperty(key, 0L);
+		return sizeMax <= 0 ? NO_SIZE_MAX : sizeMax;
 	}
 	
 	/**
 	 * MultiPartファイルフィールドを設定する。<br>
-	 * ファイルフィールドは、{@link InputStream}として設定され、
+	 * ファイルフィールドは、一時ディレクトリに書き出した上で{@link InputStream}として設定され、
 	 * ここではファイルの文字コードの指定は行わない。<br>
 	 * パラメータマップには、ファイル名が設定される。<br>
+	 * 同名のファイルフィールドが複数ある場合は、先に開いたファイルを閉じて後のもので置き換える。<br>
 	 * @param item         フィールドアイテム
 	 * @param parameterMap パラメータマップ
-	 * @param fileMap パラメータファイルマップ
-	 * @throws MospException MultiPartフォームデータの解析に失敗した場合
+	 * @param fileMap      パラメータファイルマップ
+	 * @param files        アップロードファイル一時保存ファイル群
+	 * @throws IOException ファイルの読込或いは書出に失敗した場合
 	 */
-	protected static void putMultiPartFile(FileItem item, Map<String, String[]> parameterMap,
-			Map<String, InputStream> fileMap) throws MospException {
-		try {
-			// パラメータ設定
-			fileMap.put(item.getFieldName(), item.getInputStream());
-			// ファイル名取得及び設定 ※ブラウザによってはフルパスを取得してしまうことを考慮
-			String[] fileName = { (new File(item.getName())).getName() };
-			parameterMap.put(item.getFieldName(), fileName);
-		} catch (IOException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_PARSE_MULTI, null);
+	protected static void putMultiPartFile(FileItemStream item, Map<String, String[]> parameterMap,
+			Map<String, InputStream> fileMap, List<File> files) throws IOException {
+		// ファイル名取得 ※ブラウザによってはフルパスを取得してしまうことを考慮
+		String name = item.getName() == null ? "" : item.getName();
+		String[] fileName = { (new File(name)).getName() };
+		parameterMap.put(item.getFieldName(), fileName);
+		// 先に設定されたファイルを閉じる
+		InputStream previous = fileMap.remove(item.getFieldName());
+		if (previous != null) {
+			previous.close();
+		}
+		// ファイルが選択されていない場合
+		if (name.isEmpty()) {
+			fileMap.put(item.getFieldName(), new ByteArrayInputStream(new byte[0]));
+			return;
 		}
+		// 一時ディレクトリに書出
+		File dir = new File(System.getProperty(PROP_TMP_DIR), DIR_UPLOAD);
+		dir.mkdirs();
+		File file = File.createTempFile(PREFIX_UPLOAD, null, dir);
+		files.add(file);
+		OutputStream out = new FileOutputStream(file);
+		Streams.copy(item.openStream(), out, true);
+		// パラメータ設定
+		fileMap.put(item.getFieldName(), new FileInputStream(file));
 	}
 	
 	/**
 	 * MultiPartフィールドを設定する。<br>
-	 * @param item フィールドアイテム
-	 * @param map  パラメータマップ
+	 * @param item     フィールドアイテム
+	 * @param map      パラメータマップ
+	 * @param encoding リクエスト文字エンコーディング
+	 * @throws IOException 読込に失敗した場合
 	 * @throws MospException 文字エンコーディングがサポートされていない場合
 	 */
-	protected static void putMultiPartField(FileItem item, Map<String, String[]> map) throws MospException {
+	protected static void putMultiPartField(FileItemStream item, Map<String, String[]> map, String encoding)
+			throws IOException, MospException {
 		// パラメータ名取得
 		String name = item.getFieldName();
 		// パラメータ値取得
 		String value = null;
+		InputStream in = item.openStream();
 		try {
-			value = item.getString(encoding);
+			value = Streams.asString(in, encoding);
 		} catch (UnsupportedEncodingException e) {
 			throw new MospException(e, ExceptionConst.EX_INVALID_ENCODING, encoding);
+		} finally {
+			in.close();
 		}
 		// 設定パラメータ取得
 		String[] params = map.get(name);
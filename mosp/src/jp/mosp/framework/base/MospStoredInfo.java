@@ -47,6 +47,13 @@ public class MospStoredInfo implements Serializable {
 	 */
 	private Map<String, RangeProperty>	rangeMap;
 	
+	/**
+	 * 操作範囲保持情報群。<br>
+	 * 範囲設定から作成した操作範囲(範囲(自身)を置換したもの等)を保持する。<br>
+	 * 範囲設定が設定された時に初期化する。<br>
+	 */
+	private Map<String, Object>			rangeCacheMap;
+	
 	/**
 	 * 汎用保持文字列群。
 	 */
@@ -67,6 +74,7 @@ public class MospStoredInfo implements Serializable {
 		user = null;
 		topicPathList = new ArrayList<TopicPath>();
 		rangeMap = null;
+		rangeCacheMap = new HashMap<String, Object>();
 		generalMap = new HashMap<String, String>();
 	}
 	
@@ -106,10 +114,40 @@ public class MospStoredInfo implements Serializable {
 	}
 	
 	/**
+	 * 範囲設定を設定する。<br>
+	 * 範囲設定から作成した操作範囲保持情報群は、初期化する。<br>
 	 * @param rangeMap セットする rangeMap
 	 */
 	public void setRangeMap(Map<String, RangeProperty> rangeMap) {
 		this.rangeMap = rangeMap;
+		rangeCacheMap = new HashMap<String, Object>();
+	}
+	
+	/**
+	 * 操作範囲保持情報群に操作範囲を設定する。<br>
+	 * @param key   キー
+	 * @param value 操作範囲
+	 */
+	public void putRangeCache(String key, Object value) {
+		// 操作範囲保持情報群が存在しない場合(セッション復元時等)
+		if (rangeCacheMap == null) {
+			rangeCacheMap = new HashMap<String, Object>();
+		}
+		rangeCacheMap.put(key, value);
+	}
+	
+	/**
+	 * 操作範囲保持情報群から操作範囲を取得する。<br>
+	 * 保持されていない場合は、nullを返す。<br>
+	 * @param key キー
+	 * @return 操作範囲
+	 */
+	public Object getRangeCache(String key) {
+		// 操作範囲保持情報群が存在しない場合(セッション復元時等)
+		if (rangeCacheMap == null) {
+			return null;
+		}
+		return rangeCacheMap.get(key);
 	}
 	
 	/**
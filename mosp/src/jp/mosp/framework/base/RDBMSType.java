@@ -62,6 +62,32 @@ public enum RDBMSType {
 			return sb.toString();
 		}
 		
+		@Override
+		public boolean isMultiRowValues() {
+			return true;
+		}
+		
+		@Override
+		public boolean isAdvisoryLock() {
+			return false;
+		}
+		
+		@Override
+		public boolean isArrayParameter() {
+			return false;
+		}
+		
+		@Override
+		public String lockPersonalSQL() {
+			// 個人の人事情報を行ロック
+			return "SELECT personal_id FROM pfm_human WHERE personal_id = ? FOR UPDATE";
+		}
+		
+		@Override
+		public String nextValuesSQL() {
+			return null;
+		}
+		
 		@Override
 		public String getTableDescriptionQuery(String tableName) {
 			StringBuffer sb = new StringBuffer();
@@ -106,6 +132,33 @@ public enum RDBMSType {
 			return sb.toString();
 		}
 		
+		@Override
+		public boolean isMultiRowValues() {
+			return true;
+		}
+		
+		@Override
+		public boolean isAdvisoryLock() {
+			return true;
+		}
+		
+		@Override
+		public boolean isArrayParameter() {
+			return true;
+		}
+		
+		@Override
+		public String lockPersonalSQL() {
+			// 個人ID及びリソース名でトランザクション単位の勧告的ロックを取得
+			return "SELECT pg_advisory_xact_lock(hashtext(?), hashtext(?))";
+		}
+		
+		@Override
+		public String nextValuesSQL() {
+			// 件数分の連番に対してシーケンスの次の値を取得
+			return "SELECT NEXTVAL(?) FROM generate_series(1, ?)";
+		}
+		
 		@Override
 		public String getTableDescriptionQuery(String tableName) {
 			StringBuffer sb = new StringBuffer();
@@ -184,6 +237,32 @@ public enum RDBMSType {
 			return sb.toString();
 		}
 		
+		@Override
+		public boolean isMultiRowValues() {
+			return false;
+		}
+		
+		@Override
+		public boolean isAdvisoryLock() {
+			return false;
+		}
+		
+		@Override
+		public boolean isArrayParameter() {
+			return false;
+		}
+		
+		@Override
+		public String lockPersonalSQL() {
+			// 個人の人事情報を行ロック
+			return "SELECT personal_id FROM pfm_human WHERE personal_id = ? FOR UPDATE";
+		}
+		
+		@Override
+		public String nextValuesSQL() {
+			return null;
+		}
+		
 		@Override
 		public String tableName() {
 			return null;
@@ -234,6 +313,33 @@ public enum RDBMSType {
 			return sb.toString();
 		}
 		
+		@Override
+		public boolean isMultiRowValues() {
+			return true;
+		}
+		
+		@Override
+		public boolean isAdvisoryLock() {
+			return false;
+		}
+		
+		@Override
+		public boolean isArrayParameter() {
+			return false;
+		}
+		
+		@Override
+		public String lockPersonalSQL() {
+			// 個人の人事情報を行ロック
+			return "SELECT personal_id FROM pfm_human WHERE personal_id = ? FOR UPDATE";
+		}
+		
+		@Override
+		public String nextValuesSQL() {
+			// 件数分の連番に対してシーケンスの次の値を取得
+			return "SELECT NEXTVAL(?) FROM SYSTEM_RANGE(1, ?)";
+		}
+		
 		@Override
 		public String tableName() {
 			return null;
@@ -263,6 +369,42 @@ public enum RDBMSType {
 	 */
 	public abstract String lockTableSQL(List<String[]> tableList);
 	
+	/**
+	 * 個人単位ロック用SQLを取得する。<br>
+	 * 1番目のパラメータに個人IDを設定する。<br>
+	 * 勧告的ロックを利用できる場合({@link #isAdvisoryLock()})は、2番目のパラメータにリソース名を設定する。<br>
+	 * その他の場合は個人の人事情報を行ロックする(リソース名は用いない)。<br>
+	 * いずれの場合もトランザクション終了時に解放される。<br>
+	 * @return 個人単位ロック用SQL
+	 */
+	public abstract String lockPersonalSQL();
+	
+	/**
+	 * シーケンスの次の値を複数件取得するSQLを取得する。<br>
+	 * 1番目のパラメータにシーケンス名、2番目のパラメータに件数を設定する。<br>
+	 * 一つのSQLで取得できない場合は、nullを返す。<br>
+	 * @return シーケンス複数件取得用SQL
+	 */
+	public abstract String nextValuesSQL();
+	
+	/**
+	 * 複数行のVALUES句(INSERT INTO ... VALUES (...), (...))を利用できるかを確認する。<br>
+	 * @return 確認結果(true：利用できる、false：利用できない)
+	 */
+	public abstract boolean isMultiRowValues();
+	
+	/**
+	 * トランザクション単位の勧告的ロックを利用できるかを確認する。<br>
+	 * @return 確認結果(true：利用できる、false：利用できない)
+	 */
+	public abstract boolean isAdvisoryLock();
+	
+	/**
+	 * 配列パラメータ(列 = ANY(?))による条件を利用できるかを確認する。<br>
+	 * @return 確認結果(true：利用できる、false：利用できない)
+	 */
+	public abstract boolean isArrayParameter();
+	
 	/**
 	 * テーブル定義取得SQLを取得。
 	 * @param tableName 対象テーブル名
@@ -19,8 +19,14 @@ package jp.mosp.framework.base;
 
 import java.io.Serializable;
 
+import jp.mosp.framework.utils.StoredVoUtility;
+
 /**
  * パンくずクラス。<br>
+ * <br>
+ * 表示中の画面以外のパンくずのVOは、{@link #compact()}で
+ * 直列化及び圧縮したバイト配列に置き換えて保持することができる。<br>
+ * 置き換えたVOは、{@link #getVo()}で復元する。<br>
  */
 public class TopicPath implements Serializable {
 	
@@ -41,6 +47,12 @@ public class TopicPath implements Serializable {
 	 */
 	private BaseVo				vo;
 	
+	/**
+	 * 圧縮したVO。<br>
+	 * VOを圧縮していない場合は、null。<br>
+	 */
+	private byte[]				compactedVo;
+	
 	/**
 	 * コマンド。
 	 */
@@ -82,17 +94,62 @@ public class TopicPath implements Serializable {
 	}
 	
 	/**
+	 * VOを取得する。<br>
+	 * VOを圧縮している場合は、復元する。<br>
+	 * 復元できなかった場合は、nullを返す。<br>
 	 * @return vo
 	 */
-	public BaseVo getVo() {
+	public synchronized BaseVo getVo() {
+		// VOを圧縮している場合
+		if (compactedVo != null) {
+			// VOを復元
+			vo = StoredVoUtility.toVo(compactedVo);
+			compactedVo = null;
+		}
 		return vo;
 	}
 	
 	/**
 	 * @param vo セットする vo
 	 */
-	public void setVo(BaseVo vo) {
+	public synchronized void setVo(BaseVo vo) {
 		this.vo = vo;
+		compactedVo = null;
+	}
+	
+	/**
+	 * VOを圧縮する。<br>
+	 * VOを直列化できない場合は、圧縮せずにそのまま保持する。<br>
+	 */
+	public synchronized void compact() {
+		// VOが存在しない場合
+		if (vo == null) {
+			return;
+		}
+		// VOを圧縮
+		byte[] bytes = StoredVoUtility.toBytes(vo);
+		// 圧縮できなかった場合
+		if (bytes == null) {
+			return;
+		}
+		compactedVo = bytes;
+		vo = null;
+	}
+	
+	/**
+	 * VOを圧縮しているかを確認する。<br>
+	 * @return 確認結果(true：圧縮している、false：圧縮していない)
+	 */
+	public synchronized boolean isCompacted() {
+		return compactedVo != null;
+	}
+	
+	/**
+	 * 圧縮したVOのサイズ(byte)を取得する。<br>
+	 * @return 圧縮したVOのサイズ(byte)(VOを圧縮していない場合は0)
+	 */
+	public synchronized int getCompactedSize() {
+		return compactedVo == null ? 0 : compactedVo.length;
 	}
 	
 	/**
@@ -100,6 +100,16 @@ public class ExceptionConst {
 	 */
 	public static final String	EX_FAIL_FORWARD		= "FWE9125";
 	
+	/**
+	 * APIのメッセージボディ(JSON)が不正な場合。<br>
+	 */
+	public static final String	EX_INVALID_API_BODY	= "FWE9126";
+	
+	/**
+	 * アップロードの大きさが上限を超えた場合。<br>
+	 */
+	public static final String	EX_UPLOAD_SIZE_OVER	= "FWE9127";
+	
 	/**
 	 * 対応していないRDBMSに接続している場合。<br>
 	 */
@@ -170,6 +170,21 @@ public class MospConst {
 	 */
 	public static final String	REFERER					= "Referer";
 	
+	/**
+	 * MosP属性名(IF-NONE-MATCH)。<br>
+	 */
+	public static final String	ATT_IF_NONE_MATCH		= "If-None-Match";
+	
+	/**
+	 * MosP属性名(RANGE)。<br>
+	 */
+	public static final String	ATT_RANGE				= "Range";
+	
+	/**
+	 * MosP属性名(IF-RANGE)。<br>
+	 */
+	public static final String	ATT_IF_RANGE			= "If-Range";
+	
 	// プロパティ名(public)
 	/**
 	 * MosPアプリケーション設定キー(アプリケーションルートの絶対パス)。<br>
@@ -17,7 +17,12 @@
  */
 package jp.mosp.framework.exporter;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
@@ -33,15 +38,107 @@ import jp.mosp.platform.human.constant.PlatformHumanConst;
 /**
  * MosPパラメータに設定された内容を、
  * 画像出力ストリームに出力する。<br>
- * 人事汎用バイナリ情報を出力する。
+ * 人事汎用バイナリ情報を出力する。<br>
+ * <br>
+ * 出力内容保持クラスにETagが設定されている場合は、条件付リクエスト
+ * (If-None-Match)及び範囲リクエスト(Range)に対応する。<br>
+ * 一時ファイルに書き出されたバイナリデータは、ファイルから順に読み込んで出力し、出力後に削除する。<br>
  */
 public class HumanBinaryExporter extends BaseExporter implements MospExporterInterface {
 	
+	/**
+	 * レスポンスヘッダ(ETag)。<br>
+	 */
+	protected static final String	HEADER_ETAG				= "ETag";
+	
+	/**
+	 * レスポンスヘッダ(Last-Modified)。<br>
+	 */
+	protected static final String	HEADER_LAST_MODIFIED	= "Last-Modified";
+	
+	/**
+	 * レスポンスヘッダ(Cache-Control)。<br>
+	 */
+	protected static final String	HEADER_CACHE_CONTROL	= "Cache-Control";
+	
+	/**
+	 * レスポンスヘッダ(Accept-Ranges)。<br>
+	 */
+	protected static final String	HEADER_ACCEPT_RANGES	= "Accept-Ranges";
+	
+	/**
+	 * レスポンスヘッダ(Content-Range)。<br>
+	 */
+	protected static final String	HEADER_CONTENT_RANGE	= "Content-Range";
+	
+	/**
+	 * レスポンスヘッダ(Content-Length)。<br>
+	 */
+	protected static final String	HEADER_CONTENT_LENGTH	= "Content-Length";
+	
+	/**
+	 * キャッシュ設定。<br>
+	 * URLに個人IDが含まれないため、キャッシュ利用時には必ず再検証させる。<br>
+	 */
+	protected static final String	CACHE_CONTROL_BINARY	= "private, no-cache";
+	
+	/**
+	 * 範囲単位(バイト)。<br>
+	 */
+	protected static final String	RANGE_UNIT_BYTES		= "bytes";
+	
+	/**
+	 * 範囲リクエスト接頭辞。<br>
+	 */
+	protected static final String	RANGE_PREFIX			= RANGE_UNIT_BYTES + "=";
+	
+	/**
+	 * ETag(全て)。<br>
+	 */
+	protected static final String	ETAG_ANY				= "*";
+	
+	
 	@Override
 	public void export(MospParams mospParams, HttpServletResponse response) throws MospException {
 		Object file = mospParams.getFile();
 		// 出力内容保持クラス取得
 		ImageContents image = (ImageContents)file;
+		try {
+			output(mospParams, response, image);
+		} finally {
+			// 一時ファイル削除
+			deleteFile(image.getFile());
+		}
+	}
+	
+	/**
+	 * 出力内容を出力する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param response   レスポンス
+	 * @param image      出力内容
+	 * @throws MospException 出力に失敗した場合
+	 */
+	protected void output(MospParams mospParams, HttpServletResponse response, ImageContents image)
+			throws MospException {
+		// ETag取得
+		String etag = image.getEtag();
+		// ETagが設定されている場合
+		if (etag != null) {
+			// キャッシュ設定
+			response.setHeader(HEADER_ETAG, etag);
+			response.setHeader(HEADER_CACHE_CONTROL, CACHE_CONTROL_BINARY);
+			response.setHeader(HEADER_ACCEPT_RANGES, RANGE_UNIT_BYTES);
+			Date lastModified = image.getLastModified();
+			if (lastModified != null) {
+				response.setDateHeader(HEADER_LAST_MODIFIED, lastModified.getTime());
+			}
+			// リクエストのETagと一致する場合
+			if (isMatch(etag, (String)mospParams.getGeneralParam(MospConst.ATT_IF_NONE_MATCH))) {
+				// 内容を出力せず304を返す
+				response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				return;
+			}
+		}
 		// クラスのオブジェクトである場合
 		if (image.getFileType().equals(PlatformHumanConst.CODE_HUMAN_BINARY_FILE_TYPE_GIF)) {
 			// コンテンツタイプ設定
@@ -59,21 +156,156 @@ public class HumanBinaryExporter extends BaseExporter implements MospExporterInt
 		// ファイル名設定
 		setFileName(mospParams, response);
 		// 出力対象準備
-		byte[] binaryData = image.getBinaryData();
-		// バイト配列に変換し、出力
+		File file = image.getFile();
+		byte[] binaryData = file == null ? image.getBinaryData() : null;
+		long length = file == null ? binaryData.length : file.length();
+		// 出力範囲準備
+		long start = 0L;
+		long end = length - 1;
+		// 範囲リクエストを取得(ETagが設定されていない或いはIf-Rangeが一致しない場合は全体を出力)
+		long[] range = null;
+		String ifRange = (String)mospParams.getGeneralParam(MospConst.ATT_IF_RANGE);
+		if (etag != null && (ifRange == null || ifRange.equals(etag))) {
+			range = getRange((String)mospParams.getGeneralParam(MospConst.ATT_RANGE), length);
+		}
+		// 範囲リクエストが存在する場合
+		if (range != null) {
+			// 範囲が不正である場合
+			if (range.length == 0) {
+				response.setHeader(HEADER_CONTENT_RANGE, RANGE_UNIT_BYTES + " */" + length);
+				response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				return;
+			}
+			start = range[0];
+			end = range[1];
+			response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+			response.setHeader(HEADER_CONTENT_RANGE, RANGE_UNIT_BYTES + " " + start + "-" + end + "/" + length);
+		}
+		response.setHeader(HEADER_CONTENT_LENGTH, String.valueOf(end - start + 1));
+		// 出力
 		try {
-			// 出力ストリーム準備
-			ServletOutputStream out = response.getOutputStream();
-			// 出力
-			for (int offset = 0; offset < binaryData.length; offset += MospConst.PROCESS_BYTES) {
-				int length = MospConst.PROCESS_BYTES;
-				if (offset + length > binaryData.length) {
-					length = binaryData.length - offset;
+			// 入力ストリーム準備
+			InputStream in = file == null ? new ByteArrayInputStream(binaryData) : new FileInputStream(file);
+			try {
+				// 出力ストリーム準備
+				ServletOutputStream out = response.getOutputStream();
+				// 開始位置まで読み飛ばし
+				long skipped = 0L;
+				while (skipped < start) {
+					long count = in.skip(start - skipped);
+					if (count <= 0) {
+						break;
+					}
+					skipped += count;
+				}
+				// 出力
+				byte[] buffer = new byte[MospConst.PROCESS_BYTES];
+				long remain = end - start + 1;
+				while (remain > 0) {
+					int len = in.read(buffer, 0, (int)Math.min(buffer.length, remain));
+					if (len < 0) {
+						break;
+					}
+					out.write(buffer, 0, len);
+					remain -= len;
 				}
-				out.write(binaryData, offset, length);
+			} finally {
+				in.close();
 			}
 		} catch (IOException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+			// ClientAbortException確認(範囲リクエストの中断等、ClientAbortExceptionの場合は処理無し)
+			if (isClientAbortException(e) == false) {
+				throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+			}
+		}
+	}
+	
+	/**
+	 * 一時ファイルを削除する。<br>
+	 * 削除できない場合は、終了時に削除する。<br>
+	 * @param file 一時ファイル
+	 */
+	protected void deleteFile(File file) {
+		if (file != null && file.delete() == false) {
+			file.deleteOnExit();
 		}
 	}
+	
+	/**
+	 * リクエストのETag(If-None-Match)が出力内容のETagと一致するかを確認する。<br>
+	 * If-None-Matchには、カンマ区切りで複数のETagが設定されうる。<br>
+	 * 出力内容を取得する前に更新の有無を確認するため、アクションからも用いる。<br>
+	 * @param etag        出力内容のETag
+	 * @param ifNoneMatch リクエストのETag
+	 * @return 確認結果(true：一致する、false：一致しない)
+	 */
+	public static boolean isMatch(String etag, String ifNoneMatch) {
+		// リクエストのETagが設定されていない場合
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		// リクエストのETag毎に処理
+		for (String requested : ifNoneMatch.split(",")) {
+			String tag = requested.trim();
+			// 弱いETagの接頭辞を除去
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if (tag.equals(etag) || tag.equals(ETAG_ANY)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 範囲リクエスト(Range)から出力範囲を取得する。<br>
+	 * 単一の範囲(bytes=開始-終了、bytes=開始-、bytes=-末尾からのバイト数)にのみ対応し、
+	 * それ以外の場合はnullを返して全体を出力させる。<br>
+	 * 範囲が出力内容の外である場合は、空の配列を返す。<br>
+	 * @param range  範囲リクエスト
+	 * @param length 出力内容のバイト数
+	 * @return 出力範囲(開始位置、終了位置)
+	 */
+	protected long[] getRange(String range, long length) {
+		// 範囲リクエストが単一のバイト範囲でない場合
+		if (range == null || range.startsWith(RANGE_PREFIX) == false || range.indexOf(',') >= 0) {
+			return null;
+		}
+		String spec = range.substring(RANGE_PREFIX.length()).trim();
+		int hyphen = spec.indexOf('-');
+		if (hyphen < 0) {
+			return null;
+		}
+		String first = spec.substring(0, hyphen).trim();
+		String last = spec.substring(hyphen + 1).trim();
+		try {
+			long start;
+			long end;
+			if (first.isEmpty()) {
+				// 末尾からのバイト数が指定された場合
+				if (last.isEmpty()) {
+					return null;
+				}
+				long suffix = Long.parseLong(last);
+				if (suffix <= 0) {
+					return new long[0];
+				}
+				start = Math.max(0, length - suffix);
+				end = length - 1;
+			} else {
+				start = Long.parseLong(first);
+				end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+			}
+			// 範囲が出力内容の外である場合
+			if (start < 0 || start >= length || start > end) {
+				return new long[0];
+			}
+			return new long[]{ start, end };
+		} catch (NumberFormatException e) {
+			// 解釈できない範囲リクエストは無視
+			return null;
+		}
+	}
+	
 }
@@ -17,12 +17,15 @@
  */
 package jp.mosp.framework.exporter;
 
+import java.io.File;
 import java.io.Serializable;
+import java.util.Date;
 
 import jp.mosp.framework.utils.CapsuleUtility;
 
 /**
- * {@link HumanBinaryExporter}で出力する内容を保持するクラス。
+ * {@link HumanBinaryExporter}で出力する内容を保持するクラス。<br>
+ * バイナリデータは、バイトの配列或いは書き出した一時ファイルとして保持する。<br>
  */
 public class ImageContents implements Serializable {
 	
@@ -38,6 +41,23 @@ public class ImageContents implements Serializable {
 	 */
 	private final byte[]		binaryData;
 	
+	/**
+	 * バイナリデータを書き出した一時ファイル。<br>
+	 * {@link HumanBinaryExporter}が出力後に削除する。<br>
+	 */
+	private final File			file;
+	
+	/**
+	 * ETag(レコード識別ID及び更新日時から作成)。<br>
+	 * nullの場合、HTTPキャッシュ及び範囲指定に対応しない。<br>
+	 */
+	private final String		etag;
+	
+	/**
+	 * 最終更新日時。
+	 */
+	private final Date			lastModified;
+	
 	
 	/**
 	 * 
@@ -47,6 +67,25 @@ public class ImageContents implements Serializable {
 	public ImageContents(String fileType, byte[] binaryData) {
 		this.fileType = fileType;
 		this.binaryData = CapsuleUtility.getByteArrayClone(binaryData);
+		file = null;
+		etag = null;
+		lastModified = null;
+	}
+	
+	/**
+	 * HTTPキャッシュ及び範囲指定に対応する出力内容を生成する。<br>
+	 * リクエストのETagと一致し内容を出力しない場合は、一時ファイルにnullを設定する。<br>
+	 * @param fileType     ファイル拡張子
+	 * @param file         バイナリデータを書き出した一時ファイル
+	 * @param etag         ETag
+	 * @param lastModified 最終更新日時
+	 */
+	public ImageContents(String fileType, File file, String etag, Date lastModified) {
+		this.fileType = fileType;
+		binaryData = null;
+		this.file = file;
+		this.etag = etag;
+		this.lastModified = CapsuleUtility.getDateClone(lastModified);
 	}
 	
 	/**
@@ -63,4 +102,25 @@ public class ImageContents implements Serializable {
 		return CapsuleUtility.getByteArrayClone(binaryData);
 	}
 	
+	/**
+	 * @return file バイナリデータを書き出した一時ファイル
+	 */
+	public File getFile() {
+		return file;
+	}
+	
+	/**
+	 * @return etag ETag
+	 */
+	public String getEtag() {
+		return etag;
+	}
+	
+	/**
+	 * @return lastModified 最終更新日時
+	 */
+	public Date getLastModified() {
+		return CapsuleUtility.getDateClone(lastModified);
+	}
+	
 }
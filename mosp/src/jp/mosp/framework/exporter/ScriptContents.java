@@ -0,0 +1,58 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.exporter;
+
+import java.io.Serializable;
+
+/**
+ * {@link ScriptExporter}で出力する内容を保持するクラス。
+ */
+public class ScriptContents implements Serializable {
+	
+	private static final long	serialVersionUID	= -2617364937561813429L;
+	
+	private final String		contents;
+	
+	private final String		version;
+	
+	
+	/**
+	 * スクリプト出力内容を生成する。<br>
+	 * @param contents 出力内容
+	 * @param version  出力内容のバージョン(ETagとして用いる)
+	 */
+	public ScriptContents(String contents, String version) {
+		this.contents = contents;
+		this.version = version;
+	}
+	
+	/**
+	 * @return contents 出力内容
+	 */
+	public String getContents() {
+		return contents;
+	}
+	
+	/**
+	 * @return version 出力内容のバージョン
+	 */
+	public String getVersion() {
+		return version;
+	}
+	
+}
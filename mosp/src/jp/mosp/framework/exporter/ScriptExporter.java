@@ -0,0 +1,107 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.exporter;
+
+import java.io.PrintWriter;
+
+import javax.servlet.http.HttpServletResponse;
+
+import jp.mosp.framework.base.BaseExporter;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospExporterInterface;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.constant.MospConst;
+
+/**
+ * MosPパラメータに設定されたスクリプトを、
+ * キャッシュ可能なJavaScriptとして出力する。<br>
+ * <br>
+ * 出力内容のバージョンをETagとして設定し、
+ * リクエストのIf-None-Matchと一致する場合は、内容を出力せず304を返す。<br>
+ */
+public class ScriptExporter extends BaseExporter implements MospExporterInterface {
+	
+	/**
+	 * MosPアプリケーション設定キー(スクリプト出力キャッシュ保持期間(秒))。<br>
+	 */
+	protected static final String	APP_SCRIPT_MAX_AGE		= "ScriptMaxAge";
+	
+	/**
+	 * スクリプト出力キャッシュ保持期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int		DEFAULT_SCRIPT_MAX_AGE	= 86400;
+	
+	/**
+	 * コンテンツタイプ(JavaScript)。<br>
+	 */
+	protected static final String	CONTENT_TYPE_SCRIPT		= "text/javascript";
+	
+	/**
+	 * 文字コード。<br>
+	 */
+	protected static final String	ENCODING_SCRIPT			= "UTF-8";
+	
+	/**
+	 * レスポンスヘッダ(ETag)。<br>
+	 */
+	protected static final String	HEADER_ETAG				= "ETag";
+	
+	/**
+	 * レスポンスヘッダ(Cache-Control)。<br>
+	 */
+	protected static final String	HEADER_CACHE_CONTROL	= "Cache-Control";
+	
+	
+	@Override
+	public void export(MospParams mospParams, HttpServletResponse response) throws MospException {
+		// 出力内容取得
+		ScriptContents script = (ScriptContents)mospParams.getFile();
+		// ETag作成
+		String etag = "\"" + script.getVersion() + "\"";
+		// キャッシュ設定(ログインユーザのロール毎に異なるためprivateとする)
+		response.setHeader(HEADER_ETAG, etag);
+		response.setHeader(HEADER_CACHE_CONTROL,
+				"private, max-age=" + mospParams.getApplicationProperty(APP_SCRIPT_MAX_AGE, DEFAULT_SCRIPT_MAX_AGE));
+		// リクエストのETagと一致する場合
+		if (etag.equals(mospParams.getGeneralParam(MospConst.ATT_IF_NONE_MATCH))) {
+			// 内容を出力せず304を返す
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		// コンテンツタイプ設定
+		response.setContentType(CONTENT_TYPE_SCRIPT);
+		response.setCharacterEncoding(ENCODING_SCRIPT);
+		// テキスト出力ストリームに出力
+		PrintWriter writer = null;
+		try {
+			writer = response.getWriter();
+			writer.print(script.getContents());
+		} catch (Exception e) {
+			// ClientAbortException確認(ClientAbortExceptionの場合は処理無し)
+			if (isClientAbortException(e) == false) {
+				throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+			}
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+	}
+	
+}
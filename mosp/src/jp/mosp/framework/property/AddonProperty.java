@@ -17,25 +17,29 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 /**
  * MosP設定情報(アドオン)。<br>
  */
-public class AddonProperty implements BaseProperty {
+public class AddonProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= 7010424946622223643L;
 	
 	/**
 	 * キー。
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * アドオン名称。
 	 */
-	private String	addonName;
+	private String				addonName;
 	
 	/**
 	 * アドオン有効フラグ。
 	 */
-	private boolean	addonValid;
+	private boolean				addonValid;
 	
 	
 	/**
@@ -17,20 +17,24 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 /**
  * MosP設定情報(アプリケーション)。<br>
  */
-public class ApplicationProperty implements BaseProperty {
+public class ApplicationProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= 7316209152739911878L;
 	
 	/**
 	 * キー。<br>
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * 値。<br>
 	 */
-	private String	value;
+	private String				value;
 	
 	
 	/**
@@ -17,13 +17,16 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * MosP設定情報(コード)。<br>
  */
-public class CodeProperty implements BaseProperty {
+public class CodeProperty implements BaseProperty, Serializable {
+	
+	private static final long				serialVersionUID	= -5535706586000473423L;
 	
 	/**
 	 * キー。
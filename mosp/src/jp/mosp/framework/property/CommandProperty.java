@@ -17,22 +17,26 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 import jp.mosp.framework.constant.MospConst;
 
 /**
  * MosP設定情報(コマンド)。<br>
  */
-public class CommandProperty implements BaseProperty {
+public class CommandProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= 1379823217449684470L;
 	
 	/**
 	 * MosPコマンド。
 	 */
-	private String	command;
+	private String				command;
 	
 	/**
 	 * アクションクラス。
 	 */
-	private String	actionClass;
+	private String				actionClass;
 	
 	/**
 	 * HTTPセッション要否。<br>
@@ -50,7 +54,7 @@ public class CommandProperty implements BaseProperty {
 	 * MosPセッション保持情報の確認を行わない。<br>
 	 * </li></ul>
 	 */
-	private String	needSession;
+	private String				needSession;
 	
 	/**
 	 * 処理シーケンス要否。<br>
@@ -75,7 +79,7 @@ public class CommandProperty implements BaseProperty {
 	 * 連携機能等で設定する。<br>
 	 * </li></ul>
 	 */
-	private String	needProcSeq;
+	private String				needProcSeq;
 	
 	/**
 	 * 許可メソッド。<br>
@@ -84,7 +88,7 @@ public class CommandProperty implements BaseProperty {
 	 * 設定がある場合(GET等)は、設定されているメソッドのみを受け付ける。<br>
 	 * 許可メソッドは、カンマ区切で複数設定することができる。<br>
 	 */
-	private String	acceptMethod;
+	private String				acceptMethod;
 	
 	
 	/**
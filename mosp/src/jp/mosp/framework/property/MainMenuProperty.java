@@ -17,13 +17,16 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * MosP設定情報(メインメニュー)。<br>
  */
-public class MainMenuProperty implements BaseProperty {
+public class MainMenuProperty implements BaseProperty, Serializable {
+	
+	private static final long			serialVersionUID	= -4545667677178563242L;
 	
 	/**
 	 * キー。<br>
@@ -17,20 +17,24 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 /**
  * MosP設定情報(DAO)。<br>
  */
-public class MappingProperty implements BaseProperty {
+public class MappingProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= -5448004930286186788L;
 	
 	/**
 	 * キー。<br>
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * DAOクラス名。<br>
 	 */
-	private final String	dao;
+	private final String		dao;
 	
 	
 	/**
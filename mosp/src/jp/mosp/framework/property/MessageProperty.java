@@ -17,25 +17,35 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 /**
  * MosP設定情報(メッセージ)。<br>
  */
-public class MessageProperty implements BaseProperty {
+public class MessageProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= 9148797923606522743L;
 	
 	/**
 	 * キー(メッセージID)。
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * メッセージ本体。
 	 */
-	private String	messageBody;
+	private String				messageBody;
 	
 	/**
 	 * クライアント利用可否。
 	 */
-	private boolean	clientAvailable;
+	private boolean				clientAvailable;
+	
+	/**
+	 * メッセージテンプレート。<br>
+	 * メッセージ本体を予め分割したもの。<br>
+	 */
+	private MessageTemplate		template;
 	
 	
 	/**
@@ -48,6 +58,7 @@ public class MessageProperty implements BaseProperty {
 		this.key = key;
 		this.messageBody = messageBody;
 		this.clientAvailable = clientAvailable;
+		template = messageBody == null ? null : MessageTemplate.compile(messageBody);
 	}
 	
 	/**
@@ -75,4 +86,12 @@ public class MessageProperty implements BaseProperty {
 		return clientAvailable;
 	}
 	
+	/**
+	 * メッセージテンプレートを取得する。
+	 * @return メッセージテンプレート(メッセージ本体がnullの場合はnull)
+	 */
+	public MessageTemplate getTemplate() {
+		return template;
+	}
+	
 }
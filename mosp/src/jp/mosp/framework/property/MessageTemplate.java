@@ -0,0 +1,171 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.property;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * メッセージテンプレート。<br>
+ * <br>
+ * メッセージ本体を、固定文字列と置換箇所(%i%、iは1から始まる置換文字列の番号)に
+ * 予め分割して保持する。<br>
+ * メッセージ作成時は、分割された要素を順に連結するのみであり、
+ * 正規表現を用いないため、置換文字列に含まれる$や\もそのまま出力される。<br>
+ */
+public final class MessageTemplate implements Serializable {
+	
+	private static final long	serialVersionUID	= 5831997543652472967L;
+	
+	/**
+	 * 置換箇所の区切文字。<br>
+	 */
+	protected static final char	DELIMITER			= '%';
+	
+	/**
+	 * 置換箇所の最大桁数。<br>
+	 */
+	protected static final int	MAX_SLOT_DIGITS		= 4;
+	
+	/**
+	 * 固定文字列群。<br>
+	 * 置換箇所の前後の固定文字列を保持する(置換箇所数 + 1)。<br>
+	 */
+	private final String[]		literals;
+	
+	/**
+	 * 置換箇所群(置換文字列のインデックス)。<br>
+	 */
+	private final int[]			slots;
+	
+	/**
+	 * 固定文字列長の合計。<br>
+	 */
+	private final int			literalLength;
+	
+	
+	/**
+	 * メッセージテンプレートを生成する。<br>
+	 * @param literals 固定文字列群
+	 * @param slots    置換箇所群
+	 */
+	private MessageTemplate(String[] literals, int[] slots) {
+		this.literals = literals;
+		this.slots = slots;
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		literalLength = length;
+	}
+	
+	/**
+	 * メッセージ本体を分割しメッセージテンプレートを作成する。<br>
+	 * 区切文字に挟まれた1以上の数字(先頭が0でないもの)を置換箇所とし、
+	 * それ以外の区切文字は固定文字列として扱う。<br>
+	 * @param messageBody メッセージ本体
+	 * @return メッセージテンプレート
+	 */
+	public static MessageTemplate compile(String messageBody) {
+		// 固定文字列群及び置換箇所群を準備
+		List<String> literalList = new ArrayList<String>();
+		List<Integer> slotList = new ArrayList<Integer>();
+		// 固定文字列の開始位置を準備
+		int start = 0;
+		// 区切文字の位置を取得
+		int open = messageBody.indexOf(DELIMITER);
+		while (open >= 0) {
+			// 数字の終了位置を取得
+			int end = open + 1;
+			while (end < messageBody.length() && end - open <= MAX_SLOT_DIGITS
+					&& Character.isDigit(messageBody.charAt(end))) {
+				end++;
+			}
+			// 置換箇所でない場合(数字が無い、先頭が0、或いは区切文字で閉じられていない)
+			if (end == open + 1 || messageBody.charAt(open + 1) == '0' || end == messageBody.length()
+					|| messageBody.charAt(end) != DELIMITER) {
+				// 次の区切文字の位置を取得
+				open = messageBody.indexOf(DELIMITER, open + 1);
+				continue;
+			}
+			// 置換箇所の前の固定文字列及び置換箇所を追加
+			literalList.add(messageBody.substring(start, open));
+			slotList.add(Integer.valueOf(Integer.parseInt(messageBody.substring(open + 1, end)) - 1));
+			// 次の固定文字列の開始位置を設定
+			start = end + 1;
+			open = messageBody.indexOf(DELIMITER, start);
+		}
+		// 最後の固定文字列を追加
+		literalList.add(messageBody.substring(start));
+		// 置換箇所群を配列に変換
+		int[] slots = new int[slotList.size()];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = slotList.get(i).intValue();
+		}
+		return new MessageTemplate(literalList.toArray(new String[literalList.size()]), slots);
+	}
+	
+	/**
+	 * メッセージを作成する。<br>
+	 * 置換文字列が不足する置換箇所は、置換せずにそのまま出力する。<br>
+	 * @param rep 置換文字列
+	 * @return メッセージ
+	 */
+	public String render(String... rep) {
+		// 置換箇所が無い場合
+		if (slots.length == 0) {
+			return literals[0];
+		}
+		return render(new StringBuilder(literalLength + slots.length * 16), rep);
+	}
+	
+	/**
+	 * 文字列バッファを用いてメッセージを作成する。<br>
+	 * 文字列バッファは初期化して用いるため、同一スレッド内で再利用できる。<br>
+	 * @param sb  文字列バッファ
+	 * @param rep 置換文字列
+	 * @return メッセージ
+	 */
+	public String render(StringBuilder sb, String... rep) {
+		// 置換箇所が無い場合
+		if (slots.length == 0) {
+			return literals[0];
+		}
+		// 文字列バッファを初期化
+		sb.setLength(0);
+		// 置換箇所毎に処理
+		for (int i = 0; i < slots.length; i++) {
+			// 固定文字列を追加
+			sb.append(literals[i]);
+			// 置換文字列が存在する場合
+			int slot = slots[i];
+			if (rep != null && slot < rep.length) {
+				// 置換文字列を追加
+				sb.append(rep[slot]);
+				continue;
+			}
+			// 置換箇所をそのまま追加
+			sb.append(DELIMITER).append(slot + 1).append(DELIMITER);
+		}
+		// 最後の固定文字列を追加
+		sb.append(literals[slots.length]);
+		return sb.toString();
+	}
+	
+}
@@ -17,6 +17,7 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -24,7 +25,9 @@ import java.util.Map;
 /**
  * MosP設定情報(モデル)。<br>
  */
-public class ModelProperty implements BaseProperty {
+public class ModelProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= -7097404940510135750L;
 	
 	/**
 	 * キー。
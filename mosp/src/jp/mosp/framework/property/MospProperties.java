@@ -17,6 +17,7 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -29,7 +30,9 @@ import jp.mosp.framework.utils.MospUtility;
 /**
  * MosP設定情報を扱う。<br>
  */
-public class MospProperties {
+public class MospProperties implements Serializable {
+	
+	private static final long					serialVersionUID	= 3682925423815879591L;
 	
 	/**
 	 * アプリケーション設定情報群。
@@ -146,6 +149,20 @@ public class MospProperties {
 		}
 	}
 	
+	/**
+	 * アプリケーション設定情報を数値(long)で取得する。
+	 * @param key 対象キー
+	 * @param defaultValue 取得できなかった場合の値
+	 * @return 設定情報
+	 */
+	public long getApplicationProperty(String key, long defaultValue) {
+		try {
+			return Long.parseLong(getApplicationProperty(key));
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+	
 	/**
 	 * アプリケーション設定情報を真偽値で取得する。
 	 * @param key 対象キー
@@ -266,21 +283,30 @@ public class MospProperties {
 	 * @return メッセージ
 	 */
 	public String getMessage(String key, String[] rep) {
+		return getMessage(key, rep, null);
+	}
+	
+	/**
+	 * メッセージを取得する。<br>
+	 * 文字列バッファが指定された場合は、それを再利用してメッセージを作成する。<br>
+	 * @param key 対象キー
+	 * @param rep 置換文字列
+	 * @param sb  文字列バッファ(null可)
+	 * @return メッセージ
+	 */
+	public String getMessage(String key, String[] rep, StringBuilder sb) {
 		MessageProperty messageProperty = messageProperties.get(key);
 		if (messageProperty == null) {
 			return "";
 		}
-		String message = messageProperty.getMessageBody();
-		if (message == null) {
+		MessageTemplate template = messageProperty.getTemplate();
+		if (template == null) {
 			return "";
 		}
-		if (rep == null) {
-			return message;
-		}
-		for (int i = 0; i < rep.length; i++) {
-			message = message.replaceAll("%" + String.valueOf(i + 1) + "%", rep[i]);
+		if (sb == null) {
+			return template.render(rep);
 		}
-		return message;
+		return template.render(sb, rep);
 	}
 	
 	/**
@@ -17,20 +17,24 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 /**
  * MosP設定情報(名称)。<br>
  */
-public class NamingProperty implements BaseProperty {
+public class NamingProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= 6975878015102291541L;
 	
 	/**
 	 * キー。<br>
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * 値。<br>
 	 */
-	private String	value;
+	private String				value;
 	
 	
 	/**
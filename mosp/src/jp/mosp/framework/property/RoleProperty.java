@@ -17,6 +17,7 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,7 +28,9 @@ import jp.mosp.framework.base.IndexedDtoInterface;
 /**
  * MosP設定情報(ロール)。<br>
  */
-public class RoleProperty implements IndexedDtoInterface, BaseProperty {
+public class RoleProperty implements IndexedDtoInterface, BaseProperty, Serializable {
+	
+	private static final long				serialVersionUID	= 325258871854483641L;
 	
 	/**
 	 * キー。
@@ -18,6 +18,7 @@
 package jp.mosp.framework.utils;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Locale;
@@ -35,27 +36,43 @@ public class BinaryUtility {
 	/**
 	 * 拡張子セパレータ。<br>
 	 */
-	public static final String	STR_EXTENSION_SEPARATOR	= ".";
+	public static final String		STR_EXTENSION_SEPARATOR	= ".";
 	
 	/**
 	 * 拡張子(gif)。<br>
 	 */
-	public static final String	STR_EXTENSION_GIF		= "gif";
+	public static final String		STR_EXTENSION_GIF		= "gif";
 	
 	/**
 	 * 拡張子(png)。<br>
 	 */
-	public static final String	STR_EXTENSION_PNG		= "png";
+	public static final String		STR_EXTENSION_PNG		= "png";
 	
 	/**
 	 * 拡張子(jpeg)。<br>
 	 */
-	public static final String	STR_EXTENSION_JPEG		= "jpeg";
+	public static final String		STR_EXTENSION_JPEG		= "jpeg";
 	
 	/**
 	 * 拡張子(jpg)。<br>
 	 */
-	public static final String	STR_EXTENSION_JPG		= "jpg";
+	public static final String		STR_EXTENSION_JPG		= "jpg";
+	
+	/**
+	 * バイナリデータ一時保存ディレクトリ名。<br>
+	 * 一時ディレクトリ下に作成する。<br>
+	 */
+	protected static final String	DIR_BINARY				= "mosp-binary";
+	
+	/**
+	 * バイナリデータ一時保存ファイル接頭辞。<br>
+	 */
+	protected static final String	PREFIX_BINARY			= "binary";
+	
+	/**
+	 * システムプロパティキー(一時ディレクトリ)。<br>
+	 */
+	protected static final String	PROP_TMP_DIR			= "java.io.tmpdir";
 	
 	
 	/**
@@ -89,6 +106,23 @@ public class BinaryUtility {
 		return bout.toByteArray();
 	}
 	
+	/**
+	 * バイナリデータを書き出す一時ファイルを作成する。<br>
+	 * DBから読み込んだバイナリデータをメモリに保持せずに出力する場合に用いる。<br>
+	 * 作成したファイルは、出力後に削除する必要がある。<br>
+	 * @return 一時ファイル
+	 * @throws MospException 一時ファイルの作成に失敗した場合
+	 */
+	public static File createTempFile() throws MospException {
+		try {
+			File dir = new File(System.getProperty(PROP_TMP_DIR), DIR_BINARY);
+			dir.mkdirs();
+			return File.createTempFile(PREFIX_BINARY, null, dir);
+		} catch (IOException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+		}
+	}
+	
 	/**
 	 * ファイル名から拡張子を取得する。<br>
 	 * ファイル名の最後「.」以降の文字列を取得する。<br>
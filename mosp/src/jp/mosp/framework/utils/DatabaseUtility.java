@@ -20,6 +20,8 @@ package jp.mosp.framework.utils;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.RDBMSType;
@@ -29,6 +31,14 @@ import jp.mosp.framework.base.RDBMSType;
  */
 public class DatabaseUtility {
 	
+	/**
+	 * 接続先毎のデータベース種類群。<br>
+	 * key:データソース或いはDBのURL<br>
+	 * value:データベース種類<br>
+	 */
+	static final Map<Object, RDBMSType>	sourceTypes	= new ConcurrentHashMap<Object, RDBMSType>();
+	
+	
 	/**
 	 * コンストラクタ
 	 */
@@ -54,13 +64,69 @@ public class DatabaseUtility {
 	}
 	
 	/**
-	 * データベース種類取得
+	 * データベース種類取得。<br>
+	 * DBコネクションのURL毎に一度だけデータベース名から特定し、以降は特定した結果を用いる。<br>
+	 * URLはDBコネクションが保持している情報であり、取得の際にDBへの問合せは行わない。<br>
 	 * @param conn	DBコネクション
 	 * @return	データベース種類
 	 * @throws MospException SQL例外が発生した場合
 	 */
 	public static RDBMSType getRDBMS(Connection conn) throws MospException {
-		
+		if (conn == null) {
+			return null;
+		}
+		String url = getUrl(conn);
+		// URLが取得できない場合
+		if (url == null) {
+			return resolveRDBMS(conn);
+		}
+		return getRDBMS(url, conn);
+	}
+	
+	/**
+	 * データベース種類取得。<br>
+	 * 接続先(データソース或いはDBのURL)毎に一度だけデータベース名から特定し、以降は特定した結果を用いる。<br>
+	 * @param source 接続先(データソース或いはDBのURL)
+	 * @param conn	DBコネクション
+	 * @return	データベース種類
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	public static RDBMSType getRDBMS(Object source, Connection conn) throws MospException {
+		if (source == null || conn == null) {
+			return getRDBMS(conn);
+		}
+		RDBMSType type = sourceTypes.get(source);
+		if (type == null) {
+			type = resolveRDBMS(conn);
+			if (type == null) {
+				return null;
+			}
+			sourceTypes.put(source, type);
+		}
+		return type;
+	}
+	
+	/**
+	 * DBコネクションのURLを取得する。<br>
+	 * @param conn	DBコネクション
+	 * @return	DBのURL
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected static String getUrl(Connection conn) throws MospException {
+		try {
+			return conn.getMetaData().getURL();
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+	}
+	
+	/**
+	 * データベース名からデータベース種類を特定する。<br>
+	 * @param conn	DBコネクション
+	 * @return	データベース種類
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected static RDBMSType resolveRDBMS(Connection conn) throws MospException {
 		String name = getDatabaseProductName(conn);
 		if (name == null) {
 			return null;
@@ -17,10 +17,8 @@
  */
 package jp.mosp.framework.utils;
 
-import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.Format;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
@@ -33,6 +31,7 @@ import jp.mosp.platform.utils.PlatformNamingUtility;
 
 /**
  * 日付操作に有用なメソッドを提供する。<br><br>
+ * 年月日、時分の取得や日付の加算及び文字列との変換は、{@link EpochDateUtility}に委譲する。<br>
  */
 public final class DateUtility {
 	
@@ -59,12 +58,7 @@ public final class DateUtility {
 	 * @return システム日付
 	 */
 	public static Date getSystemDate() {
-		Calendar cal = Calendar.getInstance();
-		cal.set(Calendar.HOUR_OF_DAY, 0);
-		cal.set(Calendar.MINUTE, 0);
-		cal.set(Calendar.SECOND, 0);
-		cal.set(Calendar.MILLISECOND, 0);
-		return cal.getTime();
+		return EpochDateUtility.toDate(EpochDateUtility.toEpochDay(System.currentTimeMillis()), 0);
 	}
 	
 	/**
@@ -72,10 +66,7 @@ public final class DateUtility {
 	 * @return システム日時
 	 */
 	public static Date getSystemTime() {
-		Calendar cal = Calendar.getInstance();
-		cal.set(Calendar.SECOND, 0);
-		cal.set(Calendar.MILLISECOND, 0);
-		return cal.getTime();
+		return new Date(EpochDateUtility.truncateMinute(System.currentTimeMillis()));
 	}
 	
 	/**
@@ -83,8 +74,7 @@ public final class DateUtility {
 	 * @return システム日時
 	 */
 	public static Date getSystemTimeAndSecond() {
-		Calendar cal = Calendar.getInstance();
-		return cal.getTime();
+		return new Date();
 	}
 	
 	/**
@@ -92,10 +82,7 @@ public final class DateUtility {
 	 * @return システム日時 ミリ秒
 	 */
 	public static String getSystemTimeAndMillsSecond() {
-		SimpleDateFormat dFormat = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss.SSS");
-		
-		return dFormat.format(new Date());
-		
+		return getStringDateMilli(new Date());
 	}
 	
 	/**
@@ -114,6 +101,23 @@ public final class DateUtility {
 	 * @return date
 	 */
 	public static int getCalendarValue(Date date, int field) {
+		// 年月日、時分及び曜日の場合
+		switch (field) {
+			case Calendar.YEAR:
+				return EpochDateUtility.getYear(EpochDateUtility.toEpochDay(date));
+			case Calendar.MONTH:
+				return EpochDateUtility.getMonth(EpochDateUtility.toEpochDay(date)) - 1;
+			case Calendar.DAY_OF_MONTH:
+				return EpochDateUtility.getDay(EpochDateUtility.toEpochDay(date));
+			case Calendar.HOUR_OF_DAY:
+				return EpochDateUtility.toMinuteOfDay(date) / 60;
+			case Calendar.MINUTE:
+				return EpochDateUtility.toMinuteOfDay(date) % 60;
+			case Calendar.DAY_OF_WEEK:
+				return EpochDateUtility.getDayOfWeek(EpochDateUtility.toEpochDay(date));
+			default:
+				break;
+		}
 		Calendar calendar = Calendar.getInstance();
 		calendar.setTime(date);
 		return calendar.get(field);
@@ -319,13 +323,7 @@ public final class DateUtility {
 	 * @return 日付オブジェクト(日付)
 	 */
 	public static Date getDate(Date date) {
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(date);
-		cal.set(Calendar.HOUR_OF_DAY, 0);
-		cal.set(Calendar.MINUTE, 0);
-		cal.set(Calendar.SECOND, 0);
-		cal.set(Calendar.MILLISECOND, 0);
-		return cal.getTime();
+		return EpochDateUtility.toDate(EpochDateUtility.toEpochDay(date), 0);
 	}
 	
 	/**
@@ -462,13 +460,7 @@ public final class DateUtility {
 	 * @return			Date型対象年月日
 	 */
 	public static Date getDate(String date, String format) {
-		DateFormat df = new SimpleDateFormat(format);
-		df.setLenient(false);
-		try {
-			return df.parse(date);
-		} catch (ParseException e) {
-			return null;
-		}
+		return EpochDateUtility.parse(date, format);
 	}
 	
 	/**
@@ -605,15 +597,11 @@ public final class DateUtility {
 	 * @return 日付文字列( GGGGyyyy年MM月dd日)
 	 */
 	public static String getStringTimeJapaneseCalendar(Date date) {
-		// ロケール変更前を取得
-		Locale defaultLocale = Locale.getDefault();
-		// ローケルを和暦に設定
-		Locale.setDefault(new Locale("ja", "JP", "JP"));
-		// 日付文字列取得
-		String stringDate = getStringDate(date, "GGGGyyyy年MM月dd日");
-		// ロケールを元に戻す
-		Locale.setDefault(defaultLocale);
-		return stringDate;
+		if (date == null) {
+			return "";
+		}
+		// 和暦のロケールを指定して日付文字列取得(デフォルトロケールは変更しない)
+		return new SimpleDateFormat("GGGGyyyy年MM月dd日", new Locale("ja", "JP", "JP")).format(date);
 	}
 	
 	/**
@@ -659,8 +647,7 @@ public final class DateUtility {
 		if (date == null) {
 			return "";
 		}
-		SimpleDateFormat sdf = new SimpleDateFormat(format);
-		return sdf.format(date);
+		return EpochDateUtility.format(date, format);
 	}
 	
 	/**
@@ -670,14 +657,8 @@ public final class DateUtility {
 	 * @return 操作後日付
 	 */
 	public static Date addYear(Date date, int amount) {
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(date);
-		cal.set(Calendar.HOUR_OF_DAY, 0);
-		cal.set(Calendar.MINUTE, 0);
-		cal.set(Calendar.SECOND, 0);
-		cal.set(Calendar.MILLISECOND, 0);
-		cal.add(Calendar.YEAR, amount);
-		return cal.getTime();
+		long epochDay = EpochDateUtility.toEpochDay(date);
+		return EpochDateUtility.toDate(EpochDateUtility.addMonth(epochDay, amount * 12), 0);
 	}
 	
 	/**
@@ -687,14 +668,8 @@ public final class DateUtility {
 	 * @return 操作後日付
 	 */
 	public static Date addMonth(Date date, int amount) {
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(date);
-		cal.set(Calendar.HOUR_OF_DAY, 0);
-		cal.set(Calendar.MINUTE, 0);
-		cal.set(Calendar.SECOND, 0);
-		cal.set(Calendar.MILLISECOND, 0);
-		cal.add(Calendar.MONTH, amount);
-		return cal.getTime();
+		long epochDay = EpochDateUtility.toEpochDay(date);
+		return EpochDateUtility.toDate(EpochDateUtility.addMonth(epochDay, amount), 0);
 	}
 	
 	/**
@@ -704,14 +679,7 @@ public final class DateUtility {
 	 * @return 操作後日付
 	 */
 	public static Date addDay(Date date, int amount) {
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(date);
-		cal.set(Calendar.HOUR_OF_DAY, 0);
-		cal.set(Calendar.MINUTE, 0);
-		cal.set(Calendar.SECOND, 0);
-		cal.set(Calendar.MILLISECOND, 0);
-		cal.add(Calendar.DAY_OF_MONTH, amount);
-		return cal.getTime();
+		return EpochDateUtility.toDate(EpochDateUtility.toEpochDay(date) + amount, 0);
 	}
 	
 	/**
@@ -721,12 +689,7 @@ public final class DateUtility {
 	 * @return 操作後日付
 	 */
 	public static Date addHour(Date date, int amount) {
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(date);
-		cal.set(Calendar.SECOND, 0);
-		cal.set(Calendar.MILLISECOND, 0);
-		cal.add(Calendar.HOUR_OF_DAY, amount);
-		return cal.getTime();
+		return new Date(EpochDateUtility.truncateMinute(date.getTime()) + amount * (long)TIME_HOUR_MILLI_SEC);
 	}
 	
 	/**
@@ -736,12 +699,7 @@ public final class DateUtility {
 	 * @return 操作後日付
 	 */
 	public static Date addMinute(Date date, int amount) {
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(date);
-		cal.set(Calendar.SECOND, 0);
-		cal.set(Calendar.MILLISECOND, 0);
-		cal.add(Calendar.MINUTE, amount);
-		return cal.getTime();
+		return new Date(EpochDateUtility.truncateMinute(date.getTime()) + amount * EpochDateUtility.MILLI_MINUTE);
 	}
 	
 	/**
@@ -755,15 +713,19 @@ public final class DateUtility {
 	 * @throws MospException 日付の変換に失敗した場合
 	 */
 	public static Date getDateTime(int year, int month, int day, int hour, int minute) throws MospException {
-		try {
-			Calendar cal = Calendar.getInstance();
-			cal.setLenient(false);
-			cal.set(year, month - 1, day, hour, minute, 0);
-			cal.set(Calendar.MILLISECOND, 0);
-			return cal.getTime();
-		} catch (IllegalArgumentException e) {
-			throw new MospException(e);
+		// 値が範囲外である場合
+		if (year < 1 || month < 1 || month > 12 || day < 1 || day > EpochDateUtility.getLengthOfMonth(year, month)
+				|| hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+			throw new MospException(new IllegalArgumentException(year + "/" + month + "/" + day + " " + hour + ":"
+					+ minute));
+		}
+		Date date = EpochDateUtility.toDate(EpochDateUtility.toEpochDay(year, month, day), hour * 60 + minute);
+		// 夏時間の切替等により存在しない日時である場合
+		if (EpochDateUtility.toMinuteOfDay(date) != hour * 60 + minute) {
+			throw new MospException(new IllegalArgumentException(year + "/" + month + "/" + day + " " + hour + ":"
+					+ minute));
 		}
+		return date;
 	}
 	
 	/**
@@ -0,0 +1,448 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.utils;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 日付操作の中核となるメソッドを提供する。<br>
+ * <br>
+ * 日付オブジェクトを、エポック日(1970/01/01からの日数)と日内分(0時からの分数)の整数で扱う。<br>
+ * オフセットはCalendarと同じくデフォルトタイムゾーン(TimeZone)から取得し、
+ * Calendarを生成せずに整数演算のみで年月日や時分を求める。<br>
+ * 年月日は先発グレゴリオ暦で計算する(1582年以前はCalendarと異なる)。<br>
+ * <br>
+ * 文字列への変換は、パターン毎に保持したDateTimeFormatterを用いる。<br>
+ * 但し、SimpleDateFormatと意味の異なるパターン文字を含む場合、及び文字列からの変換では、
+ * 従来と同じ結果となるよう、スレッド毎に保持したSimpleDateFormatを用いる。<br>
+ * <br>
+ * デフォルトタイムゾーンは、Calendarと同じく呼出毎に取得する。<br>
+ */
+public final class EpochDateUtility {
+	
+	/**
+	 * ミリ秒(1分)。<br>
+	 */
+	public static final long							MILLI_MINUTE		= 60000L;
+	
+	/**
+	 * ミリ秒(1日)。<br>
+	 */
+	public static final long							MILLI_DAY			= 86400000L;
+	
+	/**
+	 * DateTimeFormatterで扱うパターン文字。<br>
+	 * これ以外のパターン文字を含む場合は、SimpleDateFormatを用いる。<br>
+	 */
+	protected static final String						FORMATTER_LETTERS	= "yMdHmsE";
+	
+	/**
+	 * パターン文字の連続数の上限。<br>
+	 * これを超える場合は、SimpleDateFormatを用いる。<br>
+	 */
+	protected static final int							MAX_LETTER_COUNT	= 4;
+	
+	/**
+	 * SimpleDateFormatを用いることを示すDateTimeFormatter(DateTimeFormatter群の値)。<br>
+	 */
+	static final DateTimeFormatter						NONE				= DateTimeFormatter.BASIC_ISO_DATE;
+	
+	/**
+	 * DateTimeFormatter群(key：パターン)。<br>
+	 * SimpleDateFormatと同じ結果にならないパターンについては、{@link #NONE}を保持する。<br>
+	 */
+	static final Map<String, DateTimeFormatter>			formatters			= new ConcurrentHashMap<String, DateTimeFormatter>();
+	
+	/**
+	 * スレッド毎のSimpleDateFormat群(key：パターン)。<br>
+	 */
+	static final ThreadLocal<Map<String, DateFormat>>	dateFormats			= new ThreadLocal<Map<String, DateFormat>>();
+	
+	/**
+	 * スレッド毎のSimpleDateFormat群を作成した時のデフォルトロケール。<br>
+	 */
+	static final ThreadLocal<Locale>					dateFormatLocales	= new ThreadLocal<Locale>();
+	
+	/**
+	 * スレッド毎のSimpleDateFormat群を作成した時のデフォルトタイムゾーン。<br>
+	 */
+	static final ThreadLocal<TimeZone>					dateFormatZones		= new ThreadLocal<TimeZone>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private EpochDateUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 日時(ミリ秒)のオフセット(ミリ秒)を取得する。<br>
+	 * @param millis 日時(ミリ秒)
+	 * @return オフセット(ミリ秒)
+	 */
+	public static long getOffset(long millis) {
+		return TimeZone.getDefault().getOffset(millis);
+	}
+	
+	/**
+	 * 日時(ミリ秒)を、1970/01/01 00:00(ローカル時刻)からのミリ秒に変換する。<br>
+	 * @param millis 日時(ミリ秒)
+	 * @return ローカル時刻(ミリ秒)
+	 */
+	public static long toLocalMillis(long millis) {
+		return millis + TimeZone.getDefault().getOffset(millis);
+	}
+	
+	/**
+	 * 1970/01/01 00:00(ローカル時刻)からのミリ秒を、日時(ミリ秒)に変換する。<br>
+	 * Calendarと同じく、標準時として解釈した時点のオフセットを用いる。<br>
+	 * 夏時間の切替等により存在しない時刻である場合は、標準時として解釈する。<br>
+	 * @param localMillis ローカル時刻(ミリ秒)
+	 * @return 日時(ミリ秒)
+	 */
+	public static long fromLocalMillis(long localMillis) {
+		TimeZone timeZone = TimeZone.getDefault();
+		long standard = localMillis - timeZone.getRawOffset();
+		long millis = localMillis - timeZone.getOffset(standard);
+		// 存在しない時刻である場合
+		if (millis + timeZone.getOffset(millis) != localMillis) {
+			return standard;
+		}
+		return millis;
+	}
+	
+	/**
+	 * エポック日を取得する。<br>
+	 * @param date 日付
+	 * @return エポック日
+	 */
+	public static long toEpochDay(Date date) {
+		return toEpochDay(date.getTime());
+	}
+	
+	/**
+	 * エポック日を取得する。<br>
+	 * @param millis 日時(ミリ秒)
+	 * @return エポック日
+	 */
+	public static long toEpochDay(long millis) {
+		return Math.floorDiv(toLocalMillis(millis), MILLI_DAY);
+	}
+	
+	/**
+	 * エポック日を取得する。<br>
+	 * @param year  年
+	 * @param month 月
+	 * @param day   日
+	 * @return エポック日
+	 */
+	public static long toEpochDay(int year, int month, int day) {
+		long y = month <= 2 ? year - 1 : year;
+		long era = Math.floorDiv(y, 400);
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097 + dayOfEra - 719468;
+	}
+	
+	/**
+	 * 日内分(0時からの分数)を取得する。<br>
+	 * @param date 日時
+	 * @return 日内分
+	 */
+	public static int toMinuteOfDay(Date date) {
+		return (int)(Math.floorMod(toLocalMillis(date.getTime()), MILLI_DAY) / MILLI_MINUTE);
+	}
+	
+	/**
+	 * 日付オブジェクトを取得する。<br>
+	 * @param epochDay    エポック日
+	 * @param minuteOfDay 日内分
+	 * @return 日付オブジェクト
+	 */
+	public static Date toDate(long epochDay, int minuteOfDay) {
+		return new Date(toEpochMilli(epochDay, minuteOfDay));
+	}
+	
+	/**
+	 * 日時(ミリ秒)を取得する。<br>
+	 * @param epochDay    エポック日
+	 * @param minuteOfDay 日内分
+	 * @return 日時(ミリ秒)
+	 */
+	public static long toEpochMilli(long epochDay, int minuteOfDay) {
+		return fromLocalMillis(epochDay * MILLI_DAY + minuteOfDay * MILLI_MINUTE);
+	}
+	
+	/**
+	 * 日時(ミリ秒)を分で切り捨てる。<br>
+	 * Calendarで秒以下を0にした場合と同じく、切り捨てたローカル時刻から改めて日時を求める。<br>
+	 * @param millis 日時(ミリ秒)
+	 * @return 切り捨てた日時(ミリ秒)
+	 */
+	public static long truncateMinute(long millis) {
+		long local = toLocalMillis(millis);
+		return fromLocalMillis(local - Math.floorMod(local, MILLI_MINUTE));
+	}
+	
+	/**
+	 * 年を取得する。<br>
+	 * @param epochDay エポック日
+	 * @return 年
+	 */
+	public static int getYear(long epochDay) {
+		return toYearMonthDay(epochDay) / 10000;
+	}
+	
+	/**
+	 * 月(1～12)を取得する。<br>
+	 * @param epochDay エポック日
+	 * @return 月
+	 */
+	public static int getMonth(long epochDay) {
+		return toYearMonthDay(epochDay) / 100 % 100;
+	}
+	
+	/**
+	 * 日を取得する。<br>
+	 * @param epochDay エポック日
+	 * @return 日
+	 */
+	public static int getDay(long epochDay) {
+		return toYearMonthDay(epochDay) % 100;
+	}
+	
+	/**
+	 * 曜日を取得する。<br>
+	 * @param epochDay エポック日
+	 * @return 曜日を示すフィールド値({@link Calendar#SUNDAY}～{@link Calendar#SATURDAY})
+	 */
+	public static int getDayOfWeek(long epochDay) {
+		// 1970/01/01は木曜日
+		return (int)Math.floorMod(epochDay + 4, 7L) + Calendar.SUNDAY;
+	}
+	
+	/**
+	 * 月の日数を取得する。<br>
+	 * @param year  年
+	 * @param month 月
+	 * @return 月の日数
+	 */
+	public static int getLengthOfMonth(int year, int month) {
+		if (month == 2) {
+			boolean isLeap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+			return isLeap ? 29 : 28;
+		}
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+	
+	/**
+	 * 月を加算したエポック日を取得する。<br>
+	 * 加算後の月に同じ日が無い場合は、月末日とする。<br>
+	 * @param epochDay エポック日
+	 * @param amount   増減月数
+	 * @return 加算後のエポック日
+	 */
+	public static long addMonth(long epochDay, int amount) {
+		int ymd = toYearMonthDay(epochDay);
+		long months = ymd / 10000 * 12L + ymd / 100 % 100 - 1 + amount;
+		int year = (int)Math.floorDiv(months, 12L);
+		int month = (int)Math.floorMod(months, 12L) + 1;
+		int day = Math.min(ymd % 100, getLengthOfMonth(year, month));
+		return toEpochDay(year, month, day);
+	}
+	
+	/**
+	 * 日付文字列を取得する。<br>
+	 * @param date    日付
+	 * @param pattern パターン
+	 * @return 日付文字列
+	 */
+	public static String format(Date date, String pattern) {
+		DateTimeFormatter formatter = getFormatter(pattern);
+		if (formatter == null) {
+			return getDateFormat(pattern).format(date);
+		}
+		return formatter.format(toLocalDateTime(date));
+	}
+	
+	/**
+	 * 日付文字列を日付オブジェクトに変換する。<br>
+	 * 厳密に解析(setLenient(false))し、解析できない場合はnullを返す。<br>
+	 * @param date    日付文字列
+	 * @param pattern パターン
+	 * @return 日付オブジェクト
+	 */
+	public static Date parse(String date, String pattern) {
+		try {
+			return getDateFormat(pattern).parse(date);
+		} catch (ParseException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * LocalDateを取得する。<br>
+	 * @param date 日付
+	 * @return LocalDate
+	 */
+	public static LocalDate toLocalDate(Date date) {
+		return LocalDate.ofEpochDay(toEpochDay(date));
+	}
+	
+	/**
+	 * LocalDateTimeを取得する。<br>
+	 * @param date 日時
+	 * @return LocalDateTime
+	 */
+	public static LocalDateTime toLocalDateTime(Date date) {
+		long local = toLocalMillis(date.getTime());
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(local, 1000L), (int)Math.floorMod(local, 1000L) * 1000000,
+				ZoneOffset.UTC);
+	}
+	
+	/**
+	 * 日付オブジェクトを取得する。<br>
+	 * @param date LocalDate
+	 * @return 日付オブジェクト
+	 */
+	public static Date toDate(LocalDate date) {
+		return toDate(date.toEpochDay(), 0);
+	}
+	
+	/**
+	 * 日付オブジェクトを取得する。<br>
+	 * @param dateTime LocalDateTime
+	 * @return 日付オブジェクト
+	 */
+	public static Date toDate(LocalDateTime dateTime) {
+		long local = dateTime.toEpochSecond(ZoneOffset.UTC) * 1000L + dateTime.getNano() / 1000000;
+		return new Date(fromLocalMillis(local));
+	}
+	
+	/**
+	 * エポック日から年月日(yyyyMMddの数値)を取得する。<br>
+	 * @param epochDay エポック日
+	 * @return 年月日(yyyyMMddの数値)
+	 */
+	static int toYearMonthDay(long epochDay) {
+		long z = epochDay + 719468;
+		long era = Math.floorDiv(z, 146097);
+		long dayOfEra = z - era * 146097;
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long mp = (5 * dayOfYear + 2) / 153;
+		int day = (int)(dayOfYear - (153 * mp + 2) / 5 + 1);
+		int month = (int)(mp < 10 ? mp + 3 : mp - 9);
+		int year = (int)(yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+		return year * 10000 + month * 100 + day;
+	}
+	
+	/**
+	 * DateTimeFormatterを取得する。<br>
+	 * SimpleDateFormatと同じ結果にならないパターンの場合は、nullを返す。<br>
+	 * @param pattern パターン
+	 * @return DateTimeFormatter
+	 */
+	static DateTimeFormatter getFormatter(String pattern) {
+		DateTimeFormatter formatter = formatters.get(pattern);
+		if (formatter != null) {
+			return formatter == NONE ? null : formatter;
+		}
+		formatter = isFormatterPattern(pattern) ? DateTimeFormatter.ofPattern(pattern) : NONE;
+		formatters.put(pattern, formatter);
+		return formatter == NONE ? null : formatter;
+	}
+	
+	/**
+	 * DateTimeFormatterでSimpleDateFormatと同じ結果となるパターンであるかを確認する。<br>
+	 * 引用符で囲まれていない英字が全て{@link #FORMATTER_LETTERS}に含まれ、
+	 * その連続数が{@link #MAX_LETTER_COUNT}以下である場合に同じ結果となる。<br>
+	 * @param pattern パターン
+	 * @return 確認結果(true：同じ結果となる、false：同じ結果とならない)
+	 */
+	static boolean isFormatterPattern(String pattern) {
+		boolean isQuoted = false;
+		int count = 0;
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				isQuoted = !isQuoted;
+				count = 0;
+				continue;
+			}
+			if (isQuoted) {
+				continue;
+			}
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				count = i > 0 && pattern.charAt(i - 1) == c ? count + 1 : 1;
+				if (FORMATTER_LETTERS.indexOf(c) < 0 || count > MAX_LETTER_COUNT) {
+					return false;
+				}
+				continue;
+			}
+			count = 0;
+			// DateTimeFormatterの予約文字である場合
+			if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * スレッド毎に保持したSimpleDateFormatを取得する。<br>
+	 * デフォルトロケール或いはデフォルトタイムゾーンが変わった場合は、作成し直す。<br>
+	 * @param pattern パターン
+	 * @return SimpleDateFormat
+	 */
+	static DateFormat getDateFormat(String pattern) {
+		Map<String, DateFormat> map = dateFormats.get();
+		Locale locale = Locale.getDefault();
+		TimeZone timeZone = TimeZone.getDefault();
+		if (map == null || locale.equals(dateFormatLocales.get()) == false
+				|| timeZone.equals(dateFormatZones.get()) == false) {
+			map = new HashMap<String, DateFormat>();
+			dateFormats.set(map);
+			dateFormatLocales.set(locale);
+			dateFormatZones.set(timeZone);
+		}
+		DateFormat format = map.get(pattern);
+		if (format == null) {
+			format = new SimpleDateFormat(pattern);
+			format.setLenient(false);
+			map.put(pattern, format);
+		}
+		return format;
+	}
+	
+}
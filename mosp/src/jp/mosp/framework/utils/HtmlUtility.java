@@ -824,8 +824,24 @@ public class HtmlUtility {
 	 */
 	public static String getListInfoFlex(MospParams mospParams, List<? extends BaseDtoInterface> list, String command,
 			int dataPerPage, String selectIndex) {
+		return getListInfoFlex(mospParams, list == null ? 0 : list.size(), command, dataPerPage, selectIndex);
+	}
+	
+	/**
+	 * リスト情報出力。<br>
+	 * 一覧の件数及び前頁、次頁ボタンを出力する。<br>
+	 * 任意の頁に遷移できる機能を持つ。<br>
+	 * 一覧をページ単位で取得している場合等、リストの全件を保持していない場合に用いる。<br>
+	 * @param mospParams   MosP処理情報
+	 * @param countAllData 全件数
+	 * @param command      頁繰りコマンド
+	 * @param dataPerPage  1頁あたりのデータ数
+	 * @param selectIndex  選択インデックス
+	 * @return HTMLリスト情報文字列
+	 */
+	public static String getListInfoFlex(MospParams mospParams, int countAllData, String command, int dataPerPage,
+			String selectIndex) {
 		StringBuffer sb = new StringBuffer();
-		int countAllData = list == null ? 0 : list.size();
 		int select = Integer.parseInt(selectIndex);
 		int offset = (select - 1) * dataPerPage;
 		int full = countAllData / dataPerPage;
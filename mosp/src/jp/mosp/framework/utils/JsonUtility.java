@@ -0,0 +1,168 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.utils;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.ExceptionConst;
+
+/**
+ * JSONの入力に関する有用なメソッドを提供する。<br>
+ * <br>
+ * APIのメッセージボディ(JSON)は、MosPアプリケーション設定(ApiBodyLimit)の文字数を上限として読み込む。<br>
+ * JSONとしての解析は各APIBeanで一度だけ行うため、ここでは解析しない。<br>
+ */
+public class JsonUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(APIメッセージボディ上限文字数)。<br>
+	 * 0以下が設定されている場合は、上限を設けない。<br>
+	 */
+	public static final String	APP_API_BODY_LIMIT		= "ApiBodyLimit";
+	
+	/**
+	 * APIメッセージボディ上限文字数のデフォルト値。<br>
+	 */
+	public static final int		DEFAULT_API_BODY_LIMIT	= 1048576;
+	
+	/**
+	 * 読込時のバッファ文字数。<br>
+	 */
+	protected static final int	BUFFER_SIZE				= 8192;
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private JsonUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * メッセージボディ(JSON)を、文字列として取得する。<br>
+	 * 上限文字数を超える場合は、例外を発行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param reader     メッセージボディ
+	 * @return メッセージボディ(JSON)
+	 * @throws MospException メッセージボディが上限文字数を超える場合
+	 */
+	public static String readBody(MospParams mospParams, Reader reader) throws MospException {
+		// 上限文字数を設定
+		LimitedReader limited = new LimitedReader(reader, getLimit(mospParams));
+		try {
+			// メッセージボディを読込
+			StringBuilder sb = new StringBuilder();
+			char[] buffer = new char[BUFFER_SIZE];
+			int read = limited.read(buffer, 0, buffer.length);
+			while (read != -1) {
+				sb.append(buffer, 0, read);
+				read = limited.read(buffer, 0, buffer.length);
+			}
+			return sb.toString();
+		} catch (IOException e) {
+			throw new MospException(e, ExceptionConst.EX_INVALID_API_BODY, limited.getReason());
+		}
+	}
+	
+	/**
+	 * APIメッセージボディ上限文字数を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return APIメッセージボディ上限文字数
+	 */
+	protected static long getLimit(MospParams mospParams) {
+		int limit = mospParams.getApplicationProperty(APP_API_BODY_LIMIT, DEFAULT_API_BODY_LIMIT);
+		return limit <= 0 ? Long.MAX_VALUE : limit;
+	}
+	
+	/**
+	 * 上限文字数付入力ストリーム。<br>
+	 * 上限文字数を超えて読み込もうとした場合は、例外を発行する。<br>
+	 */
+	static final class LimitedReader extends FilterReader {
+		
+		/**
+		 * 上限文字数超過時の理由。<br>
+		 */
+		static final String		REASON_LIMIT	= "limit";
+		
+		/**
+		 * 上限文字数。<br>
+		 */
+		final long				limit;
+		
+		/**
+		 * 読込文字数。<br>
+		 */
+		long					count;
+		
+		
+		/**
+		 * 上限文字数付入力ストリームを生成する。<br>
+		 * @param in    入力ストリーム
+		 * @param limit    上限文字数
+		 */
+		LimitedReader(Reader in, long limit) {
+			super(in);
+			this.limit = limit;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int c = super.read();
+			if (c != -1) {
+				count(1);
+			}
+			return c;
+		}
+		
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			int read = super.read(cbuf, off, len);
+			if (read > 0) {
+				count(read);
+			}
+			return read;
+		}
+		
+		/**
+		 * 読込文字数を加算し、上限文字数を確認する。<br>
+		 * @param read 読み込んだ文字数
+		 * @throws IOException 上限文字数を超えた場合
+		 */
+		void count(int read) throws IOException {
+			count += read;
+			if (count > limit) {
+				throw new IOException(REASON_LIMIT + "=" + limit);
+			}
+		}
+		
+		/**
+		 * 例外発行時の理由を取得する。<br>
+		 * @return 例外発行時の理由
+		 */
+		String getReason() {
+			return count > limit ? REASON_LIMIT + "=" + limit : "";
+		}
+		
+	}
+	
+}
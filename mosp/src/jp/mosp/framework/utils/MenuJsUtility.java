@@ -23,8 +23,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
 
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospUser;
 import jp.mosp.framework.property.MenuProperty;
 import net.arnx.jsonic.JSON;
 
@@ -43,13 +48,114 @@ public class MenuJsUtility {
 	 */
 	protected static final String	DEL_JAVA_SCRIPT	= ";";
 	
+	/**
+	 * 区切文字(ロールコード)。<br>
+	 */
+	protected static final String	SEPARATOR_ROLE	= ",";
+	
+	/**
+	 * メニュー用JS文字列群。<br>
+	 * key:ロールキー(メインロール及び追加ロールのロールコード)<br>
+	 * value:メニュー用JS文字列及びそのバージョン<br>
+	 * <br>
+	 * メニュー用JS文字列は、ロール及び設定ファイルにのみ依存するため、
+	 * ロールキー毎に一度だけ作成して保持する。<br>
+	 * <br>
+	 * 他パッケージに変更されないよう、パッケージプロテクテッドとする。<br>
+	 */
+	static final Map<String, String[]>	menuJsMap		= new ConcurrentHashMap<String, String[]>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private MenuJsUtility() {
+		// 処理無し
+	}
 	
 	/**
 	 * メニュー用JS文字列を取得する。<br>
+	 * ログインユーザのロールキー毎に保持しているものを取得する。<br>
 	 * @param mospParams MosP処理情報
 	 * @return メニュー用JS文字列
 	 */
 	public static String getMenuJs(MospParams mospParams) {
+		return getStoredMenuJs(mospParams)[0];
+	}
+	
+	/**
+	 * メニュー用JS文字列のバージョンを取得する。<br>
+	 * メニュー用JS文字列のハッシュ値であり、
+	 * メニュー用JS文字列を静的リソースとして送出する際のURL及びETagに用いる。<br>
+	 * @param mospParams MosP処理情報
+	 * @return メニュー用JS文字列のバージョン
+	 */
+	public static String getMenuJsVersion(MospParams mospParams) {
+		return getStoredMenuJs(mospParams)[1];
+	}
+	
+	/**
+	 * 保持しているメニュー用JS文字列を破棄する。<br>
+	 * 設定ファイルを再読込した場合等に用いる。<br>
+	 */
+	public static void clearMenuJs() {
+		menuJsMap.clear();
+	}
+	
+	/**
+	 * 保持しているメニュー用JS文字列及びそのバージョンを取得する。<br>
+	 * 保持していない場合は、作成して保持する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return メニュー用JS文字列及びそのバージョン
+	 */
+	protected static String[] getStoredMenuJs(MospParams mospParams) {
+		// ロールキーを取得
+		String roleKey = getRoleKey(mospParams);
+		// 保持しているメニュー用JS文字列を取得
+		String[] stored = menuJsMap.get(roleKey);
+		// 保持している場合
+		if (stored != null) {
+			return stored;
+		}
+		// メニュー用JS文字列を作成
+		String menuJs = createMenuJs(mospParams);
+		// メニュー用JS文字列及びそのバージョンを保持
+		stored = new String[]{ menuJs, DigestUtils.md5Hex(menuJs) };
+		menuJsMap.put(roleKey, stored);
+		return stored;
+	}
+	
+	/**
+	 * ログインユーザのロールキーを取得する。<br>
+	 * メインロールと追加ロール(ロールコード順)のロールコードを連結したものとする。<br>
+	 * @param mospParams MosP処理情報
+	 * @return ロールキー
+	 */
+	protected static String getRoleKey(MospParams mospParams) {
+		// ログインユーザ情報を取得
+		MospUser user = mospParams.getUser();
+		// ログインユーザ情報が取得できなかった場合
+		if (user == null) {
+			return "";
+		}
+		// ロールキーを準備(メインロール)
+		StringBuilder sb = new StringBuilder(String.valueOf(user.getRole()));
+		// 追加ロールが存在する場合
+		if (user.getExtraRoles() != null) {
+			// 追加ロール(ロールコード順)毎に処理
+			for (String extraRole : new TreeSet<String>(user.getExtraRoles())) {
+				sb.append(SEPARATOR_ROLE).append(extraRole);
+			}
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * メニュー用JS文字列を作成する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return メニュー用JS文字列
+	 */
+	protected static String createMenuJs(MospParams mospParams) {
 		// メニュー用JS文字列リストを準備
 		List<List<Object>> list = new ArrayList<List<Object>>();
 		// サブメニューリスト群(キー：メインメニューキー)(インデックス昇順)を取得
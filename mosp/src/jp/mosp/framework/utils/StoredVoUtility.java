@@ -0,0 +1,174 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import jp.mosp.framework.base.BaseVo;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.TopicPath;
+
+/**
+ * パンくずに保持するVOの圧縮に関する有用なメソッドを提供する。<br>
+ * <br>
+ * パンくずリストの各パンくずは、画面毎のVOをセッションに保持する。<br>
+ * 一覧画面等のVOは検索結果の配列やリストを保持するため、
+ * セッション当たりの使用メモリの大部分を占める。<br>
+ * <br>
+ * そこで、リクエストの処理が終わった時点で、表示中の画面以外のVOを
+ * 直列化及び圧縮したバイト配列に置き換える。<br>
+ * 置き換えたVOは、{@link TopicPath#getVo()}で必要になった時点で復元する。<br>
+ * 圧縮要否は、MosPアプリケーション設定(CompactStoredVo)で設定する。<br>
+ */
+public final class StoredVoUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(パンくずVO圧縮要否)。<br>
+	 */
+	public static final String	APP_COMPACT_STORED_VO	= "CompactStoredVo";
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private StoredVoUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * パンくずリストのうち、表示中の画面以外のVOを圧縮する。<br>
+	 * 圧縮要否が設定されていない場合は、何もしない。<br>
+	 * 圧縮後は、パンくずVOの件数と圧縮後のサイズをログ(DEBUG)に出力する。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void compact(MospParams mospParams) {
+		// 圧縮要否確認
+		if (mospParams.getApplicationPropertyBool(APP_COMPACT_STORED_VO) == false) {
+			return;
+		}
+		// パンくずリスト取得
+		List<TopicPath> list = mospParams.getTopicPathList();
+		if (list == null) {
+			return;
+		}
+		// 表示中の画面のVO取得
+		BaseVo activeVo = mospParams.getVo();
+		// パンくず毎に処理
+		for (TopicPath topicPath : list) {
+			// 表示中の画面のVOである場合
+			if (topicPath.isCompacted() == false && topicPath.getVo() == activeVo) {
+				continue;
+			}
+			// VOを圧縮
+			topicPath.compact();
+		}
+		// パンくずVOの件数と圧縮後のサイズをログ出力
+		LogUtility.debug(mospParams, getFootprint(list));
+	}
+	
+	/**
+	 * VOを直列化して圧縮する。<br>
+	 * 直列化できないVOの場合は、nullを返す。<br>
+	 * @param vo 対象VO
+	 * @return 圧縮したVO
+	 */
+	public static byte[] toBytes(BaseVo vo) {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ObjectOutputStream oos = null;
+		try {
+			oos = new ObjectOutputStream(new DeflaterOutputStream(baos));
+			oos.writeObject(vo);
+			oos.close();
+			oos = null;
+			return baos.toByteArray();
+		} catch (IOException e) {
+			// 直列化できないフィールドを含む場合等
+			return null;
+		} finally {
+			close(oos);
+		}
+	}
+	
+	/**
+	 * 圧縮したVOを復元する。<br>
+	 * 復元できない場合(再配置によりVOクラスが変更された場合等)は、nullを返す。<br>
+	 * @param bytes 圧縮したVO
+	 * @return VO
+	 */
+	public static BaseVo toVo(byte[] bytes) {
+		ObjectInputStream ois = null;
+		try {
+			ois = new ObjectInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes)));
+			return (BaseVo)ois.readObject();
+		} catch (IOException e) {
+			return null;
+		} catch (ClassNotFoundException e) {
+			return null;
+		} catch (ClassCastException e) {
+			return null;
+		} finally {
+			close(ois);
+		}
+	}
+	
+	/**
+	 * パンくずリストが保持するVOの件数と圧縮後のサイズを示す文字列を取得する。<br>
+	 * @param list パンくずリスト
+	 * @return パンくずVOの件数と圧縮後のサイズを示す文字列
+	 */
+	public static String getFootprint(List<TopicPath> list) {
+		// 圧縮件数及びサイズ準備
+		int compacted = 0;
+		long size = 0L;
+		for (TopicPath topicPath : list) {
+			if (topicPath.isCompacted()) {
+				compacted++;
+				size += topicPath.getCompactedSize();
+			}
+		}
+		StringBuffer sb = new StringBuffer("StoredVo");
+		sb.append(" count=").append(list.size());
+		sb.append(" compacted=").append(compacted);
+		sb.append(" bytes=").append(size);
+		return sb.toString();
+	}
+	
+	/**
+	 * ストリームを閉じる。<br>
+	 * @param closeable ストリーム
+	 */
+	protected static void close(Closeable closeable) {
+		if (closeable == null) {
+			return;
+		}
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			// 処理無し
+		}
+	}
+	
+}
@@ -0,0 +1,94 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * トランザクション終了時処理に関する有用なメソッドを提供する。<br>
+ * <br>
+ * 共有キャッシュの破棄等、登録処理の内容を他のリクエストに公開する処理は、
+ * DBコネクション毎に登録しておき、トランザクションの終了時(コミット時或いは
+ * ロールバック時)に実行する。<br>
+ * これにより、コミット前の情報がキャッシュに読み込まれた場合であっても、
+ * トランザクション終了時に破棄される。<br>
+ * <br>
+ * 登録された処理は、{@link jp.mosp.framework.base.DBConnBean}のコミット、
+ * ロールバック及びDBコネクション解放時に実行される。<br>
+ */
+public final class TransactionUtility {
+	
+	/**
+	 * トランザクション終了時処理群。<br>
+	 * key：DBコネクション<br>
+	 * value：トランザクション終了時処理群<br>
+	 */
+	private static final Map<Connection, List<Runnable>>	tasks	= new ConcurrentHashMap<Connection, List<Runnable>>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private TransactionUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * トランザクション終了時処理を登録する。<br>
+	 * DBコネクションが存在しない場合は、即時に実行する。<br>
+	 * @param connection DBコネクション
+	 * @param task       トランザクション終了時処理
+	 */
+	public static void afterTransaction(Connection connection, Runnable task) {
+		// DBコネクションが存在しない場合
+		if (connection == null) {
+			task.run();
+			return;
+		}
+		// DBコネクションは一つのスレッドでのみ利用される
+		List<Runnable> list = tasks.get(connection);
+		if (list == null) {
+			list = new ArrayList<Runnable>();
+			tasks.put(connection, list);
+		}
+		list.add(task);
+	}
+	
+	/**
+	 * トランザクション終了時処理を実行する。<br>
+	 * 実行した処理は、登録を解除する。<br>
+	 * @param connection DBコネクション
+	 */
+	public static void complete(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		List<Runnable> list = tasks.remove(connection);
+		if (list == null) {
+			return;
+		}
+		for (Runnable task : list) {
+			task.run();
+		}
+	}
+	
+}
@@ -17,22 +17,26 @@
  */
 package jp.mosp.framework.xml;
 
+import java.io.Serializable;
+
 import jp.mosp.framework.property.BaseProperty;
 
 /**
  * CSS情報を格納する。
  */
-public class CssProperty implements BaseProperty {
+public class CssProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= 2433840925955782043L;
 	
 	/**
 	 * CSS。
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * CSSのクラス名
 	 */
-	private final String	name;
+	private final String		name;
 	
 	
 	/**
@@ -17,47 +17,51 @@
  */
 package jp.mosp.framework.xml;
 
+import java.io.Serializable;
+
 import jp.mosp.framework.property.BaseProperty;
 
 /**
  * 人事汎用入力形式設定情報を格納する。<br>
  */
-public class InputProperty implements BaseProperty {
+public class InputProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= -7135019625758266548L;
 	
 	/**
 	 * 人事汎用入力形式。<br>
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * 区分。<br>
 	 */
-	private final String	type;
+	private final String		type;
 	
 	/**
 	 * 項目長。<br>
 	 */
-	private final int		maxlength;
+	private final int			maxlength;
 	
 	/**
 	 * CSS。<br>
 	 * 入力域のCSSを指定する。<br>
 	 */
-	private final String	css;
+	private final String		css;
 	
 	/**
 	 * MosPコードキー。<br>
 	 * 値が設定されている場合、MosPコード設定情報から
 	 * プルダウン用配列を取得する。<br>
 	 */
-	private final String	codeKey;
+	private final String		codeKey;
 	
 	/**
 	 * 名称区分。<br>
 	 * 値が設定されている場合、名称区分マスタから
 	 * プルダウン用配列を取得する。<br>
 	 */
-	private final String	namingKey;
+	private final String		namingKey;
 	
 	
 	/**
@@ -17,42 +17,46 @@
  */
 package jp.mosp.framework.xml;
 
+import java.io.Serializable;
+
 import jp.mosp.framework.property.BaseProperty;
 
 /**
  * 人事汎用表示形式設定情報を格納する。<br>
  */
-public class LabelProperty implements BaseProperty {
+public class LabelProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= -3226520226576802619L;
 	
 	/**
 	 * 人事汎用表示形式。<br>
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * フォーマット。<br>
 	 */
-	private final String	format;
+	private final String		format;
 	
 	/**
 	 * CSS。<br>
 	 * 表示域のCSSを指定する。<br>
 	 */
-	private final String	css;
+	private final String		css;
 	
 	/**
 	 * MosPコードキー。<br>
 	 * 値が設定されている場合、MosPコード設定情報から
 	 * プルダウン用配列を取得し、表示内容を決定する。<br>
 	 */
-	private final String	codeKey;
+	private final String		codeKey;
 	
 	/**
 	 * 名称区分。<br>
 	 * 値が設定されている場合、名称区分マスタから
 	 * プルダウン用配列を取得し、表示内容を決定する。<br>
 	 */
-	private final String	namingKey;
+	private final String		namingKey;
 	
 	
 	/**
@@ -21,6 +21,11 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -38,6 +43,11 @@ import jp.mosp.framework.property.MospProperties;
  */
 public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 	
+	/**
+	 * MosP設定情報ファイル接尾辞。
+	 */
+	protected static final String	SUFFIX_PROPERTY_FILE	= ".xml";
+	
 	private FileFinderInterface		finder;
 	
 	private ConvertManagerInterface	manager;
@@ -49,6 +59,29 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 		init();
 		// MosP設定ファイルパスリスト取得
 		List<String> pathList = finder.getPathList(docBase);
+		// スナップショットのキーを作成
+		String key = MospPropertiesSnapshot.getKey(getSnapshotPathList(pathList));
+		// スナップショット読込
+		MospProperties snapshot = MospPropertiesSnapshot.load(docBase, key);
+		// MosP設定情報ファイルが変更されていない場合
+		if (snapshot != null) {
+			System.out.println("MosP設定情報スナップショット読込。");
+			return snapshot;
+		}
+		// MosP設定情報作成
+		MospProperties properties = build(pathList);
+		// スナップショット保存
+		MospPropertiesSnapshot.save(docBase, key, properties);
+		return properties;
+	}
+	
+	/**
+	 * MosP設定ファイルパスリストからMosP設定情報を作成する。<br>
+	 * @param pathList MosP設定ファイルパスリスト
+	 * @return MosP設定情報
+	 * @throws MospException MosP設定情報の作成に失敗した場合
+	 */
+	protected MospProperties build(List<String> pathList) throws MospException {
 		// MosP設定ファイルドキュメントリスト取得
 		System.out.println("MosP設定情報ファイル解析。");
 		List<DocumentWrapper> docList = parse(pathList);
@@ -79,39 +112,84 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 		setManager(new ConvertManager());
 	}
 	
+	/**
+	 * スナップショットのキー作成に用いるファイルパスリストを取得する。<br>
+	 * MosP設定ファイルパスリストに、各ファイルに対応するアドオンディレクトリの
+	 * MosP設定ファイルパスを加えたものとする。<br>
+	 * @param pathList MosP設定ファイルパスリスト
+	 * @return スナップショットのキー作成に用いるファイルパスリスト
+	 */
+	protected List<String> getSnapshotPathList(List<String> pathList) {
+		List<String> list = new ArrayList<String>();
+		for (String path : pathList) {
+			list.add(path);
+			// アドオンディレクトリのMosP設定ファイルパスを追加
+			File file = new File(path);
+			String addonId = file.getName().replace(SUFFIX_PROPERTY_FILE, "");
+			list.addAll(finder.getFilePathList(file.getParent() + "/" + addonId, false));
+		}
+		return list;
+	}
+	
 	/**
 	 * ファイルパスリストからドキュメントリストを取得する。<br>
+	 * XMLファイルの解析は並列で行い、ドキュメントリストはファイルパスリストの順とする。<br>
 	 * @param pathList ファイルパスリスト
 	 * @return ドキュメントリスト
 	 * @throws MospException ドキュメントリストの取得に失敗した場合
 	 */
 	List<DocumentWrapper> parse(List<String> pathList) throws MospException {
-		// XMLファイル読込準備
-		DocumentBuilder builder;
+		List<DocumentWrapper> documentList = new ArrayList<DocumentWrapper>();
+		// ファイルが無い場合
+		if (pathList.isEmpty()) {
+			return documentList;
+		}
+		// XMLファイル解析タスクを実行
+		int threads = Math.min(pathList.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
 		try {
-			builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-		} catch (ParserConfigurationException e) {
+			List<Future<DocumentWrapper>> futures = new ArrayList<Future<DocumentWrapper>>();
+			for (final String path : pathList) {
+				futures.add(executor.submit(new Callable<DocumentWrapper>() {
+					
+					@Override
+					public DocumentWrapper call() throws Exception {
+						return parse(path);
+					}
+				}));
+			}
+			// ファイルパスリストの順に解析結果を取得
+			for (int i = 0; i < pathList.size(); i++) {
+				System.out.println(pathList.get(i));
+				documentList.add(futures.get(i).get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			System.out.println("  MosP設定情報ファイルの解析ができませんでした。");
 			throw new MospException(e);
-		}
-		List<DocumentWrapper> documentList = new ArrayList<DocumentWrapper>();
-		for (String path : pathList) {
-			// XMLファイル読込
-			System.out.println(path);
-			File file = new File(path);
-			try {
-				documentList.add(new DocumentWrapper(path, builder.parse(file)));
-			} catch (SAXException e) {
-				System.out.println("  MosP設定情報ファイルの解析ができませんでした。");
-				throw new MospException(e);
-			} catch (IOException e) {
-				System.out.println("  MosP設定情報ファイルの解析ができませんでした。");
-				throw new MospException(e);
-			}
+		} catch (ExecutionException e) {
+			System.out.println("  MosP設定情報ファイルの解析ができませんでした。");
+			throw new MospException(e.getCause());
+		} finally {
+			executor.shutdownNow();
 		}
 		return documentList;
 	}
 	
+	/**
+	 * XMLファイルを解析しドキュメントを取得する。<br>
+	 * DocumentBuilderはスレッドセーフでないため、ファイル毎に生成する。<br>
+	 * @param path ファイルパス
+	 * @return ドキュメント
+	 * @throws ParserConfigurationException XMLファイル読込準備に失敗した場合
+	 * @throws SAXException XMLファイルの解析に失敗した場合
+	 * @throws IOException XMLファイルの読込に失敗した場合
+	 */
+	protected DocumentWrapper parse(String path) throws ParserConfigurationException, SAXException, IOException {
+		DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+		return new DocumentWrapper(path, builder.parse(new File(path)));
+	}
+	
 	/**
 	 * MosP設定ファイルドキュメントリストを変換する。<br>
 	 * @param list MosP設定ファイルドキュメントリスト
@@ -191,7 +269,7 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 		// ファイル情報取得
 		File file = new File(document.path);
 		// アドオンID取得
-		String addonId = file.getName().replace(".xml", "");
+		String addonId = file.getName().replace(SUFFIX_PROPERTY_FILE, "");
 		// アドオンディレクトリパス作成
 		String dirPath = file.getParent() + "/" + addonId;
 		// MosP設定ファイルパスリスト取得
@@ -0,0 +1,341 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.xml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import jp.mosp.framework.property.MospProperties;
+
+/**
+ * MosP設定情報のスナップショットを扱う。<br>
+ * <br>
+ * 作成したMosP設定情報を直列化してファイルに保存し、
+ * 次回起動時にMosP設定情報ファイルが変更されていなければ、
+ * XMLの解析及び変換を行わずにそれを読み込む。<br>
+ * <br>
+ * スナップショットは、MosP設定情報ファイルのパス、更新日時及びサイズと
+ * MosP設定情報クラス群(クラスファイル或いはJARファイル)の更新日時及びサイズから
+ * 作成したキーと共に保存し、キーが一致する場合のみ読み込む。<br>
+ * <br>
+ * 保存先は、MosPアプリケーションのWEB-INFディレクトリとする。<br>
+ * システムプロパティ(mosp.snapshot.dir)で保存ディレクトリを指定することもできるが、
+ * 存在しないディレクトリ或いは所有者以外が書き込めるディレクトリが指定された場合は、
+ * スナップショットを利用しない(一時ディレクトリ等の共有ディレクトリには保存しない)。<br>
+ * <br>
+ * 読込時は、MosP設定情報を構成するクラスのみを復元するよう、
+ * 直列化フィルタを設定する。<br>
+ */
+public final class MospPropertiesSnapshot {
+	
+	/**
+	 * システムプロパティキー(スナップショット保存ディレクトリ)。<br>
+	 */
+	protected static final String	PROP_SNAPSHOT_DIR	= "mosp.snapshot.dir";
+	
+	/**
+	 * 既定のスナップショット保存ディレクトリ(ドキュメントベースからの相対パス)。<br>
+	 */
+	protected static final String	DIR_WEB_INF			= "WEB-INF";
+	
+	/**
+	 * 直列化フィルタ(MosP設定情報を構成するクラス以外は復元しない)。<br>
+	 */
+	protected static final String	FILTER_SNAPSHOT		= "maxdepth=32;maxrefs=1000000;maxarray=100000;"
+			+ "jp.mosp.framework.property.*;jp.mosp.framework.xml.*;"
+			+ "java.lang.Object;java.lang.String;java.lang.Number;java.lang.Integer;java.lang.Boolean;"
+			+ "java.lang.Enum;java.util.HashMap;java.util.LinkedHashMap;java.util.Map$Entry;java.util.TreeMap;"
+			+ "java.util.ArrayList;java.util.Date;"
+			+ "java.util.Collections$UnmodifiableList;java.util.Collections$UnmodifiableRandomAccessList;"
+			+ "java.util.Collections$UnmodifiableCollection;!*";
+	
+	/**
+	 * クラスファイル接尾辞。<br>
+	 */
+	protected static final String	SUFFIX_CLASS		= ".class";
+	
+	/**
+	 * スナップショットファイル名接頭辞。<br>
+	 */
+	protected static final String	PREFIX_SNAPSHOT		= "mosp-properties-";
+	
+	/**
+	 * スナップショットファイル名接尾辞。<br>
+	 */
+	protected static final String	SUFFIX_SNAPSHOT		= ".ser";
+	
+	/**
+	 * 一時ファイル名接尾辞。<br>
+	 */
+	protected static final String	SUFFIX_TMP			= ".tmp";
+	
+	/**
+	 * キー作成時の区切文字。<br>
+	 */
+	protected static final String	SEPARATOR_KEY		= "\t";
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private MospPropertiesSnapshot() {
+		// 処理無し
+	}
+	
+	/**
+	 * スナップショットのキーを作成する。<br>
+	 * @param pathList MosP設定情報ファイルパスリスト
+	 * @return スナップショットのキー
+	 */
+	public static String getKey(List<String> pathList) {
+		StringBuilder sb = new StringBuilder();
+		// MosP設定情報クラス群の更新日時及びサイズを追加(クラスが更新された場合は再作成する)
+		sb.append(getClassStamp(MospProperties.class)).append(SEPARATOR_KEY);
+		sb.append(getClassStamp(MospPropertiesBuilder.class)).append(SEPARATOR_KEY);
+		// MosP設定情報ファイル毎に処理
+		for (String path : pathList) {
+			File file = new File(path);
+			sb.append(path).append(SEPARATOR_KEY);
+			sb.append(file.lastModified()).append(SEPARATOR_KEY);
+			sb.append(file.length()).append(SEPARATOR_KEY);
+		}
+		return DigestUtils.md5Hex(sb.toString());
+	}
+	
+	/**
+	 * スナップショットを読み込む。<br>
+	 * スナップショットが存在しない場合、キーが一致しない場合、
+	 * 或いは読込に失敗した場合は、nullを返す。<br>
+	 * @param docBase MosPアプリケーションが配置されている実際のパス
+	 * @param key     スナップショットのキー
+	 * @return MosP設定情報
+	 */
+	public static MospProperties load(String docBase, String key) {
+		// スナップショットファイル取得
+		File file = getSnapshotFile(docBase);
+		if (file == null || file.isFile() == false) {
+			return null;
+		}
+		ObjectInputStream ois = null;
+		try {
+			ois = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+			// MosP設定情報を構成するクラス以外は復元しない
+			ois.setObjectInputFilter(ObjectInputFilter.Config.createFilter(FILTER_SNAPSHOT));
+			// キー確認
+			if (key.equals(ois.readUTF()) == false) {
+				return null;
+			}
+			return (MospProperties)ois.readObject();
+		} catch (IOException e) {
+			System.out.println("  MosP設定情報スナップショットを読み込めませんでした。");
+			return null;
+		} catch (ClassNotFoundException e) {
+			System.out.println("  MosP設定情報スナップショットを読み込めませんでした。");
+			return null;
+		} catch (ClassCastException e) {
+			System.out.println("  MosP設定情報スナップショットを読み込めませんでした。");
+			return null;
+		} finally {
+			close(ois);
+		}
+	}
+	
+	/**
+	 * スナップショットを保存する。<br>
+	 * 一時ファイルに書き込んだ後に置き換えるため、
+	 * 書込中のスナップショットが読み込まれることはない。<br>
+	 * 保存に失敗した場合は、ログを出力して処理を続ける。<br>
+	 * @param docBase    MosPアプリケーションが配置されている実際のパス
+	 * @param key        スナップショットのキー
+	 * @param properties MosP設定情報
+	 */
+	public static void save(String docBase, String key, MospProperties properties) {
+		// スナップショットファイル及び一時ファイル取得
+		File file = getSnapshotFile(docBase);
+		if (file == null) {
+			return;
+		}
+		File tmp = new File(file.getPath() + SUFFIX_TMP);
+		ObjectOutputStream oos = null;
+		try {
+			// 一時ファイルを所有者のみが読み書きできるよう作成
+			tmp.delete();
+			if (tmp.createNewFile() == false) {
+				System.out.println("  MosP設定情報スナップショットを保存できませんでした。");
+				return;
+			}
+			setOwnerOnly(tmp);
+			// 一時ファイルに書込
+			oos = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+			oos.writeUTF(key);
+			oos.writeObject(properties);
+			oos.close();
+			oos = null;
+			// スナップショットファイルを置換
+			if (file.exists()) {
+				file.delete();
+			}
+			if (tmp.renameTo(file) == false) {
+				System.out.println("  MosP設定情報スナップショットを保存できませんでした。");
+			}
+		} catch (IOException e) {
+			System.out.println("  MosP設定情報スナップショットを保存できませんでした。");
+		} finally {
+			close(oos);
+			tmp.delete();
+		}
+	}
+	
+	/**
+	 * スナップショットファイルを取得する。<br>
+	 * 同一ディレクトリに複数のMosPアプリケーションのスナップショットを保存できるよう、
+	 * ファイル名にはドキュメントベースのハッシュ値を用いる。<br>
+	 * 保存ディレクトリが利用できない場合は、nullを返す。<br>
+	 * @param docBase MosPアプリケーションが配置されている実際のパス
+	 * @return スナップショットファイル
+	 */
+	protected static File getSnapshotFile(String docBase) {
+		// 保存ディレクトリ取得(指定されていない場合はWEB-INF)
+		String configured = System.getProperty(PROP_SNAPSHOT_DIR);
+		boolean isConfigured = configured != null && configured.isEmpty() == false;
+		File dir = isConfigured ? new File(configured) : new File(docBase, DIR_WEB_INF);
+		// 保存ディレクトリ確認(指定された場合は所有者以外が書き込めないことも確認)
+		if (dir.isDirectory() == false || (isConfigured && isPrivateDirectory(dir) == false)) {
+			System.out.println("  MosP設定情報スナップショット保存ディレクトリが利用できません：" + dir.getPath());
+			return null;
+		}
+		return new File(dir, PREFIX_SNAPSHOT + DigestUtils.md5Hex(String.valueOf(docBase)) + SUFFIX_SNAPSHOT);
+	}
+	
+	/**
+	 * 保存ディレクトリが利用可能であるかを確認する。<br>
+	 * 存在するディレクトリであり、所有者以外が書き込めない場合に、利用可能とする。<br>
+	 * POSIXファイル属性が利用できないファイルシステムの場合は、存在のみを確認する。<br>
+	 * @param dir 保存ディレクトリ
+	 * @return 確認結果(true：利用可能、false：利用不可)
+	 */
+	protected static boolean isPrivateDirectory(File dir) {
+		if (dir.isDirectory() == false) {
+			return false;
+		}
+		try {
+			Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(dir.toPath());
+			return permissions.contains(PosixFilePermission.GROUP_WRITE) == false
+					&& permissions.contains(PosixFilePermission.OTHERS_WRITE) == false;
+		} catch (UnsupportedOperationException e) {
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * ファイルを所有者のみが読み書きできるよう設定する。<br>
+	 * POSIXファイル属性が利用できないファイルシステムの場合は、何もしない。<br>
+	 * @param file 対象ファイル
+	 * @throws IOException 設定に失敗した場合
+	 */
+	protected static void setOwnerOnly(File file) throws IOException {
+		try {
+			Files.setPosixFilePermissions(file.toPath(), PosixFilePermissions.fromString("rw-------"));
+		} catch (UnsupportedOperationException e) {
+			// 処理無し
+		}
+	}
+	
+	/**
+	 * クラスの配置元(クラスファイルのディレクトリ或いはJARファイル)の更新状態を取得する。<br>
+	 * クラスファイルのディレクトリの場合は、同ディレクトリの全クラスファイルの
+	 * 名称、更新日時及びサイズを、JARファイルの場合はJARファイルの更新日時及びサイズを用いる。<br>
+	 * 取得できない場合は、空文字を返す。<br>
+	 * @param cls 対象クラス
+	 * @return 更新状態
+	 */
+	protected static String getClassStamp(Class<?> cls) {
+		URL url = cls.getResource(cls.getSimpleName() + SUFFIX_CLASS);
+		if (url == null) {
+			return "";
+		}
+		try {
+			StringBuilder sb = new StringBuilder();
+			URLConnection connection = url.openConnection();
+			connection.setUseCaches(false);
+			// JARファイルの場合
+			if (connection instanceof JarURLConnection) {
+				File jar = new File(((JarURLConnection)connection).getJarFileURL().toURI());
+				return sb.append(jar.lastModified()).append(SEPARATOR_KEY).append(jar.length()).toString();
+			}
+			// クラスファイルのディレクトリの場合
+			File[] files = new File(url.toURI()).getParentFile().listFiles();
+			if (files == null) {
+				return "";
+			}
+			Arrays.sort(files);
+			for (File file : files) {
+				if (file.getName().endsWith(SUFFIX_CLASS)) {
+					sb.append(file.getName()).append(SEPARATOR_KEY);
+					sb.append(file.lastModified()).append(SEPARATOR_KEY);
+					sb.append(file.length()).append(SEPARATOR_KEY);
+				}
+			}
+			return sb.toString();
+		} catch (IOException e) {
+			return "";
+		} catch (URISyntaxException e) {
+			return "";
+		} catch (IllegalArgumentException e) {
+			return "";
+		}
+	}
+	
+	/**
+	 * ストリームを閉じる。<br>
+	 * @param closeable ストリーム
+	 */
+	protected static void close(Closeable closeable) {
+		if (closeable == null) {
+			return;
+		}
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			// 処理無し
+		}
+	}
+	
+}
@@ -17,6 +17,8 @@
  */
 package jp.mosp.framework.xml;
 
+import java.io.Serializable;
+
 import jp.mosp.framework.property.BaseProperty;
 import jp.mosp.framework.utils.CapsuleUtility;
 
@@ -24,47 +26,49 @@ import jp.mosp.framework.utils.CapsuleUtility;
  * 人事汎用表示テーブル項目設定情報を格納する。
  * 人事汎用管理機能で表示する項目のこと。
  */
-public class TableItemProperty implements BaseProperty {
+public class TableItemProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= -4803423324739861688L;
 	
 	/**
 	 * 人事汎用表示テーブル項目。
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * 人事汎用項目キー。<br>
 	 * 人事汎用項目設定(Convention)の人事汎用項目を特定する。<br>
 	 */
-	private String[]		itemKeys;
+	private String[]			itemKeys;
 	
 	/**
 	 * 人事汎用項目名。<br>
 	 * DBに登録される人事項目区分として用いられる。<br>
 	 * また、RequestParameterのnameとして用いられる。<br>
 	 */
-	private String[]		itemNames;
+	private String[]			itemNames;
 	
 	/**
 	 * 人事汎用表示項目キー。<br>
 	 * 人事汎用項目キーで得られる設定(Convention)の人事汎用項目データ型が
 	 * Concatenate或いはFormatである場合に、人事汎用項目を特定するために用いられる。<br>
 	 */
-	private String[]		labelKeys;
+	private String[]			labelKeys;
 	
 	/**
 	 * colspan(HTML)。
 	 */
-	private int				colspan;
+	private int					colspan;
 	
 	/**
 	 * rowspan(HTML)。
 	 */
-	private int				rowspan;
+	private int					rowspan;
 	
 	/**
 	 * 必須マーク要否フラグ。
 	 */
-	private boolean			isRequired;
+	private boolean				isRequired;
 	
 	
 	/**
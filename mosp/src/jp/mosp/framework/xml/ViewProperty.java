@@ -17,28 +17,32 @@
  */
 package jp.mosp.framework.xml;
 
+import java.io.Serializable;
+
 import jp.mosp.framework.property.BaseProperty;
 
 /**
  * 人事汎用管理表示区分設定情報を格納する。
  */
-public class ViewProperty implements BaseProperty {
+public class ViewProperty implements BaseProperty, Serializable {
+	
+	private static final long	serialVersionUID	= 581689109558432787L;
 	
 	/**
 	 * 人事汎用管理表示区分。
 	 * 人事情報一覧画面(HumanInfo)、人事汎用管理区分(通常)編集画面(NormalCard)等。
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * 人事汎用管理表示テーブルキーの配列。
 	 */
-	private final String[]	viewTableKeys;
+	private final String[]		viewTableKeys;
 	
 	/**
 	 * 人事汎用管理表示テーブルタイトルの配列。
 	 */
-	private final String[]	viewTableTitles;
+	private final String[]		viewTableTitles;
 	
 	
 	/**
@@ -17,6 +17,7 @@
  */
 package jp.mosp.framework.xml;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -28,7 +29,9 @@ import jp.mosp.framework.property.BaseProperty;
  * 人事汎用管理機能で表示するテーブルのことであり、
  * 後述の人事汎用表示テーブル項目を纏めるくくりのこと。<br>
  */
-public class ViewTableProperty implements BaseProperty {
+public class ViewTableProperty implements BaseProperty, Serializable {
+	
+	private static final long				serialVersionUID	= 262506451769725740L;
 	
 	/**
 	 * 人事汎用管理表示テーブル。
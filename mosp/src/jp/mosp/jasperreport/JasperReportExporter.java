@@ -28,6 +28,8 @@ import net.sf.jasperreports.engine.JRExporter;
 import net.sf.jasperreports.engine.JRExporterParameter;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.export.JRPdfExporter;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
 
 /**
  * JasperReportで作成した帳票を出力する。<br>
@@ -43,6 +45,9 @@ import net.sf.jasperreports.engine.export.JRPdfExporter;
  * <li>
  * jp.mosp.jasperreport.JasperReportIntermediate
  * </li>
+ * <li>
+ * jp.mosp.jasperreport.JasperReportVirtualPrint
+ * </li>
  * </ul>
  */
 public class JasperReportExporter extends BaseExporter implements MospExporterInterface {
@@ -53,15 +58,18 @@ public class JasperReportExporter extends BaseExporter implements MospExporterIn
 		setFileContentType(mospParams, response);
 		// ファイル名設定
 		setFileName(mospParams, response);
-		// Exporter準備
+		// 帳票及びExporter準備
+		JasperPrint print = null;
 		JRExporter exporter = null;
 		// 出力対象取得
 		Object file = mospParams.getFile();
 		// 出力対象確認
-		if (file instanceof JasperPrint) {
-			// PDFとしてExporterを設定(JasperPrintの場合)
-			exporter = new JRPdfExporter();
-			exporter.setParameter(JRExporterParameter.JASPER_PRINT, file);
+		if (file instanceof JasperReportVirtualPrint) {
+			// 帳票を設定(仮想化された帳票の場合)
+			print = ((JasperReportVirtualPrint)file).getJasperPrint();
+		} else if (file instanceof JasperPrint) {
+			// 帳票を設定(JasperPrintの場合)
+			print = (JasperPrint)file;
 		} else if (file instanceof JRExporter) {
 			// Exporterを設定(JRExporterの場合)
 			exporter = (JRExporter)file;
@@ -70,13 +78,28 @@ public class JasperReportExporter extends BaseExporter implements MospExporterIn
 		}
 		// 出力ストリームに出力
 		try {
-			exporter.setParameter(JRExporterParameter.OUTPUT_STREAM, response.getOutputStream());
-			exporter.exportReport();
+			// 帳票が設定されている場合
+			if (print != null) {
+				// PDFとして出力
+				JRPdfExporter pdfExporter = new JRPdfExporter();
+				pdfExporter.setExporterInput(new SimpleExporterInput(print));
+				pdfExporter.setExporterOutput(new SimpleOutputStreamExporterOutput(response.getOutputStream()));
+				pdfExporter.exportReport();
+			} else {
+				// Exporterで出力(JRExporterの場合)
+				exporter.setParameter(JRExporterParameter.OUTPUT_STREAM, response.getOutputStream());
+				exporter.exportReport();
+			}
 		} catch (Exception e) {
 			// ClientAbortException確認(ClientAbortExceptionの場合は処理無し)
 			if (isClientAbortException(e) == false) {
 				throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
 			}
+		} finally {
+			// 仮想化クラスの後処理(スワップファイル削除)
+			if (file instanceof JasperReportVirtualPrint) {
+				((JasperReportVirtualPrint)file).cleanup();
+			}
 		}
 	}
 	
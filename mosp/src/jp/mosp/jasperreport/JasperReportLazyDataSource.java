@@ -0,0 +1,93 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.jasperreport;
+
+import java.util.Iterator;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.data.JRAbstractBeanDataSource;
+
+/**
+ * 遅延取得データソース。<br>
+ * <br>
+ * 帳票の作成(fill)が進むのに合わせて、{@link #nextRows()}で一定単位(個人毎等)の行を取得する。<br>
+ * 全ての行を予めメモリ上に準備する必要が無いため、大量の帳票を作成する際に用いる。<br>
+ * 一度読み進めた行は保持しないため、先頭に戻すことはできない。<br>
+ */
+public abstract class JasperReportLazyDataSource extends JRAbstractBeanDataSource {
+	
+	/**
+	 * 現在の単位の行。<br>
+	 */
+	private Iterator<?>	rows;
+	
+	/**
+	 * 現在の行。<br>
+	 */
+	private Object		current;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public JasperReportLazyDataSource() {
+		super(true);
+	}
+	
+	/**
+	 * 次の単位の行を取得する。<br>
+	 * @return 次の単位の行(全ての行を取得し終えた場合はnull)
+	 * @throws MospException 行の取得に失敗した場合
+	 */
+	protected abstract List<?> nextRows() throws MospException;
+	
+	@Override
+	public boolean next() throws JRException {
+		try {
+			// 現在の単位の行を読み終えている間
+			while (rows == null || rows.hasNext() == false) {
+				// 次の単位の行を取得
+				List<?> list = nextRows();
+				// 全ての行を取得し終えた場合
+				if (list == null) {
+					current = null;
+					return false;
+				}
+				rows = list.iterator();
+			}
+		} catch (MospException e) {
+			throw new JRException(e);
+		}
+		current = rows.next();
+		return true;
+	}
+	
+	@Override
+	public Object getFieldValue(JRField field) throws JRException {
+		return getFieldValue(current, field);
+	}
+	
+	@Override
+	public void moveFirst() throws JRException {
+		throw new JRException(getClass().getName() + " cannot move first.");
+	}
+	
+}
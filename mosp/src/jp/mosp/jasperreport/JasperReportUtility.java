@@ -17,19 +17,66 @@
  */
 package jp.mosp.jasperreport;
 
+import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRLoader;
+import net.sf.jasperreports.engine.util.JRSwapFile;
 
 /**
  * JasperReportを用いる上で有用なメソッドを提供する。<br><br>
+ * 読み込んだテンプレート(JasperReport)は、テンプレートファイルパス毎に保持し、
+ * テンプレートファイルの更新日時が変わるまで再利用する。<br>
  */
 public class JasperReportUtility {
 	
+	/**
+	 * MosPアプリケーション設定キー(帳票仮想化時にメモリ上に保持するページ数)。<br>
+	 * 0以下が設定されている場合は、仮想化しない。<br>
+	 */
+	public static final String					APP_REPORT_VIRTUALIZER_MAX_SIZE		= "ReportVirtualizerMaxSize";
+	
+	/**
+	 * 帳票仮想化時にメモリ上に保持するページ数のデフォルト値。<br>
+	 */
+	protected static final int					DEFAULT_REPORT_VIRTUALIZER_MAX_SIZE	= 100;
+	
+	/**
+	 * スワップファイルのブロックサイズ(バイト)。<br>
+	 */
+	protected static final int					SWAP_BLOCK_SIZE						= 4096;
+	
+	/**
+	 * スワップファイルの拡張ブロック数。<br>
+	 */
+	protected static final int					SWAP_MIN_GROW_COUNT					= 1024;
+	
+	/**
+	 * システムプロパティキー(一時ディレクトリ)。<br>
+	 */
+	protected static final String				PROP_TMPDIR							= "java.io.tmpdir";
+	
+	/**
+	 * テンプレート群。<br>
+	 * key:テンプレートファイルパス<br>
+	 * value:テンプレート<br>
+	 */
+	static final Map<String, CachedTemplate>	templates							= new ConcurrentHashMap<String, CachedTemplate>();
+	
+	
 	/**
 	 * 他クラスからのインスタンス化を防止する。<br>
 	 */
@@ -46,10 +93,110 @@ public class JasperReportUtility {
 	 */
 	public static JasperPrint createJasperPrint(String template, List<?> list) throws MospException {
 		try {
-			return JasperFillManager.fillReport(template, null, new JRBeanCollectionDataSource(list));
+			return JasperFillManager.fillReport(getJasperReport(template), new HashMap<String, Object>(),
+					new JRBeanCollectionDataSource(list));
+		} catch (JRException e) {
+			throw new MospException(e);
+		}
+	}
+	
+	/**
+	 * 仮想化された帳票を作成する。<br>
+	 * 大量の帳票を作成する場合に用いる。<br>
+	 * 作成済のページは、MosPアプリケーション設定(ReportVirtualizerMaxSize)のページ数を超えると
+	 * 一時ディレクトリのスワップファイルに退避される。<br>
+	 * スワップファイルは、{@link JasperReportExporter}による出力後に削除される。<br>
+	 * @param mospParams MosP処理情報
+	 * @param template   テンプレートファイルパス
+	 * @param dataSource データソース(遅延取得データソース等)
+	 * @return 仮想化された帳票
+	 * @throws MospException 帳票の作成に失敗した場合
+	 */
+	public static JasperReportVirtualPrint createVirtualPrint(MospParams mospParams, String template,
+			JRDataSource dataSource) throws MospException {
+		// パラメータ準備
+		Map<String, Object> params = new HashMap<String, Object>();
+		// 仮想化クラス準備
+		JRSwapFileVirtualizer virtualizer = null;
+		int maxSize = mospParams.getApplicationProperty(APP_REPORT_VIRTUALIZER_MAX_SIZE,
+				DEFAULT_REPORT_VIRTUALIZER_MAX_SIZE);
+		if (maxSize > 0) {
+			JRSwapFile swapFile = new JRSwapFile(System.getProperty(PROP_TMPDIR), SWAP_BLOCK_SIZE,
+					SWAP_MIN_GROW_COUNT);
+			virtualizer = new JRSwapFileVirtualizer(maxSize, swapFile, true);
+			params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+		}
+		try {
+			JasperPrint jasperPrint = JasperFillManager.fillReport(getJasperReport(template), params, dataSource);
+			if (virtualizer != null) {
+				// 作成済の帳票は変更しない
+				virtualizer.setReadOnly(true);
+			}
+			return new JasperReportVirtualPrint(jasperPrint, virtualizer);
 		} catch (JRException e) {
+			// スワップファイル削除
+			if (virtualizer != null) {
+				virtualizer.cleanup();
+			}
 			throw new MospException(e);
 		}
 	}
 	
+	/**
+	 * テンプレート(JasperReport)を取得する。<br>
+	 * 保持しているテンプレートの更新日時がテンプレートファイルと異なる場合は、
+	 * テンプレートファイルを読み込み直す。<br>
+	 * @param template テンプレートファイルパス
+	 * @return テンプレート
+	 * @throws JRException テンプレートファイルの読込に失敗した場合
+	 */
+	protected static JasperReport getJasperReport(String template) throws JRException {
+		File file = new File(template);
+		long lastModified = file.lastModified();
+		// 保持しているテンプレートを取得
+		CachedTemplate cached = templates.get(template);
+		if (cached != null && cached.lastModified == lastModified) {
+			return cached.report;
+		}
+		// テンプレートファイルを読込
+		JasperReport report = (JasperReport)JRLoader.loadObject(file);
+		templates.put(template, new CachedTemplate(report, lastModified));
+		return report;
+	}
+	
+	/**
+	 * 保持している全てのテンプレートを破棄する。<br>
+	 */
+	public static void clearTemplates() {
+		templates.clear();
+	}
+	
+	/**
+	 * 保持テンプレート。<br>
+	 */
+	static final class CachedTemplate {
+		
+		/**
+		 * テンプレート。<br>
+		 */
+		final JasperReport	report;
+		
+		/**
+		 * テンプレートファイル更新日時(ミリ秒)。<br>
+		 */
+		final long			lastModified;
+		
+		
+		/**
+		 * 保持テンプレートを生成する。<br>
+		 * @param report       テンプレート
+		 * @param lastModified テンプレートファイル更新日時(ミリ秒)
+		 */
+		CachedTemplate(JasperReport report, long lastModified) {
+			this.report = report;
+			this.lastModified = lastModified;
+		}
+		
+	}
+	
 }
@@ -0,0 +1,70 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.jasperreport;
+
+import net.sf.jasperreports.engine.JRVirtualizer;
+import net.sf.jasperreports.engine.JasperPrint;
+
+/**
+ * 仮想化された帳票(JasperPrint)。<br>
+ * <br>
+ * 帳票作成時に用いた仮想化クラスを帳票と共に保持し、
+ * 帳票の出力後に仮想化クラスの後処理(スワップファイルの削除等)を行えるようにする。<br>
+ * 仮想化クラスを用いずに作成した場合、仮想化クラスはnullとなる。<br>
+ */
+public class JasperReportVirtualPrint {
+	
+	/**
+	 * 帳票。<br>
+	 */
+	private final JasperPrint	jasperPrint;
+	
+	/**
+	 * 仮想化クラス。<br>
+	 */
+	private final JRVirtualizer	virtualizer;
+	
+	
+	/**
+	 * コンストラクタ。
+	 * @param jasperPrint 帳票
+	 * @param virtualizer 仮想化クラス(仮想化しない場合はnull)
+	 */
+	public JasperReportVirtualPrint(JasperPrint jasperPrint, JRVirtualizer virtualizer) {
+		this.jasperPrint = jasperPrint;
+		this.virtualizer = virtualizer;
+	}
+	
+	/**
+	 * @return 帳票
+	 */
+	public JasperPrint getJasperPrint() {
+		return jasperPrint;
+	}
+	
+	/**
+	 * 仮想化クラスの後処理を行う。<br>
+	 * 帳票の出力後に呼び出す。<br>
+	 */
+	public void cleanup() {
+		if (virtualizer != null) {
+			virtualizer.cleanup();
+		}
+	}
+	
+}
@@ -48,6 +48,7 @@ import jp.mosp.platform.dto.base.PersonalIdDtoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.system.UserMasterDtoInterface;
 import jp.mosp.platform.system.base.PlatformSystemVo;
+import jp.mosp.platform.utils.LoginUserCheckUtility;
 import jp.mosp.platform.utils.PlatformMessageUtility;
 import jp.mosp.platform.utils.PlatformUtility;
 
@@ -161,15 +162,13 @@ public abstract class PlatformAction extends BaseAction {
 	 * ログインしている(ログインユーザが存在する)場合、
 	 * システム日付において、ユーザ情報、人事基本情報が存在することを確認する。<br>
 	 * これらが存在しない場合、MosP例外を発行し、ログアウト処理をする。<br>
+	 * <br>
+	 * 確認結果は{@link LoginUserCheckUtility}でDB接続先、ユーザID及びシステム日付毎に保持し、
+	 * 保持期間内は確認(DBへの接続と検索)を省略する。<br>
+	 * 個人履歴削除等で確認結果が破棄された場合は、次のリクエストで改めて確認する。<br>
 	 * @throws MospException ユーザ情報、人事基本情報が存在しない場合
 	 */
 	protected void checkLoginUser() throws MospException {
-		/* THINK 個人履歴削除の削除対象ユーザのためのチェック
-		 * 当処理には、DBへの接続と検索が必ず実施されるため
-		 * 多くの人が同時に使う場合など、レスポンスに影響あり
-		 * 削除した人だけ、削除処理のアクションを実行して1週間以内だけなど
-		 * したいが何処に削除した人や削除処理の日を保持しておくか問題
-		 */
 		// ユーザがいない場合
 		if (mospParams.getUser() == null) {
 			return;
@@ -179,6 +178,12 @@ public abstract class PlatformAction extends BaseAction {
 		// 個人ID取得
 		String personalId = mospParams.getUser().getPersonalId();
 		// システム日付取得
+		Date systemDate = DateUtility.getSystemDate();
+		// システム日付において確認済である場合
+		if (LoginUserCheckUtility.isChecked(mospParams, userlId, personalId, systemDate)) {
+			return;
+		}
+		// システム日時取得
 		Date systemTime = DateUtility.getSystemTime();
 		// システム日付でユーザ情報取得
 		UserMasterDtoInterface userMasterDto = reference().user().getUserInfo(userlId, systemTime);
@@ -196,6 +201,8 @@ public abstract class PlatformAction extends BaseAction {
 			// MosP例外を発行
 			throw new MospException(PlatformMessageConst.MSG_LOGOUT_NOT_EXIST_USER);
 		}
+		// システム日付において確認済とする
+		LoginUserCheckUtility.setChecked(mospParams, userlId, personalId, systemDate);
 	}
 	
 	/**
@@ -544,6 +551,13 @@ public abstract class PlatformAction extends BaseAction {
 			// ソートキーをVOに設定
 			vo.setComparatorName(sortKey);
 		}
+		// ページ単位取得の場合
+		if (vo.isPagedList()) {
+			// 選択ページ番号設定
+			vo.setSelectIndex(String.valueOf(1));
+			// ソート後1ページ目のリストを取得
+			return getPagedList();
+		}
 		// 比較クラスインスタンス取得
 		Comparator<Object> comp = InstanceFactory.loadComparator(vo.getComparatorName());
 		// ソート
@@ -597,6 +611,10 @@ public abstract class PlatformAction extends BaseAction {
 	protected List<? extends BaseDtoInterface> pageList() {
 		// VO取得
 		PlatformVo vo = (PlatformVo)mospParams.getVo();
+		// ページ単位取得の場合(リストには選択ページ分のみが設定されている)
+		if (vo.isPagedList()) {
+			return vo.getList();
+		}
 		int offset = (Integer.parseInt(vo.getSelectIndex()) - 1) * vo.getDataPerPage();
 		List<BaseDtoInterface> list = new ArrayList<BaseDtoInterface>();
 		for (int i = offset; i < (offset + vo.getDataPerPage() < vo.getList().size() ? offset + vo.getDataPerPage()
@@ -606,6 +624,39 @@ public abstract class PlatformAction extends BaseAction {
 		return list;
 	}
 	
+	/**
+	 * 選択ページのリストを取得する。<br>
+	 * ページ単位取得の場合は、{@link #getPageList(int, int)}で選択ページ分のみを取得し、
+	 * VOのリストに設定する。<br>
+	 * @return 選択ページ分のリスト
+	 * @throws MospException 選択ページ分のリストの取得に失敗した場合
+	 */
+	protected List<? extends BaseDtoInterface> getPagedList() throws MospException {
+		// VO取得
+		PlatformVo vo = (PlatformVo)mospParams.getVo();
+		// ページ単位取得の場合
+		if (vo.isPagedList()) {
+			// 選択ページ分のリストを取得しVOに設定
+			int offset = (Integer.parseInt(vo.getSelectIndex()) - 1) * vo.getDataPerPage();
+			vo.setList(getPageList(offset, vo.getDataPerPage()));
+		}
+		return pageList();
+	}
+	
+	/**
+	 * 選択ページ分のリストを取得する。<br>
+	 * ページ単位取得を行う場合は、VOのソートキー及び昇順降順フラグに従って
+	 * 並び替えたリストを取得するように、このメソッドを拡張する。<br>
+	 * ページャは任意のページ番号へ移動するため、開始位置(OFFSET)で取得する(キーセット方式としない)。<br>
+	 * @param offset 開始位置(0始まり)
+	 * @param limit  取得件数
+	 * @return 選択ページ分のリスト
+	 * @throws MospException 選択ページ分のリストの取得に失敗した場合
+	 */
+	protected List<? extends BaseDtoInterface> getPageList(int offset, int limit) throws MospException {
+		return new ArrayList<BaseDtoInterface>();
+	}
+	
 	/**
 	 * 配列を取得する。<br>
 	 * @return 配列
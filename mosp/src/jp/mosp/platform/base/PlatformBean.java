@@ -64,7 +64,37 @@ public abstract class PlatformBean extends BaseBean {
 	 * 区切文字(データ)。<br>
 	 * 入力の際の区切文字として用いる。<br>
 	 */
-	protected static final String								SEPARATOR_DATA	= ",";
+	protected static final String								SEPARATOR_DATA				= ",";
+	
+	/**
+	 * 操作範囲区分(勤務地)。<br>
+	 */
+	protected static final String								RANGE_WORK_PLACE			= "WorkPlace";
+	
+	/**
+	 * 操作範囲区分(雇用契約)。<br>
+	 */
+	protected static final String								RANGE_EMPLOYMENT_CONTRACT	= "EmploymentContract";
+	
+	/**
+	 * 操作範囲区分(所属)。<br>
+	 */
+	protected static final String								RANGE_SECTION				= "Section";
+	
+	/**
+	 * 操作範囲区分(職位)。<br>
+	 */
+	protected static final String								RANGE_POSITION				= "Position";
+	
+	/**
+	 * 操作範囲区分(社員)。<br>
+	 */
+	protected static final String								RANGE_EMPLOYEE				= "Employee";
+	
+	/**
+	 * 操作範囲区分(兼務)。<br>
+	 */
+	protected static final String								RANGE_CONCURRENT			= "Concurrent";
 	
 	/**
 	 * 追加業務処理郡(キー：コードキー、値：追加業務処理リスト)。<br>
@@ -432,15 +462,20 @@ public abstract class PlatformBean extends BaseBean {
 		if (operationType == null) {
 			return new String[0];
 		}
+		// 保持している操作範囲を取得
+		String[] stored = getStoredRange(operationType, RANGE_WORK_PLACE, targetDate);
+		if (stored != null) {
+			return stored;
+		}
 		// 操作範囲情報取得及び確認
 		RangeProperty range = mospParams.getStoredInfo().getRangeMap().get(operationType);
 		if (range == null) {
-			return new String[0];
+			return storeRange(operationType, RANGE_WORK_PLACE, targetDate, new String[0]);
 		}
 		// 操作範囲(勤務地)取得及び確認
 		String rangeWorkPlace = range.getWorkPlace();
 		if (rangeWorkPlace == null || rangeWorkPlace.isEmpty()) {
-			return new String[0];
+			return storeRange(operationType, RANGE_WORK_PLACE, targetDate, new String[0]);
 		}
 		// 配列に変換
 		String[] array = split(rangeWorkPlace, MospConst.APP_PROPERTY_SEPARATOR);
@@ -455,7 +490,7 @@ public abstract class PlatformBean extends BaseBean {
 				}
 			}
 		}
-		return array;
+		return storeRange(operationType, RANGE_WORK_PLACE, targetDate, array);
 	}
 	
 	/**
@@ -471,15 +506,20 @@ public abstract class PlatformBean extends BaseBean {
 		if (operationType == null) {
 			return new String[0];
 		}
+		// 保持している操作範囲を取得
+		String[] stored = getStoredRange(operationType, RANGE_EMPLOYMENT_CONTRACT, targetDate);
+		if (stored != null) {
+			return stored;
+		}
 		// 操作範囲情報取得及び確認
 		RangeProperty range = mospParams.getStoredInfo().getRangeMap().get(operationType);
 		if (range == null) {
-			return new String[0];
+			return storeRange(operationType, RANGE_EMPLOYMENT_CONTRACT, targetDate, new String[0]);
 		}
 		// 操作範囲(雇用契約)取得及び確認
 		String rangeEmployment = range.getEmploymentContract();
 		if (rangeEmployment == null || rangeEmployment.isEmpty()) {
-			return new String[0];
+			return storeRange(operationType, RANGE_EMPLOYMENT_CONTRACT, targetDate, new String[0]);
 		}
 		// 配列に変換
 		String[] array = split(rangeEmployment, MospConst.APP_PROPERTY_SEPARATOR);
@@ -494,7 +534,7 @@ public abstract class PlatformBean extends BaseBean {
 				}
 			}
 		}
-		return array;
+		return storeRange(operationType, RANGE_EMPLOYMENT_CONTRACT, targetDate, array);
 	}
 	
 	/**
@@ -510,15 +550,20 @@ public abstract class PlatformBean extends BaseBean {
 		if (operationType == null) {
 			return new String[0];
 		}
+		// 保持している操作範囲を取得
+		String[] stored = getStoredRange(operationType, RANGE_SECTION, targetDate);
+		if (stored != null) {
+			return stored;
+		}
 		// 操作範囲情報取得及び確認
 		RangeProperty range = mospParams.getStoredInfo().getRangeMap().get(operationType);
 		if (range == null) {
-			return new String[0];
+			return storeRange(operationType, RANGE_SECTION, targetDate, new String[0]);
 		}
 		// 操作範囲(所属)取得及び確認
 		String rangeSection = range.getSection();
 		if (rangeSection == null || rangeSection.isEmpty()) {
-			return new String[0];
+			return storeRange(operationType, RANGE_SECTION, targetDate, new String[0]);
 		}
 		// 配列に変換
 		String[] array = split(rangeSection, MospConst.APP_PROPERTY_SEPARATOR);
@@ -533,7 +578,7 @@ public abstract class PlatformBean extends BaseBean {
 				}
 			}
 		}
-		return array;
+		return storeRange(operationType, RANGE_SECTION, targetDate, array);
 	}
 	
 	/**
@@ -549,15 +594,20 @@ public abstract class PlatformBean extends BaseBean {
 		if (operationType == null) {
 			return new String[0];
 		}
+		// 保持している操作範囲を取得
+		String[] stored = getStoredRange(operationType, RANGE_POSITION, targetDate);
+		if (stored != null) {
+			return stored;
+		}
 		// 操作範囲情報取得及び確認
 		RangeProperty range = mospParams.getStoredInfo().getRangeMap().get(operationType);
 		if (range == null) {
-			return new String[0];
+			return storeRange(operationType, RANGE_POSITION, targetDate, new String[0]);
 		}
 		// 操作範囲(職位)取得及び確認
 		String rangePosition = range.getPosition();
 		if (rangePosition == null || rangePosition.isEmpty()) {
-			return new String[0];
+			return storeRange(operationType, RANGE_POSITION, targetDate, new String[0]);
 		}
 		// 配列に変換
 		String[] array = split(rangePosition, MospConst.APP_PROPERTY_SEPARATOR);
@@ -572,7 +622,7 @@ public abstract class PlatformBean extends BaseBean {
 				}
 			}
 		}
-		return array;
+		return storeRange(operationType, RANGE_POSITION, targetDate, array);
 	}
 	
 	/**
@@ -588,15 +638,20 @@ public abstract class PlatformBean extends BaseBean {
 		if (operationType == null) {
 			return new String[0];
 		}
+		// 保持している操作範囲を取得
+		String[] stored = getStoredRange(operationType, RANGE_EMPLOYEE, targetDate);
+		if (stored != null) {
+			return stored;
+		}
 		// 操作範囲情報取得及び確認
 		RangeProperty range = mospParams.getStoredInfo().getRangeMap().get(operationType);
 		if (range == null) {
-			return new String[0];
+			return storeRange(operationType, RANGE_EMPLOYEE, targetDate, new String[0]);
 		}
 		// 操作範囲(社員)取得及び確認
 		String rangeEmployee = range.getEmployee();
 		if (rangeEmployee == null || rangeEmployee.isEmpty()) {
-			return new String[0];
+			return storeRange(operationType, RANGE_EMPLOYEE, targetDate, new String[0]);
 		}
 		// 配列に変換
 		String[] array = split(rangeEmployee, MospConst.APP_PROPERTY_SEPARATOR);
@@ -611,6 +666,58 @@ public abstract class PlatformBean extends BaseBean {
 				}
 			}
 		}
+		return storeRange(operationType, RANGE_EMPLOYEE, targetDate, array);
+	}
+	
+	/**
+	 * 操作範囲保持情報のキーを取得する。<br>
+	 * 操作区分、操作範囲区分、対象日から作成する。<br>
+	 * @param operationType 操作区分
+	 * @param rangeType     操作範囲区分
+	 * @param targetDate    対象日
+	 * @return 操作範囲保持情報のキー
+	 */
+	protected String getRangeCacheKey(String operationType, String rangeType, Date targetDate) {
+		// 対象日文字列を取得(対象日が存在しない場合は空文字)
+		String date = targetDate == null ? "" : DateUtility.getStringDate(targetDate);
+		// キーを作成
+		return operationType + SEPARATOR_DATA + rangeType + SEPARATOR_DATA + date;
+	}
+	
+	/**
+	 * MosPセッション保持情報に保持している操作範囲を取得する。<br>
+	 * 保持されていない場合は、nullを返す。<br>
+	 * 取得元の操作範囲が変更されないように、複製したものを返す。<br>
+	 * @param operationType 操作区分
+	 * @param rangeType     操作範囲区分
+	 * @param targetDate    対象日
+	 * @return 操作範囲
+	 */
+	protected String[] getStoredRange(String operationType, String rangeType, Date targetDate) {
+		// 保持している操作範囲を取得
+		String[] stored = (String[])mospParams.getStoredInfo()
+			.getRangeCache(getRangeCacheKey(operationType, rangeType, targetDate));
+		// 保持されていない場合
+		if (stored == null) {
+			return null;
+		}
+		return stored.clone();
+	}
+	
+	/**
+	 * 操作範囲をMosPセッション保持情報に保持する。<br>
+	 * 範囲設定が変更される(メニューが選択される)まで保持され、
+	 * 範囲(自身)の置換等を再度行わずに済む。<br>
+	 * @param operationType 操作区分
+	 * @param rangeType     操作範囲区分
+	 * @param targetDate    対象日
+	 * @param array         操作範囲
+	 * @return 操作範囲
+	 */
+	protected String[] storeRange(String operationType, String rangeType, Date targetDate, String[] array) {
+		// 操作範囲を保持
+		mospParams.getStoredInfo().putRangeCache(getRangeCacheKey(operationType, rangeType, targetDate),
+				array.clone());
 		return array;
 	}
 	
@@ -79,6 +79,19 @@ public class PlatformVo extends BaseVo {
 	 */
 	private List<? extends BaseDtoInterface>	list;
 	
+	/**
+	 * ページ単位取得フラグ。<br>
+	 * trueの場合、リストには選択ページ分のみが設定されている。<br>
+	 * 一覧表示時に用いる。<br>
+	 */
+	private boolean								isPagedList;
+	
+	/**
+	 * リスト全件数。<br>
+	 * ページ単位取得の場合に用いる。<br>
+	 */
+	private int									listCount;
+	
 	/**
 	 * 共通承認者プルダウン。<br>
 	 */
@@ -304,6 +317,39 @@ public class PlatformVo extends BaseVo {
 		this.list = list;
 	}
 	
+	/**
+	 * @return isPagedList
+	 */
+	public boolean isPagedList() {
+		return isPagedList;
+	}
+	
+	/**
+	 * @param isPagedList セットする isPagedList
+	 */
+	public void setPagedList(boolean isPagedList) {
+		this.isPagedList = isPagedList;
+	}
+	
+	/**
+	 * リスト全件数を取得する。<br>
+	 * ページ単位取得でない場合は、リストの件数を取得する。<br>
+	 * @return リスト全件数
+	 */
+	public int getListCount() {
+		if (isPagedList) {
+			return listCount;
+		}
+		return list == null ? 0 : list.size();
+	}
+	
+	/**
+	 * @param listCount セットする listCount
+	 */
+	public void setListCount(int listCount) {
+		this.listCount = listCount;
+	}
+	
 	/**
 	 * @return aryAryPltApproverSetting
 	 */
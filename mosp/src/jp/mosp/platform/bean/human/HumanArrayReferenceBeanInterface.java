@@ -39,6 +39,16 @@ public interface HumanArrayReferenceBeanInterface {
 	 */
 	void setCommounInfo(String division, String viewKey);
 	
+	/**
+	 * 対象者の人事汎用一覧情報を纏めて取得する。<br>
+	 * 以降、対象者の{@link #getRowIdArrayMapInfo(String, String, String, Date)}では
+	 * SQLを実行しない。<br>
+	 * 前回纏めて取得した情報は破棄する(空の配列を渡した場合は破棄のみ行う)。<br>
+	 * @param personalIds 個人ID配列(IN句の要素数となるため、上限数毎に分けること)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	void preload(String[] personalIds) throws MospException;
+	
 	/**
 	 * 人事汎用一覧情報をマップで取得する。
 	 * 履歴編集画面で表示する。
@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.bean.human;
 
+import java.io.OutputStream;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,29 @@ public interface HumanBinaryArrayReferenceBeanInterface {
 	 */
 	HumanBinaryArrayDtoInterface findForKey(String personalId, String humanItemType, int rowId) throws MospException;
 	
+	/**
+	 * 人事汎用一覧情報を、人事項目値(バイナリ)を除いて取得する。<br>
+	 * 出力前の更新確認等、人事項目値が不要な場合に用いる。<br>
+	 * 合致する情報が存在しない場合、nullを返す。<br>
+	 * @param personalId    個人ID
+	 * @param humanItemType 人事項目区分
+	 * @param rowId         行ID
+	 * @return 人事汎用一覧情報(人事項目値は未設定)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	HumanBinaryArrayDtoInterface findForKeyExceptBinary(String personalId, String humanItemType, int rowId)
+			throws MospException;
+	
+	/**
+	 * 人事項目値(バイナリ)を出力ストリームに書き出す。<br>
+	 * 人事項目値をbyteの配列として保持せずに書き出す。<br>
+	 * @param pfaHumanBinaryArrayId レコード識別ID
+	 * @param out                   出力ストリーム
+	 * @return 書き出したバイト数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	long writeBinary(long pfaHumanBinaryArrayId, OutputStream out) throws MospException;
+	
 	/**
 	 * 人事汎用一覧情報リストを取得する。<br>
 	 * 個人ID・人事項目区分(人事汎用項目)から人事汎用一覧情報リストを取得する。<br>
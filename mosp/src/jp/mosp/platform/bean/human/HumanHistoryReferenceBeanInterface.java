@@ -39,6 +39,17 @@ public interface HumanHistoryReferenceBeanInterface {
 	 */
 	void setCommounInfo(String division, String viewKey);
 	
+	/**
+	 * 対象者の対象日における人事汎用履歴情報を纏めて取得する。<br>
+	 * 以降、対象者及び対象日の{@link #getHumanHistoryMapInfo(String, String, String, Date, Date)}では
+	 * SQLを実行しない。<br>
+	 * 前回纏めて取得した情報は破棄する(空の配列を渡した場合は破棄のみ行う)。<br>
+	 * @param personalIds 個人ID配列(IN句の要素数となるため、上限数毎に分けること)
+	 * @param targetDate  対象日
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	void preload(String[] personalIds, Date targetDate) throws MospException;
+	
 	/**
 	 * 人事汎用履歴情報を取得する。<br>
 	 * 個人ID・人事項目区分と有効日から人事汎用履歴情報を取得する。<br>
@@ -47,6 +47,37 @@ public interface HumanSearchBeanInterface extends BaseBeanInterface {
 	 */
 	List<HumanListDtoInterface> getHumanList() throws MospException;
 	
+	/**
+	 * 検索条件及びソートキーで、一覧画面のページ単位の取得が可能であるかを確認する。<br>
+	 * フリーワード及び期間が設定されておらず、
+	 * ソートキーがSQLで並び替え可能である場合に、取得可能と判断する。<br>
+	 * @param sortKey ソートキー(比較クラス名)
+	 * @return 確認結果(true：取得可能、false：取得不可能)
+	 */
+	boolean isPageable(String sortKey);
+	
+	/**
+	 * 検索条件から人事一覧情報リストを取得する。<br>
+	 * ソートキー及び降順要否で並び替えた上で、開始位置から取得件数分のみを取得する。<br>
+	 * {@link #isPageable(String)}で取得可能であることを確認した上で用いる。<br>
+	 * @param sortKey        ソートキー(比較クラス名)
+	 * @param needDescending 降順要否(true：降順、false：昇順)
+	 * @param offset         開始位置(0始まり)
+	 * @param limit          取得件数
+	 * @return 人事一覧情報リスト
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	List<HumanListDtoInterface> getHumanList(String sortKey, boolean needDescending, int offset, int limit)
+			throws MospException;
+	
+	/**
+	 * 検索条件から人事マスタ件数を取得する。<br>
+	 * {@link #isPageable(String)}で取得可能であることを確認した上で用いる。<br>
+	 * @return 人事マスタ件数
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	int getHumanCount() throws MospException;
+	
 	/**
 	 * 個人IDセットを取得する。<br>
 	 * 設定された条件で、検索を行う。<br>
@@ -28,6 +28,7 @@ import jp.mosp.platform.bean.human.AddressRegistBeanInterface;
 import jp.mosp.platform.dao.human.AddressDaoInterface;
 import jp.mosp.platform.dto.human.AddressDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfaAddressDto;
+import jp.mosp.platform.utils.HumanFreeWordIndexUtility;
 import jp.mosp.platform.utils.PlatformMessageUtility;
 import jp.mosp.platform.utils.PlatformNamingUtility;
 
@@ -122,6 +123,8 @@ public class AddressRegistBean extends PlatformBean implements AddressRegistBean
 		dto.setPfaAddressId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -133,6 +136,8 @@ public class AddressRegistBean extends PlatformBean implements AddressRegistBean
 			// 削除
 			logicalDelete(dao, dto.getPfaAddressId());
 		}
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -26,6 +26,8 @@ import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.human.EntranceReferenceBeanInterface;
 import jp.mosp.platform.dao.human.EntranceDaoInterface;
 import jp.mosp.platform.dto.human.EntranceDtoInterface;
+import jp.mosp.platform.utils.EmploymentTimelineUtility;
+import jp.mosp.platform.utils.EmploymentTimelineUtility.EmploymentTimeline;
 
 /**
  * 人事入社情報参照クラス。
@@ -61,6 +63,11 @@ public class EntranceReferenceBean extends PlatformBean implements EntranceRefer
 	
 	@Override
 	public Date getEntranceDate(String personalId) throws MospException {
+		// 在職状態を保持している場合
+		EmploymentTimeline timeline = EmploymentTimelineUtility.getTimeline(mospParams, connection);
+		if (timeline != null) {
+			return timeline.getEntranceDate(personalId);
+		}
 		EntranceDtoInterface dto = getEntranceInfo(personalId);
 		if (dto != null) {
 			return dto.getEntranceDate();
@@ -75,6 +82,11 @@ public class EntranceReferenceBean extends PlatformBean implements EntranceRefer
 	
 	@Override
 	public boolean isEntered(String personalId, Date targetDate) throws MospException {
+		// 在職状態を保持している場合
+		EmploymentTimeline timeline = EmploymentTimelineUtility.getTimeline(mospParams, connection);
+		if (timeline != null) {
+			return timeline.isEntered(personalId, targetDate);
+		}
 		EntranceDtoInterface dto = getEntranceInfo(personalId);
 		if (dto != null) {
 			return targetDate.compareTo(dto.getEntranceDate()) >= 0;
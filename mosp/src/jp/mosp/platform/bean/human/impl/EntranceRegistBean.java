@@ -29,6 +29,7 @@ import jp.mosp.platform.dao.human.RetirementDaoInterface;
 import jp.mosp.platform.dto.human.EntranceDtoInterface;
 import jp.mosp.platform.dto.human.RetirementDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfaHumanEntranceDto;
+import jp.mosp.platform.utils.EmploymentTimelineUtility;
 
 /**
  * 人事入社情報登録クラス。
@@ -85,6 +86,8 @@ public class EntranceRegistBean extends PlatformHumanBean implements EntranceReg
 		dto.setPfaHumanEntranceId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 在職状態破棄
+		EmploymentTimelineUtility.invalidate(mospParams, connection);
 	}
 	
 	@Override
@@ -108,6 +111,8 @@ public class EntranceRegistBean extends PlatformHumanBean implements EntranceReg
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getPfaHumanEntranceId());
+		// 在職状態破棄
+		EmploymentTimelineUtility.invalidate(mospParams, connection);
 	}
 	
 	@Override
@@ -138,6 +143,8 @@ public class EntranceRegistBean extends PlatformHumanBean implements EntranceReg
 		dto.setPfaHumanEntranceId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 在職状態破棄
+		EmploymentTimelineUtility.invalidate(mospParams, connection);
 	}
 	
 	/**
@@ -54,6 +54,7 @@ import jp.mosp.platform.dto.human.RetirementDtoInterface;
 import jp.mosp.platform.dto.human.SuspensionDtoInterface;
 import jp.mosp.platform.dto.system.UserMasterDtoInterface;
 import jp.mosp.platform.human.utils.HumanUtility;
+import jp.mosp.platform.utils.LoginUserCheckUtility;
 
 /**
  * 人事基本情報履歴削除クラス。
@@ -325,6 +326,8 @@ public class HistoryBasicDeleteBean extends HumanRegistBean implements HistoryBa
 		deletePost(dto);
 		// 全削除フラグがfalseの場合
 		if (isAllDelete == false) {
+			// ログインユーザ確認結果を破棄
+			LoginUserCheckUtility.invalidate(mospParams, connection, dto.getPersonalId());
 			return;
 		}
 		// 人事退社情報削除
@@ -337,6 +340,8 @@ public class HistoryBasicDeleteBean extends HumanRegistBean implements HistoryBa
 		deleteEntrance(dto);
 		// ユーザマスタ削除
 		userAccountRegist.delete(dto.getPersonalId());
+		// ログインユーザ確認結果を破棄
+		LoginUserCheckUtility.invalidate(mospParams, connection, dto.getPersonalId());
 	}
 	
 	/**
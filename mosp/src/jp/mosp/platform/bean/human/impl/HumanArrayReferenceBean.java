@@ -104,22 +104,22 @@ public class HumanArrayReferenceBean extends HumanGeneralBean implements HumanAr
 	
 	private HumanArrayDtoInterface findForKeyItems(String personalId, String humanItemType, int rowId)
 			throws MospException {
-		HumanArrayDtoInterface dto = dao.findForKey(personalId, humanItemType, rowId);
+		HumanArrayDtoInterface dto = findArray(personalId, humanItemType, rowId);
 		
 		// フォーマット文字列(年月日)の場合
 		if (dto == null) {
-			dto = findForKey(personalId, humanItemType + "Year", rowId);
+			dto = findArray(personalId, humanItemType + "Year", rowId);
 		}
 		// フォーマット文字列(電話)の場合
 		if (dto == null) {
-			dto = findForKey(personalId, humanItemType + "Area", rowId);
+			dto = findArray(personalId, humanItemType + "Area", rowId);
 		}
 		
 		// フォーマット文字列(連結)の場合
 		if (dto == null) {
 			String[] arySplitItemName = MospUtility.split(humanItemType, MospConst.APP_PROPERTY_SEPARATOR);
 			if (arySplitItemName.length != 0) {
-				dto = findForKey(personalId, arySplitItemName[0], rowId);
+				dto = findArray(personalId, arySplitItemName[0], rowId);
 			}
 		}
 		
@@ -127,6 +127,11 @@ public class HumanArrayReferenceBean extends HumanGeneralBean implements HumanAr
 		
 	}
 	
+	@Override
+	public void preload(String[] personalIds) throws MospException {
+		preloadArrays(personalIds);
+	}
+	
 	@Override
 	public void setCommounInfo(String division, String viewKey) {
 		// 人事汎用項目区分設定情報取得
@@ -404,22 +409,22 @@ public class HumanArrayReferenceBean extends HumanGeneralBean implements HumanAr
 			for (String itemName : itemNames) {
 				
 				// 項目値リスト取得
-				List<HumanArrayDtoInterface> dataList = dao.findForItemType(personalId, itemName);
+				List<HumanArrayDtoInterface> dataList = findArrays(personalId, itemName);
 				
 				// フォーマット文字列(年月日)の場合
 				if (dataList.isEmpty()) {
-					dataList = findForItemType(personalId, itemName + "Year");
+					dataList = findArrays(personalId, itemName + "Year");
 				}
 				// フォーマット文字列(電話)の場合
 				if (dataList.isEmpty()) {
-					dataList = findForItemType(personalId, itemName + "Area");
+					dataList = findArrays(personalId, itemName + "Area");
 				}
 				
 				// フォーマット文字列(連結)の場合
 				if (dataList.isEmpty()) {
 					String[] aryItemName = MospUtility.split(itemName, MospConst.APP_PROPERTY_SEPARATOR);
 					if (aryItemName.length != 0) {
-						dataList = findForItemType(personalId, aryItemName[0]);
+						dataList = findArrays(personalId, aryItemName[0]);
 					}
 				}
 				// 重複行削除
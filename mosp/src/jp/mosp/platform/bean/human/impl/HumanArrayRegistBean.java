@@ -38,6 +38,7 @@ import jp.mosp.platform.dao.human.HumanArrayDaoInterface;
 import jp.mosp.platform.dto.human.HumanArrayDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfaHumanArrayDto;
 import jp.mosp.platform.human.constant.PlatformHumanConst;
+import jp.mosp.platform.utils.HumanFreeWordIndexUtility;
 
 /**
  * 人事汎用一覧情報登録クラス。
@@ -292,6 +293,8 @@ public class HumanArrayRegistBean extends PlatformHumanBean implements HumanArra
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getPfaHumanArrayId());
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -318,6 +321,8 @@ public class HumanArrayRegistBean extends PlatformHumanBean implements HumanArra
 		dto.setPfaHumanArrayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	/**
@@ -342,6 +347,8 @@ public class HumanArrayRegistBean extends PlatformHumanBean implements HumanArra
 		dto.setPfaHumanArrayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 }
@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.bean.human.impl;
 
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -76,6 +77,17 @@ public class HumanBinaryArrayReferenceBean extends HumanGeneralBean implements H
 		return dao.findForKey(personalId, humanItemType, rowId);
 	}
 	
+	@Override
+	public HumanBinaryArrayDtoInterface findForKeyExceptBinary(String personalId, String humanItemType, int rowId)
+			throws MospException {
+		return dao.findForKeyExceptBinary(personalId, humanItemType, rowId);
+	}
+	
+	@Override
+	public long writeBinary(long pfaHumanBinaryArrayId, OutputStream out) throws MospException {
+		return dao.writeBinary(pfaHumanBinaryArrayId, out);
+	}
+	
 	@Override
 	public String[] getArrayActiveDate(LinkedHashMap<String, Map<String, String>> rowIdArrayMapInfo) {
 		// 有効日リスト取得
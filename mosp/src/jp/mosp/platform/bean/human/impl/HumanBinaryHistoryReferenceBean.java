@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.bean.human.impl;
 
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.util.Date;
 import java.util.List;
@@ -74,6 +75,17 @@ public class HumanBinaryHistoryReferenceBean extends HumanGeneralBean
 		return dao.findForInfo(personalId, humanItemType, targetDate);
 	}
 	
+	@Override
+	public HumanBinaryHistoryDtoInterface findForInfoExceptBinary(String personalId, String humanItemType,
+			Date targetDate) throws MospException {
+		return dao.findForInfoExceptBinary(personalId, humanItemType, targetDate);
+	}
+	
+	@Override
+	public long writeBinary(long pfaHumanBinaryHistoryId, OutputStream out) throws MospException {
+		return dao.writeBinary(pfaHumanBinaryHistoryId, out);
+	}
+	
 	@Override
 	public HumanBinaryHistoryDtoInterface findForKey(String personalId, String humanItemType, Date activateDate)
 			throws MospException {
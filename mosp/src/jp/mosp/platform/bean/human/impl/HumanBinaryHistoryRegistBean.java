@@ -216,8 +216,9 @@ public class HumanBinaryHistoryRegistBean extends HumanGeneralBean implements Hu
 		// 前データ取得
 		HumanBinaryHistoryDtoInterface oldDto = dao.findForKey(dto.getPersonalId(), dto.getHumanItemType(),
 				dto.getActivateDate());
-		// 画像を設定
+		// 画像を設定(前データの画像を引き継ぐ)
 		dto.setHumanItemBinary(oldDto.getHumanItemBinary());
+		dto.setHumanItemBinaryStream(null);
 	}
 	
 }
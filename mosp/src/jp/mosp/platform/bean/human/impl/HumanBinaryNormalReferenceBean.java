@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.bean.human.impl;
 
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.util.List;
 
@@ -79,6 +80,17 @@ public class HumanBinaryNormalReferenceBean extends HumanGeneralBean
 		return dao.findForInfo(personalId, itemName);
 	}
 	
+	@Override
+	public HumanBinaryNormalDtoInterface findForInfoExceptBinary(String personalId, String itemName)
+			throws MospException {
+		return dao.findForInfoExceptBinary(personalId, itemName);
+	}
+	
+	@Override
+	public long writeBinary(long pfaHumanBinaryNormalId, OutputStream out) throws MospException {
+		return dao.writeBinary(pfaHumanBinaryNormalId, out);
+	}
+	
 	@Override
 	public HumanBinaryNormalDtoInterface findForKey(Long pfaHumanBinaryNormalId, boolean isUpdate)
 			throws MospException {
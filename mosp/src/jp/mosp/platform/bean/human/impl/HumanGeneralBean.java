@@ -57,102 +57,128 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 	/**
 	 * 名称区分マスタ参照クラス。
 	 */
-	protected NamingReferenceBeanInterface	namingReference;
+	protected NamingReferenceBeanInterface								namingReference;
 	
 	/**
 	 * 人事通常情報DAOクラス。
 	 */
-	protected HumanNormalDaoInterface		normalDao;
+	protected HumanNormalDaoInterface									normalDao;
 	
 	/**
 	 * 人事履歴情報DAOクラス。
 	 */
-	protected HumanHistoryDaoInterface		historyDao;
+	protected HumanHistoryDaoInterface									historyDao;
 	
 	/**
 	 * 人事一覧情報DAOクラス。
 	 */
-	protected HumanArrayDaoInterface		arrayDao;
+	protected HumanArrayDaoInterface									arrayDao;
 	
 	/**
 	 * フォーマット確認定数：日付の場合(誕生日の場合)。
 	 */
-	public static final String				KEY_FORMAT_AGE			= "Age";
+	public static final String											KEY_FORMAT_AGE			= "Age";
 	
 	/**
 	 * フォーマット確認定数：日付の場合。
 	 */
-	public static final String				KEY_FORMAT_DATE			= "Date";
+	public static final String											KEY_FORMAT_DATE			= "Date";
 	
 	/**
 	 * フォーマット確認定数：日付の年を探す場合。
 	 */
-	public static final String				KEY_FORMAT_YEAR			= "Year";
+	public static final String											KEY_FORMAT_YEAR			= "Year";
 	
 	/**
 	 * フォーマット確認定数：日付の月を探す場合。
 	 */
-	public static final String				KEY_FORMAT_MONTH		= "Month";
+	public static final String											KEY_FORMAT_MONTH		= "Month";
 	
 	/**
 	 * フォーマット確認定数：日付の日を探す場合。
 	 */
-	public static final String				KEY_FORMAT_DAY			= "Day";
+	public static final String											KEY_FORMAT_DAY			= "Day";
 	
 	/**
 	 * フォーマット確認定数：電話番号の場合。
 	 */
-	public static final String				KEY_FORMAT_PHONE		= "Phone";
+	public static final String											KEY_FORMAT_PHONE		= "Phone";
 	
 	/**
 	 * フォーマット確認定数：電話番号1。
 	 */
-	public static final String				KEY_FORMAT_PHONE_1		= "Area";
+	public static final String											KEY_FORMAT_PHONE_1		= "Area";
 	
 	/**
 	 * フォーマット確認定数：電話番号2。
 	 */
-	public static final String				KEY_FORMAT_PHONE_2		= "Local";
+	public static final String											KEY_FORMAT_PHONE_2		= "Local";
 	
 	/**
 	 * フォーマット確認定数：電話番号3。
 	 */
-	public static final String				KEY_FORMAT_PHONE_3		= "Subscriber";
+	public static final String											KEY_FORMAT_PHONE_3		= "Subscriber";
 	
 	/**
 	 * フォーマット確認定数：バイナリファイル。
 	 */
-	public static final String				KEY_FORMAT_BINARY		= "Binary";
+	public static final String											KEY_FORMAT_BINARY		= "Binary";
 	
 	/**
 	 * フォーマット確認定数：値をくっつける場合。
 	 */
-	public static final String				KEY_CONCATENATED_LABEL	= "Concatenate";
+	public static final String											KEY_CONCATENATED_LABEL	= "Concatenate";
 	
 	/**
 	 * フォーマット確認定数：置換する場合。
 	 */
-	public static final String				KEY_FORMAT				= "Format";
+	public static final String											KEY_FORMAT				= "Format";
 	
 	/**
 	 * 人事汎用項目区分設定情報。
 	 */
-	protected ConventionProperty			conventionProperty;
+	protected ConventionProperty										conventionProperty;
 	
 	/**
 	 * 項目内個別人事汎用項目設定情報。
 	 */
-	protected ItemProperty					labelItemProperty;
+	protected ItemProperty												labelItemProperty;
 	
 	/**
 	 *  項目内個別人事汎用項目データ型。
 	 */
-	protected String						labelDateType			= null;
+	protected String													labelDateType			= null;
 	
 	/**
 	 * 項目内個別人事汎用項目データ型フォーマット取得
 	 */
-	protected String						labelFormat				= null;
+	protected String													labelFormat				= null;
+	
+	/**
+	 * 纏めて取得した人事汎用通常情報群。<br>
+	 * key：個人ID、value：人事汎用通常情報群(key：人事項目区分)<br>
+	 * 含まれる個人の人事汎用通常情報は、SQLを実行せずにここから取得する。<br>
+	 */
+	protected Map<String, Map<String, HumanNormalDtoInterface>>			preloadedNormals;
+	
+	/**
+	 * 纏めて取得した人事汎用履歴情報群。<br>
+	 * key：個人ID、value：人事汎用履歴情報群(key：人事項目区分)<br>
+	 * 含まれる個人の対象日における人事汎用履歴情報は、SQLを実行せずにここから取得する。<br>
+	 */
+	protected Map<String, Map<String, HumanHistoryDtoInterface>>		preloadedHistories;
+	
+	/**
+	 * 人事汎用履歴情報を纏めて取得した対象日。<br>
+	 */
+	protected Date														preloadedDate;
+	
+	/**
+	 * 纏めて取得した人事汎用配列情報群。<br>
+	 * key：個人ID、value：人事汎用配列情報群(key：人事項目区分、value：行ID昇順のリスト)<br>
+	 * 含まれる個人の人事汎用配列情報は、SQLを実行せずにここから取得する。<br>
+	 */
+	protected Map<String, Map<String, List<HumanArrayDtoInterface>>>	preloadedArrays;
 	
 	
 	/**
@@ -330,11 +356,11 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 	@Override
 	public Date humanNormalDate(String itemName, String personalId) throws MospException {
 		// 年取得
-		HumanNormalDtoInterface normalYearDto = normalDao.findForInfo(itemName + KEY_FORMAT_YEAR, personalId);
+		HumanNormalDtoInterface normalYearDto = findNormal(itemName + KEY_FORMAT_YEAR, personalId);
 		// 月取得
-		HumanNormalDtoInterface normalMonthDto = normalDao.findForInfo(itemName + KEY_FORMAT_MONTH, personalId);
+		HumanNormalDtoInterface normalMonthDto = findNormal(itemName + KEY_FORMAT_MONTH, personalId);
 		// 日取得
-		HumanNormalDtoInterface normalDayDto = normalDao.findForInfo(itemName + KEY_FORMAT_DAY, personalId);
+		HumanNormalDtoInterface normalDayDto = findNormal(itemName + KEY_FORMAT_DAY, personalId);
 		// 情報がない場合
 		if (normalYearDto == null || normalMonthDto == null || normalDayDto == null) {
 			return null;
@@ -354,13 +380,13 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 	 */
 	public Date humanHistoryDate(String itemName, String personalId, Date activeDate) throws MospException {
 		// 年取得
-		HumanHistoryDtoInterface historyYearDto = historyDao.findForInfo(personalId, itemName + KEY_FORMAT_YEAR,
+		HumanHistoryDtoInterface historyYearDto = findHistory(personalId, itemName + KEY_FORMAT_YEAR,
 				activeDate);
 		// 月取得
-		HumanHistoryDtoInterface historyMonthDto = historyDao.findForInfo(personalId, itemName + KEY_FORMAT_MONTH,
+		HumanHistoryDtoInterface historyMonthDto = findHistory(personalId, itemName + KEY_FORMAT_MONTH,
 				activeDate);
 		// 日取得
-		HumanHistoryDtoInterface historyDayDto = historyDao.findForInfo(personalId, itemName + KEY_FORMAT_DAY,
+		HumanHistoryDtoInterface historyDayDto = findHistory(personalId, itemName + KEY_FORMAT_DAY,
 				activeDate);
 		// 情報がない場合
 		if (historyYearDto == null || historyMonthDto == null || historyDayDto == null) {
@@ -381,13 +407,13 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 	 */
 	public Date humanArrayDate(String itemName, String personalId, String rowId) throws MospException {
 		// 年取得
-		HumanArrayDtoInterface arrayYearDto = arrayDao.findForKey(personalId, itemName + KEY_FORMAT_YEAR,
+		HumanArrayDtoInterface arrayYearDto = findArray(personalId, itemName + KEY_FORMAT_YEAR,
 				getInteger(rowId));
 		// 月取得
-		HumanArrayDtoInterface arrayMonthDto = arrayDao.findForKey(personalId, itemName + KEY_FORMAT_MONTH,
+		HumanArrayDtoInterface arrayMonthDto = findArray(personalId, itemName + KEY_FORMAT_MONTH,
 				getInteger(rowId));
 		// 日取得
-		HumanArrayDtoInterface arrayDayDto = arrayDao.findForKey(personalId, itemName + KEY_FORMAT_DAY,
+		HumanArrayDtoInterface arrayDayDto = findArray(personalId, itemName + KEY_FORMAT_DAY,
 				getInteger(rowId));
 		// 情報がない場合
 		if (arrayYearDto == null || arrayMonthDto == null || arrayDayDto == null) {
@@ -467,7 +493,7 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 					}
 				}
 				// 人事汎用通常情報取得
-				HumanNormalDtoInterface itemDto = normalDao.findForInfo(itemNames[i], personalId);
+				HumanNormalDtoInterface itemDto = findNormal(itemNames[i], personalId);
 				if (itemDto != null) {
 					// プルダウン値取得
 					String pulldownValue = getPulldownValue(labelItemProperty, targetDate, itemDto.getHumanItemValue(),
@@ -510,7 +536,7 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 					}
 				}
 				// 人事汎用通常情報取得
-				HumanNormalDtoInterface itemDto = normalDao.findForInfo(itemNames[i], personalId);
+				HumanNormalDtoInterface itemDto = findNormal(itemNames[i], personalId);
 				if (itemDto != null) {
 					// プルダウン値取得
 					String pulldownValue = getPulldownValue(labelItemProperty, targetDate, itemDto.getHumanItemValue(),
@@ -592,7 +618,7 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 					}
 				}
 				// 人事汎用通常情報取得
-				HumanHistoryDtoInterface itemDto = historyDao.findForInfo(personalId, itemNames[i], activeDate);
+				HumanHistoryDtoInterface itemDto = findHistory(personalId, itemNames[i], activeDate);
 				if (itemDto != null) {
 					// プルダウン値取得
 					String pulldownValue = getPulldownValue(labelItemProperty, targetDate, itemDto.getHumanItemValue(),
@@ -636,7 +662,7 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 					}
 				}
 				// 人事汎用通常情報取得
-				HumanHistoryDtoInterface itemDto = historyDao.findForInfo(personalId, itemNames[i], activeDate);
+				HumanHistoryDtoInterface itemDto = findHistory(personalId, itemNames[i], activeDate);
 				if (itemDto != null) {
 					// プルダウン値取得
 					String pulldownValue = getPulldownValue(labelItemProperty, targetDate, itemDto.getHumanItemValue(),
@@ -718,7 +744,7 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 					}
 				}
 				// 人事汎用一覧情報取得
-				HumanArrayDtoInterface itemDto = arrayDao.findForKey(personalId, itemNames[i], getInteger(rowId));
+				HumanArrayDtoInterface itemDto = findArray(personalId, itemNames[i], getInteger(rowId));
 				if (itemDto != null) {
 					// プルダウン値取得
 					String pulldownValue = getPulldownValue(labelItemProperty, targetDate, itemDto.getHumanItemValue(),
@@ -742,7 +768,7 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 			// 項目毎に処理
 			for (int i = 0; i < itemNames.length; i++) {
 				// 人事汎用通常情報取得
-				HumanArrayDtoInterface itemDto = arrayDao.findForKey(personalId, itemNames[i], getInteger(rowId));
+				HumanArrayDtoInterface itemDto = findArray(personalId, itemNames[i], getInteger(rowId));
 				if (itemDto != null) {
 					// 共通情報設定
 					setCommounInfo(labelKeys[i]);
@@ -915,11 +941,11 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 	 */
 	public String getNormalFormatPhone(String personalId, String itemName, String format) throws MospException {
 		// 電話番号1取得
-		HumanNormalDtoInterface normalAreaDto = normalDao.findForInfo(itemName + KEY_FORMAT_PHONE_1, personalId);
+		HumanNormalDtoInterface normalAreaDto = findNormal(itemName + KEY_FORMAT_PHONE_1, personalId);
 		// 電話番号2取得
-		HumanNormalDtoInterface normalLocalDto = normalDao.findForInfo(itemName + KEY_FORMAT_PHONE_2, personalId);
+		HumanNormalDtoInterface normalLocalDto = findNormal(itemName + KEY_FORMAT_PHONE_2, personalId);
 		// 電話番号3取得
-		HumanNormalDtoInterface normalSubscriberDto = normalDao.findForInfo(itemName + KEY_FORMAT_PHONE_3, personalId);
+		HumanNormalDtoInterface normalSubscriberDto = findNormal(itemName + KEY_FORMAT_PHONE_3, personalId);
 		
 		// 人事汎用項目値取得（電話番号1）
 		String area = normalAreaDto == null ? "" : normalAreaDto.getHumanItemValue();
@@ -945,13 +971,13 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 			throws MospException {
 		
 		// 電話番号1情報取得
-		HumanHistoryDtoInterface historyAreaDto = historyDao.findForInfo(personalId, itemName + KEY_FORMAT_PHONE_1,
+		HumanHistoryDtoInterface historyAreaDto = findHistory(personalId, itemName + KEY_FORMAT_PHONE_1,
 				activeDate);
 		// 電話番号2情報取得
-		HumanHistoryDtoInterface historyLocalDto = historyDao.findForInfo(personalId, itemName + KEY_FORMAT_PHONE_2,
+		HumanHistoryDtoInterface historyLocalDto = findHistory(personalId, itemName + KEY_FORMAT_PHONE_2,
 				activeDate);
 		// 電話番号3情報取得
-		HumanHistoryDtoInterface historySubscriberDto = historyDao.findForInfo(personalId,
+		HumanHistoryDtoInterface historySubscriberDto = findHistory(personalId,
 				itemName + KEY_FORMAT_PHONE_3, activeDate);
 		
 		// 人事汎用項目値取得（電話番号1）
@@ -978,13 +1004,13 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 	public String getArrayFormatPhone(String personalId, String itemName, String rowId, String format)
 			throws MospException {
 		// 電話番号1取得
-		HumanArrayDtoInterface arrayAreaDto = arrayDao.findForKey(personalId, itemName + KEY_FORMAT_PHONE_1,
+		HumanArrayDtoInterface arrayAreaDto = findArray(personalId, itemName + KEY_FORMAT_PHONE_1,
 				getInteger(rowId));
 		// 電話番号2取得
-		HumanArrayDtoInterface arrayLocalDto = arrayDao.findForKey(personalId, itemName + KEY_FORMAT_PHONE_2,
+		HumanArrayDtoInterface arrayLocalDto = findArray(personalId, itemName + KEY_FORMAT_PHONE_2,
 				getInteger(rowId));
 		// 電話番号3取得
-		HumanArrayDtoInterface arraySubscriberDto = arrayDao.findForKey(personalId, itemName + KEY_FORMAT_PHONE_3,
+		HumanArrayDtoInterface arraySubscriberDto = findArray(personalId, itemName + KEY_FORMAT_PHONE_3,
 				getInteger(rowId));
 		
 		// 人事汎用項目値取得（電話番号1）
@@ -1075,4 +1101,148 @@ public class HumanGeneralBean extends PlatformHumanBean implements HumanGeneralB
 		String key = mospParams.getName("Personal", "Basis", "Information");
 		mospParams.addErrorMessage(PlatformMessageConst.MSG_WORKFORM_EXISTENCE, key);
 	}
+	
+	/**
+	 * 対象者の人事汎用通常情報を纏めて取得する。<br>
+	 * 以降、対象者の人事汎用通常情報はSQLを実行せずに取得する。<br>
+	 * 前回纏めて取得した情報は破棄する(空の配列を渡した場合は破棄のみ行う)。<br>
+	 * @param personalIds 個人ID配列(IN句の要素数となるため、上限数毎に分けること)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected void preloadNormals(String[] personalIds) throws MospException {
+		preloadedNormals = new HashMap<String, Map<String, HumanNormalDtoInterface>>();
+		if (personalIds.length == 0) {
+			return;
+		}
+		for (String personalId : personalIds) {
+			preloadedNormals.put(personalId, new HashMap<String, HumanNormalDtoInterface>());
+		}
+		for (HumanNormalDtoInterface dto : normalDao.findForPersonalIds(personalIds)) {
+			Map<String, HumanNormalDtoInterface> map = preloadedNormals.get(dto.getPersonalId());
+			if (map.containsKey(dto.getHumanItemType()) == false) {
+				map.put(dto.getHumanItemType(), dto);
+			}
+		}
+	}
+	
+	/**
+	 * 対象者の対象日における人事汎用履歴情報を纏めて取得する。<br>
+	 * 以降、対象者の対象日における人事汎用履歴情報はSQLを実行せずに取得する。<br>
+	 * 前回纏めて取得した情報は破棄する(空の配列を渡した場合は破棄のみ行う)。<br>
+	 * @param personalIds 個人ID配列(IN句の要素数となるため、上限数毎に分けること)
+	 * @param targetDate  対象日
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected void preloadHistories(String[] personalIds, Date targetDate) throws MospException {
+		preloadedHistories = new HashMap<String, Map<String, HumanHistoryDtoInterface>>();
+		preloadedDate = targetDate;
+		if (personalIds.length == 0 || targetDate == null) {
+			return;
+		}
+		for (String personalId : personalIds) {
+			preloadedHistories.put(personalId, new HashMap<String, HumanHistoryDtoInterface>());
+		}
+		for (HumanHistoryDtoInterface dto : historyDao.findForPersonalIds(personalIds, targetDate)) {
+			Map<String, HumanHistoryDtoInterface> map = preloadedHistories.get(dto.getPersonalId());
+			if (map.containsKey(dto.getHumanItemType()) == false) {
+				map.put(dto.getHumanItemType(), dto);
+			}
+		}
+	}
+	
+	/**
+	 * 対象者の人事汎用配列情報を纏めて取得する。<br>
+	 * 以降、対象者の人事汎用配列情報はSQLを実行せずに取得する。<br>
+	 * 前回纏めて取得した情報は破棄する(空の配列を渡した場合は破棄のみ行う)。<br>
+	 * @param personalIds 個人ID配列(IN句の要素数となるため、上限数毎に分けること)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected void preloadArrays(String[] personalIds) throws MospException {
+		preloadedArrays = new HashMap<String, Map<String, List<HumanArrayDtoInterface>>>();
+		if (personalIds.length == 0) {
+			return;
+		}
+		for (String personalId : personalIds) {
+			preloadedArrays.put(personalId, new HashMap<String, List<HumanArrayDtoInterface>>());
+		}
+		for (HumanArrayDtoInterface dto : arrayDao.findForPersonalIds(personalIds)) {
+			Map<String, List<HumanArrayDtoInterface>> map = preloadedArrays.get(dto.getPersonalId());
+			List<HumanArrayDtoInterface> list = map.get(dto.getHumanItemType());
+			if (list == null) {
+				list = new ArrayList<HumanArrayDtoInterface>();
+				map.put(dto.getHumanItemType(), list);
+			}
+			list.add(dto);
+		}
+	}
+	
+	/**
+	 * 人事汎用通常情報を取得する。<br>
+	 * 纏めて取得した対象者である場合は、SQLを実行しない。<br>
+	 * @param itemName   人事項目区分
+	 * @param personalId 個人ID
+	 * @return 人事汎用通常情報(存在しない場合はnull)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected HumanNormalDtoInterface findNormal(String itemName, String personalId) throws MospException {
+		if (preloadedNormals != null && preloadedNormals.containsKey(personalId)) {
+			return preloadedNormals.get(personalId).get(itemName);
+		}
+		return normalDao.findForInfo(itemName, personalId);
+	}
+	
+	/**
+	 * 対象日における人事汎用履歴情報を取得する。<br>
+	 * 纏めて取得した対象者及び対象日である場合は、SQLを実行しない。<br>
+	 * @param personalId 個人ID
+	 * @param itemName   人事項目区分
+	 * @param targetDate 対象日
+	 * @return 人事汎用履歴情報(存在しない場合はnull)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected HumanHistoryDtoInterface findHistory(String personalId, String itemName, Date targetDate)
+			throws MospException {
+		if (preloadedHistories != null && preloadedHistories.containsKey(personalId) && targetDate != null
+				&& preloadedDate.getTime() == targetDate.getTime()) {
+			return preloadedHistories.get(personalId).get(itemName);
+		}
+		return historyDao.findForInfo(personalId, itemName, targetDate);
+	}
+	
+	/**
+	 * 行IDの人事汎用配列情報を取得する。<br>
+	 * 纏めて取得した対象者である場合は、SQLを実行しない。<br>
+	 * @param personalId 個人ID
+	 * @param itemName   人事項目区分
+	 * @param rowId      行ID
+	 * @return 人事汎用配列情報(存在しない場合はnull)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected HumanArrayDtoInterface findArray(String personalId, String itemName, int rowId) throws MospException {
+		if (preloadedArrays != null && preloadedArrays.containsKey(personalId)) {
+			for (HumanArrayDtoInterface dto : findArrays(personalId, itemName)) {
+				if (dto.getHumanRowId() == rowId) {
+					return dto;
+				}
+			}
+			return null;
+		}
+		return arrayDao.findForKey(personalId, itemName, rowId);
+	}
+	
+	/**
+	 * 人事汎用配列情報リスト(行ID昇順)を取得する。<br>
+	 * 纏めて取得した対象者である場合は、SQLを実行しない。<br>
+	 * @param personalId 個人ID
+	 * @param itemName   人事項目区分
+	 * @return 人事汎用配列情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected List<HumanArrayDtoInterface> findArrays(String personalId, String itemName) throws MospException {
+		if (preloadedArrays != null && preloadedArrays.containsKey(personalId)) {
+			List<HumanArrayDtoInterface> list = preloadedArrays.get(personalId).get(itemName);
+			return list == null ? new ArrayList<HumanArrayDtoInterface>() : new ArrayList<HumanArrayDtoInterface>(list);
+		}
+		return arrayDao.findForItemType(personalId, itemName);
+	}
 }
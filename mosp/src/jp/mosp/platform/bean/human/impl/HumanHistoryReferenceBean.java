@@ -99,6 +99,11 @@ public class HumanHistoryReferenceBean extends HumanGeneralBean implements Human
 		
 	}
 	
+	@Override
+	public void preload(String[] personalIds, Date targetDate) throws MospException {
+		preloadHistories(personalIds, targetDate);
+	}
+	
 	@Override
 	public void setCommounInfo(String division, String viewKey) {
 		// 人事汎用項目区分設定情報取得
@@ -582,23 +587,23 @@ public class HumanHistoryReferenceBean extends HumanGeneralBean implements Human
 	
 	private HumanHistoryDtoInterface findForInfoItems(String personalId, String humanItemType, Date targetDate)
 			throws MospException {
-		HumanHistoryDtoInterface dto = dao.findForInfo(personalId, humanItemType, targetDate);
+		HumanHistoryDtoInterface dto = findHistory(personalId, humanItemType, targetDate);
 		
 		// 日付有効日取得
 		if (dto == null) {
-			dto = findForInfo(personalId, humanItemType + "Year", targetDate);
+			dto = findHistory(personalId, humanItemType + "Year", targetDate);
 		}
 		
 		// 電話有効日取得
 		if (dto == null) {
-			dto = findForInfo(personalId, humanItemType + "Area", targetDate);
+			dto = findHistory(personalId, humanItemType + "Area", targetDate);
 		}
 		// カンマ区切り
 		if (dto == null) {
 			String[] aryItemName = MospUtility.split(humanItemType, MospConst.APP_PROPERTY_SEPARATOR);
 			if (aryItemName.length != 0) {
 				// 上記以外のフォーマットの場合
-				dto = findForInfo(personalId, aryItemName[0], targetDate);
+				dto = findHistory(personalId, aryItemName[0], targetDate);
 			}
 		}
 		
@@ -42,6 +42,7 @@ import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.HumanHistoryDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfaHumanHistoryDto;
 import jp.mosp.platform.human.constant.PlatformHumanConst;
+import jp.mosp.platform.utils.HumanFreeWordIndexUtility;
 
 /**
  * 人事汎用履歴情報登録クラス。
@@ -116,6 +117,8 @@ public class HumanHistoryRegistBean extends HumanGeneralBean implements HumanHis
 		dto.setPfaHumanHistoryId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -136,6 +139,8 @@ public class HumanHistoryRegistBean extends HumanGeneralBean implements HumanHis
 		dto.setPfaHumanHistoryId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -155,6 +160,8 @@ public class HumanHistoryRegistBean extends HumanGeneralBean implements HumanHis
 			}
 			// 論理削除
 			logicalDelete(dao, id);
+			// フリーワード索引破棄
+			HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 		}
 	}
 	
@@ -244,6 +251,8 @@ public class HumanHistoryRegistBean extends HumanGeneralBean implements HumanHis
 		checkExclusive(dao, dto.getPfaHumanHistoryId());
 		// 論理削除
 		logicalDelete(dao, dto.getPfaHumanHistoryId());
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -87,6 +87,11 @@ public class HumanNormalReferenceBean extends HumanGeneralBean implements HumanN
 		return normalDao.findForInfo(itemName, personalId);
 	}
 	
+	@Override
+	public void preload(String[] personalIds) throws MospException {
+		preloadNormals(personalIds);
+	}
+	
 	@Override
 	public void setCommounInfo(String division, String viewKey) {
 		// 人事汎用項目区分設定情報取得
@@ -174,7 +179,7 @@ public class HumanNormalReferenceBean extends HumanGeneralBean implements HumanN
 					continue;
 				}
 				// 人事汎用通常情報取得
-				HumanNormalDtoInterface dto = normalDao.findForInfo(itemName, personalId);
+				HumanNormalDtoInterface dto = findNormal(itemName, personalId);
 				// 人事汎用通常情報がない場合
 				if (dto == null) {
 					continue;
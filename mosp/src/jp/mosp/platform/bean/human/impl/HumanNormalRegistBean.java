@@ -41,6 +41,7 @@ import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.HumanNormalDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfaHumanNormalDto;
 import jp.mosp.platform.human.constant.PlatformHumanConst;
+import jp.mosp.platform.utils.HumanFreeWordIndexUtility;
 import jp.mosp.platform.utils.PlatformMessageUtility;
 
 /**
@@ -203,6 +204,8 @@ public class HumanNormalRegistBean extends PlatformHumanBean implements HumanNor
 		dto.setPfaHumanNormalId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -214,6 +217,8 @@ public class HumanNormalRegistBean extends PlatformHumanBean implements HumanNor
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getPfaHumanNormalId());
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -318,6 +323,8 @@ public class HumanNormalRegistBean extends PlatformHumanBean implements HumanNor
 		dto.setPfaHumanNormalId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	/**
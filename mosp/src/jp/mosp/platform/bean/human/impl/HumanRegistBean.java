@@ -31,6 +31,8 @@ import jp.mosp.platform.constant.PlatformMessageConst;
 import jp.mosp.platform.dao.human.HumanDaoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfmHumanDto;
+import jp.mosp.platform.utils.HumanFreeWordIndexUtility;
+import jp.mosp.platform.utils.HumanSnapshotUtility;
 
 /**
  * 人事マスタ登録クラス。
@@ -110,6 +112,10 @@ public class HumanRegistBean extends PlatformHumanBean implements HumanRegistBea
 		dto.setPfmHumanId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 人事マスタ全履歴再取得対象に追加
+		HumanSnapshotUtility.invalidate(mospParams, connection, dto.getPersonalId());
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -128,6 +134,10 @@ public class HumanRegistBean extends PlatformHumanBean implements HumanRegistBea
 		dto.setPfmHumanId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 人事マスタ全履歴再取得対象に追加
+		HumanSnapshotUtility.invalidate(mospParams, connection, dto.getPersonalId());
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -148,12 +158,20 @@ public class HumanRegistBean extends PlatformHumanBean implements HumanRegistBea
 		dto.setPfmHumanId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 人事マスタ全履歴再取得対象に追加
+		HumanSnapshotUtility.invalidate(mospParams, connection, dto.getPersonalId());
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
 	public void delete(HumanDtoInterface dto) throws MospException {
 		// 論理削除
 		logicalDelete(dao, dto.getPfmHumanId());
+		// 人事マスタ全履歴再取得対象に追加
+		HumanSnapshotUtility.invalidate(mospParams, connection, dto.getPersonalId());
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	/**
@@ -72,6 +72,10 @@ import jp.mosp.platform.dto.system.EmploymentContractDtoInterface;
 import jp.mosp.platform.dto.system.NamingDtoInterface;
 import jp.mosp.platform.dto.system.WorkPlaceDtoInterface;
 import jp.mosp.platform.human.constant.PlatformHumanConst;
+import jp.mosp.platform.utils.EmploymentTimelineUtility;
+import jp.mosp.platform.utils.EmploymentTimelineUtility.EmploymentTimeline;
+import jp.mosp.platform.utils.HumanFreeWordIndexUtility;
+import jp.mosp.platform.utils.HumanFreeWordIndexUtility.FreeWordIndex;
 import jp.mosp.platform.utils.PlatformUtility;
 
 /**
@@ -372,6 +376,49 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	
 	@Override
 	public List<HumanDtoInterface> search() throws MospException {
+		// 在職・退職・休職検索
+		List<HumanDtoInterface> humanList = searchForState(dao.findForSearch(getSearchParams()));
+		// フリーワード検索
+		return searchForFreeWord(humanList);
+	}
+	
+	@Override
+	public boolean isPageable(String sortKey) {
+		// フリーワードが設定されている場合
+		if (searchWord != null && searchWord.isEmpty() == false) {
+			return false;
+		}
+		// 期間が設定されている場合
+		if (startDate != null && endDate != null) {
+			return false;
+		}
+		// ソートキーがSQLで並び替え可能であるかを確認
+		return dao.isSortable(sortKey);
+	}
+	
+	@Override
+	public List<HumanListDtoInterface> getHumanList(String sortKey, boolean needDescending, int offset, int limit)
+			throws MospException {
+		// パラメータ準備
+		Map<String, Object> param = getSearchParams();
+		param.put(HumanSearchDaoInterface.SEARCH_SORT_KEY, sortKey);
+		param.put(HumanSearchDaoInterface.SEARCH_NEED_DESCENDING, needDescending);
+		// 人事マスタ検索(休退職区分を含めSQLで判断)及び人事一覧情報リスト作成
+		return getHumanList(dao.findForSearch(param, offset, limit));
+	}
+	
+	@Override
+	public int getHumanCount() throws MospException {
+		// 人事マスタ件数検索(休退職区分を含めSQLで判断)
+		return dao.countForSearch(getSearchParams());
+	}
+	
+	/**
+	 * 設定された条件から、人事マスタ検索条件マップを作成する。<br>
+	 * @return 人事マスタ検索条件マップ
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected Map<String, Object> getSearchParams() throws MospException {
 		// パラメータ準備
 		Map<String, Object> param = dao.getParamsMap();
 		param.put(HumanSearchDaoInterface.SEARCH_TARGET_DATE, targetDate);
@@ -412,10 +459,7 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		// 期間設定
 		param.put(HumanSearchDaoInterface.SEARCH_START_DATE, startDate);
 		param.put(HumanSearchDaoInterface.SEARCH_END_DATE, endDate);
-		// 在職・退職・休職検索
-		List<HumanDtoInterface> humanList = searchForState(dao.findForSearch(param));
-		// フリーワード検索
-		return searchForFreeWord(humanList);
+		return param;
 	}
 	
 	/**
@@ -430,6 +474,13 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		if (stateType == null || stateType.isEmpty()) {
 			return list;
 		}
+		// 在職状態取得
+		EmploymentTimeline timeline = EmploymentTimelineUtility.getTimeline(mospParams, connection);
+		// 在職状態を保持している場合
+		if (timeline != null) {
+			// 在職状態を用いて休退職区分を人事検索
+			return searchForState(list, timeline);
+		}
 		// 検索結果リスト準備
 		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
 		// 在職の場合
@@ -487,6 +538,48 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		return resultList;
 	}
 	
+	/**
+	 * 在職状態を用いて、休退職区分を人事検索する。<br>
+	 * 期間の定めがある場合、在職は期間終了日までに入社していることで、
+	 * 休職は期間内全て休職していることで、退職は期間開始日より前に退職していることで判断する。<br>
+	 * @param list     人事情報リスト
+	 * @param timeline 在職状態
+	 * @return 休退職区分検索結果人事情報リスト
+	 */
+	protected List<HumanDtoInterface> searchForState(List<HumanDtoInterface> list, EmploymentTimeline timeline) {
+		// 期間の定め確認
+		boolean isTerm = startDate != null && endDate != null;
+		// 検索結果リスト準備
+		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
+		// 人事情報毎に処理
+		for (HumanDtoInterface dto : list) {
+			// 個人ID取得
+			String personalId = dto.getPersonalId();
+			// 休職確認
+			boolean isSuspended = isTerm ? timeline.isSuspended(personalId, startDate, endDate)
+					: timeline.isSuspended(personalId, targetDate);
+			// 退職確認(退職日が確認日より前の場合に退職)
+			boolean isRetired = timeline.isRetired(personalId, isTerm ? startDate : targetDate);
+			// 在職の場合
+			if (stateType.equals(PlatformConst.EMPLOYEE_STATE_PRESENCE)) {
+				// 入社しており休職及び退職していない場合
+				if (timeline.isEntered(personalId, isTerm ? endDate : targetDate) && isSuspended == false
+						&& isRetired == false) {
+					resultList.add(dto);
+				}
+			}
+			// 休職の場合
+			if (stateType.equals(PlatformConst.EMPLOYEE_STATE_SUSPEND) && isSuspended) {
+				resultList.add(dto);
+			}
+			// 退職の場合
+			if (stateType.equals(PlatformConst.EMPLOYEE_STATE_RETIRE) && isRetired) {
+				resultList.add(dto);
+			}
+		}
+		return resultList;
+	}
+	
 	/**
 	 * 対象期間の休職している個人IDセットを取得する。<br>
 	 * 期間の定めがない場合、少しでも休職している個人IDセットを取得する。<br>
@@ -599,6 +692,13 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		if (operationType == null) {
 			return new String[0][][];
 		}
+		// 保持している操作範囲(兼務)を取得
+		String rangeCacheKey = getRangeCacheKey(operationType, RANGE_CONCURRENT, targetDate);
+		String[][][] stored = (String[][][])mospParams.getStoredInfo().getRangeCache(rangeCacheKey);
+		if (stored != null) {
+			// 保持している操作範囲(兼務)が変更されないように、複製したものを返す
+			return getRangeConcurrentClone(stored);
+		}
 		// 操作範囲情報取得及び確認
 		RangeProperty range = mospParams.getStoredInfo().getRangeMap().get(operationType);
 		if (range == null) {
@@ -633,9 +733,28 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 			// 操作範囲(兼務)に操作範囲配列を設定
 			rangeConcurrent[i] = concurrentArray;
 		}
+		// 操作範囲(兼務)を保持(範囲設定が変更されるまで)
+		mospParams.getStoredInfo().putRangeCache(rangeCacheKey, getRangeConcurrentClone(rangeConcurrent));
 		return rangeConcurrent;
 	}
 	
+	/**
+	 * 操作範囲(兼務)の複製を取得する。<br>
+	 * 各次元の配列を複製する。<br>
+	 * @param array 操作範囲(兼務)
+	 * @return 操作範囲(兼務)の複製
+	 */
+	protected String[][][] getRangeConcurrentClone(String[][][] array) {
+		String[][][] clone = new String[array.length][][];
+		for (int i = 0; i < array.length; i++) {
+			clone[i] = new String[array[i].length][];
+			for (int j = 0; j < array[i].length; j++) {
+				clone[i][j] = array[i][j].clone();
+			}
+		}
+		return clone;
+	}
+	
 	/**
 	 * フリーワードによる検索を行う。<br>
 	 * 対象人事情報リストのうち、フリーワードの条件に合致する人事情報のみを取得する。<br>
@@ -697,6 +816,7 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	
 	/**
 	 * 個人基本情報に対して、フリーワードによる検索を行う。<br>
+	 * 氏名、カナ、住所及び電話番号は、フリーワード索引で確認する。<br>
 	 * @param humanList     対象人事情報リスト
 	 * @param arySearchWord フリーワード配列
 	 * @return 人事情報リスト
@@ -709,8 +829,16 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		// 役職要否確認
 		boolean isPost = false;
 		isPost = mospParams.getApplicationPropertyBool(PlatformConst.APP_ADD_USE_POST);
+		// 氏名、カナ、住所及び電話番号で一致した個人ID群を取得
+		Set<String> matchedSet = HumanFreeWordIndexUtility.getHumanIndex(mospParams, dao, targetDate)
+			.search(arySearchWord);
 		// 対象人事リスト毎に処理
 		for (HumanDtoInterface humanDto : humanList) {
+			// 氏名、カナ、住所或いは電話番号で一致した場合
+			if (matchedSet.contains(humanDto.getPersonalId())) {
+				resultList.add(humanDto);
+				continue;
+			}
 			// 対象社員有効日取得
 			Date targetDate = humanDto.getActivateDate();
 			// フリーワード毎に処理
@@ -996,14 +1124,29 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 			List<HumanDtoInterface> humanList, String[] arySearchWord) throws MospException {
 		// 検索結果リスト準備
 		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
+		// フリーワード索引取得
+		FreeWordIndex index = HumanFreeWordIndexUtility.getIndex(mospParams, division, targetDate);
+		// 索引に登録されていない人事情報リストを取得
+		List<HumanDtoInterface> targetList = getFreeWordTargetList(index, humanList);
 		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
+		for (int i = 0; i < targetList.size(); i++) {
+			// 上限数毎に対象者の人事汎用通常情報を纏めて取得
+			if (i % getPersonalIdsMaxIndex() == 0) {
+				humanNormalReference.preload(getPersonalIds(targetList, i));
+			}
+			HumanDtoInterface humanDto = targetList.get(i);
 			// 対象社員有効日取得
 			Date activeDate = humanDto.getActivateDate();
 			// 個人ID取得
 			String personalId = humanDto.getPersonalId();
 			Map<String, String> normalMap = humanNormalReference.getShowHumanNormalMapInfo(division,
 					KEY_VIEW_HUMAN_SEARCH, personalId, activeDate, targetDate);
+			// 索引が利用できる場合
+			if (index != null) {
+				// 索引に登録
+				index.put(personalId, normalMap.values());
+				continue;
+			}
 			// 人事汎用通常情報がない場合
 			if (normalMap.isEmpty()) {
 				continue;
@@ -1015,6 +1158,13 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 				continue;
 			}
 		}
+		// 纏めて取得した情報を破棄
+		humanNormalReference.preload(new String[0]);
+		// 索引が利用できる場合
+		if (index != null) {
+			// 索引で検索
+			return searchForFreeWordIndex(index, humanList, arySearchWord);
+		}
 		return resultList;
 	}
 	
@@ -1030,12 +1180,27 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 			List<HumanDtoInterface> humanList, String[] arySearchWord) throws MospException {
 		// 検索結果リスト準備
 		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
+		// フリーワード索引取得
+		FreeWordIndex index = HumanFreeWordIndexUtility.getIndex(mospParams, division, targetDate);
+		// 索引に登録されていない人事情報リストを取得
+		List<HumanDtoInterface> targetList = getFreeWordTargetList(index, humanList);
 		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
+		for (int i = 0; i < targetList.size(); i++) {
+			// 上限数毎に対象者の人事汎用履歴情報を纏めて取得
+			if (i % getPersonalIdsMaxIndex() == 0) {
+				humanHistoryReference.preload(getPersonalIds(targetList, i), targetDate);
+			}
+			HumanDtoInterface humanDto = targetList.get(i);
 			// 個人ID取得
 			String personalId = humanDto.getPersonalId();
 			LinkedHashMap<String, Map<String, String>> historyMap = humanHistoryReference
 				.getHumanHistoryMapInfo(division, KEY_VIEW_HUMAN_SEARCH, personalId, targetDate, targetDate);
+			// 索引が利用できる場合
+			if (index != null) {
+				// 索引に登録
+				index.put(personalId, getFreeWordValues(historyMap));
+				continue;
+			}
 			// 人事汎用通常情報がない場合
 			if (historyMap.isEmpty()) {
 				continue;
@@ -1054,6 +1219,13 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 				}
 			}
 		}
+		// 纏めて取得した情報を破棄
+		humanHistoryReference.preload(new String[0], targetDate);
+		// 索引が利用できる場合
+		if (index != null) {
+			// 索引で検索
+			return searchForFreeWordIndex(index, humanList, arySearchWord);
+		}
 		return resultList;
 	}
 	
@@ -1070,12 +1242,27 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 			List<HumanDtoInterface> humanList, String[] arySearchWord, Date targetDate) throws MospException {
 		// 検索結果リスト準備
 		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
+		// フリーワード索引取得
+		FreeWordIndex index = HumanFreeWordIndexUtility.getIndex(mospParams, division, targetDate);
+		// 索引に登録されていない人事情報リストを取得
+		List<HumanDtoInterface> targetList = getFreeWordTargetList(index, humanList);
 		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
+		for (int i = 0; i < targetList.size(); i++) {
+			// 上限数毎に対象者の人事汎用一覧情報を纏めて取得
+			if (i % getPersonalIdsMaxIndex() == 0) {
+				humanArrayReference.preload(getPersonalIds(targetList, i));
+			}
+			HumanDtoInterface humanDto = targetList.get(i);
 			// 個人ID取得
 			String personalId = humanDto.getPersonalId();
 			LinkedHashMap<String, Map<String, String>> arrayMap = humanArrayReference.getRowIdArrayMapInfo(division,
 					KEY_VIEW_HUMAN_SEARCH, personalId, targetDate);
+			// 索引が利用できる場合
+			if (index != null) {
+				// 索引に登録
+				index.put(personalId, getFreeWordValues(arrayMap));
+				continue;
+			}
 			// 人事汎用通常情報がない場合
 			if (arrayMap.isEmpty()) {
 				continue;
@@ -1094,9 +1281,78 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 				}
 			}
 		}
+		// 纏めて取得した情報を破棄
+		humanArrayReference.preload(new String[0]);
+		// 索引が利用できる場合
+		if (index != null) {
+			// 索引で検索
+			return searchForFreeWordIndex(index, humanList, arySearchWord);
+		}
+		return resultList;
+	}
+	
+	/**
+	 * フリーワード索引を用いて、フリーワードによる検索を行う。<br>
+	 * 対象人事情報リストの順序を保ったまま、索引で一致した人事情報のみを取得する。<br>
+	 * @param index         フリーワード索引
+	 * @param humanList     対象人事情報リスト
+	 * @param arySearchWord フリーワード配列
+	 * @return 人事情報リスト
+	 */
+	protected List<HumanDtoInterface> searchForFreeWordIndex(FreeWordIndex index, List<HumanDtoInterface> humanList,
+			String[] arySearchWord) {
+		// 索引で一致した個人ID群を取得
+		Set<String> personalIdSet = index.search(arySearchWord);
+		// 検索結果リスト準備
+		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
+		// 対象人事リスト毎に処理
+		for (HumanDtoInterface humanDto : humanList) {
+			if (personalIdSet.contains(humanDto.getPersonalId())) {
+				resultList.add(humanDto);
+			}
+		}
 		return resultList;
 	}
 	
+	/**
+	 * フリーワード索引に登録されていない人事情報リストを取得する。<br>
+	 * 索引が利用できない場合は、対象人事情報リストをそのまま返す。<br>
+	 * @param index     フリーワード索引(利用できない場合はnull)
+	 * @param humanList 対象人事情報リスト
+	 * @return 人事情報リスト
+	 */
+	protected List<HumanDtoInterface> getFreeWordTargetList(FreeWordIndex index, List<HumanDtoInterface> humanList) {
+		// 索引が利用できない場合
+		if (index == null) {
+			return humanList;
+		}
+		// 人事情報リスト準備
+		List<HumanDtoInterface> list = new ArrayList<HumanDtoInterface>();
+		// 対象人事リスト毎に処理
+		for (HumanDtoInterface humanDto : humanList) {
+			// 索引に登録されていない場合
+			if (index.contains(humanDto.getPersonalId()) == false) {
+				list.add(humanDto);
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * 履歴或いは行毎の項目名項目値マップ群から、索引に登録する表示値リストを取得する。<br>
+	 * @param itemMaps 項目名項目値マップ群
+	 * @return 表示値リスト
+	 */
+	protected List<String> getFreeWordValues(Map<String, Map<String, String>> itemMaps) {
+		// 表示値リスト準備
+		List<String> list = new ArrayList<String>();
+		// 項目名項目値マップ毎に処理
+		for (Map<String, String> itemMap : itemMaps.values()) {
+			list.addAll(itemMap.values());
+		}
+		return list;
+	}
+	
 	/**
 	 * 人事バイナリ汎用通常情報に対して、フリーワードによる検索を行う。<br>
 	 * @param division 人事汎用管理区分
@@ -1331,8 +1587,17 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	
 	@Override
 	public List<HumanListDtoInterface> getHumanList() throws MospException {
-		// 人事マスタ検索
-		List<HumanDtoInterface> list = search();
+		// 人事マスタ検索及び人事一覧情報リスト作成
+		return getHumanList(search());
+	}
+	
+	/**
+	 * 人事マスタリストから人事一覧情報リストを作成する。<br>
+	 * @param list 人事マスタリスト
+	 * @return 人事一覧情報リスト
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected List<HumanListDtoInterface> getHumanList(List<HumanDtoInterface> list) throws MospException {
 		String[][] aryWorkPlace = workPlace.getSelectArray(targetDate, true, null);
 		String[][] aryEmploymentContract = employmentContract.getSelectArray(targetDate, true, null);
 		String[][] arySection = section.getNameSelectArray(targetDate, true, null);
@@ -1655,8 +1920,8 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 			lastIndex = humanList.size();
 		}
 		String[] personalIds = new String[lastIndex - index];
-		for (int i = index; i < personalIds.length; i++) {
-			personalIds[i] = humanList.get(index++).getPersonalId();
+		for (int i = 0; i < personalIds.length; i++) {
+			personalIds[i] = humanList.get(index + i).getPersonalId();
 		}
 		return personalIds;
 	}
@@ -28,6 +28,7 @@ import jp.mosp.platform.bean.human.PhoneRegistBeanInterface;
 import jp.mosp.platform.dao.human.PhoneDaoInterface;
 import jp.mosp.platform.dto.human.PhoneDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfaPhoneDto;
+import jp.mosp.platform.utils.HumanFreeWordIndexUtility;
 import jp.mosp.platform.utils.PlatformMessageUtility;
 import jp.mosp.platform.utils.PlatformNamingUtility;
 
@@ -99,6 +100,8 @@ public class PhoneRegistBean extends PlatformBean implements PhoneRegistBeanInte
 		dto.setPfaPhoneId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
@@ -110,6 +113,8 @@ public class PhoneRegistBean extends PlatformBean implements PhoneRegistBeanInte
 			// 削除
 			logicalDelete(dao, dto.getPfaPhoneId());
 		}
+		// フリーワード索引破棄
+		HumanFreeWordIndexUtility.invalidateAll(mospParams, connection);
 	}
 	
 	@Override
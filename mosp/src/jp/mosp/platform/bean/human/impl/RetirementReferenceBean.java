@@ -27,6 +27,8 @@ import jp.mosp.framework.base.MospParams;
 import jp.mosp.platform.bean.human.RetirementReferenceBeanInterface;
 import jp.mosp.platform.dao.human.RetirementDaoInterface;
 import jp.mosp.platform.dto.human.RetirementDtoInterface;
+import jp.mosp.platform.utils.EmploymentTimelineUtility;
+import jp.mosp.platform.utils.EmploymentTimelineUtility.EmploymentTimeline;
 
 /**
  * 人事退職情報参照クラス。<br>
@@ -71,6 +73,11 @@ public class RetirementReferenceBean extends BaseBean implements RetirementRefer
 	
 	@Override
 	public boolean isRetired(String personalId, Date targetDate) throws MospException {
+		// 在職状態を保持している場合
+		EmploymentTimeline timeline = EmploymentTimelineUtility.getTimeline(mospParams, connection);
+		if (timeline != null) {
+			return timeline.isRetired(personalId, targetDate);
+		}
 		RetirementDtoInterface dto = getRetireInfo(personalId, targetDate);
 		if (dto != null) {
 			return targetDate.compareTo(dto.getRetirementDate()) > 0;
@@ -89,6 +96,11 @@ public class RetirementReferenceBean extends BaseBean implements RetirementRefer
 	
 	@Override
 	public Date getRetireDate(String personalId) throws MospException {
+		// 在職状態を保持している場合
+		EmploymentTimeline timeline = EmploymentTimelineUtility.getTimeline(mospParams, connection);
+		if (timeline != null) {
+			return timeline.getRetirementDate(personalId);
+		}
 		RetirementDtoInterface dto = getRetireInfo(personalId);
 		if (dto != null) {
 			return dto.getRetirementDate();
@@ -31,6 +31,8 @@ import jp.mosp.platform.dao.human.RetirementDaoInterface;
 import jp.mosp.platform.dto.human.EntranceDtoInterface;
 import jp.mosp.platform.dto.human.RetirementDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfaHumanRetirementDto;
+import jp.mosp.platform.utils.EmploymentTimelineUtility;
+import jp.mosp.platform.utils.LoginUserCheckUtility;
 import jp.mosp.platform.utils.PlatformMessageUtility;
 
 /**
@@ -94,6 +96,8 @@ public class RetirementRegistBean extends PlatformHumanBean implements Retiremen
 			// 更新
 			update(dto);
 		}
+		// ログインユーザ確認結果を破棄
+		LoginUserCheckUtility.invalidate(mospParams, connection, dto.getPersonalId());
 		// ユーザアカウント情報登録後の確認
 		accountRegist.checkAfterRegist();
 	}
@@ -107,6 +111,10 @@ public class RetirementRegistBean extends PlatformHumanBean implements Retiremen
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getPfaHumanRetirementId());
+		// 在職状態破棄
+		EmploymentTimelineUtility.invalidate(mospParams, connection);
+		// ログインユーザ確認結果を破棄
+		LoginUserCheckUtility.invalidate(mospParams, connection, dto.getPersonalId());
 		// ユーザアカウント情報登録後の確認
 		accountRegist.checkAfterRegist();
 	}
@@ -138,6 +146,8 @@ public class RetirementRegistBean extends PlatformHumanBean implements Retiremen
 		dto.setPfaHumanRetirementId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 在職状態破棄
+		EmploymentTimelineUtility.invalidate(mospParams, connection);
 	}
 	
 	/**
@@ -159,6 +169,8 @@ public class RetirementRegistBean extends PlatformHumanBean implements Retiremen
 		dto.setPfaHumanRetirementId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 在職状態破棄
+		EmploymentTimelineUtility.invalidate(mospParams, connection);
 	}
 	
 	/**
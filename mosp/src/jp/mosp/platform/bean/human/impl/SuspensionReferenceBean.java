@@ -28,6 +28,8 @@ import jp.mosp.framework.base.MospParams;
 import jp.mosp.platform.bean.human.SuspensionReferenceBeanInterface;
 import jp.mosp.platform.dao.human.SuspensionDaoInterface;
 import jp.mosp.platform.dto.human.SuspensionDtoInterface;
+import jp.mosp.platform.utils.EmploymentTimelineUtility;
+import jp.mosp.platform.utils.EmploymentTimelineUtility.EmploymentTimeline;
 
 /**
  * 人事休職情報参照クラス。
@@ -103,6 +105,11 @@ public class SuspensionReferenceBean extends BaseBean implements SuspensionRefer
 	
 	@Override
 	public boolean isSuspended(String personalId, Date targetDate) throws MospException {
+		// 在職状態を保持している場合
+		EmploymentTimeline timeline = EmploymentTimelineUtility.getTimeline(mospParams, connection);
+		if (timeline != null) {
+			return timeline.isSuspended(personalId, targetDate);
+		}
 		SuspensionDtoInterface dto = getSuspentionInfo(personalId, targetDate);
 		if (dto != null) {
 			return true;
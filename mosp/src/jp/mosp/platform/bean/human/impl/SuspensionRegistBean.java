@@ -29,6 +29,7 @@ import jp.mosp.platform.bean.human.base.PlatformHumanBean;
 import jp.mosp.platform.dao.human.SuspensionDaoInterface;
 import jp.mosp.platform.dto.human.SuspensionDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfaHumanSuspensionDto;
+import jp.mosp.platform.utils.EmploymentTimelineUtility;
 import jp.mosp.platform.utils.PlatformMessageUtility;
 
 /**
@@ -118,6 +119,8 @@ public class SuspensionRegistBean extends PlatformHumanBean implements Suspensio
 			}
 			// 論理削除
 			logicalDelete(dao, id);
+			// 在職状態破棄
+			EmploymentTimelineUtility.invalidate(mospParams, connection);
 		}
 	}
 	
@@ -131,6 +134,8 @@ public class SuspensionRegistBean extends PlatformHumanBean implements Suspensio
 		dto.setPfaHumanSuspensionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 在職状態破棄
+		EmploymentTimelineUtility.invalidate(mospParams, connection);
 	}
 	
 	/**
@@ -159,6 +164,8 @@ public class SuspensionRegistBean extends PlatformHumanBean implements Suspensio
 		dto.setPfaHumanSuspensionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 在職状態破棄
+		EmploymentTimelineUtility.invalidate(mospParams, connection);
 	}
 	
 	/**
@@ -40,7 +40,7 @@ public interface MailBeanInterface {
 	 * @param templateFileName テンプレートファイル名
 	 * @param dto 対象DTO
 	 * @param file 添付ファイル
-	 * @return 送信成功の場合true、そうでない場合false。
+	 * @return 送信成功(送信箱を利用する場合は送信箱への登録成功)の場合true、そうでない場合false。
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	boolean sendMail(String personalId, String subject, String templateFileName, MailTemplateDto dto, File file)
@@ -52,7 +52,7 @@ public interface MailBeanInterface {
 	 * @param title         タイトル
 	 * @param text          本文
 	 * @param file          添付ファイル
-	 * @return 送信成功の場合true、そうでない場合false。
+	 * @return 送信成功(送信箱を利用する場合は送信箱への登録成功)の場合true、そうでない場合false。
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	boolean sendMail(String[][] aryPersonalId, String title, String text, File file) throws MospException;
@@ -19,6 +19,8 @@ package jp.mosp.platform.bean.mail;
 
 import java.io.File;
 
+import javax.mail.internet.MimeMessage;
+
 import jp.mosp.framework.base.MospException;
 import jp.mosp.platform.bean.mail.impl.MailSenderBean;
 
@@ -48,6 +50,34 @@ public interface MailSenderBeanInterface {
 	 */
 	boolean isSend();
 	
+	/**
+	 * メールサーバ接続。<br>
+	 * {@link #isSend(MailSenderBeanInterface)}で複数のメールを続けて送信する前に用いる。<br>
+	 * @return 接続できた場合true、そうでない場合false
+	 */
+	boolean connect();
+	
+	/**
+	 * メール送信(接続再利用)。<br>
+	 * {@link #connect()}で接続したメールサーバを用いて、
+	 * 対象メール送信クラスに設定されたメッセージを送信する。<br>
+	 * 接続が切れていた場合は、再接続する。<br>
+	 * @param sender メッセージ設定済のメール送信クラス
+	 * @return 送信できた場合true、そうでない場合false
+	 */
+	boolean isSend(MailSenderBeanInterface sender);
+	
+	/**
+	 * メールサーバ切断。<br>
+	 */
+	void disconnect();
+	
+	/**
+	 * 設定されたメッセージを取得する。<br>
+	 * @return メッセージ
+	 */
+	MimeMessage getMimeMessage();
+	
 	/**
 	 * 接続テスト。
 	 * @return メールサーバの利用可否
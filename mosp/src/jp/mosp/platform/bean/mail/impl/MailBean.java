@@ -36,6 +36,7 @@ import jp.mosp.platform.constant.PlatformMailConst;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.HumanNormalDtoInterface;
 import jp.mosp.platform.dto.mail.impl.MailTemplateDto;
+import jp.mosp.platform.utils.MailOutboxUtility;
 import jp.mosp.platform.utils.MailTemplateUtility;
 
 /**
@@ -97,9 +98,8 @@ public class MailBean extends PlatformBean implements MailBeanInterface {
 		boolean useMail = false;
 		// 設定ファイルのプロパティから取得
 		if (mospParams.getApplicationProperty(PlatformMailConst.APP_USE_MAIL) == null) {
-			mailSender.init();
-			// メールサーバーと接続するか確認
-			useMail = mailSender.checkConnection();
+			// メールサーバーと接続するか確認(確認は送信スレッドで行い、直近の確認結果を取得)
+			useMail = MailOutboxUtility.canUseMailServer(mospParams);
 		} else {
 			useMail = mospParams.getApplicationPropertyBool(PlatformMailConst.APP_USE_MAIL);
 		}
@@ -152,20 +152,8 @@ public class MailBean extends PlatformBean implements MailBeanInterface {
 			receiver[1] = aryPersonalId[i][1];
 			list.add(receiver);
 		}
-		// 初期化
-		mailSender.init();
-		// メッセージと添付ファイル
-		mailSender.setMessage(toArray(list), title, text, file);
-		boolean isSend = mailSender.isSend();
 		// 送信
-		if (isSend) {
-			sb.append(PlatformMailConst.MSG_MAIL_SEND_SUCCESS);
-		} else {
-			sb.append(PlatformMailConst.MSG_MAIL_SEND_FAILED);
-		}
-		// ログ出力
-		LogUtility.log(mospParams, 800, sb.toString());
-		return isSend;
+		return send(toArray(list), title, text, file, sb.toString());
 	}
 	
 	/**
@@ -198,16 +186,41 @@ public class MailBean extends PlatformBean implements MailBeanInterface {
 		if (!checkMailAddress(address)) {
 			return false;
 		}
+		// 送信
+		return send(new String[][]{ { personal == null || personal.isEmpty() ? address : personal, address } },
+				subject, text, file, personalId);
+	}
+	
+	/**
+	 * メール送信。<br>
+	 * 送信箱を利用する場合は、メッセージを送信箱に登録し、
+	 * 送信はトランザクション終了後にバックグラウンドで行う(送信結果はその際にログ出力される)。<br>
+	 * 送信箱を利用しない場合、或いは添付ファイルがある場合は、この処理内で送信する
+	 * (送信箱には添付ファイルを登録しない)。<br>
+	 * @param receiver 受信者配列
+	 * @param subject 件名
+	 * @param text 本文
+	 * @param file 添付ファイル
+	 * @param logText ログ出力文字列(送信先)
+	 * @return 送信(或いは送信箱への登録)に成功した場合true、そうでない場合false。
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected boolean send(String[][] receiver, String subject, String text, File file, String logText)
+			throws MospException {
+		// 送信箱を利用し添付ファイルがない場合
+		if (MailOutboxUtility.isAsync(mospParams) && file == null) {
+			// 送信箱に登録
+			MailOutboxUtility.enqueue(mospParams, connection, receiver, subject, text, logText);
+			return true;
+		}
 		// 初期化
 		mailSender.init();
 		// メッセージと添付ファイル
-		mailSender.setMessage(
-				new String[][]{ { personal == null || personal.isEmpty() ? address : personal, address } }, subject,
-				text, file);
+		mailSender.setMessage(receiver, subject, text, file);
 		// 送信
 		boolean isSend = mailSender.isSend();
 		StringBuffer sb = new StringBuffer();
-		sb.append(personalId);
+		sb.append(logText);
 		if (isSend) {
 			sb.append(PlatformMailConst.MSG_MAIL_SEND_SUCCESS);
 		} else {
@@ -136,6 +136,43 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 		return isSend;
 	}
 	
+	@Override
+	public boolean connect() {
+		return createConnection();
+	}
+	
+	@Override
+	public boolean isSend(MailSenderBeanInterface sender) {
+		MimeMessage message = sender.getMimeMessage();
+		if (message == null) {
+			return false;
+		}
+		try {
+			// 接続が切れている場合
+			if (checkTransport() == false || transport.isConnected() == false) {
+				// 再接続
+				if (createConnection() == false) {
+					return false;
+				}
+			}
+			transport.sendMessage(message, message.getAllRecipients());
+		} catch (Throwable e) {
+			e.printStackTrace();
+			return false;
+		}
+		return true;
+	}
+	
+	@Override
+	public void disconnect() {
+		closeConnection();
+	}
+	
+	@Override
+	public MimeMessage getMimeMessage() {
+		return mimeMessage;
+	}
+	
 	/**
 	 * セッション取得
 	 */
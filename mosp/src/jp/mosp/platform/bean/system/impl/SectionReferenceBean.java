@@ -38,6 +38,8 @@ import jp.mosp.platform.dao.system.SectionDaoInterface;
 import jp.mosp.platform.dto.human.ConcurrentDtoInterface;
 import jp.mosp.platform.dto.system.SectionDtoInterface;
 import jp.mosp.platform.system.constant.PlatformSystemConst;
+import jp.mosp.platform.utils.SectionTreeUtility;
+import jp.mosp.platform.utils.SectionTreeUtility.SectionTree;
 
 /**
  * 所属マスタ参照クラス。
@@ -105,14 +107,14 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 	
 	@Override
 	public List<SectionDtoInterface> getHigherSectionList(String sectionCode, Date targetDate) throws MospException {
-		SectionDtoInterface dto = getSectionInfo(sectionCode, targetDate);
+		SectionDtoInterface dto = getTreeSectionInfo(sectionCode, targetDate);
 		// 上位所属リスト
 		List<SectionDtoInterface> higherList = new ArrayList<SectionDtoInterface>();
 		if (dto != null) {
 			// 所属マスタから階層経路を取得
 			String[] aryClassRoute = getClassRouteArray(dto.getClassRoute());
 			for (int i = aryClassRoute.length - 1; i >= 0; i--) {
-				SectionDtoInterface sectionDto = getSectionInfo(aryClassRoute[i], targetDate);
+				SectionDtoInterface sectionDto = getTreeSectionInfo(aryClassRoute[i], targetDate);
 				if (sectionDto != null) {
 					higherList.add(sectionDto);
 				}
@@ -131,6 +133,24 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 		return dao.findForInfo(sectionCode, targetDate);
 	}
 	
+	/**
+	 * 所属階層から、対象日以前で最新の所属情報を取得する。<br>
+	 * 所属階層を保持しない設定である場合は、所属マスタから取得する。<br>
+	 * @param sectionCode 所属コード
+	 * @param targetDate  対象年月日
+	 * @return 所属情報
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected SectionDtoInterface getTreeSectionInfo(String sectionCode, Date targetDate) throws MospException {
+		// 所属階層取得
+		SectionTree tree = SectionTreeUtility.getSectionTree(mospParams, dao);
+		// 所属階層を保持しない設定である場合
+		if (tree == null) {
+			return getSectionInfo(sectionCode, targetDate);
+		}
+		return tree.getSection(sectionCode, targetDate);
+	}
+	
 	@Override
 	public String getSectionName(String sectionCode, Date targetDate) throws MospException {
 		SectionDtoInterface dto = getSectionInfo(sectionCode, targetDate);
@@ -213,7 +233,8 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 		String[] sectionArray = getClassRouteArray(dto.getClassRoute());
 		// 経路表示内容作成
 		for (String sectionCode : sectionArray) {
-			sb.append(getSectionAbbr(sectionCode, targetDate));
+			SectionDtoInterface sectionDto = getTreeSectionInfo(sectionCode, targetDate);
+			sb.append(sectionDto == null ? sectionCode : sectionDto.getSectionAbbr());
 			sb.append(CONCAT_CLASS_ROUTE);
 		}
 		// 自所属略称追加
@@ -224,7 +245,7 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 	@Override
 	public String[] getClassRouteNameArray(String sectionCode, Date targetDate) throws MospException {
 		// 所属情報取得
-		SectionDtoInterface dto = dao.findForInfo(sectionCode, targetDate);
+		SectionDtoInterface dto = getTreeSectionInfo(sectionCode, targetDate);
 		// 所属情報確認
 		if (dto == null) {
 			return new String[0];
@@ -236,7 +257,8 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 		// 経路名称配列作成
 		for (int i = 0; i < sectionArray.length; i++) {
 			// 経路名称設定
-			nameArray[i] = getSectionName(sectionArray[i], targetDate);
+			SectionDtoInterface sectionDto = getTreeSectionInfo(sectionArray[i], targetDate);
+			nameArray[i] = sectionDto == null ? sectionArray[i] : sectionDto.getSectionName();
 		}
 		// 自所属名称設定
 		nameArray[nameArray.length - 1] = dto.getSectionName();
@@ -445,14 +467,7 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 	@Override
 	public int getMaxLevel(Date targetDate) throws MospException {
 		// 所属情報リスト取得
-		Map<String, Object> param = dao.getParamsMap();
-		param.put(SectionDaoInterface.SEARCH_TARGET_DATE, targetDate);
-		param.put(SectionDaoInterface.SEARCH_SECTION_TYPE, "");
-		param.put(SectionDaoInterface.SEARCH_SECTION_CODE, "");
-		param.put(SectionDaoInterface.SEARCH_SECTION_NAME, "");
-		param.put(SectionDaoInterface.SEARCH_SECTION_ABBR, "");
-		param.put(SectionDaoInterface.SEARCH_CLOSE_FLAG, MospConst.DELETE_FLAG_OFF);
-		List<SectionDtoInterface> list = dao.findForSearch(param);
+		List<SectionDtoInterface> list = getActiveSectionList(targetDate);
 		// 最大階層数準備
 		int maxLevel = 0;
 		// 所属毎に処理
@@ -465,12 +480,37 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 		return maxLevel;
 	}
 	
+	/**
+	 * 対象日において有効な所属情報リストを取得する。<br>
+	 * 所属階層を保持しない設定である場合は、所属マスタから取得する。<br>
+	 * @param targetDate 対象年月日
+	 * @return 所属情報リスト
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected List<SectionDtoInterface> getActiveSectionList(Date targetDate) throws MospException {
+		// 所属階層取得
+		SectionTree tree = SectionTreeUtility.getSectionTree(mospParams, dao);
+		// 所属階層を保持する設定である場合
+		if (tree != null) {
+			return tree.getActiveSectionList(targetDate);
+		}
+		// 所属情報リスト取得
+		Map<String, Object> param = dao.getParamsMap();
+		param.put(SectionDaoInterface.SEARCH_TARGET_DATE, targetDate);
+		param.put(SectionDaoInterface.SEARCH_SECTION_TYPE, "");
+		param.put(SectionDaoInterface.SEARCH_SECTION_CODE, "");
+		param.put(SectionDaoInterface.SEARCH_SECTION_NAME, "");
+		param.put(SectionDaoInterface.SEARCH_SECTION_ABBR, "");
+		param.put(SectionDaoInterface.SEARCH_CLOSE_FLAG, MospConst.DELETE_FLAG_OFF);
+		return dao.findForSearch(param);
+	}
+	
 	@Override
 	public String getHigherSectionCode(String sectionCode, Date targetDate, int level) throws MospException {
 		// 対象階層の所属コードを準備
 		String higherSectionCode = "";
 		// 対象所属情報取得
-		SectionDtoInterface dto = getSectionInfo(sectionCode, targetDate);
+		SectionDtoInterface dto = getTreeSectionInfo(sectionCode, targetDate);
 		// 対象所属情報確認
 		if (dto == null) {
 			return higherSectionCode;
@@ -37,6 +37,7 @@ import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.system.SectionDtoInterface;
 import jp.mosp.platform.dto.system.impl.PfmSectionDto;
 import jp.mosp.platform.system.constant.PlatformSystemConst;
+import jp.mosp.platform.utils.SectionTreeUtility;
 
 /**
  * 所属マスタ登録クラス。
@@ -112,6 +113,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 		dto.setPfmSectionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 所属階層破棄
+		SectionTreeUtility.invalidate(mospParams, connection);
 	}
 	
 	@Override
@@ -132,6 +135,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 		dto.setPfmSectionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 所属階層破棄
+		SectionTreeUtility.invalidate(mospParams, connection);
 	}
 	
 	@Override
@@ -154,6 +159,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 		dto.setPfmSectionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 所属階層破棄
+		SectionTreeUtility.invalidate(mospParams, connection);
 	}
 	
 	@Override
@@ -215,6 +222,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 				dao.insert(dto);
 			}
 		}
+		// 所属階層破棄
+		SectionTreeUtility.invalidate(mospParams, connection);
 	}
 	
 	@Override
@@ -276,6 +285,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 				dao.insert(dto);
 			}
 		}
+		// 所属階層破棄
+		SectionTreeUtility.invalidate(mospParams, connection);
 	}
 	
 	@Override
@@ -300,6 +311,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 			// 論理削除
 			logicalDelete(dao, id);
 		}
+		// 所属階層破棄
+		SectionTreeUtility.invalidate(mospParams, connection);
 	}
 	
 	/**
@@ -29,6 +29,7 @@ import jp.mosp.platform.bean.system.UserMasterRegistBeanInterface;
 import jp.mosp.platform.dao.system.UserMasterDaoInterface;
 import jp.mosp.platform.dto.system.UserMasterDtoInterface;
 import jp.mosp.platform.dto.system.impl.PfmUserDto;
+import jp.mosp.platform.utils.LoginUserCheckUtility;
 import jp.mosp.platform.utils.PlatformMessageUtility;
 import jp.mosp.platform.utils.PlatformNamingUtility;
 
@@ -99,6 +100,8 @@ public class UserMasterRegistBean extends PlatformBean implements UserMasterRegi
 		dto.setPfmUserId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// ログインユーザ確認結果を破棄
+		LoginUserCheckUtility.invalidateUser(mospParams, connection, dto.getUserId());
 	}
 	
 	@Override
@@ -117,6 +120,8 @@ public class UserMasterRegistBean extends PlatformBean implements UserMasterRegi
 		dto.setPfmUserId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// ログインユーザ確認結果を破棄
+		LoginUserCheckUtility.invalidateUser(mospParams, connection, dto.getUserId());
 	}
 	
 	@Override
@@ -137,6 +142,8 @@ public class UserMasterRegistBean extends PlatformBean implements UserMasterRegi
 		dto.setPfmUserId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// ログインユーザ確認結果を破棄
+		LoginUserCheckUtility.invalidateUser(mospParams, connection, dto.getUserId());
 	}
 	
 	@Override
@@ -150,6 +157,8 @@ public class UserMasterRegistBean extends PlatformBean implements UserMasterRegi
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getPfmUserId());
+		// ログインユーザ確認結果を破棄
+		LoginUserCheckUtility.invalidateUser(mospParams, connection, dto.getUserId());
 	}
 	
 	/**
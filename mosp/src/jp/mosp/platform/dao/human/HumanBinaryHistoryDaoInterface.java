@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human;
 
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 
@@ -55,6 +56,30 @@ public interface HumanBinaryHistoryDaoInterface extends BaseDaoInterface {
 	HumanBinaryHistoryDtoInterface findForInfo(String personalId, String humanItemType, Date targetDate)
 			throws MospException;
 	
+	/**
+	 * 人事汎用バイナリ履歴情報を、人事項目値(バイナリ)を除いて取得する。<br>
+	 * 出力前の更新確認等、人事項目値が不要な場合に用いる。<br>
+	 * 合致する情報が存在しない場合、nullを返す。<br>
+	 * @param personalId 個人ID
+	 * @param humanItemType 人事項目区分
+	 * @param targetDate 対象日
+	 * @return 人事汎用バイナリ履歴情報(人事項目値は未設定)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	HumanBinaryHistoryDtoInterface findForInfoExceptBinary(String personalId, String humanItemType, Date targetDate)
+			throws MospException;
+	
+	/**
+	 * 人事項目値(バイナリ)を出力ストリームに書き出す。<br>
+	 * 人事項目値をbyteの配列として保持せずに書き出す。<br>
+	 * 合致する情報が存在しない場合は、何も書き出さない。<br>
+	 * @param pfaHumanBinaryHistoryId レコード識別ID
+	 * @param out 出力ストリーム
+	 * @return 書き出したバイト数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	long writeBinary(long pfaHumanBinaryHistoryId, OutputStream out) throws MospException;
+	
 	/**
 	 * 人事汎用バイナリ履歴情報リストを取得する。<br>
 	 * 個人ID・人事項目区分(人事汎用項目)から人事汎用バイナリ履歴情報リストを取得する。<br>
@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import jp.mosp.framework.base.BaseDaoInterface;
@@ -37,6 +38,27 @@ public interface HumanBinaryNormalDaoInterface extends BaseDaoInterface {
 	 */
 	HumanBinaryNormalDtoInterface findForInfo(String personalId, String itemName) throws MospException;
 	
+	/**
+	 * 人事バイナリ通常情報を、人事項目値(バイナリ)を除いて取得する。<br>
+	 * 出力前の更新確認等、人事項目値が不要な場合に用いる。<br>
+	 * @param personalId 個人ID
+	 * @param itemName 項目名
+	 * @return 人事バイナリ通常情報(人事項目値は未設定)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	HumanBinaryNormalDtoInterface findForInfoExceptBinary(String personalId, String itemName) throws MospException;
+	
+	/**
+	 * 人事項目値(バイナリ)を出力ストリームに書き出す。<br>
+	 * 人事項目値をbyteの配列として保持せずに書き出す。<br>
+	 * 合致する情報が存在しない場合は、何も書き出さない。<br>
+	 * @param pfaHumanBinaryNormalId レコード識別ID
+	 * @param out 出力ストリーム
+	 * @return 書き出したバイト数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	long writeBinary(long pfaHumanBinaryNormalId, OutputStream out) throws MospException;
+	
 	/**
 	 * 対象人事汎用管理項目名以外で存在する管理項目名を取得。
 	 * <p>
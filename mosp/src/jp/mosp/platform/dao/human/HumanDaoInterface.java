@@ -261,6 +261,19 @@ public interface HumanDaoInterface extends BaseDaoInterface {
 	 */
 	String getQueryForLowerSection() throws MospException;
 	
+	/**
+	 * {@link #getQueryForLowerSection()}のパラメータを設定する。<br>
+	 * 設定したパラメータの数だけ、パラメータインデックスが加算される。<br>
+	 * @param index       パラメータインデックス
+	 * @param sectionCode 所属コード
+	 * @param targetDate  対象日
+	 * @param ps          ステートメント
+	 * @return 加算されたパラメータインデックス
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	int setParamsForLowerSection(int index, String sectionCode, Date targetDate, PreparedStatement ps)
+			throws MospException;
+	
 	/**
 	 * サブクエリ。
 	 * @return
@@ -65,6 +65,29 @@ public interface HumanHistoryDaoInterface extends BaseDaoInterface {
 	 */
 	List<HumanHistoryDtoInterface> findForHistory(String personalId, String humanItemType) throws MospException;
 	
+	/**
+	 * 人事項目区分(人事汎用項目)及び個人ID群から人事汎用履歴情報リストを取得する。<br>
+	 * 取得したリストは、個人ID及び有効日の昇順で並べられる。<br>
+	 * 個人ID群の件数はIN句の要素数となるため、呼出元で上限数毎に分けること。<br>
+	 * @param humanItemType 人事項目区分
+	 * @param personalIds   個人ID配列(空でないこと)
+	 * @return 人事汎用履歴情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HumanHistoryDtoInterface> findForItemTypeList(String humanItemType, String[] personalIds)
+			throws MospException;
+	
+	/**
+	 * 個人ID群及び対象日から人事汎用履歴情報リストを取得する。<br>
+	 * 対象者の全ての人事汎用管理項目について、対象日における最新の情報を一つのSQLで取得する。<br>
+	 * 個人ID群の件数はIN句の要素数となるため、呼出元で上限数毎に分けること。<br>
+	 * @param personalIds 個人ID配列(空でないこと)
+	 * @param targetDate  対象日
+	 * @return 人事汎用履歴情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HumanHistoryDtoInterface> findForPersonalIds(String[] personalIds, Date targetDate) throws MospException;
+	
 	/**
 	 * 対象人事汎用管理項目名以外で存在する管理項目名を取得。
 	 * <p>
@@ -40,6 +40,16 @@ public interface HumanNormalDaoInterface extends BaseDaoInterface {
 	 */
 	HumanNormalDtoInterface findForInfo(String itemName, String personalId) throws MospException;
 	
+	/**
+	 * 個人ID群から人事汎用通常情報リストを取得する。<br>
+	 * 対象者の全ての人事汎用管理項目を、一つのSQLで取得する。<br>
+	 * 個人ID群の件数はIN句の要素数となるため、呼出元で上限数毎に分けること。<br>
+	 * @param personalIds 個人ID配列(空でないこと)
+	 * @return 人事汎用通常情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HumanNormalDtoInterface> findForPersonalIds(String[] personalIds) throws MospException;
+	
 	/**
 	 * 対象人事汎用管理項目名以外で存在する管理項目名を取得。
 	 * <p>
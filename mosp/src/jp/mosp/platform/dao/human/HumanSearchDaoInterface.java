@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -153,6 +154,16 @@ public interface HumanSearchDaoInterface {
 	 */
 	String	SEARCH_END_DATE						= "endDate";
 	
+	/**
+	 * 検索条件(ソートキー(比較クラス名))。<br>
+	 */
+	String	SEARCH_SORT_KEY						= "sortKey";
+	
+	/**
+	 * 検索条件(降順要否)。<br>
+	 */
+	String	SEARCH_NEED_DESCENDING				= "needDescending";
+	
 	
 	/**
 	 * 検索条件から人事マスタリストを取得する。<br>
@@ -162,10 +173,48 @@ public interface HumanSearchDaoInterface {
 	 */
 	List<HumanDtoInterface> findForSearch(Map<String, Object> param) throws MospException;
 	
+	/**
+	 * 検索条件から人事マスタリストを取得する。<br>
+	 * 休退職区分を含めた検索条件を全てSQLで判断し、
+	 * ソートキー及び降順要否で並び替えた上で、開始位置から取得件数分を取得する。<br>
+	 * 一覧画面でページ繰りをする際等に用いる。<br>
+	 * @param param  検索条件マップ
+	 * @param offset 開始位置(0始まり)
+	 * @param limit  取得件数
+	 * @return 人事マスタリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	List<HumanDtoInterface> findForSearch(Map<String, Object> param, int offset, int limit) throws MospException;
+	
+	/**
+	 * 検索条件から人事マスタ件数を取得する。<br>
+	 * 休退職区分を含めた検索条件を全てSQLで判断する。<br>
+	 * @param param 検索条件マップ
+	 * @return 人事マスタ件数
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	int countForSearch(Map<String, Object> param) throws MospException;
+	
+	/**
+	 * ソートキーがSQLで並び替え可能であるかを確認する。<br>
+	 * @param sortKey ソートキー(比較クラス名)
+	 * @return 確認結果(true：並び替え可能、false：並び替え不可能)
+	 */
+	boolean isSortable(String sortKey);
+	
 	/**
 	 * 検索条件取得。
 	 * @return 人事マスタ検索条件マップ
 	 */
 	Map<String, Object> getParamsMap();
 	
+	/**
+	 * 対象日における個人毎のフリーワード検索対象値を取得する。<br>
+	 * 人事マスタ(氏名、カナ)、住所情報及び電話情報を、一度のSQLで取得する。<br>
+	 * @param targetDate 対象日
+	 * @return フリーワード検索対象値群(キー：個人ID、値：検索対象値リスト)
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	Map<String, List<String>> findForFreeWordValues(Date targetDate) throws MospException;
+	
 }
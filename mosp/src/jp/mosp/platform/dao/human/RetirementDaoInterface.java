@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human;
 
+import java.sql.PreparedStatement;
 import java.util.Date;
 import java.util.Map;
 import java.util.Set;
@@ -85,4 +86,22 @@ public interface RetirementDaoInterface extends BaseDaoInterface {
 	 */
 	String getRetirementDateColumnForJoinUser();
 	
+	/**
+	 * 対象日に退職している(退職日が対象日より前である)個人IDを抽出するSQLを取得する。<br>
+	 * 社員一覧を検索する際等に用いる。<br>
+	 * @return 対象日に退職している個人IDを抽出するSQL
+	 */
+	String getQueryForRetired();
+	
+	/**
+	 * 対象日に退職している個人IDを抽出する条件のパラメータを設定する。<br>
+	 * 設定したパラメータの数だけ、パラメータインデックスが加算される。<br>
+	 * @param index      パラメータインデックス
+	 * @param targetDate 対象日
+	 * @param ps         ステートメント
+	 * @return 加算されたパラメータインデックス
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	int setParamsForRetired(int index, Date targetDate, PreparedStatement ps) throws MospException;
+	
 }
@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human;
 
+import java.sql.PreparedStatement;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -76,4 +77,24 @@ public interface SuspensionDaoInterface extends BaseDaoInterface {
 	 */
 	Map<String, SuspensionDtoInterface> findForPersonalIds(String[] personalIds, Date suspensionDate)
 			throws MospException;
+	
+	/**
+	 * 対象日に休職している個人IDを抽出するSQLを取得する。<br>
+	 * 社員一覧を検索する際等に用いる。<br>
+	 * 終了日及び終了予定日が無い休職情報は、休職としない。<br>
+	 * 在職状態(EmploymentTimelineUtility)による判断と同じ条件とすること。<br>
+	 * @return 対象日に休職している個人IDを抽出するSQL
+	 */
+	String getQueryForSuspended();
+	
+	/**
+	 * 対象日に休職している個人IDを抽出する条件のパラメータを設定する。<br>
+	 * 設定したパラメータの数だけ、パラメータインデックスが加算される。<br>
+	 * @param index      パラメータインデックス
+	 * @param targetDate 対象日
+	 * @param ps         ステートメント
+	 * @return 加算されたパラメータインデックス
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	int setParamsForSuspended(int index, Date targetDate, PreparedStatement ps) throws MospException;
 }
@@ -17,15 +17,26 @@
  */
 package jp.mosp.platform.dao.human.impl;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.comparator.base.EmployeeCodeComparator;
+import jp.mosp.platform.comparator.base.EmployeeNameComparator;
+import jp.mosp.platform.comparator.base.EmploymentContractCodeComparator;
+import jp.mosp.platform.comparator.base.PositionCodeComparator;
+import jp.mosp.platform.comparator.base.SectionCodeComparator;
+import jp.mosp.platform.comparator.base.WorkPlaceCodeComparator;
+import jp.mosp.platform.comparator.human.HumanListEmployeeKanaComparator;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dao.human.ConcurrentDaoInterface;
+import jp.mosp.platform.dao.human.EntranceDaoInterface;
 import jp.mosp.platform.dao.human.HumanSearchDaoInterface;
+import jp.mosp.platform.dao.human.RetirementDaoInterface;
+import jp.mosp.platform.dao.human.SuspensionDaoInterface;
 import jp.mosp.platform.dao.system.EmploymentContractDaoInterface;
 import jp.mosp.platform.dao.system.PositionDaoInterface;
 import jp.mosp.platform.dao.system.SectionDaoInterface;
@@ -38,6 +49,46 @@ import jp.mosp.platform.dto.human.HumanDtoInterface;
  */
 public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterface {
 	
+	/**
+	 * フリーワード検索対象値の取得元(人事マスタ)。<br>
+	 */
+	protected static final String		SOURCE_HUMAN			= "h";
+	
+	/**
+	 * フリーワード検索対象値の取得元(住所情報)。<br>
+	 */
+	protected static final String		SOURCE_ADDRESS			= "a";
+	
+	/**
+	 * フリーワード検索対象値の取得元(電話情報)。<br>
+	 */
+	protected static final String		SOURCE_PHONE			= "p";
+	
+	/**
+	 * フリーワード検索対象値列名(取得元)。<br>
+	 */
+	protected static final String		COL_FREE_WORD_SOURCE	= "free_word_source";
+	
+	/**
+	 * フリーワード検索対象値列名(個人ID)。<br>
+	 */
+	protected static final String		COL_FREE_WORD_HOLDER	= "free_word_holder";
+	
+	/**
+	 * フリーワード検索対象値列名(検索対象値、末尾に番号を付ける)。<br>
+	 */
+	protected static final String		COL_FREE_WORD_VALUE		= "free_word_value";
+	
+	/**
+	 * UNION ALL。<br>
+	 */
+	protected static final String		UNION_ALL				= " UNION ALL ";
+	
+	/**
+	 * 電話番号区切文字。<br>
+	 */
+	protected static final String		PHONE_SEPARATOR			= "-";
+	
 	/**
 	 * 所属マスタDAOクラス(サブクエリ等取得用)。
 	 */
@@ -58,6 +109,21 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 	 */
 	protected UserMasterDaoInterface	userDao;
 	
+	/**
+	 * 人事入社情報DAOクラス(サブクエリ等取得用)。
+	 */
+	protected EntranceDaoInterface		entranceDao;
+	
+	/**
+	 * 人事休職情報DAOクラス(サブクエリ等取得用)。
+	 */
+	protected SuspensionDaoInterface	suspensionDao;
+	
+	/**
+	 * 人事退職情報DAOクラス(サブクエリ等取得用)。
+	 */
+	protected RetirementDaoInterface	retirementDao;
+	
 	/**
 	 * 検索条件(対象日)。
 	 */
@@ -173,6 +239,17 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 	 */
 	protected boolean					needApproverRole;
 	
+	/**
+	 * 検索条件(休退職区分)。<br>
+	 * {@link #needStateQuery}がtrueの場合にのみ、SQLで判断する。<br>
+	 */
+	protected String					stateType;
+	
+	/**
+	 * 休退職区分SQL要否。<br>
+	 */
+	protected boolean					needStateQuery;
+	
 	
 	/**
 	 * コンストラクタ。
@@ -204,11 +281,213 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 		}
 	}
 	
+	@Override
+	public List<HumanDtoInterface> findForSearch(Map<String, Object> param, int offset, int limit)
+			throws MospException {
+		try {
+			// サブクエリ等を取得するためのDAOクラスを設定
+			setDaoInstances();
+			// 検索条件設定
+			setSearchParams(param);
+			// 休退職区分SQL要否設定
+			needStateQuery = true;
+			// ステートメント生成
+			StringBuffer sb = new StringBuffer(getQueryForSearch(param));
+			sb.append(getLimit());
+			sb.append("? ");
+			sb.append(getOffset());
+			sb.append("? ");
+			prepareStatement(sb.toString());
+			// 検索条件パラメータ設定
+			setParamsForSearch(param);
+			// 取得件数及び開始位置パラメータ設定
+			setParam(index++, limit);
+			setParam(index++, offset);
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int countForSearch(Map<String, Object> param) throws MospException {
+		try {
+			// サブクエリ等を取得するためのDAOクラスを設定
+			setDaoInstances();
+			// 検索条件設定
+			setSearchParams(param);
+			// 休退職区分SQL要否設定
+			needStateQuery = true;
+			// ステートメント生成
+			StringBuffer sb = new StringBuffer(getSelectCountQuery(getClass()));
+			sb.append(getConditionQueryForSearch(param));
+			prepareStatement(sb.toString());
+			// 検索条件パラメータ設定
+			setParamsForSearch(param);
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			int count = 0;
+			if (next()) {
+				count = rs.getInt(1);
+			}
+			return count;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public boolean isSortable(String sortKey) {
+		return getSortColumns(sortKey) != null;
+	}
+	
 	@Override
 	public Map<String, Object> getParamsMap() {
 		return new HashMap<String, Object>();
 	}
 	
+	@Override
+	public Map<String, List<String>> findForFreeWordValues(Date targetDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			// 人事マスタ(氏名、カナ)
+			sb.append(getQueryForFreeWordValues(SOURCE_HUMAN, TABLE, COL_PERSONAL_ID, COL_LAST_NAME, COL_FIRST_NAME,
+					COL_LAST_KANA, COL_FIRST_KANA));
+			sb.append(getQueryForMaxActivateDate(TABLE, COL_PERSONAL_ID, COL_ACTIVATE_DATE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(UNION_ALL);
+			// 住所情報
+			sb.append(getQueryForFreeWordValues(SOURCE_ADDRESS, PfaAddressDao.TABLE, PfaAddressDao.COL_HOLDER_ID,
+					PfaAddressDao.COL_ADDRESS, PfaAddressDao.COL_ADDRESS_NUMBER, PfaAddressDao.COL_BUILDING,
+					PfaAddressDao.COL_ADDRESS_TYPE));
+			sb.append(getQueryForMaxActivateDate(PfaAddressDao.TABLE, PfaAddressDao.COL_ACTIVATE_DATE,
+					PfaAddressDao.COL_HOLDER_ID, PfaAddressDao.COL_ADDRESS_TYPE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(UNION_ALL);
+			// 電話情報
+			sb.append(getQueryForFreeWordValues(SOURCE_PHONE, PfaPhoneDao.TABLE, PfaPhoneDao.COL_HOLDER_ID,
+					PfaPhoneDao.COL_PHONE_NUMBER_1, PfaPhoneDao.COL_PHONE_NUMBER_2, PfaPhoneDao.COL_PHONE_NUMBER_3,
+					PfaPhoneDao.COL_PHONE_TYPE));
+			sb.append(getQueryForMaxActivateDate(PfaPhoneDao.TABLE, PfaPhoneDao.COL_ACTIVATE_DATE,
+					PfaPhoneDao.COL_HOLDER_ID, PfaPhoneDao.COL_PHONE_TYPE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			prepareStatement(sb.toString());
+			setParam(index++, targetDate);
+			setParam(index++, targetDate);
+			setParam(index++, targetDate);
+			executeQuery();
+			// 検索結果取得
+			Map<String, List<String>> map = new HashMap<String, List<String>>();
+			while (next()) {
+				String personalId = getString(COL_FREE_WORD_HOLDER);
+				List<String> list = map.get(personalId);
+				if (list == null) {
+					list = new ArrayList<String>();
+					map.put(personalId, list);
+				}
+				addFreeWordValues(list);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * フリーワード検索対象値を取得するSQL(SELECT句及びFROM句)を作成する。<br>
+	 * @param source       取得元
+	 * @param table        対象テーブル名
+	 * @param holderColumn 個人ID列名
+	 * @param valueColumns 検索対象値列名(4列)
+	 * @return フリーワード検索対象値を取得するSQL
+	 */
+	protected String getQueryForFreeWordValues(String source, String table, String holderColumn,
+			String... valueColumns) {
+		StringBuffer sb = new StringBuffer();
+		sb.append(select());
+		sb.append("'" + source + "'");
+		sb.append(as(COL_FREE_WORD_SOURCE));
+		sb.append(comma());
+		sb.append(holderColumn);
+		sb.append(as(COL_FREE_WORD_HOLDER));
+		for (int i = 0; i < valueColumns.length; i++) {
+			sb.append(comma());
+			sb.append(valueColumns[i]);
+			sb.append(as(COL_FREE_WORD_VALUE + (i + 1)));
+		}
+		sb.append(from(table));
+		return sb.toString();
+	}
+	
+	/**
+	 * ResultSetの現在行から、フリーワード検索対象値を取得しリストに追加する。<br>
+	 * 氏名及びカナは姓名を、住所は番地及び建物名を連結する。<br>
+	 * 電話番号は連結したものとハイフンで区切ったものを追加する。<br>
+	 * @param list フリーワード検索対象値リスト
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void addFreeWordValues(List<String> list) throws MospException {
+		String source = getString(COL_FREE_WORD_SOURCE);
+		String value1 = getFreeWordValue(1);
+		String value2 = getFreeWordValue(2);
+		String value3 = getFreeWordValue(3);
+		String value4 = getFreeWordValue(4);
+		// 人事マスタの場合
+		if (SOURCE_HUMAN.equals(source)) {
+			list.add(value1 + value2);
+			list.add(value3 + value4);
+			return;
+		}
+		// 住所情報の場合
+		if (SOURCE_ADDRESS.equals(source)) {
+			list.add(value1 + value2 + value3);
+			return;
+		}
+		// 電話情報の場合
+		list.add(value1 + value2 + value3);
+		StringBuffer sb = new StringBuffer();
+		for (String value : new String[]{ value1, value2, value3 }) {
+			// 値がない場合
+			if (value.isEmpty()) {
+				continue;
+			}
+			if (sb.length() > 0) {
+				sb.append(PHONE_SEPARATOR);
+			}
+			sb.append(value);
+		}
+		list.add(sb.toString());
+	}
+	
+	/**
+	 * ResultSetの現在行から、フリーワード検索対象値を取得する。<br>
+	 * 値がない場合は、空文字を返す。<br>
+	 * @param number 検索対象値番号(1～4)
+	 * @return フリーワード検索対象値
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected String getFreeWordValue(int number) throws MospException {
+		String value = getString(COL_FREE_WORD_VALUE + number);
+		return value == null ? "" : value;
+	}
+	
 	/**
 	 * サブクエリ等を取得するためのDAOクラスを設定する。<br>
 	 * @throws MospException インスタンスの取得に失敗した場合
@@ -219,6 +498,9 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 		positionDao = (PositionDaoInterface)loadDao(PositionDaoInterface.class);
 		concurrentDao = (ConcurrentDaoInterface)loadDao(ConcurrentDaoInterface.class);
 		userDao = (UserMasterDaoInterface)loadDao(UserMasterDaoInterface.class);
+		entranceDao = (EntranceDaoInterface)loadDao(EntranceDaoInterface.class);
+		suspensionDao = (SuspensionDaoInterface)loadDao(SuspensionDaoInterface.class);
+		retirementDao = (RetirementDaoInterface)loadDao(RetirementDaoInterface.class);
 	}
 	
 	/**
@@ -249,6 +531,8 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 		needConcurrent = getSearchBoolParam(param, HumanSearchDaoInterface.SEARCH_NEED_CONCURRENT);
 		unnecessaryPersonalId = getSearchParam(param, HumanSearchDaoInterface.SEARCH_UNNECESSARY_PERSONAL_ID);
 		needApproverRole = getSearchBoolParam(param, HumanSearchDaoInterface.SEARCH_NEED_APPROVER_ROLE);
+		stateType = getSearchParam(param, HumanSearchDaoInterface.SEARCH_EMPLOYEE_STATE);
+		needStateQuery = false;
 	}
 	
 	/**
@@ -260,6 +544,22 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 	protected String getQueryForSearch(Map<String, Object> param) throws MospException {
 		// SQL作成準備(SELECT文追加)
 		StringBuffer sb = new StringBuffer(getSelectQuery(getClass()));
+		// 条件SQL追加
+		sb.append(getConditionQueryForSearch(param));
+		// 並び替え
+		sb.append(getOrderByColumnForParam(param));
+		return sb.toString();
+	}
+	
+	/**
+	 * 検索SQLのうち、SELECT文に続く条件SQLを取得する。<br>
+	 * @param param 検索条件マップ
+	 * @return 条件SQL
+	 * @throws MospException SQLの作成に失敗した場合
+	 */
+	protected String getConditionQueryForSearch(Map<String, Object> param) throws MospException {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
 		// WHERE部追加(対象日以前で削除されていない最新の情報を取得)
 		sb.append(getQueryForMaxActivateDate(TABLE, COL_PERSONAL_ID, COL_ACTIVATE_DATE));
 		sb.append(where());
@@ -385,13 +685,94 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 		}
 		// 範囲条件SQL追加
 		sb.append(getQueryForRange(param, COL_PERSONAL_ID));
+		// 休退職区分条件SQL追加
+		sb.append(getQueryForState());
 		// その他条件SQL追加
 		sb.append(getAdditionalQuery(param));
-		// 並び替え
-		sb.append(getOrderByColumnForParam(param));
 		return sb.toString();
 	}
 	
+	/**
+	 * 休退職区分条件SQLを取得する。<br>
+	 * 在職は、入社しており休職及び退職していないことで判断する。<br>
+	 * 休職は、対象日が休職期間に含まれることで判断する。<br>
+	 * 退職は、退職日が対象日より前であることで判断する。<br>
+	 * @return 休退職区分条件SQL
+	 */
+	protected String getQueryForState() {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
+		// 休退職区分SQLが不要である場合
+		if (needStateQuery == false || stateType.isEmpty()) {
+			return sb.toString();
+		}
+		// 在職の場合
+		if (stateType.equals(PlatformConst.EMPLOYEE_STATE_PRESENCE)) {
+			sb.append(and());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(entranceDao.getQueryForEntered());
+			sb.append(rightParenthesis());
+			sb.append(and());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(notIn());
+			sb.append(leftParenthesis());
+			sb.append(suspensionDao.getQueryForSuspended());
+			sb.append(rightParenthesis());
+			sb.append(and());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(notIn());
+			sb.append(leftParenthesis());
+			sb.append(retirementDao.getQueryForRetired());
+			sb.append(rightParenthesis());
+		}
+		// 休職の場合
+		if (stateType.equals(PlatformConst.EMPLOYEE_STATE_SUSPEND)) {
+			sb.append(and());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(suspensionDao.getQueryForSuspended());
+			sb.append(rightParenthesis());
+		}
+		// 退職の場合
+		if (stateType.equals(PlatformConst.EMPLOYEE_STATE_RETIRE)) {
+			sb.append(and());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(retirementDao.getQueryForRetired());
+			sb.append(rightParenthesis());
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * 休退職区分条件パラメータを設定する。<br>
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void setParamsForState() throws MospException {
+		// 休退職区分SQLが不要である場合
+		if (needStateQuery == false || stateType.isEmpty()) {
+			return;
+		}
+		// 在職の場合
+		if (stateType.equals(PlatformConst.EMPLOYEE_STATE_PRESENCE)) {
+			index = entranceDao.setParamsForEntered(index, targetDate, ps);
+			index = suspensionDao.setParamsForSuspended(index, targetDate, ps);
+			index = retirementDao.setParamsForRetired(index, targetDate, ps);
+		}
+		// 休職の場合
+		if (stateType.equals(PlatformConst.EMPLOYEE_STATE_SUSPEND)) {
+			index = suspensionDao.setParamsForSuspended(index, targetDate, ps);
+		}
+		// 退職の場合
+		if (stateType.equals(PlatformConst.EMPLOYEE_STATE_RETIRE)) {
+			index = retirementDao.setParamsForRetired(index, targetDate, ps);
+		}
+	}
+	
 	/**
 	 * 検索条件パラメータを設定する。<br>
 	 * @param param 検索条件マップ
@@ -491,6 +872,8 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 		}
 		// 範囲検索条件パラメータ設定
 		setParamsForRange(param);
+		// 休退職区分条件パラメータ設定
+		setParamsForState();
 	}
 	
 	/**
@@ -786,11 +1169,71 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 	}
 	
 	/**
+	 * 検索条件マップのソートキー及び降順要否から、ソート条件句を取得する。<br>
+	 * ソートキーがSQLで並び替え可能でない場合は、社員コードで並び替える。<br>
+	 * 並び順を一意にするため、末尾に社員コード及び個人IDを付加する。<br>
 	 * @param param 検索条件マップ
 	 * @return ソート条件句
 	 */
 	protected String getOrderByColumnForParam(Map<String, Object> param) {
-		return getOrderByColumn(COL_EMPLOYEE_CODE);
+		// ソート列取得
+		String[] columns = getSortColumns(getSearchParam(param, HumanSearchDaoInterface.SEARCH_SORT_KEY));
+		// ソート列が取得できなかった場合
+		if (columns == null) {
+			return getOrderByColumn(COL_EMPLOYEE_CODE);
+		}
+		// 降順要否取得
+		boolean needDescending = getSearchBoolParam(param, HumanSearchDaoInterface.SEARCH_NEED_DESCENDING);
+		// ソート条件句作成
+		StringBuffer sb = new StringBuffer(getOrderBy());
+		for (String column : columns) {
+			sb.append(column);
+			if (needDescending) {
+				sb.append(getDesc());
+			}
+			sb.append(comma());
+		}
+		sb.append(COL_EMPLOYEE_CODE);
+		sb.append(comma());
+		sb.append(COL_PERSONAL_ID);
+		sb.append(" ");
+		return sb.toString();
+	}
+	
+	/**
+	 * ソートキー(比較クラス名)に対応するソート列を取得する。<br>
+	 * ソートキーが無い場合及びSQLで並び替えられないソートキーの場合は、nullを返す。<br>
+	 * 並び替え可能なソートキーを追加する場合は、このメソッドを拡張する。<br>
+	 * @param sortKey ソートキー(比較クラス名)
+	 * @return ソート列
+	 */
+	protected String[] getSortColumns(String sortKey) {
+		// ソートキーが無い場合
+		if (sortKey == null) {
+			return null;
+		}
+		if (sortKey.equals(EmployeeCodeComparator.class.getName())) {
+			return new String[]{ COL_EMPLOYEE_CODE };
+		}
+		if (sortKey.equals(EmployeeNameComparator.class.getName())) {
+			return new String[]{ COL_LAST_NAME, COL_FIRST_NAME };
+		}
+		if (sortKey.equals(HumanListEmployeeKanaComparator.class.getName())) {
+			return new String[]{ COL_LAST_KANA, COL_FIRST_KANA };
+		}
+		if (sortKey.equals(WorkPlaceCodeComparator.class.getName())) {
+			return new String[]{ COL_WORK_PLACE_CODE };
+		}
+		if (sortKey.equals(EmploymentContractCodeComparator.class.getName())) {
+			return new String[]{ COL_EMPLOYMENT_CONTRACT_CODE };
+		}
+		if (sortKey.equals(SectionCodeComparator.class.getName())) {
+			return new String[]{ COL_SECTION_CODE };
+		}
+		if (sortKey.equals(PositionCodeComparator.class.getName())) {
+			return new String[]{ COL_POSITION_CODE };
+		}
+		return null;
 	}
 	
 }
@@ -199,6 +199,27 @@ public class PfaHumanArrayDao extends PlatformDao implements HumanArrayDaoInterf
 		}
 	}
 	
+	@Override
+	public List<HumanArrayDtoInterface> findForPersonalIds(String[] personalIds) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(getOrderByColumn(COL_ROW_ID));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<HumanArrayDtoInterface> findForInfoNotIn(List<String> itemNames) throws MospException {
 		try {
@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human.impl;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -109,13 +110,23 @@ public class PfaHumanBinaryArrayDao extends PlatformDao implements HumanBinaryAr
 	
 	@Override
 	public BaseDto mapping() throws MospException {
+		PfaHumanBinaryArrayDto dto = mappingExceptBinary();
+		dto.setHumanItemBinary(getBytes(COL_HUMAN_ITEM_BINARY));
+		return dto;
+	}
+	
+	/**
+	 * 人事項目値(バイナリ)以外の列をDTOに設定する。<br>
+	 * @return 人事汎用バイナリ一覧情報DTO(人事項目値は未設定)
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected PfaHumanBinaryArrayDto mappingExceptBinary() throws MospException {
 		PfaHumanBinaryArrayDto dto = new PfaHumanBinaryArrayDto();
 		dto.setPfaHumanBinaryArrayId(getLong(COL_PFA_HUMAN_BINARY_ARRAY_ID));
 		dto.setPersonalId(getString(COL_PERSONAL_ID));
 		dto.setHumanItemType(getString(COL_HUMAN_ITEM_TYPE));
 		dto.setHumanRowId(getInt(COL_ROW_ID));
 		dto.setActivateDate(getDate(COL_ACTIVATE_DATE));
-		dto.setHumanItemBinary(getBytes(COL_HUMAN_ITEM_BINARY));
 		dto.setFileType(getString(COL_FILE_TYPE));
 		dto.setFileName(getString(COL_FILE_NAME));
 		dto.setFileRemark(getString(COL_FILE_REMARK));
@@ -141,7 +152,12 @@ public class PfaHumanBinaryArrayDao extends PlatformDao implements HumanBinaryAr
 		setParam(index++, dto.getHumanItemType());
 		setParam(index++, dto.getHumanRowId());
 		setParam(index++, dto.getActivateDate());
-		setParam(index++, dto.getHumanItemBinary());
+		// ストリームが設定されている場合はストリームから読み込む
+		if (dto.getHumanItemBinaryStream() != null) {
+			setParam(index++, dto.getHumanItemBinaryStream());
+		} else {
+			setParam(index++, dto.getHumanItemBinary());
+		}
 		setParam(index++, dto.getFileType());
 		setParam(index++, dto.getFileName());
 		setParam(index++, dto.getFileRemark());
@@ -244,9 +260,55 @@ public class PfaHumanBinaryArrayDao extends PlatformDao implements HumanBinaryAr
 	@Override
 	public HumanBinaryArrayDtoInterface findForKey(String personalId, String humanItemType, int rowId)
 			throws MospException {
+		return findForKey(personalId, humanItemType, rowId, true);
+	}
+	
+	@Override
+	public HumanBinaryArrayDtoInterface findForKeyExceptBinary(String personalId, String humanItemType, int rowId)
+			throws MospException {
+		return findForKey(personalId, humanItemType, rowId, false);
+	}
+	
+	@Override
+	public long writeBinary(long pfaHumanBinaryArrayId, OutputStream out) throws MospException {
 		try {
 			index = 1;
-			StringBuffer sb = getSelectQuery(getClass());
+			StringBuffer sb = new StringBuffer();
+			sb.append(select());
+			sb.append(COL_HUMAN_ITEM_BINARY);
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(equal(COL_PFA_HUMAN_BINARY_ARRAY_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, pfaHumanBinaryArrayId);
+			executeQuery();
+			if (rs.next()) {
+				return writeBytes(COL_HUMAN_ITEM_BINARY, out);
+			}
+			return 0L;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * 人事汎用バイナリ一覧情報を取得する。<br>
+	 * @param personalId    個人ID
+	 * @param humanItemType 人事項目区分
+	 * @param rowId         行ID
+	 * @param needBinary    人事項目値(バイナリ)要否(true：要、false：不要)
+	 * @return 人事汎用バイナリ一覧情報DTO
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected HumanBinaryArrayDtoInterface findForKey(String personalId, String humanItemType, int rowId,
+			boolean needBinary) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = needBinary ? getSelectQuery(getClass())
+					: getSelectQuery(getClass(), COL_HUMAN_ITEM_BINARY);
 			sb.append(where());
 			sb.append(deleteFlagOff());
 			sb.append(and());
@@ -262,7 +324,7 @@ public class PfaHumanBinaryArrayDao extends PlatformDao implements HumanBinaryAr
 			executeQuery();
 			HumanBinaryArrayDtoInterface dto = null;
 			if (rs.next()) {
-				dto = castDto(mapping());
+				dto = needBinary ? castDto(mapping()) : mappingExceptBinary();
 			}
 			return dto;
 		} catch (Throwable e) {
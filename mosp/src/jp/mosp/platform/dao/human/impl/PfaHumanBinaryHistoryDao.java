@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human.impl;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -105,12 +106,22 @@ public class PfaHumanBinaryHistoryDao extends PlatformDao implements HumanBinary
 	
 	@Override
 	public BaseDto mapping() throws MospException {
+		PfaHumanBinaryHistoryDto dto = mappingExceptBinary();
+		dto.setHumanItemBinary(getBytes(COL_HUMAN_ITEM_BINARY));
+		return dto;
+	}
+	
+	/**
+	 * 人事項目値(バイナリ)以外の列をDTOに設定する。<br>
+	 * @return 人事汎用バイナリ履歴情報DTO(人事項目値は未設定)
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected PfaHumanBinaryHistoryDto mappingExceptBinary() throws MospException {
 		PfaHumanBinaryHistoryDto dto = new PfaHumanBinaryHistoryDto();
 		dto.setPfaHumanBinaryHistoryId(getLong(COL_PFA_HUMAN_BINARY_HISTORY_ID));
 		dto.setPersonalId(getString(COL_PERSONAL_ID));
 		dto.setHumanItemType(getString(COL_HUMAN_ITEM_TYPE));
 		dto.setActivateDate(getDate(COL_ACTIVATE_DATE));
-		dto.setHumanItemBinary(getBytes(COL_HUMAN_ITEM_BINARY));
 		dto.setFileType(getString(COL_FILE_TYPE));
 		dto.setFileName(getString(COL_FILE_NAME));
 		dto.setFileRemark(getString(COL_FILE_REMARK));
@@ -135,7 +146,12 @@ public class PfaHumanBinaryHistoryDao extends PlatformDao implements HumanBinary
 		setParam(index++, dto.getPersonalId());
 		setParam(index++, dto.getHumanItemType());
 		setParam(index++, dto.getActivateDate());
-		setParam(index++, dto.getHumanItemBinary());
+		// ストリームが設定されている場合はストリームから読み込む
+		if (dto.getHumanItemBinaryStream() != null) {
+			setParam(index++, dto.getHumanItemBinaryStream());
+		} else {
+			setParam(index++, dto.getHumanItemBinary());
+		}
 		setParam(index++, dto.getFileType());
 		setParam(index++, dto.getFileName());
 		setParam(index++, dto.getFileRemark());
@@ -238,9 +254,55 @@ public class PfaHumanBinaryHistoryDao extends PlatformDao implements HumanBinary
 	@Override
 	public HumanBinaryHistoryDtoInterface findForInfo(String personalId, String humanItemType, Date targetDate)
 			throws MospException {
+		return findForInfo(personalId, humanItemType, targetDate, true);
+	}
+	
+	@Override
+	public HumanBinaryHistoryDtoInterface findForInfoExceptBinary(String personalId, String humanItemType,
+			Date targetDate) throws MospException {
+		return findForInfo(personalId, humanItemType, targetDate, false);
+	}
+	
+	@Override
+	public long writeBinary(long pfaHumanBinaryHistoryId, OutputStream out) throws MospException {
 		try {
 			index = 1;
-			StringBuffer sb = getSelectQuery(getClass());
+			StringBuffer sb = new StringBuffer();
+			sb.append(select());
+			sb.append(COL_HUMAN_ITEM_BINARY);
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(equal(COL_PFA_HUMAN_BINARY_HISTORY_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, pfaHumanBinaryHistoryId);
+			executeQuery();
+			if (rs.next()) {
+				return writeBytes(COL_HUMAN_ITEM_BINARY, out);
+			}
+			return 0L;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * 人事汎用バイナリ履歴情報を取得する。<br>
+	 * @param personalId    個人ID
+	 * @param humanItemType 人事項目区分
+	 * @param targetDate    対象日
+	 * @param needBinary    人事項目値(バイナリ)要否(true：要、false：不要)
+	 * @return 人事汎用バイナリ履歴情報DTO
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected HumanBinaryHistoryDtoInterface findForInfo(String personalId, String humanItemType, Date targetDate,
+			boolean needBinary) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = needBinary ? getSelectQuery(getClass())
+					: getSelectQuery(getClass(), COL_HUMAN_ITEM_BINARY);
 			sb.append(getQueryForMaxActivateDate(TABLE, COL_ACTIVATE_DATE, COL_PERSONAL_ID, COL_HUMAN_ITEM_TYPE));
 			sb.append(where());
 			sb.append(deleteFlagOff());
@@ -255,7 +317,7 @@ public class PfaHumanBinaryHistoryDao extends PlatformDao implements HumanBinary
 			executeQuery();
 			HumanBinaryHistoryDtoInterface dto = null;
 			if (rs.next()) {
-				dto = castDto(mapping());
+				dto = needBinary ? castDto(mapping()) : mappingExceptBinary();
 			}
 			return dto;
 		} catch (Throwable e) {
@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human.impl;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -99,11 +100,21 @@ public class PfaHumanBinaryNormalDao extends PlatformDao implements HumanBinaryN
 	
 	@Override
 	public BaseDto mapping() throws MospException {
+		PfaHumanBinaryNormalDto dto = mappingExceptBinary();
+		dto.setHumanItemBinary(getBytes(COL_HUMAN_ITEM_BINARY));
+		return dto;
+	}
+	
+	/**
+	 * 人事項目値(バイナリ)以外の列をDTOに設定する。<br>
+	 * @return 人事汎用バイナリ通常情報DTO(人事項目値は未設定)
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected PfaHumanBinaryNormalDto mappingExceptBinary() throws MospException {
 		PfaHumanBinaryNormalDto dto = new PfaHumanBinaryNormalDto();
 		dto.setPfaHumanBinaryNormalId(getLong(COL_PFA_HUMAN_BINARY_NORMAL_ID));
 		dto.setPersonalId(getString(COL_PERSONAL_ID));
 		dto.setHumanItemType(getString(COL_HUMAN_ITEM_TYPE));
-		dto.setHumanItemBinary(getBytes(COL_HUMAN_ITEM_BINARY));
 		dto.setFileType(getString(COL_FILE_TYPE));
 		dto.setFileName(getString(COL_FILE_NAME));
 		dto.setFileRemark(getString(COL_FILE_REMARK));
@@ -127,7 +138,12 @@ public class PfaHumanBinaryNormalDao extends PlatformDao implements HumanBinaryN
 		setParam(index++, dto.getPfaHumanBinaryNormalId());
 		setParam(index++, dto.getPersonalId());
 		setParam(index++, dto.getHumanItemType());
-		setParam(index++, dto.getHumanItemBinary());
+		// ストリームが設定されている場合はストリームから読み込む
+		if (dto.getHumanItemBinaryStream() != null) {
+			setParam(index++, dto.getHumanItemBinaryStream());
+		} else {
+			setParam(index++, dto.getHumanItemBinary());
+		}
 		setParam(index++, dto.getFileType());
 		setParam(index++, dto.getFileName());
 		setParam(index++, dto.getFileRemark());
@@ -183,9 +199,54 @@ public class PfaHumanBinaryNormalDao extends PlatformDao implements HumanBinaryN
 	
 	@Override
 	public HumanBinaryNormalDtoInterface findForInfo(String personalId, String itemName) throws MospException {
+		return findForInfo(personalId, itemName, true);
+	}
+	
+	@Override
+	public HumanBinaryNormalDtoInterface findForInfoExceptBinary(String personalId, String itemName)
+			throws MospException {
+		return findForInfo(personalId, itemName, false);
+	}
+	
+	@Override
+	public long writeBinary(long pfaHumanBinaryNormalId, OutputStream out) throws MospException {
 		try {
 			index = 1;
-			StringBuffer sb = getSelectQuery(getClass());
+			StringBuffer sb = new StringBuffer();
+			sb.append(select());
+			sb.append(COL_HUMAN_ITEM_BINARY);
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(equal(COL_PFA_HUMAN_BINARY_NORMAL_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, pfaHumanBinaryNormalId);
+			executeQuery();
+			if (rs.next()) {
+				return writeBytes(COL_HUMAN_ITEM_BINARY, out);
+			}
+			return 0L;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * 人事汎用バイナリ通常情報を取得する。<br>
+	 * @param personalId 個人ID
+	 * @param itemName   人事汎用管理項目
+	 * @param needBinary 人事項目値(バイナリ)要否(true：要、false：不要)
+	 * @return 人事汎用バイナリ通常情報DTO
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected HumanBinaryNormalDtoInterface findForInfo(String personalId, String itemName, boolean needBinary)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = needBinary ? getSelectQuery(getClass())
+					: getSelectQuery(getClass(), COL_HUMAN_ITEM_BINARY);
 			sb.append(where());
 			sb.append(deleteFlagOff());
 			sb.append(and());
@@ -198,7 +259,7 @@ public class PfaHumanBinaryNormalDao extends PlatformDao implements HumanBinaryN
 			executeQuery();
 			HumanBinaryNormalDtoInterface dto = null;
 			if (rs.next()) {
-				dto = castDto(mapping());
+				dto = needBinary ? castDto(mapping()) : mappingExceptBinary();
 			}
 			return dto;
 		} catch (Throwable e) {
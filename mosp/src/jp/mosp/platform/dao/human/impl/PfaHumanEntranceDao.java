@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human.impl;
 
+import java.sql.PreparedStatement;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -165,6 +166,32 @@ public class PfaHumanEntranceDao extends PlatformDao implements EntranceDaoInter
 		setCommonParams(baseDto, isInsert);
 	}
 	
+	@Override
+	public String getQueryForEntered() {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
+		// 個人IDを抽出
+		sb.append(select());
+		sb.append(COL_PERSONAL_ID);
+		sb.append(from(TABLE));
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		// 対象日条件SQL追加(入社日が対象日以前)
+		sb.append(and());
+		sb.append(lessEqual(COL_ENTRANCE_DATE));
+		return sb.toString();
+	}
+	
+	@Override
+	public int setParamsForEntered(int index, Date targetDate, PreparedStatement ps) throws MospException {
+		// パラメータインデックス準備
+		int idx = index;
+		// パラメータ設定
+		setParam(idx++, targetDate, false, ps);
+		// インデックス返却
+		return idx;
+	}
+	
 	/**
 	 * DTOインスタンスのキャストを行う。<br>
 	 * @param baseDto 対象DTO
@@ -193,6 +193,54 @@ public class PfaHumanHistoryDao extends PlatformDao implements HumanHistoryDaoIn
 		}
 	}
 	
+	@Override
+	public List<HumanHistoryDtoInterface> findForItemTypeList(String humanItemType, String[] personalIds)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_HUMAN_ITEM_TYPE));
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(getOrderByColumn(COL_PERSONAL_ID, COL_ACTIVATE_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, humanItemType);
+			setParamsIn(personalIds);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<HumanHistoryDtoInterface> findForPersonalIds(String[] personalIds, Date targetDate)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(getQueryForMaxActivateDate(TABLE, COL_ACTIVATE_DATE, COL_PERSONAL_ID, COL_HUMAN_ITEM_TYPE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			prepareStatement(sb.toString());
+			setParam(index++, targetDate);
+			setParamsIn(personalIds);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<HumanHistoryDtoInterface> findForInfoNotIn(List<String> itemNames) throws MospException {
 		try {
@@ -188,6 +188,26 @@ public class PfaHumanNormalDao extends PlatformDao implements HumanNormalDaoInte
 		}
 	}
 	
+	@Override
+	public List<HumanNormalDtoInterface> findForPersonalIds(String[] personalIds) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<HumanNormalDtoInterface> findForInfoNotIn(List<String> itemNames) throws MospException {
 		try {
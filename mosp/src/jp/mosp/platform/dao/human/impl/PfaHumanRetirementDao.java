@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human.impl;
 
+import java.sql.PreparedStatement;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -300,6 +301,32 @@ public class PfaHumanRetirementDao extends PlatformDao implements RetirementDaoI
 		return getTmpColumn(COL_RETIREMENT_DATE);
 	}
 	
+	@Override
+	public String getQueryForRetired() {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
+		// 個人IDを抽出
+		sb.append(select());
+		sb.append(COL_PERSONAL_ID);
+		sb.append(from(TABLE));
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		// 対象日条件SQL追加(退職日が対象日より前)
+		sb.append(and());
+		sb.append(less(COL_RETIREMENT_DATE));
+		return sb.toString();
+	}
+	
+	@Override
+	public int setParamsForRetired(int index, Date targetDate, PreparedStatement ps) throws MospException {
+		// パラメータインデックス準備
+		int idx = index;
+		// パラメータ設定
+		setParam(idx++, targetDate, false, ps);
+		// インデックス返却
+		return idx;
+	}
+	
 	/**
 	 * DTOインスタンスのキャストを行う。<br>
 	 * @param baseDto 対象DTO
@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dao.human.impl;
 
+import java.sql.PreparedStatement;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -229,6 +230,45 @@ public class PfaHumanSuspensionDao extends PlatformDao implements SuspensionDaoI
 		setCommonParams(baseDto, isInsert);
 	}
 	
+	@Override
+	public String getQueryForSuspended() {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
+		// 個人IDを抽出
+		sb.append(select());
+		sb.append(COL_PERSONAL_ID);
+		sb.append(from(TABLE));
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		// 対象日条件SQL追加(対象日が休職期間に含まれる)
+		// 終了日及び終了予定日が無い場合は休職としない(在職状態と同じ条件)
+		sb.append(and());
+		sb.append(lessEqual(COL_START_DATE));
+		sb.append(and());
+		sb.append(leftParenthesis());
+		sb.append(leftParenthesis());
+		sb.append(isNull(COL_END_DATE));
+		sb.append(and());
+		sb.append(greaterEqual(COL_SCHEDULE_END_DATE));
+		sb.append(rightParenthesis());
+		sb.append(or());
+		sb.append(greaterEqual(COL_END_DATE));
+		sb.append(rightParenthesis());
+		return sb.toString();
+	}
+	
+	@Override
+	public int setParamsForSuspended(int index, Date targetDate, PreparedStatement ps) throws MospException {
+		// パラメータインデックス準備
+		int idx = index;
+		// パラメータ設定
+		setParam(idx++, targetDate, false, ps);
+		setParam(idx++, targetDate, false, ps);
+		setParam(idx++, targetDate, false, ps);
+		// インデックス返却
+		return idx;
+	}
+	
 	/**
 	 * DTOインスタンスのキャストを行う。<br>
 	 * @param baseDto 対象DTO
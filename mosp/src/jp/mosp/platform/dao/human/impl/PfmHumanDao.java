@@ -19,6 +19,8 @@ package jp.mosp.platform.dao.human.impl;
 
 import java.sql.PreparedStatement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +35,8 @@ import jp.mosp.platform.dao.human.HumanDaoInterface;
 import jp.mosp.platform.dao.system.SectionDaoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.impl.PfmHumanDto;
+import jp.mosp.platform.utils.HumanSnapshotUtility;
+import jp.mosp.platform.utils.HumanSnapshotUtility.HumanSnapshot;
 
 /**
  * 人事マスタDAOクラス。
@@ -205,6 +209,20 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 	
 	@Override
 	public List<HumanDtoInterface> findForActivateDate(Date activateDate) throws MospException {
+		// 人事マスタ全履歴を保持している場合
+		HumanSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			// 対象日における最新の人事情報を社員コード順で取得
+			List<HumanDtoInterface> list = copy(snapshot.getHumanList(activateDate));
+			Collections.sort(list, new Comparator<HumanDtoInterface>() {
+				
+				@Override
+				public int compare(HumanDtoInterface o1, HumanDtoInterface o2) {
+					return o1.getEmployeeCode().compareTo(o2.getEmployeeCode());
+				}
+			});
+			return list;
+		}
 		try {
 			index = 1;
 			StringBuffer sb = new StringBuffer();
@@ -233,6 +251,16 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 	
 	@Override
 	public Map<String, HumanDtoInterface> findForTargetDate(Date targetDate) throws MospException {
+		// 人事マスタ全履歴を保持している場合
+		HumanSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			// 対象日における最新の人事情報を取得
+			Map<String, HumanDtoInterface> map = new HashMap<String, HumanDtoInterface>();
+			for (HumanDtoInterface dto : copy(snapshot.getHumanList(targetDate))) {
+				map.put(dto.getPersonalId(), dto);
+			}
+			return map;
+		}
 		try {
 			index = 1;
 			StringBuffer sb = new StringBuffer();
@@ -260,6 +288,22 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 	
 	@Override
 	public HumanDtoInterface findForEmployeeCode(String employeeCode, Date activateDate) throws MospException {
+		// 人事マスタ全履歴を保持している場合
+		HumanSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			// 対象日における最新の人事情報のうち社員コードが一致し有効日が最も新しいものを取得
+			HumanDtoInterface result = null;
+			for (String personalId : snapshot.getPersonalIds(employeeCode)) {
+				HumanDtoInterface dto = snapshot.getHuman(personalId, activateDate);
+				if (dto == null || dto.getEmployeeCode().equals(employeeCode) == false) {
+					continue;
+				}
+				if (result == null || dto.getActivateDate().after(result.getActivateDate())) {
+					result = dto;
+				}
+			}
+			return copy(result);
+		}
 		try {
 			index = 1;
 			StringBuffer sb = getSelectQuery(getClass());
@@ -335,6 +379,11 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 	
 	@Override
 	public HumanDtoInterface findForInfo(String personalId, Date activateDate) throws MospException {
+		// 人事マスタ全履歴を保持している場合
+		HumanSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			return copy(snapshot.getHuman(personalId, activateDate));
+		}
 		try {
 			index = 1;
 			StringBuffer sb = getSelectQuery(getClass());
@@ -364,6 +413,19 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 	
 	@Override
 	public Map<String, String> findForEmployeeCodeMap(Date activateDate, String... personalIds) throws MospException {
+		// 人事マスタ全履歴を保持している場合
+		HumanSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			// 対象日における最新の人事情報の社員コードを取得
+			Map<String, String> map = new HashMap<String, String>();
+			for (String personalId : personalIds) {
+				HumanDtoInterface dto = snapshot.getHuman(personalId, activateDate);
+				if (dto != null) {
+					map.put(personalId, dto.getEmployeeCode());
+				}
+			}
+			return map;
+		}
 		try {
 			index = 1;
 			StringBuffer sb = new StringBuffer();
@@ -476,6 +538,92 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 		}
 	}
 	
+	/**
+	 * 人事マスタ全履歴を取得する。<br>
+	 * 保持していない場合は全件を取得して保持し、
+	 * 再取得対象個人IDがある場合は対象個人IDの履歴のみを取得し直す。<br>
+	 * 人事マスタ全履歴を利用しない場合は、nullを返す。<br>
+	 * 人事マスタを登録したトランザクションでは、コミット前の人事情報をDBから取得させるため、nullを返す。<br>
+	 * @return 人事マスタ全履歴
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected HumanSnapshot getSnapshot() throws MospException {
+		// 人事マスタ全履歴を利用しない場合
+		if (HumanSnapshotUtility.isEnabled(mospParams) == false) {
+			return null;
+		}
+		// 人事マスタを登録したトランザクションである場合
+		if (HumanSnapshotUtility.isAvailable(mospParams, connection) == false) {
+			return null;
+		}
+		// 人事マスタ全履歴世代番号を取得(人事情報取得前)
+		long generation = HumanSnapshotUtility.getGeneration(mospParams);
+		// 保持している人事マスタ全履歴を取得
+		HumanSnapshot snapshot = HumanSnapshotUtility.getSnapshot(mospParams);
+		// 保持していない場合
+		if (snapshot == null) {
+			// 全件を取得して保持(取得中に世代番号が進んだ場合は保持しない)
+			return HumanSnapshotUtility.createSnapshot(mospParams, generation, findAll());
+		}
+		// 再取得対象個人ID毎に履歴を取得し直す
+		List<String> personalIds = snapshot.pollStalePersonalIds();
+		for (String personalId : personalIds) {
+			snapshot.refresh(personalId, findForHistory(personalId));
+		}
+		// 取得中に世代番号が進んだ場合
+		if (personalIds.isEmpty() == false && HumanSnapshotUtility.isChanged(mospParams, generation)) {
+			// 再度再取得対象とする(コミット前の履歴を取得した可能性があるため)
+			snapshot.addStalePersonalIds(personalIds);
+		}
+		return snapshot;
+	}
+	
+	/**
+	 * 人事情報リストを複製する。<br>
+	 * @param list 人事情報リスト
+	 * @return 複製した人事情報リスト
+	 */
+	protected List<HumanDtoInterface> copy(List<HumanDtoInterface> list) {
+		List<HumanDtoInterface> copied = new ArrayList<HumanDtoInterface>(list.size());
+		for (HumanDtoInterface dto : list) {
+			copied.add(copy(dto));
+		}
+		return copied;
+	}
+	
+	/**
+	 * 人事情報を複製する。<br>
+	 * 人事マスタ全履歴で保持している人事情報が変更されないよう、
+	 * 人事マスタ全履歴から取得した人事情報は複製して返す。<br>
+	 * @param dto 人事情報
+	 * @return 複製した人事情報(人事情報がnullの場合はnull)
+	 */
+	protected HumanDtoInterface copy(HumanDtoInterface dto) {
+		if (dto == null) {
+			return null;
+		}
+		PfmHumanDto copied = new PfmHumanDto();
+		copied.setPfmHumanId(dto.getPfmHumanId());
+		copied.setPersonalId(dto.getPersonalId());
+		copied.setActivateDate(dto.getActivateDate());
+		copied.setEmployeeCode(dto.getEmployeeCode());
+		copied.setLastName(dto.getLastName());
+		copied.setFirstName(dto.getFirstName());
+		copied.setLastKana(dto.getLastKana());
+		copied.setFirstKana(dto.getFirstKana());
+		copied.setEmploymentContractCode(dto.getEmploymentContractCode());
+		copied.setSectionCode(dto.getSectionCode());
+		copied.setPositionCode(dto.getPositionCode());
+		copied.setWorkPlaceCode(dto.getWorkPlaceCode());
+		copied.setMail(dto.getMail());
+		copied.setDeleteFlag(dto.getDeleteFlag());
+		copied.setInsertDate(dto.getInsertDate());
+		copied.setInsertUser(dto.getInsertUser());
+		copied.setUpdateDate(dto.getUpdateDate());
+		copied.setUpdateUser(dto.getUpdateUser());
+		return copied;
+	}
+	
 	@Override
 	public long nextPersonalId() throws MospException {
 		return nextValue(SEQUENCE);
@@ -680,6 +828,19 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 		return sb.toString();
 	}
 	
+	@Override
+	public int setParamsForLowerSection(int index, String sectionCode, Date targetDate, PreparedStatement ps)
+			throws MospException {
+		// 所属マスタDAO準備(パラメータ設定用)
+		SectionDaoInterface sectionDao = (SectionDaoInterface)loadDao(SectionDaoInterface.class);
+		// パラメータインデックス準備
+		int idx = index;
+		// 有効日パラメータ設定
+		setParam(idx++, targetDate, false, ps);
+		// 下位所属条件パラメータ設定
+		return sectionDao.setParamsForLowerSection(idx, sectionCode, targetDate, ps);
+	}
+	
 	@Override
 	public String getQueryForSectionName() throws MospException {
 		// 所属マスタDAO準備(サブクエリ取得用)
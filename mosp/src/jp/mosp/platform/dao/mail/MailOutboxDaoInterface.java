@@ -0,0 +1,45 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.mail;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+
+/**
+ * メール送信箱DAOインターフェース
+ */
+public interface MailOutboxDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 送信対象のメール送信箱リストを取得する。<br>
+	 * 未送信で次回送信時刻が対象時刻以前のものを、レコード識別IDの順に上限件数まで取得する。<br>
+	 * 取得したレコードはトランザクション終了時までロックし、
+	 * 他のトランザクションがロックしているレコードは取得しない。<br>
+	 * @param sendStatus 送信状態(未送信)
+	 * @param sendTime   対象時刻
+	 * @param limit      上限件数
+	 * @return メール送信箱DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<MailOutboxDtoInterface> findForSend(int sendStatus, Date sendTime, int limit) throws MospException;
+	
+}
@@ -0,0 +1,204 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.mail.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDao;
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dao.mail.MailOutboxDaoInterface;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+import jp.mosp.platform.dto.mail.impl.PftMailOutboxDto;
+
+/**
+ * メール送信箱DAOクラス。
+ */
+public class PftMailOutboxDao extends BaseDao implements MailOutboxDaoInterface {
+	
+	/**
+	 * メール送信箱。
+	 */
+	public static final String	TABLE					= "pft_mail_outbox";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_PFT_MAIL_OUTBOX_ID	= "pft_mail_outbox_id";
+	
+	/**
+	 * 受信者。
+	 */
+	public static final String	COL_MAIL_RECEIVER		= "mail_receiver";
+	
+	/**
+	 * 件名。
+	 */
+	public static final String	COL_MAIL_TITLE			= "mail_title";
+	
+	/**
+	 * 本文。
+	 */
+	public static final String	COL_MAIL_TEXT			= "mail_text";
+	
+	/**
+	 * ログ出力文字列。
+	 */
+	public static final String	COL_LOG_TEXT			= "log_text";
+	
+	/**
+	 * 送信状態。
+	 */
+	public static final String	COL_SEND_STATUS			= "send_status";
+	
+	/**
+	 * 送信回数。
+	 */
+	public static final String	COL_SEND_COUNT			= "send_count";
+	
+	/**
+	 * 次回送信時刻。
+	 */
+	public static final String	COL_NEXT_SEND_TIME		= "next_send_time";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1					= COL_PFT_MAIL_OUTBOX_ID;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public PftMailOutboxDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		PftMailOutboxDto dto = new PftMailOutboxDto();
+		dto.setPftMailOutboxId(getLong(COL_PFT_MAIL_OUTBOX_ID));
+		dto.setMailReceiver(getString(COL_MAIL_RECEIVER));
+		dto.setMailTitle(getString(COL_MAIL_TITLE));
+		dto.setMailText(getString(COL_MAIL_TEXT));
+		dto.setLogText(getString(COL_LOG_TEXT));
+		dto.setSendStatus(getInt(COL_SEND_STATUS));
+		dto.setSendCount(getInt(COL_SEND_COUNT));
+		dto.setNextSendTime(getTimestamp(COL_NEXT_SEND_TIME));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<MailOutboxDtoInterface> mappingAll() throws MospException {
+		List<MailOutboxDtoInterface> list = new ArrayList<MailOutboxDtoInterface>();
+		while (next()) {
+			list.add((MailOutboxDtoInterface)mapping());
+		}
+		return list;
+	}
+	
+	@Override
+	public List<MailOutboxDtoInterface> findForSend(int sendStatus, Date sendTime, int limit) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_SEND_STATUS));
+			sb.append(and());
+			sb.append(lessEqual(COL_NEXT_SEND_TIME));
+			sb.append(getOrderByColumn(COL_PFT_MAIL_OUTBOX_ID));
+			sb.append(getLimit());
+			sb.append("?");
+			sb.append(getForUpdateSkipLocked());
+			prepareStatement(sb.toString());
+			setParam(index++, sendStatus);
+			setParam(index++, sendTime, true);
+			setParam(index++, limit);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			MailOutboxDtoInterface dto = (MailOutboxDtoInterface)baseDto;
+			setParam(index++, dto.getPftMailOutboxId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			MailOutboxDtoInterface dto = (MailOutboxDtoInterface)baseDto;
+			setParam(index++, dto.getPftMailOutboxId());
+			executeUpdate();
+			chkDelete(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		MailOutboxDtoInterface dto = (MailOutboxDtoInterface)baseDto;
+		setParam(index++, dto.getPftMailOutboxId());
+		setParam(index++, dto.getMailReceiver());
+		setParam(index++, dto.getMailTitle());
+		setParam(index++, dto.getMailText());
+		setParam(index++, dto.getLogText());
+		setParam(index++, dto.getSendStatus());
+		setParam(index++, dto.getSendCount());
+		setParam(index++, dto.getNextSendTime(), true);
+		setCommonParams(baseDto, isInsert);
+	}
+	
+}
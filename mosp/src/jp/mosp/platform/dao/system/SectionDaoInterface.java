@@ -21,6 +21,7 @@ import java.sql.PreparedStatement;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -183,8 +184,22 @@ public interface SectionDaoInterface extends BaseDaoInterface {
 	 */
 	String getQueryForSectionName();
 	
+	/**
+	 * 対象所属及びその下位所属の所属コード群を取得する。<br>
+	 * 下位所属は、対象日において有効であり、経路に対象所属が含まれるものとする。<br>
+	 * @param sectionCode 対象所属コード
+	 * @param targetDate  対象日
+	 * @return 所属コード群
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Set<String> findForLowerSectionCodeSet(String sectionCode, Date targetDate) throws MospException;
+	
 	/**
 	 * 下位所属条件SQLを作成する。<br>
+	 * 配列パラメータを利用できるRDBMSでは、対象所属コード列の値が所属コード群(配列)に
+	 * 含まれるかを判定するため、所属マスタは参照しない。<br>
+	 * その他のRDBMSでは、所属マスタから対象所属及びその下位所属を取得するサブクエリで判定する。<br>
+	 * いずれの場合も、対象所属コード列の索引を利用できる。<br>
 	 * @param targetColumn 対象所属コード列名
 	 * @return 下位所属条件SQL
 	 */
@@ -192,6 +207,7 @@ public interface SectionDaoInterface extends BaseDaoInterface {
 	
 	/**
 	 * 下位所属条件パラメータを設定する。<br>
+	 * 配列パラメータを利用できるRDBMSでは、対象所属及びその下位所属の所属コード群を所属階層から取得する。<br>
 	 * 設定したパラメータの数だけ、パラメータインデックスが加算される。<br>
 	 * @param index       パラメータインデックス
 	 * @param sectionCode 所属コード
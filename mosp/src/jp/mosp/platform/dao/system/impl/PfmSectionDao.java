@@ -18,21 +18,27 @@
 package jp.mosp.platform.dao.system.impl;
 
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.RDBMSType;
 import jp.mosp.framework.constant.MospConst;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.DatabaseUtility;
 import jp.mosp.platform.base.PlatformDao;
 import jp.mosp.platform.dao.system.SectionDaoInterface;
 import jp.mosp.platform.dto.system.SectionDtoInterface;
 import jp.mosp.platform.dto.system.impl.PfmSectionDto;
 import jp.mosp.platform.system.constant.PlatformSystemConst;
+import jp.mosp.platform.utils.SectionTreeUtility;
 
 /**
  * 所属マスタDAOクラス。
@@ -547,13 +553,91 @@ public class PfmSectionDao extends PlatformDao implements SectionDaoInterface {
 		return sb.toString();
 	}
 	
+	@Override
+	public Set<String> findForLowerSectionCodeSet(String sectionCode, Date targetDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getQueryForLowerSectionCode();
+			prepareStatement(sb.toString());
+			setParam(index++, targetDate, false);
+			setParam(index++, sectionCode);
+			setParam(index++, containsParam(getClassRouteParam(sectionCode)));
+			executeQuery();
+			return getResultAsSet(COL_SECTION_CODE);
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public StringBuffer getQueryForLowerSection(String targetColumn) {
 		// SQL作成準備
 		StringBuffer sb = new StringBuffer();
 		sb.append(targetColumn);
+		// 配列パラメータを利用できる場合
+		if (isArrayParameter()) {
+			// 所属コード群(配列)に含まれるかで判定(対象所属コード列の索引を利用)
+			sb.append(" = ANY(?)");
+			return sb;
+		}
+		// 対象所属及びその下位所属の所属コードを取得するサブクエリで判定
 		sb.append(in());
 		sb.append(leftParenthesis());
+		sb.append(getQueryForLowerSectionCode());
+		sb.append(rightParenthesis());
+		return sb;
+	}
+	
+	@Override
+	public int setParamsForLowerSection(int index, String sectionCode, Date targetDate, PreparedStatement ps)
+			throws MospException {
+		// パラメータインデックス準備
+		int idx = index;
+		// 配列パラメータを利用できない場合
+		if (isArrayParameter() == false) {
+			// 下位所属条件パラメータ設定(サブクエリ)
+			setParam(idx++, targetDate, false, ps);
+			setParam(idx++, sectionCode, ps);
+			setParam(idx++, containsParam(getClassRouteParam(sectionCode)), ps);
+			return idx;
+		}
+		// 対象所属及びその下位所属の所属コード群を取得
+		Set<String> set = SectionTreeUtility.getLowerSectionCodeSet(mospParams, getSectionDao(ps), sectionCode,
+				targetDate);
+		// 下位所属条件パラメータ設定(配列)
+		try {
+			ps.setArray(idx++, ps.getConnection().createArrayOf("varchar", set.toArray(new String[set.size()])));
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+		// インデックス返却
+		return idx;
+	}
+	
+	/**
+	 * 配列パラメータ(列 = ANY(?))による条件を利用できるかを確認する。<br>
+	 * 下位所属条件SQLの作成とパラメータの設定とで、同じ結果となる。<br>
+	 * @return 確認結果(true：利用できる、false：利用できない)
+	 */
+	protected boolean isArrayParameter() {
+		try {
+			RDBMSType type = DatabaseUtility.getRDBMS(connection);
+			return type != null && type.isArrayParameter();
+		} catch (MospException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * 対象所属及びその下位所属の所属コードを取得するSQLを作成する。<br>
+	 * @return 対象所属及びその下位所属の所属コードを取得するSQL
+	 */
+	protected StringBuffer getQueryForLowerSectionCode() {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
 		sb.append(select());
 		sb.append(COL_SECTION_CODE);
 		sb.append(from(TABLE));
@@ -571,21 +655,23 @@ public class PfmSectionDao extends PlatformDao implements SectionDaoInterface {
 		sb.append(like(COL_CLASS_ROUTE));
 		sb.append(rightParenthesis());
 		sb.append(rightParenthesis());
-		sb.append(rightParenthesis());
 		return sb;
 	}
 	
-	@Override
-	public int setParamsForLowerSection(int index, String sectionCode, Date targetDate, PreparedStatement ps)
-			throws MospException {
-		// パラメータインデックス準備
-		int idx = index;
-		// 下位所属条件パラメータ設定
-		setParam(idx++, targetDate, false, ps);
-		setParam(idx++, sectionCode, ps);
-		setParam(idx++, containsParam(getClassRouteParam(sectionCode)), ps);
-		// インデックス返却
-		return idx;
+	/**
+	 * 所属コード群取得用の所属マスタDAOを取得する。<br>
+	 * 呼出元のステートメントを上書きしないよう、別のインスタンスを用いる。<br>
+	 * @param ps ステートメント
+	 * @return 所属マスタDAO
+	 * @throws MospException インスタンスの取得に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected SectionDaoInterface getSectionDao(PreparedStatement ps) throws MospException {
+		try {
+			return (SectionDaoInterface)InstanceFactory.loadDao(SectionDaoInterface.class, mospParams,
+					ps.getConnection());
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
 	}
 	
 	@Override
@@ -17,6 +17,8 @@
  */
 package jp.mosp.platform.dto.human;
 
+import java.io.InputStream;
+
 import jp.mosp.platform.base.PlatformDtoInterface;
 
 /**
@@ -49,6 +51,11 @@ public interface HumanBinaryArrayDtoInterface extends PlatformDtoInterface {
 	 */
 	byte[] getHumanItemBinary();
 	
+	/**
+	 * @return 人事項目バイナリ値(ストリーム)。
+	 */
+	InputStream getHumanItemBinaryStream();
+	
 	/**
 	 * @return ファイル拡張子。
 	 */
@@ -89,6 +96,13 @@ public interface HumanBinaryArrayDtoInterface extends PlatformDtoInterface {
 	 */
 	void setHumanItemBinary(byte[] humanItemBinary);
 	
+	/**
+	 * 設定されている場合、登録時は人事項目バイナリ値ではなくストリームから読み込む。<br>
+	 * アップロードされたファイルをバイト配列に読み込まずに登録する場合に用いる。<br>
+	 * @param humanItemBinaryStream セットする 人事項目バイナリ値(ストリーム)。
+	 */
+	void setHumanItemBinaryStream(InputStream humanItemBinaryStream);
+	
 	/**
 	 * @param fileType セットする ファイル拡張子。
 	 */
@@ -17,6 +17,8 @@
  */
 package jp.mosp.platform.dto.human;
 
+import java.io.InputStream;
+
 import jp.mosp.platform.base.PlatformDtoInterface;
 
 /**
@@ -44,6 +46,11 @@ public interface HumanBinaryHistoryDtoInterface extends PlatformDtoInterface {
 	 */
 	byte[] getHumanItemBinary();
 	
+	/**
+	 * @return 人事項目バイナリ値(ストリーム)。
+	 */
+	InputStream getHumanItemBinaryStream();
+	
 	/**
 	 * @return ファイル拡張子。
 	 */
@@ -79,6 +86,13 @@ public interface HumanBinaryHistoryDtoInterface extends PlatformDtoInterface {
 	 */
 	void setHumanItemBinary(byte[] humanItemBinary);
 	
+	/**
+	 * 設定されている場合、登録時は人事項目バイナリ値ではなくストリームから読み込む。<br>
+	 * アップロードされたファイルをバイト配列に読み込まずに登録する場合に用いる。<br>
+	 * @param humanItemBinaryStream セットする 人事項目バイナリ値(ストリーム)。
+	 */
+	void setHumanItemBinaryStream(InputStream humanItemBinaryStream);
+	
 	/**
 	 * @param fileType セットする ファイル拡張子。
 	 */
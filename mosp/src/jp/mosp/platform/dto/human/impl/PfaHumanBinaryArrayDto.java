@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dto.human.impl;
 
+import java.io.InputStream;
 import java.util.Date;
 
 import jp.mosp.framework.base.BaseDto;
@@ -60,6 +61,11 @@ public class PfaHumanBinaryArrayDto extends BaseDto implements HumanBinaryArrayD
 	 */
 	private byte[]				humanItemBinary;
 	
+	/**
+	 * 人事項目値(ストリーム)。
+	 */
+	private transient InputStream	humanItemBinaryStream;
+	
 	/**
 	 * ファイル拡張子。
 	 */
@@ -118,6 +124,11 @@ public class PfaHumanBinaryArrayDto extends BaseDto implements HumanBinaryArrayD
 		return CapsuleUtility.getByteArrayClone(humanItemBinary);
 	}
 	
+	@Override
+	public InputStream getHumanItemBinaryStream() {
+		return humanItemBinaryStream;
+	}
+	
 	@Override
 	public String getFileType() {
 		return fileType;
@@ -168,6 +179,11 @@ public class PfaHumanBinaryArrayDto extends BaseDto implements HumanBinaryArrayD
 		this.humanItemBinary = CapsuleUtility.getByteArrayClone(humanItemBinary);
 	}
 	
+	@Override
+	public void setHumanItemBinaryStream(InputStream humanItemBinaryStream) {
+		this.humanItemBinaryStream = humanItemBinaryStream;
+	}
+	
 	@Override
 	public void setFileType(String fileType) {
 		this.fileType = fileType;
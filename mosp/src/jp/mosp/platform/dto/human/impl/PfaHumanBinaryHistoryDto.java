@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dto.human.impl;
 
+import java.io.InputStream;
 import java.util.Date;
 
 import jp.mosp.framework.base.BaseDto;
@@ -55,6 +56,11 @@ public class PfaHumanBinaryHistoryDto extends BaseDto implements HumanBinaryHist
 	 */
 	private byte[]				humanItemBinary;
 	
+	/**
+	 * 人事項目値(ストリーム)。
+	 */
+	private transient InputStream	humanItemBinaryStream;
+	
 	/**
 	 * ファイル拡張子。
 	 */
@@ -107,6 +113,11 @@ public class PfaHumanBinaryHistoryDto extends BaseDto implements HumanBinaryHist
 		return CapsuleUtility.getByteArrayClone(humanItemBinary);
 	}
 	
+	@Override
+	public InputStream getHumanItemBinaryStream() {
+		return humanItemBinaryStream;
+	}
+	
 	@Override
 	public String getFileType() {
 		return fileType;
@@ -152,6 +163,11 @@ public class PfaHumanBinaryHistoryDto extends BaseDto implements HumanBinaryHist
 		this.humanItemBinary = CapsuleUtility.getByteArrayClone(humanItemBinary);
 	}
 	
+	@Override
+	public void setHumanItemBinaryStream(InputStream humanItemBinaryStream) {
+		this.humanItemBinaryStream = humanItemBinaryStream;
+	}
+	
 	@Override
 	public void setFileType(String fileType) {
 		this.fileType = fileType;
@@ -17,6 +17,7 @@
  */
 package jp.mosp.platform.dto.human.impl;
 
+import java.io.InputStream;
 import java.util.Date;
 
 import jp.mosp.framework.base.BaseDto;
@@ -50,6 +51,11 @@ public class PfaHumanBinaryNormalDto extends BaseDto implements HumanBinaryNorma
 	 */
 	private byte[]				humanItemBinary;
 	
+	/**
+	 * 人事項目値(ストリーム)。
+	 */
+	private transient InputStream	humanItemBinaryStream;
+	
 	/**
 	 * ファイル拡張子。
 	 */
@@ -97,6 +103,11 @@ public class PfaHumanBinaryNormalDto extends BaseDto implements HumanBinaryNorma
 		return CapsuleUtility.getByteArrayClone(humanItemBinary);
 	}
 	
+	@Override
+	public InputStream getHumanItemBinaryStream() {
+		return humanItemBinaryStream;
+	}
+	
 	@Override
 	public String getFileType() {
 		return fileType;
@@ -137,6 +148,11 @@ public class PfaHumanBinaryNormalDto extends BaseDto implements HumanBinaryNorma
 		this.humanItemBinary = CapsuleUtility.getByteArrayClone(humanItemBinary);
 	}
 	
+	@Override
+	public void setHumanItemBinaryStream(InputStream humanItemBinaryStream) {
+		this.humanItemBinaryStream = humanItemBinaryStream;
+	}
+	
 	@Override
 	public void setFileType(String fileType) {
 		this.fileType = fileType;
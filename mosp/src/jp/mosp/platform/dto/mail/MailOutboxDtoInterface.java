@@ -0,0 +1,108 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.mail;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * メール送信箱DTOインターフェース
+ */
+public interface MailOutboxDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getPftMailOutboxId();
+	
+	/**
+	 * @return 受信者。
+	 */
+	String getMailReceiver();
+	
+	/**
+	 * @return 件名。
+	 */
+	String getMailTitle();
+	
+	/**
+	 * @return 本文。
+	 */
+	String getMailText();
+	
+	/**
+	 * @return ログ出力文字列。
+	 */
+	String getLogText();
+	
+	/**
+	 * @return 送信状態。
+	 */
+	int getSendStatus();
+	
+	/**
+	 * @return 送信回数。
+	 */
+	int getSendCount();
+	
+	/**
+	 * @return 次回送信時刻。
+	 */
+	Date getNextSendTime();
+	
+	/**
+	 * @param pftMailOutboxId レコード識別ID。
+	 */
+	void setPftMailOutboxId(long pftMailOutboxId);
+	
+	/**
+	 * @param mailReceiver 受信者。
+	 */
+	void setMailReceiver(String mailReceiver);
+	
+	/**
+	 * @param mailTitle 件名。
+	 */
+	void setMailTitle(String mailTitle);
+	
+	/**
+	 * @param mailText 本文。
+	 */
+	void setMailText(String mailText);
+	
+	/**
+	 * @param logText ログ出力文字列。
+	 */
+	void setLogText(String logText);
+	
+	/**
+	 * @param sendStatus 送信状態。
+	 */
+	void setSendStatus(int sendStatus);
+	
+	/**
+	 * @param sendCount 送信回数。
+	 */
+	void setSendCount(int sendCount);
+	
+	/**
+	 * @param nextSendTime 次回送信時刻。
+	 */
+	void setNextSendTime(Date nextSendTime);
+}
@@ -0,0 +1,146 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.mail.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+
+/**
+ * メール送信箱DTO
+ */
+public class PftMailOutboxDto extends BaseDto implements MailOutboxDtoInterface {
+	
+	private static final long	serialVersionUID	= -2871405563180623514L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				pftMailOutboxId;
+	/**
+	 * 受信者。
+	 */
+	private String				mailReceiver;
+	/**
+	 * 件名。
+	 */
+	private String				mailTitle;
+	/**
+	 * 本文。
+	 */
+	private String				mailText;
+	/**
+	 * ログ出力文字列。
+	 */
+	private String				logText;
+	/**
+	 * 送信状態。
+	 */
+	private int					sendStatus;
+	/**
+	 * 送信回数。
+	 */
+	private int					sendCount;
+	/**
+	 * 次回送信時刻。
+	 */
+	private Date				nextSendTime;
+	
+	
+	@Override
+	public long getPftMailOutboxId() {
+		return pftMailOutboxId;
+	}
+	
+	@Override
+	public String getMailReceiver() {
+		return mailReceiver;
+	}
+	
+	@Override
+	public String getMailTitle() {
+		return mailTitle;
+	}
+	
+	@Override
+	public String getMailText() {
+		return mailText;
+	}
+	
+	@Override
+	public String getLogText() {
+		return logText;
+	}
+	
+	@Override
+	public int getSendStatus() {
+		return sendStatus;
+	}
+	
+	@Override
+	public int getSendCount() {
+		return sendCount;
+	}
+	
+	@Override
+	public Date getNextSendTime() {
+		return getDateClone(nextSendTime);
+	}
+	
+	@Override
+	public void setPftMailOutboxId(long pftMailOutboxId) {
+		this.pftMailOutboxId = pftMailOutboxId;
+	}
+	
+	@Override
+	public void setMailReceiver(String mailReceiver) {
+		this.mailReceiver = mailReceiver;
+	}
+	
+	@Override
+	public void setMailTitle(String mailTitle) {
+		this.mailTitle = mailTitle;
+	}
+	
+	@Override
+	public void setMailText(String mailText) {
+		this.mailText = mailText;
+	}
+	
+	@Override
+	public void setLogText(String logText) {
+		this.logText = logText;
+	}
+	
+	@Override
+	public void setSendStatus(int sendStatus) {
+		this.sendStatus = sendStatus;
+	}
+	
+	@Override
+	public void setSendCount(int sendCount) {
+		this.sendCount = sendCount;
+	}
+	
+	@Override
+	public void setNextSendTime(Date nextSendTime) {
+		this.nextSendTime = getDateClone(nextSendTime);
+	}
+	
+}
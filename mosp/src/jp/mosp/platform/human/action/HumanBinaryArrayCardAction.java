@@ -17,12 +17,12 @@
  */
 package jp.mosp.platform.human.action;
 
+import java.io.InputStream;
 import java.util.Date;
 
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.property.MospProperties;
-import jp.mosp.framework.utils.BinaryUtility;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.framework.utils.RoleUtility;
 import jp.mosp.framework.utils.TopicPathUtility;
@@ -477,15 +477,15 @@ public class HumanBinaryArrayCardAction extends PlatformHumanAction {
 	 * @throws MospException 例外処理が発生した場合
 	 */
 	private void setDtoFields(HumanBinaryArrayDtoInterface dto, Date activeDate) throws MospException {
-		// ファイルをbyte[]で取得
-		byte[] file = BinaryUtility.getBinaryData(mospParams.getRequestFile(PRM_FILE_BINARY_ARRAY));
+		// ファイルをストリームで取得(バイト配列に読み込まずに登録する)
+		InputStream file = mospParams.getRequestFile(PRM_FILE_BINARY_ARRAY);
 		// VO取得
 		HumanBinaryArrayCardVo vo = (HumanBinaryArrayCardVo)mospParams.getVo();
 		// DTOに設定
 		dto.setPersonalId(vo.getPersonalId());
 		dto.setHumanItemType(vo.getDivision());
 		dto.setActivateDate(activeDate);
-		dto.setHumanItemBinary(file);
+		dto.setHumanItemBinaryStream(file);
 		dto.setFileType(HumanUtility.getBinaryFileType(vo.getFileBinaryArray()));
 		dto.setFileName(vo.getFileBinaryArray());
 		dto.setFileRemark(vo.getTxtFileRemark());
@@ -17,12 +17,12 @@
  */
 package jp.mosp.platform.human.action;
 
+import java.io.InputStream;
 import java.util.Date;
 
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.property.MospProperties;
-import jp.mosp.framework.utils.BinaryUtility;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.framework.utils.RoleUtility;
 import jp.mosp.framework.utils.TopicPathUtility;
@@ -467,15 +467,15 @@ public class HumanBinaryHistoryCardAction extends PlatformHumanAction {
 	 * @throws MospException 例外処理が発生した場合
 	 */
 	protected void setDtoFields(HumanBinaryHistoryDtoInterface dto, Date activeDate) throws MospException {
-		// ファイルをbyte[]で取得
-		byte[] file = BinaryUtility.getBinaryData(mospParams.getRequestFile(PRM_FILE_BINARY_HISTORY));
+		// ファイルをストリームで取得(バイト配列に読み込まずに登録する)
+		InputStream file = mospParams.getRequestFile(PRM_FILE_BINARY_HISTORY);
 		// VO取得
 		HumanBinaryHistoryCardVo vo = (HumanBinaryHistoryCardVo)mospParams.getVo();
 		// DTOに設定
 		dto.setActivateDate(activeDate);
 		dto.setPersonalId(vo.getPersonalId());
 		dto.setHumanItemType(vo.getDivision());
-		dto.setHumanItemBinary(file);
+		dto.setHumanItemBinaryStream(file);
 		dto.setFileType(HumanUtility.getBinaryFileType(vo.getFileBinaryHistory()));
 		dto.setFileName(vo.getFileBinaryHistory());
 		dto.setFileRemark(vo.getTxtFileRemark());
@@ -17,10 +17,11 @@
  */
 package jp.mosp.platform.human.action;
 
+import java.io.InputStream;
+
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.property.MospProperties;
-import jp.mosp.framework.utils.BinaryUtility;
 import jp.mosp.framework.utils.RoleUtility;
 import jp.mosp.framework.utils.TopicPathUtility;
 import jp.mosp.platform.base.PlatformAction;
@@ -255,14 +256,14 @@ public class HumanBinaryNormalCardAction extends PlatformHumanAction {
 	 * @throws MospException 例外処理が発生した場合
 	 */
 	private void setDtoFields(HumanBinaryNormalDtoInterface dto) throws MospException {
-		// ファイルをbyte[]で取得
-		byte[] file = BinaryUtility.getBinaryData(mospParams.getRequestFile(PRM_FILE_BINARY_NORMAL));
+		// ファイルをストリームで取得(バイト配列に読み込まずに登録する)
+		InputStream file = mospParams.getRequestFile(PRM_FILE_BINARY_NORMAL);
 		// VO取得
 		HumanBinaryNormalCardVo vo = (HumanBinaryNormalCardVo)mospParams.getVo();
 		// DTOに設定
 		dto.setPersonalId(vo.getPersonalId());
 		dto.setHumanItemType(vo.getDivision());
-		dto.setHumanItemBinary(file);
+		dto.setHumanItemBinaryStream(file);
 		dto.setFileType(HumanUtility.getBinaryFileType(vo.getFileBinaryNormal()));
 		dto.setFileName(vo.getFileBinaryNormal());
 		dto.setFileRemark(vo.getTxtFileRemark());
@@ -21,7 +21,6 @@ import java.util.Date;
 
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
-import jp.mosp.framework.exporter.ImageContents;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.base.PlatformAction;
 import jp.mosp.platform.bean.human.HumanBinaryArrayReferenceBeanInterface;
@@ -131,10 +130,11 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 		HumanBinaryNormalCardVo vo = (HumanBinaryNormalCardVo)mospParams.getVo();
 		// 人事汎用バイナリ通常情報参照クラス取得
 		HumanBinaryNormalReferenceBeanInterface binaryNormal = reference().humanBinaryNormal();
-		// 人事汎用バイナリ通常情報取得
-		HumanBinaryNormalDtoInterface normalDto = binaryNormal.findForInfo(vo.getPersonalId(), vo.getDivision());
+		// 人事汎用バイナリ通常情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryNormalDtoInterface normalDto = binaryNormal.findForInfoExceptBinary(vo.getPersonalId(),
+				vo.getDivision());
 		// 画像設定
-		mospParams.setFile(new ImageContents(normalDto.getFileType(), normalDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(normalDto));
 		// ファイル名・ファイル拡張子設定
 		String fileName = normalDto.getFileName();
 		String fileType = getCodeName(normalDto.getFileType(), "BinaryFileType");
@@ -164,9 +164,9 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 		String year = mospParams.getRequestParam("historyYear");
 		String month = mospParams.getRequestParam("historyMonth");
 		String day = mospParams.getRequestParam("historyDay");
-		// 人事汎用バイナリ通常情報取得
-		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfo(vo.getPersonalId(), vo.getDivision(),
-				DateUtility.getDate(year, month, day));
+		// 人事汎用バイナリ通常情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfoExceptBinary(vo.getPersonalId(),
+				vo.getDivision(), DateUtility.getDate(year, month, day));
 		// 確認
 		if (historyDto == null) {
 			// エラーメッセジ
@@ -174,7 +174,7 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 			return;
 		}
 		// 画像設定
-		mospParams.setFile(new ImageContents(historyDto.getFileType(), historyDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(historyDto));
 		// ファイル名設定
 		mospParams.setFileName(historyDto.getFileName());
 	}
@@ -190,9 +190,9 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 		Date activeDate = getDate(getTransferredActivateDate());
 		// 人事汎用バイナリ通常情報参照クラス取得
 		HumanBinaryHistoryReferenceBeanInterface binaryHistory = reference().humanBinaryHistory();
-		// 人事汎用バイナリ通常情報取得
-		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfo(vo.getPersonalId(), vo.getDivision(),
-				activeDate);
+		// 人事汎用バイナリ通常情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfoExceptBinary(vo.getPersonalId(),
+				vo.getDivision(), activeDate);
 		// 確認
 		if (historyDto == null) {
 			// エラーメッセジ
@@ -200,7 +200,7 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 			return;
 		}
 		// 画像設定
-		mospParams.setFile(new ImageContents(historyDto.getFileType(), historyDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(historyDto));
 		// ファイル名設定
 		mospParams.setFileName(historyDto.getFileName());
 	}
@@ -216,8 +216,9 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 		int rowId = getTransferredIndex();
 		// バイナリ一覧参照クラス取得
 		HumanBinaryArrayReferenceBeanInterface binaryArray = reference().humanBinaryArray();
-		// バイナリ一覧情報取得
-		HumanBinaryArrayDtoInterface arrayDto = binaryArray.findForKey(vo.getPersonalId(), vo.getDivision(), rowId);
+		// バイナリ一覧情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryArrayDtoInterface arrayDto = binaryArray.findForKeyExceptBinary(vo.getPersonalId(), vo.getDivision(),
+				rowId);
 		// 情報確認
 		if (arrayDto == null) {
 			// エラーメッセジ
@@ -225,7 +226,7 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 			return;
 		}
 		// 画像設定
-		mospParams.setFile(new ImageContents(arrayDto.getFileType(), arrayDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(arrayDto));
 		// ファイル名設定
 		mospParams.setFileName(arrayDto.getFileName());
 	}
@@ -242,8 +243,8 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 		HumanBinaryNormalReferenceBeanInterface binaryNormal = reference().humanBinaryNormal();
 		// 人事汎用画面区分取得
 		String division = getTransferredType();
-		// 人事汎用バイナリ通常情報取得
-		HumanBinaryNormalDtoInterface normalDto = binaryNormal.findForInfo(vo.getPersonalId(), division);
+		// 人事汎用バイナリ通常情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryNormalDtoInterface normalDto = binaryNormal.findForInfoExceptBinary(vo.getPersonalId(), division);
 		// 確認
 		if (normalDto == null) {
 			// エラーメッセジ
@@ -251,7 +252,7 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 			return;
 		}
 		// 画像設定
-		mospParams.setFile(new ImageContents(normalDto.getFileType(), normalDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(normalDto));
 		// ファイル名設定
 		mospParams.setFileName(normalDto.getFileName());
 	}
@@ -270,8 +271,9 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 		String division = getTransferredType();
 		// 有効日取得
 		Date activeDate = getDate(getTransferredActivateDate());
-		// 人事汎用バイナリ通常情報取得
-		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfo(vo.getPersonalId(), division, activeDate);
+		// 人事汎用バイナリ通常情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfoExceptBinary(vo.getPersonalId(), division,
+				activeDate);
 		// 確認
 		if (historyDto == null) {
 			// エラーメッセジ
@@ -279,7 +281,7 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 			return;
 		}
 		// 画像設定
-		mospParams.setFile(new ImageContents(historyDto.getFileType(), historyDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(historyDto));
 		// ファイル名設定
 		mospParams.setFileName(historyDto.getFileName());
 	}
@@ -298,8 +300,8 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 		int rowId = getTransferredIndex();
 		// バイナリ一覧参照クラス取得
 		HumanBinaryArrayReferenceBeanInterface binaryArray = reference().humanBinaryArray();
-		// バイナリ一覧情報取得
-		HumanBinaryArrayDtoInterface arrayDto = binaryArray.findForKey(vo.getPersonalId(), division, rowId);
+		// バイナリ一覧情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryArrayDtoInterface arrayDto = binaryArray.findForKeyExceptBinary(vo.getPersonalId(), division, rowId);
 		// 情報確認
 		if (arrayDto == null) {
 			// エラーメッセジ
@@ -307,7 +309,7 @@ public class HumanBinaryOutputFileAction extends PlatformHumanAction {
 			return;
 		}
 		// 画像設定
-		mospParams.setFile(new ImageContents(arrayDto.getFileType(), arrayDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(arrayDto));
 		// ファイル名設定
 		mospParams.setFileName(arrayDto.getFileName());
 	}
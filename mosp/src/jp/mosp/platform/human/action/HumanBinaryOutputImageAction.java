@@ -21,7 +21,6 @@ import java.util.Date;
 
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
-import jp.mosp.framework.exporter.ImageContents;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.base.PlatformAction;
 import jp.mosp.platform.bean.human.HumanBinaryArrayReferenceBeanInterface;
@@ -124,10 +123,11 @@ public class HumanBinaryOutputImageAction extends PlatformHumanAction {
 		HumanBinaryNormalCardVo vo = (HumanBinaryNormalCardVo)mospParams.getVo();
 		// 人事汎用バイナリ通常情報参照クラス取得
 		HumanBinaryNormalReferenceBeanInterface binaryNormal = reference().humanBinaryNormal();
-		// 人事汎用バイナリ通常情報取得
-		HumanBinaryNormalDtoInterface normalDto = binaryNormal.findForInfo(vo.getPersonalId(), vo.getDivision());
+		// 人事汎用バイナリ通常情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryNormalDtoInterface normalDto = binaryNormal.findForInfoExceptBinary(vo.getPersonalId(),
+				vo.getDivision());
 		// 画像設定
-		mospParams.setFile(new ImageContents(normalDto.getFileType(), normalDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(normalDto));
 		// ファイル名設定
 		mospParams.setFileName(normalDto.getFileName());
 	}
@@ -145,11 +145,11 @@ public class HumanBinaryOutputImageAction extends PlatformHumanAction {
 		String year = mospParams.getRequestParam("historyYear");
 		String month = mospParams.getRequestParam("historyMonth");
 		String day = mospParams.getRequestParam("historyDay");
-		// 人事汎用バイナリ通常情報取得
-		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfo(vo.getPersonalId(), vo.getDivision(),
-				DateUtility.getDate(year, month, day));
+		// 人事汎用バイナリ通常情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfoExceptBinary(vo.getPersonalId(),
+				vo.getDivision(), DateUtility.getDate(year, month, day));
 		// 画像設定
-		mospParams.setFile(new ImageContents(historyDto.getFileType(), historyDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(historyDto));
 		// ファイル名設定
 		mospParams.setFileName(historyDto.getFileName());
 	}
@@ -165,11 +165,11 @@ public class HumanBinaryOutputImageAction extends PlatformHumanAction {
 		Date activeDate = getDate(getTransferredActivateDate());
 		// 人事汎用バイナリ通常情報参照クラス取得
 		HumanBinaryHistoryReferenceBeanInterface binaryHistory = reference().humanBinaryHistory();
-		// 人事汎用バイナリ通常情報取得
-		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfo(vo.getPersonalId(), vo.getDivision(),
-				activeDate);
+		// 人事汎用バイナリ通常情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryHistoryDtoInterface historyDto = binaryHistory.findForInfoExceptBinary(vo.getPersonalId(),
+				vo.getDivision(), activeDate);
 		// 画像設定
-		mospParams.setFile(new ImageContents(historyDto.getFileType(), historyDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(historyDto));
 		// ファイル名設定
 		mospParams.setFileName(historyDto.getFileName());
 	}
@@ -185,15 +185,16 @@ public class HumanBinaryOutputImageAction extends PlatformHumanAction {
 		int rowId = getTransferredIndex();
 		// バイナリ一覧参照クラス取得
 		HumanBinaryArrayReferenceBeanInterface binaryArray = reference().humanBinaryArray();
-		// バイナリ一覧情報取得
-		HumanBinaryArrayDtoInterface arrayDto = binaryArray.findForKey(vo.getPersonalId(), vo.getDivision(), rowId);
+		// バイナリ一覧情報取得(人事項目値は出力時に読み込む)
+		HumanBinaryArrayDtoInterface arrayDto = binaryArray.findForKeyExceptBinary(vo.getPersonalId(), vo.getDivision(),
+				rowId);
 		// 情報確認
 		if (arrayDto == null) {
 			// TODO mospParams.addErrorMessage(key, replacements)
 			return;
 		}
 		// 画像設定
-		mospParams.setFile(new ImageContents(arrayDto.getFileType(), arrayDto.getHumanItemBinary()));
+		mospParams.setFile(getImageContents(arrayDto));
 		// ファイル名設定
 		mospParams.setFileName(arrayDto.getFileName());
 	}
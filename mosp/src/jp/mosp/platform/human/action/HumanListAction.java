@@ -183,6 +183,8 @@ public class HumanListAction extends PlatformHumanAction {
 		setPulldown();
 		// 一覧初期化
 		setList(new ArrayList<BaseDtoInterface>());
+		// 検索条件初期化
+		vo.setSearchCondition(null);
 		// ソートキー設定
 		vo.setComparatorName(EmployeeCodeComparator.class.getName());
 	}
@@ -208,6 +210,9 @@ public class HumanListAction extends PlatformHumanAction {
 		setList(new ArrayList<BaseDtoInterface>());
 		// データ配列初期化
 		vo.setList(new ArrayList<BaseDtoInterface>());
+		vo.setPagedList(false);
+		// 検索条件初期化
+		vo.setSearchCondition(null);
 	}
 	
 	/**
@@ -223,8 +228,6 @@ public class HumanListAction extends PlatformHumanAction {
 			mospParams.addErrorMessage(PlatformMessageConst.MSG_EFFECTIVE_DAY);
 			return;
 		}
-		// 検索クラス取得
-		HumanSearchBeanInterface humanSearch = reference().humanSearch();
 		// 検索条件確認
 		checkSearchCondition(vo.getTxtEmployeeCode(), vo.getTxtLastName(), vo.getPltWorkPlaceAbbr(),
 				vo.getPltEmploymentName(), vo.getPltSectionAbbr(), vo.getPltPositionName(), vo.getPltState(),
@@ -232,57 +235,129 @@ public class HumanListAction extends PlatformHumanAction {
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
-		// 検索条件設定
-		humanSearch.setTargetDate(getActivateDate());
-		humanSearch.setEmployeeCode(vo.getTxtEmployeeCode());
-		humanSearch.setLastName(vo.getTxtLastName());
-		humanSearch.setWorkPlaceCode(vo.getPltWorkPlaceAbbr());
-		humanSearch.setSectionCode(vo.getPltSectionAbbr());
-		humanSearch.setPositionCode(vo.getPltPositionName());
-		humanSearch.setEmploymentContractCode(vo.getPltEmploymentName());
-		humanSearch.setFirstName(vo.getTxtFirstName());
-		humanSearch.setLastKana(vo.getTxtLastKana());
-		humanSearch.setLastKanaType(vo.getPltLastKana());
-		humanSearch.setFirstKana(vo.getTxtFirstKana());
-		humanSearch.setStateType(vo.getPltState());
-		humanSearch.setInformationType(vo.getPltInfoType());
-		humanSearch.setSearchWord(vo.getTxtSearchWord());
-		humanSearch.setEmployeeCodeType(vo.getPltEmployeeCode());
-		humanSearch.setFirstKanaType(vo.getPltFirstKana());
-		humanSearch.setFirstNameType(vo.getPltFirstName());
-		humanSearch.setLastNameType(vo.getPltLastName());
-		// 検索条件設定(下位所属要否)
-		humanSearch.setNeedLowerSection(true);
-		// 検索条件設定(兼務要否)
-		humanSearch.setNeedConcurrent(true);
-		// 検索条件設定(操作区分)
-		humanSearch.setOperationType(MospConst.OPERATION_TYPE_REFER);
-		// 検索
-		List<HumanListDtoInterface> list = humanSearch.getHumanList();
-		// 検索結果設定
-		vo.setList(list);
+		// 検索有効日設定
+		vo.setActivateDate(getActivateDate());
+		// 検索条件保持
+		vo.setSearchCondition(getSearchCondition(vo));
+		// 検索クラス取得
+		HumanSearchBeanInterface humanSearch = getHumanSearch();
 		// ソートキー及びソート順設定
 		vo.setComparatorName(EmployeeCodeComparator.class.getName());
 		vo.setAscending(false);
+		// ページ単位で取得できる場合
+		if (humanSearch.isPageable(vo.getComparatorName())) {
+			// 検索結果件数設定
+			vo.setPagedList(true);
+			vo.setListCount(humanSearch.getHumanCount());
+			vo.setList(new ArrayList<BaseDtoInterface>());
+		} else {
+			// 検索結果設定
+			vo.setPagedList(false);
+			vo.setList(humanSearch.getHumanList());
+		}
 		// ソート
 		sort();
 		// 検索結果確認
-		if (list.size() == 0) {
+		if (vo.getListCount() == 0) {
 			// 検索結果無しメッセージ設定
 			addNoSearchResultMessage();
-			return;
 		}
-		// 検索有効日設定
-		vo.setActivateDate(getActivateDate());
+	}
+	
+	/**
+	 * 検索を実行した時点の検索条件を取得する。<br>
+	 * VOに設定されている検索条件及び検索有効日を、別のVOに複製する。<br>
+	 * @param vo 人事情報一覧VO
+	 * @return 検索条件
+	 */
+	protected HumanListVo getSearchCondition(HumanListVo vo) {
+		HumanListVo condition = new HumanListVo();
+		condition.setActivateDate(vo.getActivateDate());
+		condition.setTxtEmployeeCode(vo.getTxtEmployeeCode());
+		condition.setTxtLastName(vo.getTxtLastName());
+		condition.setPltWorkPlaceAbbr(vo.getPltWorkPlaceAbbr());
+		condition.setPltSectionAbbr(vo.getPltSectionAbbr());
+		condition.setPltPositionName(vo.getPltPositionName());
+		condition.setPltEmploymentName(vo.getPltEmploymentName());
+		condition.setTxtFirstName(vo.getTxtFirstName());
+		condition.setTxtLastKana(vo.getTxtLastKana());
+		condition.setPltLastKana(vo.getPltLastKana());
+		condition.setTxtFirstKana(vo.getTxtFirstKana());
+		condition.setPltState(vo.getPltState());
+		condition.setPltInfoType(vo.getPltInfoType());
+		condition.setTxtSearchWord(vo.getTxtSearchWord());
+		condition.setPltEmployeeCode(vo.getPltEmployeeCode());
+		condition.setPltFirstKana(vo.getPltFirstKana());
+		condition.setPltFirstName(vo.getPltFirstName());
+		condition.setPltLastName(vo.getPltLastName());
+		return condition;
+	}
+	
+	/**
+	 * 検索を実行した時点の検索条件を設定した人事マスタ検索クラスを取得する。<br>
+	 * ページ繰り及びソートで画面の編集中の検索条件が用いられないよう、
+	 * VOに保持した検索条件を用いる。<br>
+	 * 対象日には、検索有効日を設定する。<br>
+	 * @return 人事マスタ検索クラス
+	 * @throws MospException インスタンスの取得に失敗した場合
+	 */
+	protected HumanSearchBeanInterface getHumanSearch() throws MospException {
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// 検索条件取得
+		HumanListVo condition = vo.getSearchCondition();
+		if (condition == null) {
+			condition = getSearchCondition(vo);
+		}
+		// 検索クラス取得
+		HumanSearchBeanInterface humanSearch = reference().humanSearch();
+		// 検索条件設定
+		humanSearch.setTargetDate(condition.getActivateDate());
+		humanSearch.setEmployeeCode(condition.getTxtEmployeeCode());
+		humanSearch.setLastName(condition.getTxtLastName());
+		humanSearch.setWorkPlaceCode(condition.getPltWorkPlaceAbbr());
+		humanSearch.setSectionCode(condition.getPltSectionAbbr());
+		humanSearch.setPositionCode(condition.getPltPositionName());
+		humanSearch.setEmploymentContractCode(condition.getPltEmploymentName());
+		humanSearch.setFirstName(condition.getTxtFirstName());
+		humanSearch.setLastKana(condition.getTxtLastKana());
+		humanSearch.setLastKanaType(condition.getPltLastKana());
+		humanSearch.setFirstKana(condition.getTxtFirstKana());
+		humanSearch.setStateType(condition.getPltState());
+		humanSearch.setInformationType(condition.getPltInfoType());
+		humanSearch.setSearchWord(condition.getTxtSearchWord());
+		humanSearch.setEmployeeCodeType(condition.getPltEmployeeCode());
+		humanSearch.setFirstKanaType(condition.getPltFirstKana());
+		humanSearch.setFirstNameType(condition.getPltFirstName());
+		humanSearch.setLastNameType(condition.getPltLastName());
+		// 検索条件設定(下位所属要否)
+		humanSearch.setNeedLowerSection(true);
+		// 検索条件設定(兼務要否)
+		humanSearch.setNeedConcurrent(true);
+		// 検索条件設定(操作区分)
+		humanSearch.setOperationType(MospConst.OPERATION_TYPE_REFER);
+		return humanSearch;
 	}
 	
 	/**
 	 * ソート処理を行う。<br>
+	 * ページ単位取得中にSQLで並び替えられないソートキーが指定された場合は、
+	 * 全件を取得してソートする。<br>
 	 * @throws MospException VO、或いは比較クラスの取得に失敗した場合
 	 */
 	protected void sort() throws MospException {
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// ソートキー取得
+		String sortKey = getTransferredSortKey();
+		// ページ単位取得中にSQLで並び替えられないソートキーが指定された場合
+		if (vo.isPagedList() && sortKey != null && getHumanSearch().isPageable(sortKey) == false) {
+			// 全件取得
+			vo.setPagedList(false);
+			vo.setList(getHumanSearch().getHumanList());
+		}
 		// 検索
-		setList(sortList(getTransferredSortKey()));
+		setList(sortList(sortKey));
 	}
 	
 	/**
@@ -291,7 +366,15 @@ public class HumanListAction extends PlatformHumanAction {
 	 */
 	protected void page() throws MospException {
 		// ページ繰り及びリスト設定
-		setList(pageList());
+		setList(getPagedList());
+	}
+	
+	@Override
+	protected List<? extends BaseDtoInterface> getPageList(int offset, int limit) throws MospException {
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// 選択ページ分の人事一覧情報リストを取得(昇順降順フラグがtrueの場合は降順)
+		return getHumanSearch().getHumanList(vo.getComparatorName(), vo.isAscending(), offset, limit);
 	}
 	
 	/**
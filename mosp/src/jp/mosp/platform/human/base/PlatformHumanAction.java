@@ -17,6 +17,11 @@
  */
 package jp.mosp.platform.human.base;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -26,8 +31,11 @@ import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.comparator.IndexComparator;
 import jp.mosp.framework.constant.ExceptionConst;
 import jp.mosp.framework.constant.MospConst;
+import jp.mosp.framework.exporter.HumanBinaryExporter;
+import jp.mosp.framework.exporter.ImageContents;
 import jp.mosp.framework.property.CodeItemProperty;
 import jp.mosp.framework.property.CodeProperty;
+import jp.mosp.framework.utils.BinaryUtility;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.framework.utils.RoleUtility;
@@ -35,6 +43,9 @@ import jp.mosp.platform.base.PlatformAction;
 import jp.mosp.platform.bean.human.HumanSearchBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.platform.dto.human.HumanBinaryArrayDtoInterface;
+import jp.mosp.platform.dto.human.HumanBinaryHistoryDtoInterface;
+import jp.mosp.platform.dto.human.HumanBinaryNormalDtoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.human.constant.PlatformHumanConst;
 import jp.mosp.platform.portal.action.PortalAction;
@@ -358,4 +369,141 @@ public abstract class PlatformHumanAction extends PlatformAction {
 		return array;
 	}
 	
+	/**
+	 * 人事汎用バイナリ通常情報の出力内容を取得する。<br>
+	 * @param dto 人事汎用バイナリ通常情報(人事項目値は不要)
+	 * @return 人事汎用バイナリ出力内容
+	 * @throws MospException 人事項目値の書出に失敗した場合
+	 */
+	protected ImageContents getImageContents(HumanBinaryNormalDtoInterface dto) throws MospException {
+		// ETag作成
+		String etag = getEtag("normal" + dto.getPfaHumanBinaryNormalId(), dto.getUpdateDate());
+		// リクエストのETagと一致する場合(人事項目値を読み込まない)
+		if (isNotModified(etag)) {
+			return new ImageContents(dto.getFileType(), null, etag, dto.getUpdateDate());
+		}
+		// 人事項目値を一時ファイルに書出
+		File file = BinaryUtility.createTempFile();
+		OutputStream out = openFile(file);
+		boolean isWritten = false;
+		try {
+			reference().humanBinaryNormal().writeBinary(dto.getPfaHumanBinaryNormalId(), out);
+			isWritten = true;
+		} finally {
+			closeFile(file, out, isWritten);
+		}
+		return new ImageContents(dto.getFileType(), file, etag, dto.getUpdateDate());
+	}
+	
+	/**
+	 * 人事汎用バイナリ履歴情報の出力内容を取得する。<br>
+	 * @param dto 人事汎用バイナリ履歴情報(人事項目値は不要)
+	 * @return 人事汎用バイナリ出力内容
+	 * @throws MospException 人事項目値の書出に失敗した場合
+	 */
+	protected ImageContents getImageContents(HumanBinaryHistoryDtoInterface dto) throws MospException {
+		// ETag作成
+		String etag = getEtag("history" + dto.getPfaHumanBinaryHistoryId(), dto.getUpdateDate());
+		// リクエストのETagと一致する場合(人事項目値を読み込まない)
+		if (isNotModified(etag)) {
+			return new ImageContents(dto.getFileType(), null, etag, dto.getUpdateDate());
+		}
+		// 人事項目値を一時ファイルに書出
+		File file = BinaryUtility.createTempFile();
+		OutputStream out = openFile(file);
+		boolean isWritten = false;
+		try {
+			reference().humanBinaryHistory().writeBinary(dto.getPfaHumanBinaryHistoryId(), out);
+			isWritten = true;
+		} finally {
+			closeFile(file, out, isWritten);
+		}
+		return new ImageContents(dto.getFileType(), file, etag, dto.getUpdateDate());
+	}
+	
+	/**
+	 * 人事汎用バイナリ一覧情報の出力内容を取得する。<br>
+	 * @param dto 人事汎用バイナリ一覧情報(人事項目値は不要)
+	 * @return 人事汎用バイナリ出力内容
+	 * @throws MospException 人事項目値の書出に失敗した場合
+	 */
+	protected ImageContents getImageContents(HumanBinaryArrayDtoInterface dto) throws MospException {
+		// ETag作成
+		String etag = getEtag("array" + dto.getPfaHumanBinaryArrayId(), dto.getUpdateDate());
+		// リクエストのETagと一致する場合(人事項目値を読み込まない)
+		if (isNotModified(etag)) {
+			return new ImageContents(dto.getFileType(), null, etag, dto.getUpdateDate());
+		}
+		// 人事項目値を一時ファイルに書出
+		File file = BinaryUtility.createTempFile();
+		OutputStream out = openFile(file);
+		boolean isWritten = false;
+		try {
+			reference().humanBinaryArray().writeBinary(dto.getPfaHumanBinaryArrayId(), out);
+			isWritten = true;
+		} finally {
+			closeFile(file, out, isWritten);
+		}
+		return new ImageContents(dto.getFileType(), file, etag, dto.getUpdateDate());
+	}
+	
+	/**
+	 * 人事汎用バイナリ出力内容のETagを取得する。<br>
+	 * レコード識別キー及び更新日時から作成し、
+	 * 条件付リクエスト及び範囲リクエストに対応できるようにする。<br>
+	 * @param recordKey  レコード識別キー
+	 * @param updateDate 更新日時
+	 * @return ETag
+	 */
+	protected String getEtag(String recordKey, Date updateDate) {
+		long updateTime = updateDate == null ? 0L : updateDate.getTime();
+		return "\"" + recordKey + "-" + updateTime + "\"";
+	}
+	
+	/**
+	 * リクエストのETag(If-None-Match)が一致し、出力内容が更新されていないかを確認する。<br>
+	 * 一致する場合は、人事項目値を読み込まずに304を返す。<br>
+	 * @param etag ETag
+	 * @return 確認結果(true：更新されていない、false：更新されている)
+	 */
+	protected boolean isNotModified(String etag) {
+		return HumanBinaryExporter.isMatch(etag, (String)mospParams.getGeneralParam(MospConst.ATT_IF_NONE_MATCH));
+	}
+	
+	/**
+	 * 一時ファイルの出力ストリームを開く。<br>
+	 * @param file 一時ファイル
+	 * @return 出力ストリーム
+	 * @throws MospException 出力ストリームを開けなかった場合
+	 */
+	protected OutputStream openFile(File file) throws MospException {
+		try {
+			return new BufferedOutputStream(new FileOutputStream(file));
+		} catch (IOException e) {
+			file.delete();
+			throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+		}
+	}
+	
+	/**
+	 * 一時ファイルの出力ストリームを閉じる。<br>
+	 * 書出に失敗した場合は、一時ファイルを削除する。<br>
+	 * @param file      一時ファイル
+	 * @param out       出力ストリーム
+	 * @param isWritten 書出結果(true：成功、false：失敗)
+	 * @throws MospException 出力ストリームを閉じられなかった場合
+	 */
+	protected void closeFile(File file, OutputStream out, boolean isWritten) throws MospException {
+		try {
+			out.close();
+		} catch (IOException e) {
+			file.delete();
+			throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+		}
+		// 書出に失敗した場合
+		if (isWritten == false) {
+			file.delete();
+		}
+	}
+	
 }
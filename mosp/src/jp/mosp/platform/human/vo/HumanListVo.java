@@ -74,6 +74,13 @@ public class HumanListVo extends PlatformVo {
 	 */
 	private Date				activateDate;
 	
+	/**
+	 * 検索条件。<br>
+	 * 検索を実行した時点の検索条件を保持する。<br>
+	 * ページ繰り及びソートでは、画面で編集された検索条件ではなくこれを用いる。<br>
+	 */
+	private HumanListVo			searchCondition;
+	
 	// プルダウンリスト
 	/**
 	 * 勤務地プルダウンリスト
@@ -603,6 +610,20 @@ public class HumanListVo extends PlatformVo {
 		this.activateDate = getDateClone(activateDate);
 	}
 	
+	/**
+	 * @return searchCondition
+	 */
+	public HumanListVo getSearchCondition() {
+		return searchCondition;
+	}
+	
+	/**
+	 * @param searchCondition セットする searchCondition
+	 */
+	public void setSearchCondition(HumanListVo searchCondition) {
+		this.searchCondition = searchCondition;
+	}
+	
 	/**
 	 * @param aryPersonalId セットする aryPersonalId
 	 */
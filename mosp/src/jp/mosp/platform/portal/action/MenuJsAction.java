@@ -0,0 +1,67 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.portal.action;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.exporter.ScriptContents;
+import jp.mosp.framework.utils.MenuJsUtility;
+import jp.mosp.platform.base.PlatformAction;
+
+/**
+ * メニュー用JSを出力する。<br>
+ * <br>
+ * メニュー用JSはログインユーザのロール毎に作成され保持されており、
+ * バージョン付きURLで参照させることで、ブラウザにキャッシュさせる。<br>
+ */
+public class MenuJsAction extends PlatformAction {
+	
+	/**
+	 * メニュー用JS出力コマンド。<br>
+	 * ログインユーザのロールに応じたメニュー用JSを出力する。<br>
+	 */
+	public static final String CMD_OUTPUT = "PF0050";
+	
+	
+	/**
+	 * {@link PlatformAction#PlatformAction()}を実行する。<br>
+	 */
+	public MenuJsAction() {
+		super();
+	}
+	
+	@Override
+	public void action() throws MospException {
+		// コマンド毎の処理
+		if (mospParams.getCommand().equals(CMD_OUTPUT)) {
+			// 出力
+			output();
+		} else {
+			throwInvalidCommandException();
+		}
+	}
+	
+	/**
+	 * {@link #CMD_OUTPUT}参照。
+	 */
+	protected void output() {
+		// メニュー用JS及びそのバージョンを送出ファイルとして設定
+		mospParams.setFile(new ScriptContents(MenuJsUtility.getMenuJs(mospParams),
+				MenuJsUtility.getMenuJsVersion(mospParams)));
+	}
+	
+}
@@ -0,0 +1,449 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.TransactionUtility;
+import jp.mosp.platform.dao.human.EntranceDaoInterface;
+import jp.mosp.platform.dao.human.RetirementDaoInterface;
+import jp.mosp.platform.dao.human.SuspensionDaoInterface;
+import jp.mosp.platform.dto.human.EntranceDtoInterface;
+import jp.mosp.platform.dto.human.RetirementDtoInterface;
+import jp.mosp.platform.dto.human.SuspensionDtoInterface;
+
+/**
+ * 在職状態(入社、休職、退職)の保持に関する有用なメソッドを提供する。<br>
+ * <br>
+ * 人事入社情報、人事休職情報及び人事退職情報を全件取得して個人ID毎に保持し、
+ * 対象日或いは対象期間における在職状態をDBに問い合わせずに確認できるようにする。<br>
+ * 保持期間は、MosPアプリケーション設定(EmploymentTimelineTtl)で設定する(秒)。<br>
+ * 在職状態は、DB接続先毎(DB接続先キー毎)に保持する。<br>
+ * <br>
+ * 入社情報、休職情報及び退職情報の登録時には、{@link #invalidate(MospParams, Connection)}で保持している在職状態を
+ * トランザクション終了時に破棄し、次のリクエストで改めて取得させる。<br>
+ * 登録したトランザクションでは、コミット前の情報をDBから取得させるため、終了するまで在職状態を利用させない。<br>
+ * また、破棄する度に世代番号を進め、取得中に世代番号が進んだ在職状態は保持しない。<br>
+ */
+public class EmploymentTimelineUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(在職状態保持期間(秒))。<br>
+	 * 0以下が設定されている場合は、在職状態を保持しない。<br>
+	 */
+	protected static final String		APP_EMPLOYMENT_TIMELINE_TTL		= "EmploymentTimelineTtl";
+	
+	/**
+	 * 在職状態保持期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int			DEFAULT_EMPLOYMENT_TIMELINE_TTL	= 300;
+	
+	/**
+	 * ミリ秒(1秒)。<br>
+	 */
+	protected static final long			MILLI_SECOND					= 1000L;
+	
+	/**
+	 * 在職状態群(key：DB接続先キー)。<br>
+	 * <br>
+	 * 他パッケージに変更されないよう、パッケージプロテクテッドとする。<br>
+	 */
+	static final ConcurrentMap<String, EmploymentTimeline>	employmentTimelines				= new ConcurrentHashMap<String, EmploymentTimeline>();
+	
+	/**
+	 * 入社情報、休職情報或いは退職情報を登録したトランザクションのDBコネクション群(key：DB接続先キー)。<br>
+	 * トランザクション終了時に除かれる。<br>
+	 */
+	static final ConcurrentMap<String, Set<Connection>>		dirtyConnections				= new ConcurrentHashMap<String, Set<Connection>>();
+	
+	/**
+	 * 在職状態世代番号群(key：DB接続先キー)。<br>
+	 * 在職状態を破棄する度に進める。<br>
+	 */
+	static final ConcurrentMap<String, AtomicLong>			generations						= new ConcurrentHashMap<String, AtomicLong>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private EmploymentTimelineUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 在職状態を取得する。<br>
+	 * 保持している在職状態が保持期間を過ぎている場合は、DBから改めて取得する。<br>
+	 * 保持期間が0以下である場合は、nullを返す。<br>
+	 * 入社情報、休職情報或いは退職情報を登録したトランザクションである場合も、nullを返す。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @return 在職状態
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	public static EmploymentTimeline getTimeline(MospParams mospParams, Connection connection) throws MospException {
+		// 保持期間を取得
+		long ttl = mospParams.getApplicationProperty(APP_EMPLOYMENT_TIMELINE_TTL, DEFAULT_EMPLOYMENT_TIMELINE_TTL)
+				* MILLI_SECOND;
+		// 保持期間が0以下である場合
+		if (ttl <= 0) {
+			return null;
+		}
+		// DB接続先キーを取得
+		String key = DBConnBean.getConnectionKey(mospParams);
+		// 入社情報、休職情報或いは退職情報を登録したトランザクションである場合
+		if (isAvailable(key, connection) == false) {
+			return null;
+		}
+		// 保持している在職状態を取得
+		EmploymentTimeline timeline = employmentTimelines.get(key);
+		// 保持期間内である場合
+		if (timeline != null && System.currentTimeMillis() - timeline.loadTime < ttl) {
+			return timeline;
+		}
+		// 在職状態世代番号を取得(取得前)
+		AtomicLong generation = getGeneration(key);
+		long loadGeneration = generation.get();
+		// DAO準備
+		EntranceDaoInterface entranceDao = InstanceFactory.loadDaoInstance(EntranceDaoInterface.class, mospParams,
+				connection);
+		SuspensionDaoInterface suspensionDao = InstanceFactory.loadDaoInstance(SuspensionDaoInterface.class,
+				mospParams, connection);
+		RetirementDaoInterface retirementDao = InstanceFactory.loadDaoInstance(RetirementDaoInterface.class,
+				mospParams, connection);
+		// 入社情報、休職情報及び退職情報を全件取得し在職状態を作成
+		timeline = new EmploymentTimeline(System.currentTimeMillis());
+		for (Object obj : entranceDao.findAll()) {
+			timeline.addEntrance((EntranceDtoInterface)obj);
+		}
+		for (Object obj : retirementDao.findAll()) {
+			timeline.addRetirement((RetirementDtoInterface)obj);
+		}
+		timeline.setSuspensions(suspensionDao.findAll());
+		employmentTimelines.put(key, timeline);
+		// 取得中に世代番号が進んだ場合(コミット前の情報で作成した可能性があるため保持しない)
+		if (generation.get() != loadGeneration) {
+			employmentTimelines.remove(key, timeline);
+		}
+		return timeline;
+	}
+	
+	/**
+	 * トランザクション終了時に、保持している在職状態を破棄する。<br>
+	 * 入社情報、休職情報或いは退職情報が登録された場合に用いる。<br>
+	 * トランザクションが終了するまでは、当該DBコネクションで在職状態を利用させない。<br>
+	 * 破棄するのは、当該DB接続先の在職状態のみとする。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	public static void invalidate(MospParams mospParams, final Connection connection) {
+		// DB接続先キーを取得
+		final String key = DBConnBean.getConnectionKey(mospParams);
+		if (connection != null) {
+			Set<Connection> set = dirtyConnections.get(key);
+			if (set == null) {
+				Set<Connection> created = Collections.newSetFromMap(new ConcurrentHashMap<Connection, Boolean>());
+				set = dirtyConnections.putIfAbsent(key, created);
+				if (set == null) {
+					set = created;
+				}
+			}
+			set.add(connection);
+		}
+		TransactionUtility.afterTransaction(connection, new Runnable() {
+			
+			@Override
+			public void run() {
+				// 世代番号を進める(取得中の在職状態を保持させない)
+				getGeneration(key).incrementAndGet();
+				employmentTimelines.remove(key);
+				if (connection != null) {
+					Set<Connection> set = dirtyConnections.get(key);
+					if (set != null) {
+						set.remove(connection);
+					}
+				}
+			}
+		});
+	}
+	
+	/**
+	 * 在職状態を利用できるDBコネクションであるかを確認する。<br>
+	 * 入社情報、休職情報或いは退職情報を登録したトランザクションでは、利用しない。<br>
+	 * @param key        DB接続先キー
+	 * @param connection DBコネクション
+	 * @return 確認結果(true：利用できる、false：利用できない)
+	 */
+	protected static boolean isAvailable(String key, Connection connection) {
+		if (connection == null) {
+			return true;
+		}
+		Set<Connection> set = dirtyConnections.get(key);
+		return set == null || set.contains(connection) == false;
+	}
+	
+	/**
+	 * DB接続先の在職状態世代番号を取得する。<br>
+	 * @param key DB接続先キー
+	 * @return 在職状態世代番号
+	 */
+	protected static AtomicLong getGeneration(String key) {
+		AtomicLong generation = generations.get(key);
+		if (generation == null) {
+			AtomicLong created = new AtomicLong();
+			generation = generations.putIfAbsent(key, created);
+			if (generation == null) {
+				generation = created;
+			}
+		}
+		return generation;
+	}
+	
+	/**
+	 * 在職状態。<br>
+	 * 個人ID毎に、入社日、退職日及び開始日順の休職期間を保持する。<br>
+	 * 休職期間は、開始日と終了日(終了日が無い場合は終了予定日)の時刻を交互に並べた配列で保持する。<br>
+	 * 終了日及び終了予定日が無い休職情報は、休職期間としない(人事休職情報DAOの条件と同じ)。<br>
+	 */
+	public static final class EmploymentTimeline {
+		
+		/**
+		 * 取得時刻(ミリ秒)。<br>
+		 */
+		final long					loadTime;
+		
+		/**
+		 * 入社日群(key：個人ID)。<br>
+		 */
+		final Map<String, Date>		entranceMap;
+		
+		/**
+		 * 退職日群(key：個人ID)。<br>
+		 */
+		final Map<String, Date>		retirementMap;
+		
+		/**
+		 * 休職期間群(key：個人ID)。<br>
+		 */
+		final Map<String, long[]>	suspensionMap;
+		
+		
+		/**
+		 * 在職状態を生成する。<br>
+		 * @param loadTime 取得時刻(ミリ秒)
+		 */
+		EmploymentTimeline(long loadTime) {
+			this.loadTime = loadTime;
+			entranceMap = new HashMap<String, Date>();
+			retirementMap = new HashMap<String, Date>();
+			suspensionMap = new HashMap<String, long[]>();
+		}
+		
+		/**
+		 * 入社情報を追加する。<br>
+		 * @param dto 人事入社情報
+		 */
+		void addEntrance(EntranceDtoInterface dto) {
+			entranceMap.put(dto.getPersonalId(), dto.getEntranceDate());
+		}
+		
+		/**
+		 * 退職情報を追加する。<br>
+		 * 同一個人IDで複数存在する場合は、最も早い退職日を保持する。<br>
+		 * @param dto 人事退職情報
+		 */
+		void addRetirement(RetirementDtoInterface dto) {
+			Date current = retirementMap.get(dto.getPersonalId());
+			if (current == null || dto.getRetirementDate().before(current)) {
+				retirementMap.put(dto.getPersonalId(), dto.getRetirementDate());
+			}
+		}
+		
+		/**
+		 * 休職情報リストから休職期間群を作成する。<br>
+		 * @param list 人事休職情報リスト
+		 */
+		void setSuspensions(List<?> list) {
+			// 個人ID毎に休職情報を振り分け
+			Map<String, List<SuspensionDtoInterface>> map = new HashMap<String, List<SuspensionDtoInterface>>();
+			for (Object obj : list) {
+				SuspensionDtoInterface dto = (SuspensionDtoInterface)obj;
+				// 終了日及び終了予定日が無い場合(休職中個人ID抽出SQLと同じく休職としない)
+				if (dto.getEndDate() == null && dto.getScheduleEndDate() == null) {
+					continue;
+				}
+				List<SuspensionDtoInterface> personalList = map.get(dto.getPersonalId());
+				if (personalList == null) {
+					personalList = new ArrayList<SuspensionDtoInterface>();
+					map.put(dto.getPersonalId(), personalList);
+				}
+				personalList.add(dto);
+			}
+			// 個人ID毎に開始日順の休職期間配列を作成
+			for (Entry<String, List<SuspensionDtoInterface>> entry : map.entrySet()) {
+				List<SuspensionDtoInterface> personalList = entry.getValue();
+				Collections.sort(personalList, new Comparator<SuspensionDtoInterface>() {
+					
+					@Override
+					public int compare(SuspensionDtoInterface o1, SuspensionDtoInterface o2) {
+						return o1.getStartDate().compareTo(o2.getStartDate());
+					}
+				});
+				long[] terms = new long[personalList.size() * 2];
+				for (int i = 0; i < personalList.size(); i++) {
+					SuspensionDtoInterface dto = personalList.get(i);
+					Date endDate = dto.getEndDate() != null ? dto.getEndDate() : dto.getScheduleEndDate();
+					terms[i * 2] = dto.getStartDate().getTime();
+					terms[i * 2 + 1] = endDate.getTime();
+				}
+				suspensionMap.put(entry.getKey(), terms);
+			}
+		}
+		
+		/**
+		 * 入社日を取得する。<br>
+		 * @param personalId 個人ID
+		 * @return 入社日(入社情報が存在しない場合はnull)
+		 */
+		public Date getEntranceDate(String personalId) {
+			return entranceMap.get(personalId);
+		}
+		
+		/**
+		 * 退職日を取得する。<br>
+		 * @param personalId 個人ID
+		 * @return 退職日(退職情報が存在しない場合はnull)
+		 */
+		public Date getRetirementDate(String personalId) {
+			return retirementMap.get(personalId);
+		}
+		
+		/**
+		 * 対象日において入社しているかを確認する。<br>
+		 * @param personalId 個人ID
+		 * @param targetDate 対象日
+		 * @return 確認結果(true：入社している、false：入社していない)
+		 */
+		public boolean isEntered(String personalId, Date targetDate) {
+			Date entranceDate = entranceMap.get(personalId);
+			return entranceDate != null && targetDate.compareTo(entranceDate) >= 0;
+		}
+		
+		/**
+		 * 対象日において退職しているかを確認する。<br>
+		 * 退職日当日は、退職していないと判断する。<br>
+		 * @param personalId 個人ID
+		 * @param targetDate 対象日
+		 * @return 確認結果(true：退職している、false：退職していない)
+		 */
+		public boolean isRetired(String personalId, Date targetDate) {
+			Date retirementDate = retirementMap.get(personalId);
+			return retirementDate != null && targetDate.compareTo(retirementDate) > 0;
+		}
+		
+		/**
+		 * 対象日において休職しているかを確認する。<br>
+		 * @param personalId 個人ID
+		 * @param targetDate 対象日
+		 * @return 確認結果(true：休職している、false：休職していない)
+		 */
+		public boolean isSuspended(String personalId, Date targetDate) {
+			long[] terms = suspensionMap.get(personalId);
+			if (terms == null) {
+				return false;
+			}
+			long time = targetDate.getTime();
+			for (int i = 0; i < terms.length; i += 2) {
+				// 開始日が対象日より後の場合(以降の休職期間も対象日より後)
+				if (terms[i] > time) {
+					return false;
+				}
+				if (terms[i + 1] >= time) {
+					return true;
+				}
+			}
+			return false;
+		}
+		
+		/**
+		 * 対象期間の全てにおいて休職しているかを確認する。<br>
+		 * 連続する(終了日の翌日が次の開始日である)休職期間は、続けて休職しているとみなす。<br>
+		 * @param personalId 個人ID
+		 * @param startDate  対象期間開始日
+		 * @param endDate    対象期間終了日
+		 * @return 確認結果(true：対象期間の全てで休職している、false：休職していない日がある)
+		 */
+		public boolean isSuspended(String personalId, Date startDate, Date endDate) {
+			long[] terms = suspensionMap.get(personalId);
+			if (terms == null) {
+				return false;
+			}
+			long start = startDate.getTime();
+			long end = endDate.getTime();
+			// 休職終了日準備
+			Long suspensionEnd = null;
+			for (int i = 0; i < terms.length; i += 2) {
+				// 対象期間と重ならない休職期間は対象外
+				if (terms[i] > end || terms[i + 1] < start) {
+					continue;
+				}
+				// 最初の休職期間の場合
+				if (suspensionEnd == null) {
+					// 休職開始日が対象期間開始日の後の場合
+					if (terms[i] > start) {
+						return false;
+					}
+				} else if (terms[i] != DateUtility.addDay(new Date(suspensionEnd.longValue()), 1).getTime()) {
+					// 休職開始日が休職終了日の翌日でない場合
+					break;
+				}
+				suspensionEnd = Long.valueOf(terms[i + 1]);
+			}
+			return suspensionEnd != null && suspensionEnd.longValue() >= end;
+		}
+		
+		/**
+		 * 対象日において在職しているか(入社しており、休職及び退職していないか)を確認する。<br>
+		 * @param personalId 個人ID
+		 * @param targetDate 対象日
+		 * @return 確認結果(true：在職している、false：在職していない)
+		 */
+		public boolean isActive(String personalId, Date targetDate) {
+			return isEntered(personalId, targetDate) && isRetired(personalId, targetDate) == false
+					&& isSuspended(personalId, targetDate) == false;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,349 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.TransactionUtility;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.human.HumanSearchDaoInterface;
+
+/**
+ * 人事汎用情報フリーワード索引の保持に関する有用なメソッドを提供する。<br>
+ * <br>
+ * DB接続先、人事汎用管理区分及び対象日毎に、個人ID毎の表示値を2文字単位の転置索引として保持し、
+ * フリーワード検索の度に個人毎の人事汎用情報を取得しなくて済むようにする。<br>
+ * 個人基本情報(氏名、カナ、住所及び電話番号)の索引は、対象日毎に一度のSQLで作成する。<br>
+ * 保持期間は、MosPアプリケーション設定(FreeWordIndexTtl)で設定する(秒)。<br>
+ * <br>
+ * 人事情報の登録時には、{@link #invalidateAll(MospParams, Connection)}で当該DB接続先の索引を
+ * トランザクション終了時に破棄し、次の検索で改めて作成させる。<br>
+ */
+public class HumanFreeWordIndexUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(フリーワード索引保持期間(秒))。<br>
+	 * 0以下が設定されている場合は、索引を保持しない。<br>
+	 */
+	protected static final String			APP_FREE_WORD_INDEX_TTL		= "FreeWordIndexTtl";
+	
+	/**
+	 * フリーワード索引保持期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int				DEFAULT_FREE_WORD_INDEX_TTL	= 300;
+	
+	/**
+	 * ミリ秒(1秒)。<br>
+	 */
+	protected static final long				MILLI_SECOND				= 1000L;
+	
+	/**
+	 * 索引単位(文字数)。<br>
+	 */
+	protected static final int				GRAM_LENGTH					= 2;
+	
+	/**
+	 * 索引キー区切文字。<br>
+	 */
+	protected static final String			SEPARATOR_KEY				= "\t";
+	
+	/**
+	 * フリーワード索引群。<br>
+	 * key:DB接続先キー、人事汎用管理区分及び対象日<br>
+	 * value:フリーワード索引<br>
+	 * <br>
+	 * 他パッケージに変更されないよう、パッケージプロテクテッドとする。<br>
+	 */
+	static final Map<String, FreeWordIndex>	indexMap					= new ConcurrentHashMap<String, FreeWordIndex>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private HumanFreeWordIndexUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 人事汎用管理区分及び対象日のフリーワード索引を取得する。<br>
+	 * 保持している索引が保持期間を過ぎている場合は、空の索引を作成する。<br>
+	 * 保持期間が0以下である場合は、nullを返す。<br>
+	 * @param mospParams MosP処理情報
+	 * @param division   人事汎用管理区分
+	 * @param targetDate 対象日
+	 * @return フリーワード索引
+	 */
+	public static FreeWordIndex getIndex(MospParams mospParams, String division, Date targetDate) {
+		// 保持期間を取得
+		long ttl = mospParams.getApplicationProperty(APP_FREE_WORD_INDEX_TTL, DEFAULT_FREE_WORD_INDEX_TTL)
+				* MILLI_SECOND;
+		// 保持期間が0以下である場合
+		if (ttl <= 0) {
+			return null;
+		}
+		// 索引キーを作成
+		String key = getKeyPrefix(mospParams) + division + SEPARATOR_KEY
+				+ (targetDate == null ? 0L : targetDate.getTime());
+		// 保持している索引を取得
+		long now = System.currentTimeMillis();
+		FreeWordIndex index = indexMap.get(key);
+		// 保持期間内である場合
+		if (index != null && now - index.createTime < ttl) {
+			return index;
+		}
+		// 保持期間を過ぎた索引を破棄
+		Iterator<FreeWordIndex> iterator = indexMap.values().iterator();
+		while (iterator.hasNext()) {
+			if (now - iterator.next().createTime >= ttl) {
+				iterator.remove();
+			}
+		}
+		// 空の索引を作成
+		index = new FreeWordIndex(now);
+		indexMap.put(key, index);
+		return index;
+	}
+	
+	/**
+	 * 対象日の個人基本情報(氏名、カナ、住所及び電話番号)のフリーワード索引を取得する。<br>
+	 * 索引が作成されていない場合は、対象日における全ての個人の検索対象値を取得して作成する。<br>
+	 * 保持期間が0以下である場合は、保持しない索引を作成して返す。<br>
+	 * @param mospParams MosP処理情報
+	 * @param dao        人事情報検索DAO
+	 * @param targetDate 対象日
+	 * @return フリーワード索引
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	public static FreeWordIndex getHumanIndex(MospParams mospParams, HumanSearchDaoInterface dao, Date targetDate)
+			throws MospException {
+		// 保持している索引を取得
+		FreeWordIndex index = getIndex(mospParams, PlatformConst.FREE_WORD_HUMAN, targetDate);
+		// 保持期間が0以下である場合
+		if (index == null) {
+			index = new FreeWordIndex(System.currentTimeMillis());
+		}
+		synchronized (index) {
+			// 索引が作成されていない場合
+			if (index.loaded == false) {
+				for (Map.Entry<String, List<String>> entry : dao.findForFreeWordValues(targetDate).entrySet()) {
+					index.put(entry.getKey(), entry.getValue());
+				}
+				index.loaded = true;
+			}
+		}
+		return index;
+	}
+	
+	/**
+	 * トランザクション終了時に、保持している全ての索引を破棄する。<br>
+	 * 人事情報が登録された場合に用いる。<br>
+	 * コミット前の人事情報で作成された索引も、トランザクション終了時に破棄される。<br>
+	 * 破棄するのは、当該DB接続先の索引のみとする。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	public static void invalidateAll(MospParams mospParams, Connection connection) {
+		// 索引キー接頭辞を取得
+		final String prefix = getKeyPrefix(mospParams);
+		TransactionUtility.afterTransaction(connection, new Runnable() {
+			
+			@Override
+			public void run() {
+				Iterator<String> iterator = indexMap.keySet().iterator();
+				while (iterator.hasNext()) {
+					if (iterator.next().startsWith(prefix)) {
+						iterator.remove();
+					}
+				}
+			}
+		});
+	}
+	
+	/**
+	 * 索引キー接頭辞(DB接続先キー)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 索引キー接頭辞
+	 */
+	protected static String getKeyPrefix(MospParams mospParams) {
+		return DBConnBean.getConnectionKey(mospParams) + SEPARATOR_KEY;
+	}
+	
+	/**
+	 * フリーワード索引。<br>
+	 * 個人ID毎の表示値と、2文字毎の個人IDの転置リストを保持する。<br>
+	 */
+	public static final class FreeWordIndex {
+		
+		/**
+		 * 作成時刻(ミリ秒)。<br>
+		 */
+		final long						createTime;
+		
+		/**
+		 * 表示値群。<br>
+		 * key:個人ID<br>
+		 * value:表示値リスト<br>
+		 */
+		final Map<String, List<String>>	documents;
+		
+		/**
+		 * 転置リスト群。<br>
+		 * key:2文字<br>
+		 * value:2文字を含む表示値を持つ個人ID群<br>
+		 */
+		final Map<String, Set<String>>	postings;
+		
+		/**
+		 * 全ての個人の表示値が登録済であるか。<br>
+		 * 索引に対するロックを取得した上で参照及び設定する。<br>
+		 */
+		boolean							loaded;
+		
+		
+		/**
+		 * フリーワード索引を生成する。<br>
+		 * @param createTime 作成時刻(ミリ秒)
+		 */
+		FreeWordIndex(long createTime) {
+			this.createTime = createTime;
+			documents = new HashMap<String, List<String>>();
+			postings = new HashMap<String, Set<String>>();
+		}
+		
+		/**
+		 * 対象個人IDが索引に登録されているかを確認する。<br>
+		 * @param personalId 個人ID
+		 * @return 確認結果(true：登録されている、false：登録されていない)
+		 */
+		public synchronized boolean contains(String personalId) {
+			return documents.containsKey(personalId);
+		}
+		
+		/**
+		 * 対象個人IDの表示値を索引に登録する。<br>
+		 * @param personalId 個人ID
+		 * @param values     表示値リスト
+		 */
+		public synchronized void put(String personalId, Collection<String> values) {
+			// 既に登録されている場合
+			if (documents.containsKey(personalId)) {
+				return;
+			}
+			// 表示値リストを登録
+			List<String> list = new ArrayList<String>();
+			for (String value : values) {
+				// 空の表示値は登録しない
+				if (value == null || value.isEmpty()) {
+					continue;
+				}
+				list.add(value);
+				// 2文字毎に転置リストへ登録
+				for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+					String gram = value.substring(i, i + GRAM_LENGTH);
+					Set<String> set = postings.get(gram);
+					if (set == null) {
+						set = new HashSet<String>();
+						postings.put(gram, set);
+					}
+					set.add(personalId);
+				}
+			}
+			documents.put(personalId, list);
+		}
+		
+		/**
+		 * 登録されている個人IDのうち、
+		 * いずれかのフリーワードを含む表示値を持つ個人ID群を取得する。<br>
+		 * 2文字以上のフリーワードは転置リストで候補を絞り込んでから確認する。<br>
+		 * @param arySearchWord フリーワード配列
+		 * @return 個人ID群
+		 */
+		public synchronized Set<String> search(String[] arySearchWord) {
+			// 検索結果準備
+			Set<String> resultSet = new HashSet<String>();
+			// フリーワード毎に処理
+			for (String searchWord : arySearchWord) {
+				// フリーワードがない場合
+				if (searchWord.isEmpty()) {
+					break;
+				}
+				// 候補となる個人ID群を取得
+				for (String personalId : getCandidates(searchWord)) {
+					// 既に検索結果に含まれる場合
+					if (resultSet.contains(personalId)) {
+						continue;
+					}
+					// 表示値毎に確認
+					for (String value : documents.get(personalId)) {
+						if (PlatformUtility.isBroadMatch(searchWord, value)) {
+							resultSet.add(personalId);
+							break;
+						}
+					}
+				}
+			}
+			return resultSet;
+		}
+		
+		/**
+		 * フリーワードを含みうる個人ID群を取得する。<br>
+		 * フリーワードが1文字の場合は、登録されている全ての個人IDを候補とする。<br>
+		 * @param searchWord フリーワード
+		 * @return 個人ID群
+		 */
+		protected Collection<String> getCandidates(String searchWord) {
+			// フリーワードが1文字の場合
+			if (searchWord.length() < GRAM_LENGTH) {
+				return documents.keySet();
+			}
+			// 2文字毎の転置リストの積を取得
+			Set<String> candidates = null;
+			for (int i = 0; i + GRAM_LENGTH <= searchWord.length(); i++) {
+				Set<String> set = postings.get(searchWord.substring(i, i + GRAM_LENGTH));
+				// 転置リストが存在しない場合
+				if (set == null) {
+					return new HashSet<String>();
+				}
+				if (candidates == null) {
+					candidates = new HashSet<String>(set);
+				} else {
+					candidates.retainAll(set);
+				}
+				if (candidates.isEmpty()) {
+					break;
+				}
+			}
+			return candidates;
+		}
+		
+	}
+	
+}
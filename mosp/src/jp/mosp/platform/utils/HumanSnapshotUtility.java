@@ -0,0 +1,453 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.TransactionUtility;
+import jp.mosp.platform.dto.human.HumanDtoInterface;
+
+/**
+ * 人事マスタ全履歴の保持に関する有用なメソッドを提供する。<br>
+ * <br>
+ * 人事マスタの全履歴(未来の有効日のものを含む)を個人ID毎に有効日順で保持し、
+ * 対象日における最新の人事情報を有効日の集約(MAX)を用いずに取得できるようにする。<br>
+ * 保持期間は、MosPアプリケーション設定(HumanSnapshotTtl)で設定する(秒)。<br>
+ * <br>
+ * 全履歴は、DB接続先毎(DB接続先キー毎)に保持する。<br>
+ * <br>
+ * 人事マスタの登録時には、{@link #invalidate(MospParams, Connection, String)}で
+ * トランザクション終了時に対象個人IDを再取得対象とし、
+ * 次に利用する際に対象個人IDの履歴のみを改めて取得させる。<br>
+ * 人事マスタを登録したトランザクションでは、終了するまで人事マスタ全履歴を利用させない。<br>
+ * <br>
+ * 再取得対象とする度に世代番号を進め、取得中に世代番号が進んだ全履歴は保持しない。<br>
+ * これにより、トランザクション終了前に取得した人事情報が保持され続けることを防ぐ。<br>
+ */
+public class HumanSnapshotUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(人事マスタ全履歴保持期間(秒))。<br>
+	 * 0以下が設定されている場合は、全履歴を保持しない。<br>
+	 */
+	protected static final String	APP_HUMAN_SNAPSHOT_TTL		= "HumanSnapshotTtl";
+	
+	/**
+	 * 人事マスタ全履歴保持期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int		DEFAULT_HUMAN_SNAPSHOT_TTL	= 300;
+	
+	/**
+	 * ミリ秒(1秒)。<br>
+	 */
+	protected static final long		MILLI_SECOND				= 1000L;
+	
+	/**
+	 * 再取得対象個人ID数上限。<br>
+	 * 上限を超えた場合は、全履歴を破棄して全件を取得し直させる。<br>
+	 */
+	protected static final int		MAX_STALE_COUNT				= 1000;
+	
+	/**
+	 * 人事マスタ全履歴群(key：DB接続先キー)。<br>
+	 * <br>
+	 * 他パッケージに変更されないよう、パッケージプロテクテッドとする。<br>
+	 */
+	static final ConcurrentMap<String, HumanSnapshot>	humanSnapshots		= new ConcurrentHashMap<String, HumanSnapshot>();
+	
+	/**
+	 * 人事マスタを登録したトランザクションのDBコネクション群(key：DB接続先キー)。<br>
+	 * トランザクション終了時に除かれる。<br>
+	 */
+	static final ConcurrentMap<String, Set<Connection>>	dirtyConnections	= new ConcurrentHashMap<String, Set<Connection>>();
+	
+	/**
+	 * 人事マスタ全履歴世代番号群(key：DB接続先キー)。<br>
+	 * 個人IDを再取得対象とする度に進める。<br>
+	 */
+	static final ConcurrentMap<String, AtomicLong>		generations			= new ConcurrentHashMap<String, AtomicLong>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private HumanSnapshotUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 人事マスタ全履歴を利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return getTtl(mospParams) > 0;
+	}
+	
+	/**
+	 * 保持している人事マスタ全履歴を取得する。<br>
+	 * 保持していない場合或いは保持期間を過ぎている場合は、nullを返す。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 人事マスタ全履歴
+	 */
+	public static HumanSnapshot getSnapshot(MospParams mospParams) {
+		// 保持している全履歴を取得
+		HumanSnapshot snapshot = humanSnapshots.get(DBConnBean.getConnectionKey(mospParams));
+		// 保持期間内である場合
+		if (snapshot != null && System.currentTimeMillis() - snapshot.loadTime < getTtl(mospParams)) {
+			return snapshot;
+		}
+		return null;
+	}
+	
+	/**
+	 * 人事マスタ全履歴世代番号を取得する。<br>
+	 * 人事情報を取得する前に取得し、
+	 * {@link #createSnapshot(MospParams, long, List)}等に渡す。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 人事マスタ全履歴世代番号
+	 */
+	public static long getGeneration(MospParams mospParams) {
+		return getGeneration(DBConnBean.getConnectionKey(mospParams)).get();
+	}
+	
+	/**
+	 * 人事マスタ全履歴を作成し、保持する。<br>
+	 * 人事情報の取得中に世代番号が進んだ場合は、作成した全履歴を保持しない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param generation 人事情報取得前の人事マスタ全履歴世代番号
+	 * @param list       人事情報リスト(削除されていない全履歴)
+	 * @return 人事マスタ全履歴
+	 */
+	public static HumanSnapshot createSnapshot(MospParams mospParams, long generation, List<HumanDtoInterface> list) {
+		// DB接続先キーを取得
+		String key = DBConnBean.getConnectionKey(mospParams);
+		HumanSnapshot snapshot = new HumanSnapshot(System.currentTimeMillis(), list);
+		humanSnapshots.put(key, snapshot);
+		// 取得中に世代番号が進んだ場合
+		if (getGeneration(key).get() != generation) {
+			humanSnapshots.remove(key, snapshot);
+		}
+		return snapshot;
+	}
+	
+	/**
+	 * 人事情報の取得中に世代番号が進んだかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param generation 人事情報取得前の人事マスタ全履歴世代番号
+	 * @return 確認結果(true：進んだ、false：進んでいない)
+	 */
+	public static boolean isChanged(MospParams mospParams, long generation) {
+		return getGeneration(DBConnBean.getConnectionKey(mospParams)).get() != generation;
+	}
+	
+	/**
+	 * 人事マスタ全履歴を利用できるDBコネクションであるかを確認する。<br>
+	 * 人事マスタを登録したトランザクションでは、コミット前の人事情報を参照させるため利用しない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @return 確認結果(true：利用できる、false：利用できない)
+	 */
+	public static boolean isAvailable(MospParams mospParams, Connection connection) {
+		if (connection == null) {
+			return true;
+		}
+		Set<Connection> set = dirtyConnections.get(DBConnBean.getConnectionKey(mospParams));
+		return set == null || set.contains(connection) == false;
+	}
+	
+	/**
+	 * トランザクション終了時に、対象個人IDを再取得対象とする。<br>
+	 * 人事マスタが登録された場合に用いる。<br>
+	 * トランザクションが終了するまでは、当該DBコネクションで人事マスタ全履歴を利用させない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @param personalId 個人ID
+	 */
+	public static void invalidate(MospParams mospParams, final Connection connection, final String personalId) {
+		// DB接続先キーを取得
+		final String key = DBConnBean.getConnectionKey(mospParams);
+		if (connection != null) {
+			Set<Connection> set = dirtyConnections.get(key);
+			if (set == null) {
+				Set<Connection> created = Collections.newSetFromMap(new ConcurrentHashMap<Connection, Boolean>());
+				set = dirtyConnections.putIfAbsent(key, created);
+				if (set == null) {
+					set = created;
+				}
+			}
+			set.add(connection);
+		}
+		TransactionUtility.afterTransaction(connection, new Runnable() {
+			
+			@Override
+			public void run() {
+				invalidate(key, personalId);
+				if (connection != null) {
+					Set<Connection> set = dirtyConnections.get(key);
+					if (set != null) {
+						set.remove(connection);
+					}
+				}
+			}
+		});
+	}
+	
+	/**
+	 * 対象個人IDを再取得対象とする。<br>
+	 * @param key        DB接続先キー
+	 * @param personalId 個人ID
+	 */
+	protected static void invalidate(String key, String personalId) {
+		// 世代番号を進める(取得中の全履歴を保持させない)
+		getGeneration(key).incrementAndGet();
+		HumanSnapshot snapshot = humanSnapshots.get(key);
+		if (snapshot == null) {
+			return;
+		}
+		snapshot.staleSet.add(personalId);
+		// 再取得対象個人ID数が上限を超えた場合
+		if (snapshot.staleSet.size() > MAX_STALE_COUNT) {
+			humanSnapshots.remove(key, snapshot);
+		}
+	}
+	
+	/**
+	 * 保持している人事マスタ全履歴を全てのDB接続先について破棄する。<br>
+	 */
+	public static void invalidateAll() {
+		for (AtomicLong generation : generations.values()) {
+			generation.incrementAndGet();
+		}
+		humanSnapshots.clear();
+	}
+	
+	/**
+	 * DB接続先の人事マスタ全履歴世代番号を取得する。<br>
+	 * @param key DB接続先キー
+	 * @return 人事マスタ全履歴世代番号
+	 */
+	protected static AtomicLong getGeneration(String key) {
+		AtomicLong generation = generations.get(key);
+		if (generation == null) {
+			AtomicLong created = new AtomicLong();
+			generation = generations.putIfAbsent(key, created);
+			if (generation == null) {
+				generation = created;
+			}
+		}
+		return generation;
+	}
+	
+	/**
+	 * 人事マスタ全履歴保持期間(ミリ秒)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 人事マスタ全履歴保持期間(ミリ秒)
+	 */
+	protected static long getTtl(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_HUMAN_SNAPSHOT_TTL, DEFAULT_HUMAN_SNAPSHOT_TTL) * MILLI_SECOND;
+	}
+	
+	/**
+	 * 人事マスタ全履歴。<br>
+	 * 個人ID毎に、有効日順の人事情報履歴を保持する。<br>
+	 * 保持している人事情報は共有されるため、取得した人事情報は変更せずに複製して用いる。<br>
+	 */
+	public static final class HumanSnapshot {
+		
+		/**
+		 * 取得時刻(ミリ秒)。<br>
+		 */
+		final long									loadTime;
+		
+		/**
+		 * 人事情報履歴群(key：個人ID)。<br>
+		 */
+		final Map<String, List<HumanDtoInterface>>	historyMap;
+		
+		/**
+		 * 個人ID群(key：社員コード)。<br>
+		 * 履歴のいずれかで社員コードを用いたことのある個人IDを保持する。<br>
+		 */
+		final Map<String, Set<String>>				codeMap;
+		
+		/**
+		 * 再取得対象個人ID群。<br>
+		 */
+		final Set<String>							staleSet;
+		
+		
+		/**
+		 * 人事マスタ全履歴を生成する。<br>
+		 * @param loadTime 取得時刻(ミリ秒)
+		 * @param list     人事情報リスト
+		 */
+		HumanSnapshot(long loadTime, List<HumanDtoInterface> list) {
+			this.loadTime = loadTime;
+			historyMap = new ConcurrentHashMap<String, List<HumanDtoInterface>>();
+			codeMap = new ConcurrentHashMap<String, Set<String>>();
+			staleSet = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+			// 個人ID毎に振り分け
+			Map<String, List<HumanDtoInterface>> map = new HashMap<String, List<HumanDtoInterface>>();
+			for (HumanDtoInterface dto : list) {
+				List<HumanDtoInterface> history = map.get(dto.getPersonalId());
+				if (history == null) {
+					history = new ArrayList<HumanDtoInterface>();
+					map.put(dto.getPersonalId(), history);
+				}
+				history.add(dto);
+			}
+			for (Entry<String, List<HumanDtoInterface>> entry : map.entrySet()) {
+				refresh(entry.getKey(), entry.getValue());
+			}
+		}
+		
+		/**
+		 * 再取得対象個人IDを取得し、再取得対象から除く。<br>
+		 * 取得した個人IDは、{@link #refresh(String, List)}で履歴を設定し直す必要がある。<br>
+		 * @return 再取得対象個人IDリスト
+		 */
+		public List<String> pollStalePersonalIds() {
+			List<String> list = new ArrayList<String>();
+			for (String personalId : staleSet) {
+				if (staleSet.remove(personalId)) {
+					list.add(personalId);
+				}
+			}
+			return list;
+		}
+		
+		/**
+		 * 対象個人IDを再取得対象に戻す。<br>
+		 * 履歴の取得中に世代番号が進んだ場合に用いる。<br>
+		 * @param personalIds 個人IDリスト
+		 */
+		public void addStalePersonalIds(List<String> personalIds) {
+			staleSet.addAll(personalIds);
+		}
+		
+		/**
+		 * 対象個人IDの人事情報履歴を設定する。<br>
+		 * @param personalId 個人ID
+		 * @param history    人事情報履歴
+		 */
+		public void refresh(String personalId, List<HumanDtoInterface> history) {
+			// 人事情報履歴が存在しない場合
+			if (history.isEmpty()) {
+				historyMap.remove(personalId);
+				return;
+			}
+			// 有効日順に並べ替え
+			List<HumanDtoInterface> sorted = new ArrayList<HumanDtoInterface>(history);
+			Collections.sort(sorted, new Comparator<HumanDtoInterface>() {
+				
+				@Override
+				public int compare(HumanDtoInterface o1, HumanDtoInterface o2) {
+					return o1.getActivateDate().compareTo(o2.getActivateDate());
+				}
+			});
+			// 社員コード毎の個人ID群に追加
+			for (HumanDtoInterface dto : sorted) {
+				Set<String> set = codeMap.get(dto.getEmployeeCode());
+				if (set == null) {
+					set = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+					codeMap.put(dto.getEmployeeCode(), set);
+				}
+				set.add(personalId);
+			}
+			historyMap.put(personalId, Collections.unmodifiableList(sorted));
+		}
+		
+		/**
+		 * 対象日における最新の人事情報を取得する。<br>
+		 * @param personalId 個人ID
+		 * @param targetDate 対象日
+		 * @return 人事情報(対象日以前の履歴が存在しない場合はnull)
+		 */
+		public HumanDtoInterface getHuman(String personalId, Date targetDate) {
+			List<HumanDtoInterface> history = historyMap.get(personalId);
+			if (history == null) {
+				return null;
+			}
+			return getHuman(history, targetDate);
+		}
+		
+		/**
+		 * 対象日における全ての個人の最新の人事情報を取得する。<br>
+		 * @param targetDate 対象日
+		 * @return 人事情報リスト
+		 */
+		public List<HumanDtoInterface> getHumanList(Date targetDate) {
+			List<HumanDtoInterface> list = new ArrayList<HumanDtoInterface>();
+			for (List<HumanDtoInterface> history : historyMap.values()) {
+				HumanDtoInterface dto = getHuman(history, targetDate);
+				if (dto != null) {
+					list.add(dto);
+				}
+			}
+			return list;
+		}
+		
+		/**
+		 * 履歴のいずれかで社員コードを用いたことのある個人ID群を取得する。<br>
+		 * @param employeeCode 社員コード
+		 * @return 個人ID群
+		 */
+		public Set<String> getPersonalIds(String employeeCode) {
+			Set<String> set = codeMap.get(employeeCode);
+			if (set == null) {
+				return Collections.emptySet();
+			}
+			return new HashSet<String>(set);
+		}
+		
+		/**
+		 * 有効日順の人事情報履歴から、対象日における最新の人事情報を取得する。<br>
+		 * @param history    人事情報履歴
+		 * @param targetDate 対象日
+		 * @return 人事情報(対象日以前の履歴が存在しない場合はnull)
+		 */
+		protected HumanDtoInterface getHuman(List<HumanDtoInterface> history, Date targetDate) {
+			HumanDtoInterface result = null;
+			for (HumanDtoInterface dto : history) {
+				if (dto.getActivateDate().after(targetDate)) {
+					break;
+				}
+				result = dto;
+			}
+			return result;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,260 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.utils;
+
+import java.sql.Connection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.TransactionUtility;
+
+/**
+ * ログインユーザ確認結果の保持に関する有用なメソッドを提供する。<br>
+ * <br>
+ * ログインユーザ確認(ユーザ情報及び人事基本情報の存在確認)の結果を、
+ * DB接続先及びユーザID毎に保持する。<br>
+ * SaaS等でDB接続先毎に同じユーザIDが存在しても、他の接続先の確認結果は用いない。<br>
+ * 保持期間は、MosPアプリケーション設定(LoginUserCheckTtl)で設定する(秒)。<br>
+ * <br>
+ * 個人履歴削除、退職情報登録、ユーザ情報登録時等には、
+ * {@link #invalidate(MospParams, Connection, String)}
+ * 或いは{@link #invalidateUser(MospParams, Connection, String)}で
+ * 確認結果を破棄し、次のリクエストで改めて確認させる。<br>
+ * 確認結果の破棄はトランザクション終了時に行うため、コミット前或いは
+ * ロールバックされた情報による確認結果が保持され続けることはない。<br>
+ */
+public class LoginUserCheckUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(ログインユーザ確認結果保持期間(秒))。<br>
+	 * 0以下が設定されている場合は、確認結果を保持しない。<br>
+	 */
+	protected static final String			APP_LOGIN_USER_CHECK_TTL		= "LoginUserCheckTtl";
+	
+	/**
+	 * ログインユーザ確認結果保持期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int				DEFAULT_LOGIN_USER_CHECK_TTL	= 300;
+	
+	/**
+	 * ミリ秒(1秒)。<br>
+	 */
+	protected static final long				MILLI_SECOND					= 1000L;
+	
+	/**
+	 * 確認結果キー区切文字。<br>
+	 */
+	protected static final String			SEPARATOR_KEY					= "\t";
+	
+	/**
+	 * ログインユーザ確認結果群。<br>
+	 * key:DB接続先キー及びユーザID<br>
+	 * value:確認結果<br>
+	 * <br>
+	 * 他パッケージに変更されないよう、パッケージプロテクテッドとする。<br>
+	 */
+	static final Map<String, CheckedUser>	checkedUsers					= new ConcurrentHashMap<String, CheckedUser>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private LoginUserCheckUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 対象ユーザが対象日において確認済であるかを確認する。<br>
+	 * 確認結果の保持期間を過ぎている場合は、確認済でないと判断する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param userId     ユーザID
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @return 確認結果(true：確認済、false：確認済でない)
+	 */
+	public static boolean isChecked(MospParams mospParams, String userId, String personalId, Date targetDate) {
+		// 確認結果を取得
+		String key = getKey(mospParams, userId);
+		CheckedUser checked = checkedUsers.get(key);
+		// 確認結果が存在しない場合
+		if (checked == null) {
+			return false;
+		}
+		// 個人ID或いは確認日が異なる場合
+		if (checked.personalId.equals(personalId) == false || checked.checkDate.equals(targetDate) == false) {
+			return false;
+		}
+		// 保持期間を確認
+		if (System.currentTimeMillis() - checked.checkTime >= getTtl(mospParams)) {
+			// 保持期間を過ぎた確認結果を破棄
+			checkedUsers.remove(key, checked);
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * 対象ユーザを対象日において確認済とする。<br>
+	 * 保持期間が0以下である場合は、何もしない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param userId     ユーザID
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 */
+	public static void setChecked(MospParams mospParams, String userId, String personalId, Date targetDate) {
+		// 保持期間が0以下である場合
+		if (getTtl(mospParams) <= 0) {
+			return;
+		}
+		// 確認結果を設定
+		checkedUsers.put(getKey(mospParams, userId), new CheckedUser(personalId, targetDate, System.currentTimeMillis()));
+	}
+	
+	/**
+	 * トランザクション終了時に、対象個人IDの確認結果を破棄する。<br>
+	 * 個人履歴削除や退職情報登録等、人事情報が変更された場合に用いる。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @param personalId 個人ID
+	 */
+	public static void invalidate(MospParams mospParams, Connection connection, final String personalId) {
+		// キー接頭辞を取得
+		final String prefix = getKeyPrefix(mospParams);
+		TransactionUtility.afterTransaction(connection, new Runnable() {
+			
+			@Override
+			public void run() {
+				invalidate(prefix, personalId);
+			}
+		});
+	}
+	
+	/**
+	 * トランザクション終了時に、対象ユーザIDの確認結果を破棄する。<br>
+	 * ユーザ情報が変更された場合に用いる。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @param userId     ユーザID
+	 */
+	public static void invalidateUser(MospParams mospParams, Connection connection, String userId) {
+		// キーを取得
+		final String key = getKey(mospParams, userId);
+		TransactionUtility.afterTransaction(connection, new Runnable() {
+			
+			@Override
+			public void run() {
+				checkedUsers.remove(key);
+			}
+		});
+	}
+	
+	/**
+	 * 対象DB接続先における対象個人IDの確認結果を破棄する。<br>
+	 * @param prefix     キー接頭辞
+	 * @param personalId 個人ID
+	 */
+	protected static void invalidate(String prefix, String personalId) {
+		// 確認結果毎に処理
+		Iterator<Entry<String, CheckedUser>> iterator = checkedUsers.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Entry<String, CheckedUser> entry = iterator.next();
+			// DB接続先及び個人IDが一致する場合
+			if (entry.getKey().startsWith(prefix) && entry.getValue().personalId.equals(personalId)) {
+				// 確認結果を破棄
+				iterator.remove();
+			}
+		}
+	}
+	
+	/**
+	 * 全ての確認結果を破棄する。<br>
+	 */
+	public static void invalidateAll() {
+		checkedUsers.clear();
+	}
+	
+	/**
+	 * 確認結果のキーを取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param userId     ユーザID
+	 * @return 確認結果のキー
+	 */
+	protected static String getKey(MospParams mospParams, String userId) {
+		return getKeyPrefix(mospParams) + userId;
+	}
+	
+	/**
+	 * 確認結果のキー接頭辞(DB接続先キー)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return キー接頭辞
+	 */
+	protected static String getKeyPrefix(MospParams mospParams) {
+		return DBConnBean.getConnectionKey(mospParams) + SEPARATOR_KEY;
+	}
+	
+	/**
+	 * 確認結果保持期間(ミリ秒)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果保持期間(ミリ秒)
+	 */
+	protected static long getTtl(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_LOGIN_USER_CHECK_TTL, DEFAULT_LOGIN_USER_CHECK_TTL)
+				* MILLI_SECOND;
+	}
+	
+	/**
+	 * ログインユーザ確認結果。<br>
+	 */
+	static final class CheckedUser {
+		
+		/**
+		 * 個人ID。<br>
+		 */
+		final String	personalId;
+		
+		/**
+		 * 確認日。<br>
+		 */
+		final Date		checkDate;
+		
+		/**
+		 * 確認時刻(ミリ秒)。<br>
+		 */
+		final long		checkTime;
+		
+		
+		/**
+		 * ログインユーザ確認結果を生成する。<br>
+		 * @param personalId 個人ID
+		 * @param checkDate  確認日
+		 * @param checkTime  確認時刻(ミリ秒)
+		 */
+		CheckedUser(String personalId, Date checkDate, long checkTime) {
+			this.personalId = personalId;
+			this.checkDate = checkDate;
+			this.checkTime = checkTime;
+		}
+		
+	}
+	
+}
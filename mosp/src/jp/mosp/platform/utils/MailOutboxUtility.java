@@ -0,0 +1,669 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.framework.utils.TransactionUtility;
+import jp.mosp.platform.bean.mail.MailSenderBeanInterface;
+import jp.mosp.platform.constant.PlatformMailConst;
+import jp.mosp.platform.dao.mail.MailOutboxDaoInterface;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+import jp.mosp.platform.dto.mail.impl.PftMailOutboxDto;
+
+/**
+ * メール送信箱に関する有用なメソッドを提供する。<br>
+ * <br>
+ * リクエスト処理ではメッセージ(受信者、件名及び本文)を作成して
+ * 送信箱(pft_mail_outbox)に登録するのみとし、
+ * メールサーバへの送信はバックグラウンドのスレッドで行う。<br>
+ * 送信箱への登録はリクエスト処理のトランザクションで行うため、
+ * ロールバックされた処理のメールは送信されない。<br>
+ * <br>
+ * 送信スレッドは、DB接続先毎に送信箱から一定件数ずつメールをロックして取り出し、
+ * 一度の接続で続けて送信する。<br>
+ * 取り出す際に送信回数と次回送信時刻(再送時刻)を更新してコミットするため、
+ * 複数のサーバで送信箱を共有しても同じメールを同時に送信することは無い。<br>
+ * 送信したメールは送信箱から削除する。<br>
+ * 送信に失敗したメールは、間隔を倍にしながら再送し、
+ * 再送回数を超えた場合はログに送信失敗を出力して送信失敗として残す。<br>
+ * 再送待ちのメール及び停止等で送信されなかったメールは、
+ * 一定間隔で送信箱を確認して送信する。<br>
+ * <br>
+ * 送信スレッド数等は、MosPアプリケーション設定で設定する。<br>
+ * 送信箱は、送信スレッド数に1以上を設定した場合にのみ利用する。<br>
+ * 送信スレッド数は、初めて送信箱を利用した時点の設定が用いられる。<br>
+ * 送信スレッドは、アプリケーションの終了時に{@link #shutdown()}で停止する。<br>
+ * <br>
+ * メールサーバへの接続確認も、DB接続先毎に送信スレッドで行い、
+ * リクエスト処理は直近の確認結果のみを参照する。<br>
+ */
+public class MailOutboxUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信スレッド数)。<br>
+	 * 0以下が設定されている場合は、リクエスト処理内でメールを送信する。<br>
+	 */
+	protected static final String			APP_MAIL_OUTBOX_THREADS				= "MailOutboxThreads";
+	
+	/**
+	 * MosPアプリケーション設定キー(送信箱確認間隔(秒))。<br>
+	 */
+	protected static final String			APP_MAIL_OUTBOX_POLL_INTERVAL		= "MailOutboxPollInterval";
+	
+	/**
+	 * MosPアプリケーション設定キー(一度の接続で送信するメール件数)。<br>
+	 */
+	protected static final String			APP_MAIL_OUTBOX_BATCH_SIZE			= "MailOutboxBatchSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(再送回数)。<br>
+	 */
+	protected static final String			APP_MAIL_OUTBOX_RETRY				= "MailOutboxRetry";
+	
+	/**
+	 * MosPアプリケーション設定キー(初回再送間隔(秒))。<br>
+	 */
+	protected static final String			APP_MAIL_OUTBOX_RETRY_INTERVAL		= "MailOutboxRetryInterval";
+	
+	/**
+	 * MosPアプリケーション設定キー(メールサーバ接続確認結果保持期間(秒))。<br>
+	 * 0以下が設定されている場合は、確認の度にメールサーバへの接続を確認し直す。<br>
+	 */
+	protected static final String			APP_MAIL_SERVER_CHECK_TTL			= "MailServerCheckTtl";
+	
+	/**
+	 * メール送信スレッド数のデフォルト値。<br>
+	 * 送信箱を作成していない環境で送信できなくならないよう、送信箱は利用しない。<br>
+	 */
+	protected static final int				DEFAULT_MAIL_OUTBOX_THREADS			= 0;
+	
+	/**
+	 * 送信箱確認間隔(秒)のデフォルト値。<br>
+	 */
+	protected static final int				DEFAULT_MAIL_OUTBOX_POLL_INTERVAL	= 60;
+	
+	/**
+	 * 一度の接続で送信するメール件数のデフォルト値。<br>
+	 */
+	protected static final int				DEFAULT_MAIL_OUTBOX_BATCH_SIZE		= 20;
+	
+	/**
+	 * 再送回数のデフォルト値。<br>
+	 */
+	protected static final int				DEFAULT_MAIL_OUTBOX_RETRY			= 3;
+	
+	/**
+	 * 初回再送間隔(秒)のデフォルト値。<br>
+	 */
+	protected static final int				DEFAULT_MAIL_OUTBOX_RETRY_INTERVAL	= 60;
+	
+	/**
+	 * メールサーバ接続確認結果保持期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int				DEFAULT_MAIL_SERVER_CHECK_TTL		= 300;
+	
+	/**
+	 * 送信状態(未送信)。<br>
+	 */
+	public static final int					CODE_SEND_STATUS_UNSENT				= 0;
+	
+	/**
+	 * 送信状態(送信失敗)。<br>
+	 * 再送回数を超えたメール。再送しない。<br>
+	 */
+	public static final int					CODE_SEND_STATUS_FAILED				= 1;
+	
+	/**
+	 * 受信者区切文字(受信者間)。<br>
+	 */
+	protected static final String			SEPARATOR_RECEIVER					= "\n";
+	
+	/**
+	 * 受信者区切文字(名称とメールアドレスの間)。<br>
+	 */
+	protected static final String			SEPARATOR_ADDRESS					= "\t";
+	
+	/**
+	 * ミリ秒(1秒)。<br>
+	 */
+	protected static final long				MILLI_SECOND						= 1000L;
+	
+	/**
+	 * 送信スレッド名。<br>
+	 * 送信スレッドが送信箱を更新する際の更新者としても用いる。<br>
+	 */
+	protected static final String			THREAD_NAME							= "MospMailOutbox";
+	
+	/**
+	 * 送信スレッド。<br>
+	 */
+	static ScheduledThreadPoolExecutor		executor;
+	
+	/**
+	 * DB接続先毎の送信処理群。<br>
+	 * key：DB接続先キー<br>
+	 * value：送信処理<br>
+	 */
+	static final Map<String, Dispatcher>	dispatchers							= new ConcurrentHashMap<String, Dispatcher>();
+	
+	/**
+	 * DB接続先毎のメールサーバ接続確認群。<br>
+	 * key：DB接続先キー<br>
+	 * value：メールサーバ接続確認<br>
+	 */
+	static final Map<String, ServerCheck>	serverChecks						= new ConcurrentHashMap<String, ServerCheck>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private MailOutboxUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 送信箱を利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：送信箱を利用する、false：リクエスト処理内で送信する)
+	 */
+	public static boolean isAsync(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_MAIL_OUTBOX_THREADS, DEFAULT_MAIL_OUTBOX_THREADS) > 0;
+	}
+	
+	/**
+	 * メールを送信箱に登録する。<br>
+	 * 対象DBコネクションのトランザクションで登録し、
+	 * トランザクション終了後に送信スレッドで送信する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @param receiver   受信者配列
+	 * @param title      件名
+	 * @param text       本文
+	 * @param logText    ログ出力文字列(送信先)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	public static void enqueue(MospParams mospParams, Connection connection, String[][] receiver, String title,
+			String text, String logText) throws MospException {
+		MailOutboxDaoInterface dao = (MailOutboxDaoInterface)InstanceFactory.loadDao(MailOutboxDaoInterface.class,
+				mospParams, connection);
+		// 送信箱作成
+		MailOutboxDtoInterface dto = new PftMailOutboxDto();
+		dto.setPftMailOutboxId(dao.nextRecordId());
+		dto.setMailReceiver(toReceiverString(receiver));
+		dto.setMailTitle(title);
+		dto.setMailText(text);
+		dto.setLogText(logText);
+		dto.setSendStatus(CODE_SEND_STATUS_UNSENT);
+		dto.setSendCount(0);
+		dto.setNextSendTime(new Date());
+		// 登録
+		dao.insert(dto);
+		// トランザクション終了後に送信
+		final Dispatcher dispatcher = getDispatcher(mospParams);
+		TransactionUtility.afterTransaction(connection, new Runnable() {
+			
+			@Override
+			public void run() {
+				dispatcher.wake();
+			}
+		});
+	}
+	
+	/**
+	 * メールサーバが利用可能であるかを確認する。<br>
+	 * メールサーバへの接続はリクエスト処理では行わず、DB接続先毎の直近の確認結果を返す。<br>
+	 * 接続できた確認結果が保持期間を過ぎている場合、或いは接続できなかった場合は、
+	 * 送信スレッドで確認し直す。<br>
+	 * 初めての確認が終わるまでは、利用可能とする
+	 * (送信箱を利用する場合、送信できなかったメールは再送される)。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用可能、false：利用不可)
+	 */
+	public static boolean canUseMailServer(MospParams mospParams) {
+		ServerCheck check = getServerCheck(mospParams);
+		// 必要であれば送信スレッドで確認し直す
+		check.request(getTtl(mospParams));
+		return check.usable;
+	}
+	
+	/**
+	 * 送信スレッドを停止する。<br>
+	 * アプリケーションの終了時に用いる。<br>
+	 * 未送信のメールは送信箱に残り、次回の起動後に送信される。<br>
+	 */
+	public static synchronized void shutdown() {
+		// 停止後は送信スレッドを再作成しない(送信箱への登録のみ行う)
+		getExecutor(null).shutdownNow();
+		dispatchers.clear();
+		serverChecks.clear();
+	}
+	
+	/**
+	 * 送信箱からメールを取り出して送信する。<br>
+	 * 送信対象のメールがなくなるまで、一定件数ずつ取り出して送信する。<br>
+	 * 送信結果はメール毎にコミットし、途中で例外が発生しても送信済のメールを再送しないようにする。<br>
+	 * @param mospParams 送信処理用のMosP処理情報
+	 */
+	static void dispatch(MospParams mospParams) {
+		int batchSize = getBatchSize(mospParams);
+		DBConnBean dbConnBean = null;
+		MailSenderBeanInterface transport = null;
+		try {
+			dbConnBean = new DBConnBean(mospParams);
+			Connection connection = dbConnBean.getConnection();
+			MailOutboxDaoInterface dao = (MailOutboxDaoInterface)InstanceFactory
+				.loadDao(MailOutboxDaoInterface.class, mospParams, connection);
+			List<MailOutboxDtoInterface> batch = claim(mospParams, dbConnBean, dao, batchSize);
+			while (batch.isEmpty() == false) {
+				// メールサーバに接続
+				if (transport == null) {
+					transport = (MailSenderBeanInterface)InstanceFactory.loadBean(MailSenderBeanInterface.class,
+							mospParams, connection);
+					transport.init();
+					transport.connect();
+				}
+				for (MailOutboxDtoInterface dto : batch) {
+					send(mospParams, connection, dao, transport, dto);
+					dbConnBean.commit();
+				}
+				// 送信対象のメールが残っていない場合
+				if (batch.size() < batchSize) {
+					break;
+				}
+				batch = claim(mospParams, dbConnBean, dao, batchSize);
+			}
+		} catch (Throwable e) {
+			// 送信箱に残し、次回確認時に送信する
+			LogUtility.error(mospParams, e);
+		} finally {
+			if (transport != null) {
+				transport.disconnect();
+			}
+			if (dbConnBean != null) {
+				try {
+					dbConnBean.releaseConnection();
+				} catch (MospException e) {
+					LogUtility.error(mospParams, e);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 送信箱から送信対象のメールを取り出す。<br>
+	 * 取り出したメールは、送信回数を加算し次回送信時刻を再送時刻として、コミットする。<br>
+	 * これにより、送信中に停止した場合も再送時刻に再送される。<br>
+	 * @param mospParams 送信処理用のMosP処理情報
+	 * @param dbConnBean DBコネクション取得クラス
+	 * @param dao        メール送信箱DAO
+	 * @param batchSize  一度の接続で送信するメール件数
+	 * @return 送信対象のメールリスト
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	static List<MailOutboxDtoInterface> claim(MospParams mospParams, DBConnBean dbConnBean,
+			MailOutboxDaoInterface dao, int batchSize) throws MospException {
+		long now = System.currentTimeMillis();
+		List<MailOutboxDtoInterface> list = dao.findForSend(CODE_SEND_STATUS_UNSENT, new Date(now), batchSize);
+		for (MailOutboxDtoInterface dto : list) {
+			dto.setSendCount(dto.getSendCount() + 1);
+			// 再送間隔は再送毎に倍にする
+			dto.setNextSendTime(new Date(now + (getRetryInterval(mospParams) << (dto.getSendCount() - 1))));
+			dao.update(dto);
+		}
+		dbConnBean.commit();
+		return list;
+	}
+	
+	/**
+	 * メールを送信する。<br>
+	 * 送信できた場合は、送信箱から削除する。<br>
+	 * 送信できず再送回数を超えた場合は、ログに送信失敗を出力して送信失敗とする。<br>
+	 * 送信できず再送回数を超えていない場合は、次回送信時刻に再送する。<br>
+	 * @param mospParams 送信処理用のMosP処理情報
+	 * @param connection DBコネクション
+	 * @param dao        メール送信箱DAO
+	 * @param transport  接続済のメール送信クラス
+	 * @param dto        送信するメール
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	static void send(MospParams mospParams, Connection connection, MailOutboxDaoInterface dao,
+			MailSenderBeanInterface transport, MailOutboxDtoInterface dto) throws MospException {
+		// メッセージ作成
+		MailSenderBeanInterface message = (MailSenderBeanInterface)InstanceFactory
+			.loadBean(MailSenderBeanInterface.class, mospParams, connection);
+		message.init();
+		message.setMessage(toReceiverArray(dto.getMailReceiver()), dto.getMailTitle(), dto.getMailText(), null);
+		// 送信できた場合
+		if (transport.isSend(message)) {
+			getServerCheck(mospParams).succeeded();
+			dao.delete(dto);
+			LogUtility.log(mospParams, 800, dto.getLogText() + PlatformMailConst.MSG_MAIL_SEND_SUCCESS);
+			return;
+		}
+		// 再送回数を超えた場合
+		if (dto.getSendCount() > getRetry(mospParams)) {
+			dto.setSendStatus(CODE_SEND_STATUS_FAILED);
+			dao.update(dto);
+			LogUtility.log(mospParams, 800, dto.getLogText() + PlatformMailConst.MSG_MAIL_SEND_FAILED);
+		}
+	}
+	
+	/**
+	 * DB接続先の送信処理を取得する。<br>
+	 * DB接続先毎に初めて取得する際に、送信処理を作成し、
+	 * 送信箱の定期確認を開始する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 送信処理
+	 */
+	static synchronized Dispatcher getDispatcher(MospParams mospParams) {
+		String key = DBConnBean.getConnectionKey(mospParams);
+		Dispatcher dispatcher = dispatchers.get(key);
+		if (dispatcher == null) {
+			dispatcher = new Dispatcher(mospParams.createBackgroundParams(THREAD_NAME));
+			ScheduledThreadPoolExecutor current = getExecutor(mospParams);
+			// 送信スレッドが停止されている場合
+			if (current.isShutdown()) {
+				return dispatcher;
+			}
+			long interval = getPollInterval(mospParams);
+			current.scheduleWithFixedDelay(dispatcher, interval, interval, TimeUnit.MILLISECONDS);
+			dispatchers.put(key, dispatcher);
+		}
+		return dispatcher;
+	}
+	
+	/**
+	 * DB接続先のメールサーバ接続確認を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return メールサーバ接続確認
+	 */
+	static ServerCheck getServerCheck(MospParams mospParams) {
+		String key = DBConnBean.getConnectionKey(mospParams);
+		ServerCheck check = serverChecks.get(key);
+		if (check == null) {
+			synchronized (serverChecks) {
+				check = serverChecks.get(key);
+				if (check == null) {
+					check = new ServerCheck(mospParams.createBackgroundParams(THREAD_NAME));
+					serverChecks.put(key, check);
+				}
+			}
+		}
+		return check;
+	}
+	
+	/**
+	 * 送信スレッドを取得する。<br>
+	 * 初めて取得する際に、MosPアプリケーション設定のスレッド数で生成する。<br>
+	 * MosP処理情報が無い場合は、スレッド数を1とする。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 送信スレッド
+	 */
+	static synchronized ScheduledThreadPoolExecutor getExecutor(MospParams mospParams) {
+		if (executor == null) {
+			int threads = mospParams == null ? 1 : mospParams.getApplicationProperty(APP_MAIL_OUTBOX_THREADS,
+					DEFAULT_MAIL_OUTBOX_THREADS);
+			executor = new ScheduledThreadPoolExecutor(threads < 1 ? 1 : threads, new ThreadFactory() {
+				
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, THREAD_NAME);
+					// アプリケーションの停止を妨げないようにする
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return executor;
+	}
+	
+	/**
+	 * 受信者配列を送信箱に登録する文字列に変換する。<br>
+	 * @param receiver 受信者配列
+	 * @return 受信者文字列
+	 */
+	protected static String toReceiverString(String[][] receiver) {
+		StringBuffer sb = new StringBuffer();
+		for (String[] element : receiver) {
+			if (sb.length() > 0) {
+				sb.append(SEPARATOR_RECEIVER);
+			}
+			sb.append(element[0]);
+			sb.append(SEPARATOR_ADDRESS);
+			sb.append(element[1]);
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * 送信箱に登録された受信者文字列を受信者配列に変換する。<br>
+	 * @param receiver 受信者文字列
+	 * @return 受信者配列
+	 */
+	protected static String[][] toReceiverArray(String receiver) {
+		List<String[]> list = new ArrayList<String[]>();
+		for (String element : receiver.split(SEPARATOR_RECEIVER)) {
+			int idx = element.lastIndexOf(SEPARATOR_ADDRESS);
+			if (idx < 0) {
+				continue;
+			}
+			list.add(new String[]{ element.substring(0, idx), element.substring(idx + 1) });
+		}
+		return list.toArray(new String[list.size()][]);
+	}
+	
+	/**
+	 * 送信箱確認間隔(ミリ秒)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 送信箱確認間隔(ミリ秒)
+	 */
+	protected static long getPollInterval(MospParams mospParams) {
+		int interval = mospParams.getApplicationProperty(APP_MAIL_OUTBOX_POLL_INTERVAL,
+				DEFAULT_MAIL_OUTBOX_POLL_INTERVAL);
+		return (interval < 1 ? 1 : interval) * MILLI_SECOND;
+	}
+	
+	/**
+	 * 一度の接続で送信するメール件数を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 一度の接続で送信するメール件数
+	 */
+	protected static int getBatchSize(MospParams mospParams) {
+		int batchSize = mospParams.getApplicationProperty(APP_MAIL_OUTBOX_BATCH_SIZE, DEFAULT_MAIL_OUTBOX_BATCH_SIZE);
+		return batchSize < 1 ? 1 : batchSize;
+	}
+	
+	/**
+	 * 再送回数を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 再送回数
+	 */
+	protected static int getRetry(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_MAIL_OUTBOX_RETRY, DEFAULT_MAIL_OUTBOX_RETRY);
+	}
+	
+	/**
+	 * 初回再送間隔(ミリ秒)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 初回再送間隔(ミリ秒)
+	 */
+	protected static long getRetryInterval(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_MAIL_OUTBOX_RETRY_INTERVAL, DEFAULT_MAIL_OUTBOX_RETRY_INTERVAL)
+				* MILLI_SECOND;
+	}
+	
+	/**
+	 * メールサーバ接続確認結果保持期間(ミリ秒)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return メールサーバ接続確認結果保持期間(ミリ秒)
+	 */
+	protected static long getTtl(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_MAIL_SERVER_CHECK_TTL, DEFAULT_MAIL_SERVER_CHECK_TTL)
+				* MILLI_SECOND;
+	}
+	
+	/**
+	 * DB接続先毎の送信処理。<br>
+	 * 送信箱の定期確認及び登録時の起動で実行される。<br>
+	 * 実行待ちの間に重ねて起動された場合は、一度だけ実行する。<br>
+	 */
+	static final class Dispatcher implements Runnable {
+		
+		/**
+		 * 送信処理用のMosP処理情報。<br>
+		 * DB接続設定及びMosP設定情報のみを保持する。<br>
+		 */
+		final MospParams	mospParams;
+		
+		/**
+		 * 実行待ちフラグ。<br>
+		 */
+		final AtomicBoolean	waiting	= new AtomicBoolean();
+		
+		
+		/**
+		 * 送信処理を生成する。<br>
+		 * @param mospParams 送信処理用のMosP処理情報
+		 */
+		Dispatcher(MospParams mospParams) {
+			this.mospParams = mospParams;
+		}
+		
+		/**
+		 * 送信処理を起動する。<br>
+		 */
+		void wake() {
+			ScheduledThreadPoolExecutor current = getExecutor(mospParams);
+			// 送信スレッドが停止されている場合
+			if (current.isShutdown()) {
+				return;
+			}
+			if (waiting.compareAndSet(false, true)) {
+				current.execute(this);
+			}
+		}
+		
+		@Override
+		public void run() {
+			waiting.set(false);
+			dispatch(mospParams);
+		}
+		
+	}
+	
+	/**
+	 * DB接続先毎のメールサーバ接続確認。<br>
+	 * 送信スレッドでメールサーバに接続して確認し、確認結果を保持する。<br>
+	 * 確認中に重ねて要求された場合は、一度だけ確認する。<br>
+	 */
+	static final class ServerCheck implements Runnable {
+		
+		/**
+		 * 確認処理用のMosP処理情報。<br>
+		 * DB接続設定及びMosP設定情報のみを保持する。<br>
+		 */
+		final MospParams	mospParams;
+		
+		/**
+		 * 確認中フラグ。<br>
+		 */
+		final AtomicBoolean	checking	= new AtomicBoolean();
+		
+		/**
+		 * 確認結果(true：利用可能、false：利用不可)。<br>
+		 * 初めての確認が終わるまでは、利用可能とする。<br>
+		 */
+		volatile boolean	usable		= true;
+		
+		/**
+		 * 確認時刻(ミリ秒)。<br>
+		 * 未確認の場合は0。<br>
+		 */
+		volatile long		checkTime;
+		
+		
+		/**
+		 * メールサーバ接続確認を生成する。<br>
+		 * @param mospParams 確認処理用のMosP処理情報
+		 */
+		ServerCheck(MospParams mospParams) {
+			this.mospParams = mospParams;
+		}
+		
+		/**
+		 * 必要であれば、送信スレッドでの確認を要求する。<br>
+		 * 保持期間内に接続できている場合は、確認しない。<br>
+		 * @param ttl 確認結果保持期間(ミリ秒)
+		 */
+		void request(long ttl) {
+			// 保持期間内に接続できている場合
+			if (usable && checkTime != 0 && System.currentTimeMillis() - checkTime < ttl) {
+				return;
+			}
+			ScheduledThreadPoolExecutor current = getExecutor(mospParams);
+			// 送信スレッドが停止されている場合
+			if (current.isShutdown()) {
+				return;
+			}
+			if (checking.compareAndSet(false, true)) {
+				current.execute(this);
+			}
+		}
+		
+		/**
+		 * メールを送信できたことを確認結果とする。<br>
+		 */
+		void succeeded() {
+			usable = true;
+			checkTime = System.currentTimeMillis();
+		}
+		
+		@Override
+		public void run() {
+			try {
+				MailSenderBeanInterface sender = (MailSenderBeanInterface)InstanceFactory
+					.loadBean(MailSenderBeanInterface.class, mospParams, null);
+				sender.init();
+				// メールサーバと接続するか確認
+				usable = sender.checkConnection();
+				checkTime = System.currentTimeMillis();
+			} catch (Throwable e) {
+				LogUtility.error(mospParams, e);
+			} finally {
+				checking.set(false);
+			}
+		}
+		
+	}
+	
+}
@@ -0,0 +1,302 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.MospConst;
+import jp.mosp.framework.utils.TransactionUtility;
+import jp.mosp.platform.dao.system.SectionDaoInterface;
+import jp.mosp.platform.dto.system.SectionDtoInterface;
+import jp.mosp.platform.dto.system.impl.PfmSectionDto;
+
+/**
+ * 所属階層の保持に関する有用なメソッドを提供する。<br>
+ * <br>
+ * 所属マスタの全履歴を所属コード毎に保持し、
+ * 対象日における所属情報、上位所属及び下位所属をDBに問い合わせずに取得できるようにする。<br>
+ * 保持期間は、MosPアプリケーション設定(SectionTreeTtl)で設定する(秒)。<br>
+ * 保持している所属情報が変更されないよう、所属情報は複製したものを返す。<br>
+ * 所属階層は、DB接続先毎(DB接続先キー毎)に保持する。<br>
+ * <br>
+ * 所属情報の登録時には、{@link #invalidate(MospParams, Connection)}で保持している所属階層を
+ * トランザクション終了時に破棄し、次のリクエストで改めて取得させる。<br>
+ */
+public class SectionTreeUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(所属階層保持期間(秒))。<br>
+	 * 0以下が設定されている場合は、所属階層を保持しない。<br>
+	 */
+	protected static final String	APP_SECTION_TREE_TTL		= "SectionTreeTtl";
+	
+	/**
+	 * 所属階層保持期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int		DEFAULT_SECTION_TREE_TTL	= 300;
+	
+	/**
+	 * ミリ秒(1秒)。<br>
+	 */
+	protected static final long		MILLI_SECOND				= 1000L;
+	
+	/**
+	 * 所属階層群(key：DB接続先キー)。<br>
+	 * <br>
+	 * 他パッケージに変更されないよう、パッケージプロテクテッドとする。<br>
+	 */
+	static final ConcurrentMap<String, SectionTree>	sectionTrees				= new ConcurrentHashMap<String, SectionTree>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private SectionTreeUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 所属階層を取得する。<br>
+	 * 保持している所属階層が保持期間を過ぎている場合は、所属マスタから改めて取得する。<br>
+	 * 保持期間が0以下である場合は、nullを返す。<br>
+	 * @param mospParams MosP処理情報
+	 * @param dao        所属マスタDAO
+	 * @return 所属階層
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	public static SectionTree getSectionTree(MospParams mospParams, SectionDaoInterface dao) throws MospException {
+		// 保持期間を取得
+		long ttl = mospParams.getApplicationProperty(APP_SECTION_TREE_TTL, DEFAULT_SECTION_TREE_TTL) * MILLI_SECOND;
+		// 保持期間が0以下である場合
+		if (ttl <= 0) {
+			return null;
+		}
+		// DB接続先キーを取得
+		String key = DBConnBean.getConnectionKey(mospParams);
+		// 保持している所属階層を取得
+		SectionTree tree = sectionTrees.get(key);
+		// 保持期間内である場合
+		if (tree != null && System.currentTimeMillis() - tree.loadTime < ttl) {
+			return tree;
+		}
+		// 所属マスタの全履歴を取得し所属階層を作成
+		tree = new SectionTree(dao.findForTerm(null, null), System.currentTimeMillis());
+		sectionTrees.put(key, tree);
+		return tree;
+	}
+	
+	/**
+	 * 対象所属及びその下位所属の所属コード群を取得する。<br>
+	 * 下位所属は、対象日において有効であり、経路に対象所属が含まれるものとする。<br>
+	 * 所属階層を保持しない設定である場合は、所属マスタから取得する。<br>
+	 * @param mospParams  MosP処理情報
+	 * @param dao         所属マスタDAO
+	 * @param sectionCode 対象所属コード
+	 * @param targetDate  対象日
+	 * @return 所属コード群
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	public static Set<String> getLowerSectionCodeSet(MospParams mospParams, SectionDaoInterface dao,
+			String sectionCode, Date targetDate) throws MospException {
+		// 所属階層取得
+		SectionTree tree = getSectionTree(mospParams, dao);
+		// 所属階層を保持しない設定である場合
+		if (tree == null) {
+			return dao.findForLowerSectionCodeSet(sectionCode, targetDate);
+		}
+		return tree.getLowerSectionCodeSet(sectionCode, targetDate, dao.getClassRouteParam(sectionCode));
+	}
+	
+	/**
+	 * トランザクション終了時に、保持している所属階層を破棄する。<br>
+	 * 所属情報が登録された場合に用いる。<br>
+	 * コミット前の所属情報で作成された所属階層も、トランザクション終了時に破棄される。<br>
+	 * 破棄するのは、当該DB接続先の所属階層のみとする。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	public static void invalidate(MospParams mospParams, Connection connection) {
+		// DB接続先キーを取得
+		final String key = DBConnBean.getConnectionKey(mospParams);
+		TransactionUtility.afterTransaction(connection, new Runnable() {
+			
+			@Override
+			public void run() {
+				sectionTrees.remove(key);
+			}
+		});
+	}
+	
+	/**
+	 * 所属階層。<br>
+	 * 所属コード毎に、有効日順の所属情報履歴を保持する。<br>
+	 */
+	public static final class SectionTree {
+		
+		/**
+		 * 所属情報履歴群。<br>
+		 * key:所属コード<br>
+		 * value:所属情報履歴(有効日昇順)<br>
+		 */
+		final Map<String, List<SectionDtoInterface>>	historyMap;
+		
+		/**
+		 * 取得時刻(ミリ秒)。<br>
+		 */
+		final long										loadTime;
+		
+		
+		/**
+		 * 所属階層を生成する。<br>
+		 * @param list     所属情報リスト(所属コード、有効日順)
+		 * @param loadTime 取得時刻(ミリ秒)
+		 */
+		SectionTree(List<SectionDtoInterface> list, long loadTime) {
+			historyMap = new HashMap<String, List<SectionDtoInterface>>();
+			for (SectionDtoInterface dto : list) {
+				List<SectionDtoInterface> history = historyMap.get(dto.getSectionCode());
+				if (history == null) {
+					history = new ArrayList<SectionDtoInterface>();
+					historyMap.put(dto.getSectionCode(), history);
+				}
+				history.add(dto);
+			}
+			this.loadTime = loadTime;
+		}
+		
+		/**
+		 * 対象日以前で最新の所属情報(複製)を取得する。<br>
+		 * 存在しない場合は、nullを返す。<br>
+		 * @param sectionCode 所属コード
+		 * @param targetDate  対象日
+		 * @return 所属情報
+		 */
+		public SectionDtoInterface getSection(String sectionCode, Date targetDate) {
+			return copy(findSection(sectionCode, targetDate));
+		}
+		
+		/**
+		 * 対象日において有効な所属情報(複製)リストを取得する。<br>
+		 * @param targetDate 対象日
+		 * @return 所属情報リスト
+		 */
+		public List<SectionDtoInterface> getActiveSectionList(Date targetDate) {
+			List<SectionDtoInterface> list = new ArrayList<SectionDtoInterface>();
+			// 所属コード毎に処理
+			for (String sectionCode : historyMap.keySet()) {
+				SectionDtoInterface dto = findSection(sectionCode, targetDate);
+				// 対象日において有効である場合
+				if (dto != null && dto.getInactivateFlag() == MospConst.INACTIVATE_FLAG_OFF) {
+					list.add(copy(dto));
+				}
+			}
+			return list;
+		}
+		
+		/**
+		 * 対象所属及びその下位所属の所属コード群を取得する。<br>
+		 * 対象所属は、対象日以前の所属情報が存在すれば含める。<br>
+		 * 下位所属は、対象日において有効であり、経路に対象所属が含まれるものとする。<br>
+		 * @param sectionCode 対象所属コード
+		 * @param targetDate  対象日
+		 * @param classRoute  経路に含まれる文字列
+		 * @return 所属コード群
+		 */
+		Set<String> getLowerSectionCodeSet(String sectionCode, Date targetDate, String classRoute) {
+			Set<String> set = new HashSet<String>();
+			// 対象所属が存在する場合
+			if (findSection(sectionCode, targetDate) != null) {
+				set.add(sectionCode);
+			}
+			// 所属コード毎に処理
+			for (String code : historyMap.keySet()) {
+				SectionDtoInterface dto = findSection(code, targetDate);
+				// 対象日において有効であり経路に対象所属が含まれる場合
+				if (dto != null && dto.getInactivateFlag() == MospConst.INACTIVATE_FLAG_OFF
+						&& dto.getClassRoute() != null && dto.getClassRoute().contains(classRoute)) {
+					set.add(code);
+				}
+			}
+			return set;
+		}
+		
+		/**
+		 * 対象日以前で最新の所属情報(保持しているもの)を取得する。<br>
+		 * 存在しない場合は、nullを返す。<br>
+		 * @param sectionCode 所属コード
+		 * @param targetDate  対象日
+		 * @return 所属情報
+		 */
+		SectionDtoInterface findSection(String sectionCode, Date targetDate) {
+			// 所属情報履歴を取得
+			List<SectionDtoInterface> history = historyMap.get(sectionCode);
+			if (history == null) {
+				return null;
+			}
+			// 有効日の新しい順に処理
+			for (int i = history.size() - 1; i >= 0; i--) {
+				SectionDtoInterface dto = history.get(i);
+				// 有効日が対象日以前である場合
+				if (dto.getActivateDate().after(targetDate) == false) {
+					return dto;
+				}
+			}
+			return null;
+		}
+		
+		/**
+		 * 所属情報を複製する。<br>
+		 * @param dto 所属情報
+		 * @return 複製した所属情報
+		 */
+		static SectionDtoInterface copy(SectionDtoInterface dto) {
+			if (dto == null) {
+				return null;
+			}
+			SectionDtoInterface copy = new PfmSectionDto();
+			copy.setPfmSectionId(dto.getPfmSectionId());
+			copy.setSectionCode(dto.getSectionCode());
+			copy.setActivateDate(dto.getActivateDate());
+			copy.setSectionName(dto.getSectionName());
+			copy.setSectionAbbr(dto.getSectionAbbr());
+			copy.setSectionDisplay(dto.getSectionDisplay());
+			copy.setClassRoute(dto.getClassRoute());
+			copy.setCloseFlag(dto.getCloseFlag());
+			copy.setInsertDate(dto.getInsertDate());
+			copy.setInsertUser(dto.getInsertUser());
+			copy.setUpdateDate(dto.getUpdateDate());
+			copy.setUpdateUser(dto.getUpdateUser());
+			copy.setDeleteFlag(dto.getDeleteFlag());
+			return copy;
+		}
+		
+	}
+	
+}
@@ -33,11 +33,13 @@ import jp.mosp.time.bean.AttendanceTransactionRegistBeanInterface;
 import jp.mosp.time.bean.CutoffRegistBeanInterface;
 import jp.mosp.time.bean.DifferenceRequestRegistBeanInterface;
 import jp.mosp.time.bean.GoOutRegistBeanInterface;
+import jp.mosp.time.bean.HolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.HolidayDataRegistBeanInterface;
 import jp.mosp.time.bean.HolidayRegistBeanInterface;
 import jp.mosp.time.bean.HolidayRequestRegistBeanInterface;
 import jp.mosp.time.bean.LimitStandardRegistBeanInterface;
 import jp.mosp.time.bean.OvertimeRequestRegistBeanInterface;
+import jp.mosp.time.bean.PaidHolidayDataBulkGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayEntranceDateRegistBeanInterface;
@@ -352,6 +354,16 @@ public class TimeBeanHandler extends BaseBeanHandler implements TimeBeanHandlerI
 		return (PaidHolidayDataGrantBeanInterface)createBean(PaidHolidayDataGrantBeanInterface.class);
 	}
 	
+	@Override
+	public PaidHolidayDataBulkGrantBeanInterface paidHolidayDataBulkGrant() throws MospException {
+		return (PaidHolidayDataBulkGrantBeanInterface)createBean(PaidHolidayDataBulkGrantBeanInterface.class);
+	}
+	
+	@Override
+	public HolidayBalanceRegistBeanInterface holidayBalanceRegist() throws MospException {
+		return (HolidayBalanceRegistBeanInterface)createBean(HolidayBalanceRegistBeanInterface.class);
+	}
+	
 	@Override
 	public StockHolidayDataGrantBeanInterface stockHolidayDataGrant() throws MospException {
 		return (StockHolidayDataGrantBeanInterface)createBean(StockHolidayDataGrantBeanInterface.class);
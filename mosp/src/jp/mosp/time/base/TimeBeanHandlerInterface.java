@@ -32,11 +32,13 @@ import jp.mosp.time.bean.AttendanceTransactionRegistBeanInterface;
 import jp.mosp.time.bean.CutoffRegistBeanInterface;
 import jp.mosp.time.bean.DifferenceRequestRegistBeanInterface;
 import jp.mosp.time.bean.GoOutRegistBeanInterface;
+import jp.mosp.time.bean.HolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.HolidayDataRegistBeanInterface;
 import jp.mosp.time.bean.HolidayRegistBeanInterface;
 import jp.mosp.time.bean.HolidayRequestRegistBeanInterface;
 import jp.mosp.time.bean.LimitStandardRegistBeanInterface;
 import jp.mosp.time.bean.OvertimeRequestRegistBeanInterface;
+import jp.mosp.time.bean.PaidHolidayDataBulkGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayEntranceDateRegistBeanInterface;
@@ -446,6 +448,20 @@ public interface TimeBeanHandlerInterface {
 	 */
 	PaidHolidayDataGrantBeanInterface paidHolidayDataGrant() throws MospException;
 	
+	/**
+	 * 有給休暇データ一括付与クラスを取得する。
+	 * @return 有給休暇データ一括付与クラス
+	 * @throws MospException Beanインスタンスの生成及び初期化に失敗した場合
+	 */
+	PaidHolidayDataBulkGrantBeanInterface paidHolidayDataBulkGrant() throws MospException;
+	
+	/**
+	 * 休暇残高台帳登録クラスを取得する。
+	 * @return 休暇残高台帳登録クラス
+	 * @throws MospException Beanインスタンスの生成及び初期化に失敗した場合
+	 */
+	HolidayBalanceRegistBeanInterface holidayBalanceRegist() throws MospException;
+	
 	/**
 	 * ストック休暇データ付与クラスを取得する。
 	 * @return ストック休暇データ付与クラス
@@ -39,6 +39,7 @@ import jp.mosp.time.bean.DifferenceRequestReferenceBeanInterface;
 import jp.mosp.time.bean.DifferenceRequestSearchBeanInterface;
 import jp.mosp.time.bean.ExportTableReferenceBeanInterface;
 import jp.mosp.time.bean.GoOutReferenceBeanInterface;
+import jp.mosp.time.bean.HolidayBalanceReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayDataReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayExportBeanInterface;
 import jp.mosp.time.bean.HolidayHistorySearchBeanInterface;
@@ -486,6 +487,11 @@ public class TimeReferenceBeanHandler extends BaseBeanHandler implements TimeRef
 		return (StockHolidayInfoReferenceBeanInterface)createBean(StockHolidayInfoReferenceBeanInterface.class);
 	}
 	
+	@Override
+	public HolidayBalanceReferenceBeanInterface holidayBalance() throws MospException {
+		return (HolidayBalanceReferenceBeanInterface)createBean(HolidayBalanceReferenceBeanInterface.class);
+	}
+	
 	@Override
 	public HolidayInfoReferenceBeanInterface holidayInfo() throws MospException {
 		return (HolidayInfoReferenceBeanInterface)createBean(HolidayInfoReferenceBeanInterface.class);
@@ -38,6 +38,7 @@ import jp.mosp.time.bean.DifferenceRequestReferenceBeanInterface;
 import jp.mosp.time.bean.DifferenceRequestSearchBeanInterface;
 import jp.mosp.time.bean.ExportTableReferenceBeanInterface;
 import jp.mosp.time.bean.GoOutReferenceBeanInterface;
+import jp.mosp.time.bean.HolidayBalanceReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayDataReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayExportBeanInterface;
 import jp.mosp.time.bean.HolidayHistorySearchBeanInterface;
@@ -550,6 +551,12 @@ public interface TimeReferenceBeanHandlerInterface {
 	 */
 	StockHolidayInfoReferenceBeanInterface stockHolidayInfo() throws MospException;
 	
+	/**
+	 * @return 休暇残高参照
+	 * @throws MospException Beanインスタンスの生成及び初期化に失敗した場合
+	 */
+	HolidayBalanceReferenceBeanInterface holidayBalance() throws MospException;
+	
 	/**
 	 * @return 休暇情報参照
 	 * @throws MospException Beanインスタンスの生成及び初期化に失敗した場合
@@ -0,0 +1,54 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.entity.AttendanceRateEntity;
+
+/**
+ * 出勤率算出インターフェース。<br>
+ */
+public interface AttendanceRateBeanInterface {
+	
+	/**
+	 * 対象期間における対象者群の出勤率を算出する。<br>
+	 * 勤怠トランザクションは、対象者群を纏めてSQLで集計する。<br>
+	 * @param personalIds 個人ID群
+	 * @param firstDate   対象期間初日
+	 * @param lastDate    対象期間末日
+	 * @return 出勤率群(key：個人ID)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Map<String, AttendanceRateEntity> calc(Collection<String> personalIds, Date firstDate, Date lastDate)
+			throws MospException;
+	
+	/**
+	 * 対象期間における個人の出勤率を算出する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間末日
+	 * @return 出勤率
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	AttendanceRateEntity calc(String personalId, Date firstDate, Date lastDate) throws MospException;
+	
+}
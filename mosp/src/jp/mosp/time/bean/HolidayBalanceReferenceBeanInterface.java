@@ -0,0 +1,66 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.HolidayBalanceDtoInterface;
+
+/**
+ * 休暇残高参照インターフェース。<br>
+ * <br>
+ * ストック休暇の付与毎の申請可能な残高を、休暇残高台帳から取得する。<br>
+ * 台帳はシステム日付時点のものだけを保持するため、休暇残高台帳を利用しない場合、
+ * 或いは対象日時点で算出済の台帳が無い場合は、
+ * ストック休暇データ、ストック休暇トランザクション及び休暇申請から残高を算出する。<br>
+ */
+public interface HolidayBalanceReferenceBeanInterface {
+	
+	/**
+	 * ストック休暇の休暇残高リストを取得する。<br>
+	 * 取得日の順に並べる。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @return 休暇残高リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<HolidayBalanceDtoInterface> getBalanceList(String personalId, Date targetDate) throws MospException;
+	
+	/**
+	 * ストック休暇残日数を取得する。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @return ストック休暇残日数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	double getRemainDay(String personalId, Date targetDate) throws MospException;
+	
+	/**
+	 * ストック休暇データ、ストック休暇トランザクション及び休暇申請から、
+	 * ストック休暇の休暇残高リストを算出する。<br>
+	 * 休暇残高台帳は参照しない。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @return 休暇残高リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<HolidayBalanceDtoInterface> calcBalanceList(String personalId, Date targetDate) throws MospException;
+	
+}
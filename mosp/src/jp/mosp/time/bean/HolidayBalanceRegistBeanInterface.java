@@ -0,0 +1,99 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jp.mosp.framework.base.MospException;
+
+/**
+ * 休暇残高台帳登録インターフェース。<br>
+ * <br>
+ * ストック休暇申請の登録や承認、解除、ストック休暇の手動付与・廃棄及び
+ * ストック休暇データの登録・削除の際に、対象個人の休暇残高台帳をシステム日付時点で算出し直す。<br>
+ */
+public interface HolidayBalanceRegistBeanInterface {
+	
+	/**
+	 * 対象個人の休暇残高台帳を算出し直す。<br>
+	 * 既存の台帳を物理削除し、システム日付時点のストック休暇の残高及び算出済の台帳を登録する。<br>
+	 * 休暇残高台帳を利用しない設定の場合は、何もしない。<br>
+	 * @param personalId 個人ID
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	void refresh(String personalId) throws MospException;
+	
+	/**
+	 * 対象日の一括算出を開始する。<br>
+	 * DB接続先毎の一括算出の情報をロックし、一括算出日を対象日に更新する。<br>
+	 * 他のサーバ或いはスレッドで対象日の一括算出を開始済の場合は、nullを返す。<br>
+	 * @param targetDate 対象日
+	 * @return 積立済日(この日以降に期限の切れた有給休暇が積立の対象、初回は対象日の前日)
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	Date startSweep(Date targetDate) throws MospException;
+	
+	/**
+	 * 期限の切れた有給休暇の積立を終えた日として、対象日を積立済日に設定する。<br>
+	 * 積立を終えるまでに停止或いは失敗した場合は積立済日が残るため、次回の一括算出で積み立て直す。<br>
+	 * @param targetDate 対象日
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	void finishSweep(Date targetDate) throws MospException;
+	
+	/**
+	 * 期間内に期限の切れた有給休暇の期限日を、個人毎に取得する。<br>
+	 * 有給休暇データの期限日が、期間開始日以降且つ期間終了日より前のものを対象とする。<br>
+	 * @param startDate 期間開始日
+	 * @param endDate   期間終了日
+	 * @return 期限日群(key：個人ID、value：期限日群、個人ID順)
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	Map<String, Set<Date>> getExpiredLimitDates(Date startDate, Date endDate) throws MospException;
+	
+	/**
+	 * 期限の切れた有給休暇を、ストック休暇に積み立てる。<br>
+	 * 期限日の翌日を取得日としてストック休暇を付与し、付与済の場合は付与しない。<br>
+	 * 付与が終わるまで、同じ個人のストック休暇申請を待たせる。<br>
+	 * @param personalId 個人ID
+	 * @param limitDates 期限日群
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	void convert(String personalId, Collection<Date> limitDates) throws MospException;
+	
+	/**
+	 * 対象日より前に算出された休暇残高台帳を持つ個人IDリストを取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 個人IDリスト
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	List<String> getSweepTargetList(Date targetDate) throws MospException;
+	
+	/**
+	 * 対象個人の休暇残高台帳を、対象日時点で算出し直す。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	void sweep(String personalId, Date targetDate) throws MospException;
+	
+}
@@ -21,6 +21,7 @@ import java.util.Date;
 
 import jp.mosp.framework.base.BaseBeanInterface;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
 import jp.mosp.time.dto.settings.HolidayDataDtoInterface;
 import jp.mosp.time.dto.settings.HolidayDtoInterface;
 import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
@@ -71,6 +72,17 @@ public interface HolidayRequestRegistBeanInterface extends BaseBeanInterface {
 	 */
 	void withdrawn(long[] idArray) throws MospException;
 	
+	/**
+	 * 取下処理を行う。<br>
+	 * ワークフローを取下し、ワークフローコメントを登録した上で、休暇残高台帳を算出し直す。<br>
+	 * @param dto         対象DTO
+	 * @param workflowDto 対象ワークフローDTO
+	 * @return 取下したワークフローDTO(取下できなかった場合はnull)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	WorkflowDtoInterface withdrawn(HolidayRequestDtoInterface dto, WorkflowDtoInterface workflowDto)
+			throws MospException;
+	
 	/**
 	 * 登録情報の妥当性を確認確認する。
 	 * @param dto 対象DTO
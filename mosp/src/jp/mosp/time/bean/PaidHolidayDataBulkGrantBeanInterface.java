@@ -0,0 +1,65 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.entity.PaidHolidayGrantPlanEntity;
+
+/**
+ * 有給休暇データ一括付与インターフェース。<br>
+ * <br>
+ * 対象者の入社日、人事汎用履歴情報、既存の有給休暇データ及び有給休暇付与情報を
+ * 纏めて取得し、付与内容をメモリ上で算出した上で、一括で登録する。<br>
+ */
+public interface PaidHolidayDataBulkGrantBeanInterface {
+	
+	/**
+	 * 有給休暇付与計画を作成する。<br>
+	 * 登録は行わないため、付与前の差分確認(ドライラン)に用いることができる。<br>
+	 * 既存の有給休暇データを取得する前に対象者の有給休暇をロックするため、
+	 * 同じトランザクションで{@link #grant(List)}を行う間、付与計画は最新のまま保たれる。<br>
+	 * @param targets 対象者群(key：個人ID、value：対象日)
+	 * @return 有給休暇付与計画リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<PaidHolidayGrantPlanEntity> plan(Map<String, Date> targets) throws MospException;
+	
+	/**
+	 * 有給休暇付与計画に従い、有給休暇データ付与を一括で行う。<br>
+	 * 変更されない付与計画は、登録しない。<br>
+	 * 付与予定の有給休暇データに妥当性確認或いは重複確認のエラーがある場合は、いずれも登録しない。<br>
+	 * @param plans 有給休暇付与計画リスト
+	 * @return 付与件数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	int grant(List<PaidHolidayGrantPlanEntity> plans) throws MospException;
+	
+	/**
+	 * 有給休暇データ付与を一括で行う。<br>
+	 * {@link #plan(Map)}及び{@link #grant(List)}を続けて行う。<br>
+	 * @param targets 対象者群(key：個人ID、value：対象日)
+	 * @return 付与件数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	int grant(Map<String, Date> targets) throws MospException;
+	
+}
@@ -69,6 +69,18 @@ public interface PaidHolidayDataRegistBeanInterface {
 	 */
 	void checkModify(PaidHolidayDataDtoInterface dto) throws MospException;
 	
+	/**
+	 * 一括付与時の確認処理を行う。<br>
+	 * {@link #insert(PaidHolidayDataDtoInterface)}と同じ妥当性確認を、登録を行わずに実施する。<br>
+	 * 置き換える有給休暇データは、付与計画作成時に対象者の有給休暇をロックした上で
+	 * 個人ID、有効日及び取得日で纏めて取得した登録済の情報とする。<br>
+	 * これは論理削除されるものとし、重複としない(SQLは実行しない)。<br>
+	 * @param dto     対象DTO
+	 * @param current 置き換える有給休暇データ(存在しない場合はnull)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void checkBulkInsert(PaidHolidayDataDtoInterface dto, PaidHolidayDataDtoInterface current) throws MospException;
+	
 	/**
 	 * 削除時の整合性確認を行う。<br>
 	 * 削除対象有給休暇データが休暇申請で使用されていないか確認。
@@ -172,11 +172,23 @@ public interface PaidHolidayInfoReferenceBeanInterface
 			throws MospException;
 	
 	/**
-	 * テーブルロック。
+	 * テーブルロック。<br>
+	 * 全ての個人の処理が待たされるため、個人の休暇を処理する場合は
+	 * {@link #lockHoliday(String, int)}を用いる。<br>
 	 * @throws MospException SQL例外が発生した場合
 	 */
 	void lockTables() throws MospException;
 	
+	/**
+	 * 個人の休暇をロックする。<br>
+	 * 対象個人IDの休暇申請及び付与を、トランザクション終了時まで直列化する。<br>
+	 * 他の個人の処理とは競合しない。<br>
+	 * @param personalId  個人ID
+	 * @param holidayType 休暇種別1
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	void lockHoliday(String personalId, int holidayType) throws MospException;
+	
 	/**
 	 * テーブルロック解除。
 	 * @throws MospException SQL例外が発生した場合
@@ -0,0 +1,85 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.PunchLogDtoInterface;
+
+/**
+ * 打刻ログインターフェース。<br>
+ */
+public interface PunchLogBeanInterface {
+	
+	/**
+	 * 打刻を受け付ける。<br>
+	 * 打刻ログを一件登録してコミットし、勤怠データへの反映は打刻反映スレッドに委ねる。<br>
+	 * 打刻ログは打刻ログ登録用のDBコネクションで登録し、呼出元のトランザクションはコミットしない。<br>
+	 * 対象個人IDで同じ打刻識別子の打刻ログが既に存在する場合は、登録しない(再送等)。<br>
+	 * 同じ打刻区分の直前の打刻から二度押し判定期間内である場合も、登録しない(二度押し)。<br>
+	 * @param personalId  個人ID
+	 * @param recordType  打刻区分
+	 * @param recordTime  打刻時刻
+	 * @param device      打刻端末
+	 * @param clientNonce 打刻識別子
+	 * @return 受付結果(true：受け付けた、false：既に受け付けていた)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	boolean accept(String personalId, String recordType, Date recordTime, String device, String clientNonce)
+			throws MospException;
+	
+	/**
+	 * 打刻ログを勤怠データに反映する。<br>
+	 * 打刻区分に応じた打刻処理を行う。<br>
+	 * コミット及びロールバックは、呼出元で行う。<br>
+	 * @param dto 対象打刻ログ
+	 * @return 反映結果(true：反映した、false：エラーメッセージが設定された)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	boolean apply(PunchLogDtoInterface dto) throws MospException;
+	
+	/**
+	 * 打刻ログを反映するために確保する。<br>
+	 * 未反映の打刻ログを、トランザクション終了時まで行ロックする。<br>
+	 * 反映済等の場合、或いは他のトランザクション(他のサーバ等)が確保している場合は、確保しない。<br>
+	 * @param dto 対象打刻ログ
+	 * @return 確保結果(true：確保した、false：確保しなかった)
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	boolean claim(PunchLogDtoInterface dto) throws MospException;
+	
+	/**
+	 * 打刻ログの反映状態を更新する。<br>
+	 * 打刻ログの打刻内容(個人ID、打刻区分、打刻時刻、打刻端末、打刻識別子)は変更しない。<br>
+	 * @param dto         対象打刻ログ
+	 * @param applyStatus 反映状態
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	void updateApplyStatus(PunchLogDtoInterface dto, int applyStatus) throws MospException;
+	
+	/**
+	 * 対象日時以前に受け付けた未反映の打刻ログリストを取得する。<br>
+	 * @param acceptTime 対象日時
+	 * @return 未反映の打刻ログリスト(打刻時刻順)
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	List<PunchLogDtoInterface> getUnappliedList(Date acceptTime) throws MospException;
+	
+}
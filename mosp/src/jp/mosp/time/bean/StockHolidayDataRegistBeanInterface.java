@@ -24,6 +24,8 @@ import jp.mosp.time.dto.settings.StockHolidayDataDtoInterface;
 
 /**
  * ストック休暇データ登録インターフェース。<br>
+ * <br>
+ * 登録及び削除の際は、同じトランザクション内で対象個人の休暇残高台帳を算出し直す。<br>
  */
 public interface StockHolidayDataRegistBeanInterface {
 	
@@ -0,0 +1,224 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.platform.utils.MonthUtility;
+import jp.mosp.time.base.TimeBean;
+import jp.mosp.time.bean.AttendanceRateBeanInterface;
+import jp.mosp.time.bean.ScheduleUtilBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.AttendanceTransactionDaoInterface;
+import jp.mosp.time.dto.settings.AttendanceTransactionDtoInterface;
+import jp.mosp.time.entity.AttendanceRateEntity;
+import jp.mosp.time.utils.TimeUtility;
+
+/**
+ * 出勤率算出クラス。<br>
+ * <br>
+ * 勤怠トランザクションの出勤率算定分子及び分母の和を、対象者群を纏めてSQLで集計する。<br>
+ * 勤怠トランザクションが無い日については、カレンダの予定勤務形態で勤務日かどうかを判断する。<br>
+ * 予定勤務形態は、個人及び月毎に取得して保持し、期間の重なる算出で再利用する。<br>
+ */
+public class AttendanceRateBean extends TimeBean implements AttendanceRateBeanInterface {
+	
+	/**
+	 * 一つのSQLで集計する個人IDの上限数。<br>
+	 */
+	protected static final int					MAX_IN_PERSONAL_IDS	= 1000;
+	
+	/**
+	 * 一日のミリ秒数。<br>
+	 */
+	protected static final long					MILLISECONDS_DAY	= 1000L * 60 * TimeConst.CODE_DEFINITION_HOUR
+			* TimeConst.TIME_DAY_ALL_HOUR;
+	
+	/**
+	 * 区切文字(キャッシュキー)。<br>
+	 */
+	protected static final String				SEPARATOR			= ",";
+	
+	/**
+	 * 勤怠トランザクションDAO。<br>
+	 */
+	protected AttendanceTransactionDaoInterface	dao;
+	
+	/**
+	 * カレンダユーティリティ。<br>
+	 */
+	protected ScheduleUtilBeanInterface			scheduleUtil;
+	
+	/**
+	 * 予定勤務形態コード群。<br>
+	 * key：個人ID及び年月、value：予定勤務形態コード群(key：対象日)<br>
+	 */
+	protected Map<String, Map<Date, String>>	workTypeCodes;
+	
+	
+	/**
+	 * {@link TimeBean#TimeBean()}を実行する。<br>
+	 */
+	public AttendanceRateBean() {
+		super();
+	}
+	
+	/**
+	 * {@link TimeBean#TimeBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection データベースコネクション
+	 */
+	public AttendanceRateBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		dao = (AttendanceTransactionDaoInterface)createDao(AttendanceTransactionDaoInterface.class);
+		scheduleUtil = createBeanInstance(ScheduleUtilBeanInterface.class);
+		workTypeCodes = new HashMap<String, Map<Date, String>>();
+	}
+	
+	@Override
+	public Map<String, AttendanceRateEntity> calc(Collection<String> personalIds, Date firstDate, Date lastDate)
+			throws MospException {
+		// 出勤率群を準備
+		Map<String, AttendanceRateEntity> map = new HashMap<String, AttendanceRateEntity>();
+		// 対象者が一人以下の場合
+		if (personalIds.size() <= 1) {
+			for (String personalId : personalIds) {
+				map.put(personalId, calc(personalId, firstDate, lastDate));
+			}
+			return map;
+		}
+		// 上限数毎に纏めて集計
+		List<String> list = new ArrayList<String>(personalIds);
+		for (int from = 0; from < list.size(); from += MAX_IN_PERSONAL_IDS) {
+			List<String> sub = list.subList(from, Math.min(from + MAX_IN_PERSONAL_IDS, list.size()));
+			String[] array = sub.toArray(new String[sub.size()]);
+			Map<String, AttendanceTransactionDtoInterface> sums = dao.sum(array, firstDate, lastDate);
+			Map<String, Set<Long>> milliseconds = dao.findForMilliseconds(array, firstDate, lastDate);
+			for (String personalId : sub) {
+				Set<Long> set = milliseconds.get(personalId);
+				if (set == null) {
+					set = Collections.emptySet();
+				}
+				map.put(personalId, calc(personalId, firstDate, lastDate, set, sums.get(personalId)));
+			}
+		}
+		return map;
+	}
+	
+	@Override
+	public AttendanceRateEntity calc(String personalId, Date firstDate, Date lastDate) throws MospException {
+		return calc(personalId, firstDate, lastDate, dao.findForMilliseconds(personalId, firstDate, lastDate),
+				dao.sum(personalId, firstDate, lastDate));
+	}
+	
+	/**
+	 * 出勤率を算出する。<br>
+	 * @param personalId   個人ID
+	 * @param firstDate    対象期間初日
+	 * @param lastDate     対象期間末日
+	 * @param milliseconds 勤務日を表すミリ秒数セット
+	 * @param sum          勤怠トランザクションの和
+	 * @return 出勤率
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected AttendanceRateEntity calc(String personalId, Date firstDate, Date lastDate, Set<Long> milliseconds,
+			AttendanceTransactionDtoInterface sum) throws MospException {
+		int workDays = 0;
+		int totalWorkDays = 0;
+		int excludedDays = 0;
+		// 日数がセットの数と一致しない場合
+		if (getNumberOfDays(firstDate, lastDate) != milliseconds.size()) {
+			long firstTime = firstDate.getTime();
+			long lastTime = lastDate.getTime();
+			for (long i = firstTime; i <= lastTime; i += MILLISECONDS_DAY) {
+				// 勤怠トランザクションがある場合
+				if (milliseconds.contains(i)) {
+					continue;
+				}
+				// カレンダに登録されている勤務形態コードを取得
+				String workTypeCode = getScheduledWorkTypeCode(personalId, new Date(i));
+				// 勤務形態コードを取得できなかったか所定休日又は法定休日である場合
+				if (MospUtility.isEmpty(workTypeCode) || TimeUtility.isHoliday(workTypeCode)) {
+					excludedDays++;
+					continue;
+				}
+				totalWorkDays++;
+			}
+		}
+		// 勤怠トランザクションの和がある場合
+		if (sum != null) {
+			workDays += sum.getNumerator();
+			totalWorkDays += sum.getDenominator();
+		}
+		return new AttendanceRateEntity(personalId, firstDate, lastDate, workDays, totalWorkDays, excludedDays);
+	}
+	
+	/**
+	 * カレンダに登録されている勤務形態コードを取得する。<br>
+	 * 対象日を含む月の勤務形態コードを纏めて取得し、保持する。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @return 勤務形態コード
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected String getScheduledWorkTypeCode(String personalId, Date targetDate) throws MospException {
+		int year = DateUtility.getYear(targetDate);
+		int month = DateUtility.getMonth(targetDate);
+		String key = personalId + SEPARATOR + year + SEPARATOR + month;
+		Map<Date, String> codes = workTypeCodes.get(key);
+		// 保持していない場合
+		if (codes == null) {
+			codes = scheduleUtil.getScheduledWorkTypeCodes(personalId, MonthUtility.getYearMonthDate(year, month),
+					MonthUtility.getYearMonthLastDate(year, month));
+			workTypeCodes.put(key, codes);
+		}
+		return codes.get(targetDate);
+	}
+	
+	/**
+	 * 日数を取得する。<br>
+	 * @param firstDate 初日
+	 * @param lastDate 末日
+	 * @return 日数
+	 */
+	protected int getNumberOfDays(Date firstDate, Date lastDate) {
+		long difference = lastDate.getTime() - firstDate.getTime();
+		if (difference < 0) {
+			// 0より小さい場合
+			return 0;
+		}
+		return (int)(difference / MILLISECONDS_DAY) + 1;
+	}
+	
+}
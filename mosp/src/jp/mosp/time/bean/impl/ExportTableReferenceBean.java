@@ -23,10 +23,19 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import jp.mosp.framework.base.DBConnBean;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
+import jp.mosp.framework.instance.InstanceFactory;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformBean;
@@ -199,7 +208,20 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 	/**
 	 * 操作時間数(-1年)
 	 */
-	protected static final int								addPrevious	= -1;
+	protected static final int								addPrevious						= -1;
+	
+	/**
+	 * MosPアプリケーション設定キー(出勤簿情報作成の並列数)。<br>
+	 * 1以下が設定されている場合は、並列で処理しない。<br>
+	 * 並列で処理する場合、スレッド毎にDBコネクションを取得するため、
+	 * DBコネクションプールの最大数は並列数より大きくしておく必要がある。<br>
+	 */
+	protected static final String							APP_ATTENDANCE_BOOK_THREADS		= "AttendanceBookThreads";
+	
+	/**
+	 * 出勤簿情報作成の並列数のデフォルト値。<br>
+	 */
+	protected static final int								DEFAULT_ATTENDANCE_BOOK_THREADS	= 1;
 	
 	
 	/**
@@ -347,45 +369,18 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 			if (humanList.isEmpty()) {
 				return list;
 			}
+			// 並列数取得
+			int threads = getAttendanceBookThreads(humanList.size());
+			// 並列で処理する場合
+			if (threads > 1) {
+				list.addAll(getAttendanceBookList(humanList, exportFieldDtoList, startDate, endDate, threads));
+				exportDataDao.closers();
+				return list;
+			}
 			// 人事情報毎に処理
 			for (HumanDtoInterface humanDto : humanList) {
-				// 締日コードがある場合
-				if (!cutoffCode.isEmpty()) {
-					// 締日情報取得
-					CutoffDtoInterface cutoff = cutoffUtil.getCutoffForPersonalId(humanDto.getPersonalId(), endDate);
-					// 締日がない又は同じでない場合
-					if (cutoff == null || !cutoffCode.equals(cutoff.getCutoffCode())) {
-						// エラーメッセージ削除
-						mospParams.getErrorMessageList().clear();
-						continue;
-					}
-				}
-				// 対象日の設定
-				Date targetDate = startDate;
-				int idx = 0;
-				// 締期間毎に処理
-				while (endDate.after(targetDate)) {
-					// 対象月に対する月操作
-					targetDate = DateUtility.addMonth(startDate, idx);
-					idx++;
-					// 対象日が最終日を超えていた場合
-					if (endDate.compareTo(targetDate) < 0) {
-						break;
-					}
-					// 実績一覧を取得
-					List<AttendanceListDto> actualList = attendanceList.getActualList(humanDto.getPersonalId(),
-							targetDate);
-					// 実績一覧確認
-					if (actualList == null || actualList.isEmpty()) {
-						// エラーメッセージ削除
-						mospParams.getErrorMessageList().clear();
-						continue;
-					}
-					// 対象社員出力リスト取得
-					List<String[]> AttandanceBookList = getFieldValue(humanDto, exportFieldDtoList, actualList);
-					// CSVデータをCSVデータリストに追加
-					list.addAll(AttandanceBookList);
-				}
+				// CSVデータをCSVデータリストに追加
+				list.addAll(getAttendanceBookList(humanDto, exportFieldDtoList, startDate, endDate));
 			}
 			exportDataDao.closers();
 			return list;
@@ -812,6 +807,174 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 		return list;
 	}
 	
+	/**
+	 * 対象社員の出勤簿情報を取得する。<br>
+	 * 締日コードが指定されており、対象社員の締日と異なる場合は、空のリストを返す。<br>
+	 * @param humanDto           対象社員
+	 * @param exportFieldDtoList フィールドリスト
+	 * @param startDate          締期間初日
+	 * @param endDate            締期間最終日
+	 * @return 対象社員の出勤簿情報
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected List<String[]> getAttendanceBookList(HumanDtoInterface humanDto,
+			List<ExportFieldDtoInterface> exportFieldDtoList, Date startDate, Date endDate) throws MospException {
+		// リスト準備
+		List<String[]> list = new ArrayList<String[]>();
+		// 締日コードがある場合
+		if (!cutoffCode.isEmpty()) {
+			// 締日情報取得
+			CutoffDtoInterface cutoff = cutoffUtil.getCutoffForPersonalId(humanDto.getPersonalId(), endDate);
+			// 締日がない又は同じでない場合
+			if (cutoff == null || !cutoffCode.equals(cutoff.getCutoffCode())) {
+				// エラーメッセージ削除
+				mospParams.getErrorMessageList().clear();
+				return list;
+			}
+		}
+		// 対象日の設定
+		Date targetDate = startDate;
+		int idx = 0;
+		// 締期間毎に処理
+		while (endDate.after(targetDate)) {
+			// 対象月に対する月操作
+			targetDate = DateUtility.addMonth(startDate, idx);
+			idx++;
+			// 対象日が最終日を超えていた場合
+			if (endDate.compareTo(targetDate) < 0) {
+				break;
+			}
+			// 実績一覧を取得
+			List<AttendanceListDto> actualList = attendanceList.getActualList(humanDto.getPersonalId(), targetDate);
+			// 実績一覧確認
+			if (actualList == null || actualList.isEmpty()) {
+				// エラーメッセージ削除
+				mospParams.getErrorMessageList().clear();
+				continue;
+			}
+			// 対象社員出力リスト取得
+			list.addAll(getFieldValue(humanDto, exportFieldDtoList, actualList));
+		}
+		return list;
+	}
+	
+	/**
+	 * 出勤簿情報を並列で取得する。<br>
+	 * 並列数分のスレッドが、それぞれのDBコネクションとエクスポートテーブル参照クラスを用いて、
+	 * 人事情報リストから社員を一人ずつ取り出して出勤簿情報を作成する。<br>
+	 * 作成した出勤簿情報は、人事情報リストの順に結合する。<br>
+	 * 各スレッドで設定されたメッセージは、MosP処理情報に引き継ぐ。<br>
+	 * @param humanList          人事情報リスト
+	 * @param exportFieldDtoList フィールドリスト
+	 * @param startDate          締期間初日
+	 * @param endDate            締期間最終日
+	 * @param threads            並列数
+	 * @return 出勤簿情報
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected List<String[]> getAttendanceBookList(final List<HumanDtoInterface> humanList,
+			final List<ExportFieldDtoInterface> exportFieldDtoList, final Date startDate, final Date endDate,
+			int threads) throws MospException {
+		// 社員毎の出勤簿情報(人事情報リストの順)を準備
+		final AtomicReferenceArray<List<String[]>> results = new AtomicReferenceArray<List<String[]>>(
+				humanList.size());
+		// 次に処理する社員のインデックス
+		final AtomicInteger next = new AtomicInteger();
+		// スレッド毎のMosP処理情報リストを準備
+		List<MospParams> workerParamsList = new ArrayList<MospParams>();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+			for (int i = 0; i < threads; i++) {
+				// スレッド毎のMosP処理情報を作成
+				final MospParams workerParams = mospParams.createWorkerParams();
+				workerParamsList.add(workerParams);
+				futures.add(executor.submit(new Callable<Void>() {
+					
+					@Override
+					public Void call() throws Exception {
+						// スレッド毎のDBコネクションを取得
+						DBConnBean dbConnBean = new DBConnBean(workerParams);
+						try {
+							// スレッド毎のエクスポートテーブル参照クラスを準備
+							ExportTableReferenceBean worker = createWorker(workerParams, dbConnBean.getConnection());
+							// 社員を一人ずつ取り出して処理
+							int idx = next.getAndIncrement();
+							while (idx < humanList.size()) {
+								results.set(idx, worker.getAttendanceBookList(humanList.get(idx),
+										exportFieldDtoList, startDate, endDate));
+								idx = next.getAndIncrement();
+							}
+						} finally {
+							dbConnBean.releaseConnection();
+						}
+						return null;
+					}
+				}));
+			}
+			// 全てのスレッドの終了を待機
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MospException(e);
+		} catch (ExecutionException e) {
+			throw new MospException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+			// スレッド毎のメッセージをMosP処理情報に設定
+			for (MospParams workerParams : workerParamsList) {
+				mospParams.getErrorMessageList().addAll(workerParams.getErrorMessageList());
+				mospParams.getMessageList().addAll(workerParams.getMessageList());
+			}
+		}
+		// 人事情報リストの順に結合
+		List<String[]> list = new ArrayList<String[]>();
+		for (int i = 0; i < results.length(); i++) {
+			list.addAll(results.get(i));
+		}
+		return list;
+	}
+	
+	/**
+	 * 並列処理用のエクスポートテーブル参照クラスを作成する。<br>
+	 * このクラスと同じクラスを生成し、エクスポート条件を引き継ぐ。<br>
+	 * @param workerParams     並列処理用のMosP処理情報
+	 * @param workerConnection 並列処理用のDBコネクション
+	 * @return 並列処理用のエクスポートテーブル参照クラス
+	 * @throws MospException インスタンスの生成或いは初期化に失敗した場合
+	 */
+	protected ExportTableReferenceBean createWorker(MospParams workerParams, Connection workerConnection)
+			throws MospException {
+		ExportTableReferenceBean worker = (ExportTableReferenceBean)InstanceFactory.loadBean(getClass().getName(),
+				workerParams, workerConnection);
+		worker.setExportCode(exportCode);
+		worker.setStartYear(startYear);
+		worker.setStartMonth(startMonth);
+		worker.setEndYear(endYear);
+		worker.setEndMonth(endMonth);
+		worker.setCutoffCode(cutoffCode);
+		worker.setWorkPlaceCode(workPlaceCode);
+		worker.setEmploymentCode(employmentCode);
+		worker.setSectionCode(sectionCode);
+		worker.setPositionCode(positionCode);
+		worker.setCkbNeedLowerSection(ckbNeedLowerSection);
+		return worker;
+	}
+	
+	/**
+	 * 出勤簿情報作成の並列数を取得する。<br>
+	 * MosPアプリケーション設定(AttendanceBookThreads)、CPU数及び社員数のうち、
+	 * 最も小さい値を並列数とする。<br>
+	 * @param humanCount 社員数
+	 * @return 並列数(1以下の場合は並列で処理しない)
+	 */
+	protected int getAttendanceBookThreads(int humanCount) {
+		int threads = mospParams.getApplicationProperty(APP_ATTENDANCE_BOOK_THREADS, DEFAULT_ATTENDANCE_BOOK_THREADS);
+		return Math.min(threads, Math.min(Runtime.getRuntime().availableProcessors(), humanCount));
+	}
+	
 	/**
 	 * 対象社員の出勤簿情報を取得する。
 	 * @param human 対象社員
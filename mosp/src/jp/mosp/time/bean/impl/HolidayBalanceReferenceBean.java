@@ -0,0 +1,158 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.time.bean.HolidayBalanceReferenceBeanInterface;
+import jp.mosp.time.bean.StockHolidayInfoReferenceBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.HolidayBalanceDaoInterface;
+import jp.mosp.time.dto.settings.HolidayBalanceDtoInterface;
+import jp.mosp.time.dto.settings.StockHolidayDataDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdHolidayBalanceDto;
+import jp.mosp.time.utils.HolidayBalanceUtility;
+
+/**
+ * 休暇残高参照クラス。<br>
+ * <br>
+ * 残高は、休暇申請画面で申請可能数として用いるものと同じく、
+ * 1次戻以外の申請済休暇申請を差し引いたものとする。<br>
+ */
+public class HolidayBalanceReferenceBean extends PlatformBean implements HolidayBalanceReferenceBeanInterface {
+	
+	/**
+	 * 休暇残高台帳DAO。<br>
+	 */
+	protected HolidayBalanceDaoInterface				dao;
+	
+	/**
+	 * ストック休暇情報参照クラス。<br>
+	 */
+	protected StockHolidayInfoReferenceBeanInterface	stockHolidayInfo;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public HolidayBalanceReferenceBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	public HolidayBalanceReferenceBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		dao = (HolidayBalanceDaoInterface)createDao(HolidayBalanceDaoInterface.class);
+		stockHolidayInfo = (StockHolidayInfoReferenceBeanInterface)createBean(
+				StockHolidayInfoReferenceBeanInterface.class);
+	}
+	
+	@Override
+	public List<HolidayBalanceDtoInterface> getBalanceList(String personalId, Date targetDate) throws MospException {
+		// 休暇残高台帳を利用する場合
+		if (HolidayBalanceUtility.isEnabled(mospParams)) {
+			// 日付が変わっていれば前日以前の台帳を一括で算出し直させる
+			HolidayBalanceUtility.sweep(mospParams);
+			// 対象日時点の台帳を取得(算出済の台帳を含む)
+			List<HolidayBalanceDtoInterface> list = dao.findForList(personalId,
+					TimeConst.CODE_HOLIDAY_BALANCE_TYPE_STOCK, targetDate);
+			// 対象日時点で算出済の場合(残高が無い場合を含む)
+			if (removeCalculated(list)) {
+				return list;
+			}
+		}
+		// 残高を算出
+		return calcBalanceList(personalId, targetDate);
+	}
+	
+	@Override
+	public double getRemainDay(String personalId, Date targetDate) throws MospException {
+		double remainDay = 0D;
+		for (HolidayBalanceDtoInterface dto : getBalanceList(personalId, targetDate)) {
+			remainDay += dto.getRemainDay();
+		}
+		return remainDay;
+	}
+	
+	@Override
+	public List<HolidayBalanceDtoInterface> calcBalanceList(String personalId, Date targetDate)
+			throws MospException {
+		List<HolidayBalanceDtoInterface> list = new ArrayList<HolidayBalanceDtoInterface>();
+		for (StockHolidayDataDtoInterface dto : stockHolidayInfo.getStockHolidayPossibleRequestForRequest(personalId,
+				targetDate)) {
+			double remainDay = dto.getHoldDay() + dto.getGivingDay() - dto.getCancelDay() - dto.getUseDay();
+			list.add(createDto(personalId, dto.getAcquisitionDate(), dto.getLimitDate(), remainDay, targetDate));
+		}
+		return list;
+	}
+	
+	/**
+	 * 休暇残高リストから算出済の台帳を除く。<br>
+	 * @param list 休暇残高リスト
+	 * @return 確認結果(true：算出済の台帳が含まれていた、false：含まれていなかった)
+	 */
+	protected boolean removeCalculated(List<HolidayBalanceDtoInterface> list) {
+		boolean isCalculated = false;
+		Iterator<HolidayBalanceDtoInterface> iterator = list.iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getHolidayType() == TimeConst.CODE_HOLIDAY_BALANCE_TYPE_CALCULATED) {
+				iterator.remove();
+				isCalculated = true;
+			}
+		}
+		return isCalculated;
+	}
+	
+	/**
+	 * ストック休暇の休暇残高台帳DTOを作成する。<br>
+	 * @param personalId      個人ID
+	 * @param acquisitionDate 取得日
+	 * @param limitDate       期限日
+	 * @param remainDay       残日数
+	 * @param balanceDate     残高算出日
+	 * @return 休暇残高台帳DTO
+	 */
+	protected HolidayBalanceDtoInterface createDto(String personalId, Date acquisitionDate, Date limitDate,
+			double remainDay, Date balanceDate) {
+		HolidayBalanceDtoInterface dto = new TmdHolidayBalanceDto();
+		dto.setPersonalId(personalId);
+		dto.setHolidayType(TimeConst.CODE_HOLIDAY_BALANCE_TYPE_STOCK);
+		dto.setAcquisitionDate(acquisitionDate);
+		dto.setLimitDate(limitDate);
+		dto.setRemainDay(remainDay);
+		dto.setRemainHour(0);
+		dto.setBalanceDate(balanceDate);
+		return dto;
+	}
+	
+}
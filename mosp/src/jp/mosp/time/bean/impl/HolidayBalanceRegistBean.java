@@ -0,0 +1,245 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.time.bean.HolidayBalanceReferenceBeanInterface;
+import jp.mosp.time.bean.HolidayBalanceRegistBeanInterface;
+import jp.mosp.time.bean.PaidHolidayInfoReferenceBeanInterface;
+import jp.mosp.time.bean.StockHolidayDataGrantBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.HolidayBalanceDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayDataDaoInterface;
+import jp.mosp.time.dto.settings.HolidayBalanceDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdHolidayBalanceDto;
+import jp.mosp.time.utils.HolidayBalanceUtility;
+
+/**
+ * 休暇残高台帳登録クラス。<br>
+ * <br>
+ * 台帳の算出中は、同じ個人の台帳の算出を待たせる。<br>
+ * 台帳は物理削除して登録し直すため、個人毎に現在の台帳のみを保持する。<br>
+ * 残高の有無に関わらず個人毎に算出済の台帳を登録し、参照時に算出済であるかを判断できるようにする。<br>
+ * また、個人IDが空白の算出済の台帳に、DB接続先毎の一括算出日(残高算出日)及び積立済日(期限日)を保持する。<br>
+ * <br>
+ * 個人毎の算出済の台帳が一つであることは、個人単位ロックの下で削除及び登録することで保証する。<br>
+ * 一括算出の情報は、個人単位ロックを取得した上で、予約したレコード識別IDで登録する。<br>
+ * 勧告的ロックを利用できないRDBMSでは個人単位ロックが働かない(人事情報が存在しない)ため、
+ * 複数のサーバで同時に初回の一括算出を開始した場合は、主キーの一意制約で後の登録を失敗させる。<br>
+ */
+public class HolidayBalanceRegistBean extends PlatformBean implements HolidayBalanceRegistBeanInterface {
+	
+	/**
+	 * リソース名(個人単位ロック)。<br>
+	 */
+	protected static final String					RESOURCE_HOLIDAY_BALANCE	= "HolidayBalance";
+	
+	/**
+	 * 一括算出の情報の個人ID。<br>
+	 */
+	protected static final String					SWEEP_PERSONAL_ID			= "";
+	
+	/**
+	 * 一括算出の情報のレコード識別ID。<br>
+	 * シーケンスで採番されない値を予約する。<br>
+	 */
+	protected static final long						SWEEP_RECORD_ID				= 0L;
+	
+	/**
+	 * 休暇残高台帳DAO。<br>
+	 */
+	protected HolidayBalanceDaoInterface			dao;
+	
+	/**
+	 * 有給休暇データDAO。<br>
+	 */
+	protected PaidHolidayDataDaoInterface			paidHolidayDataDao;
+	
+	/**
+	 * 休暇残高参照クラス。<br>
+	 */
+	protected HolidayBalanceReferenceBeanInterface	holidayBalanceRefer;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public HolidayBalanceRegistBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	public HolidayBalanceRegistBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		dao = (HolidayBalanceDaoInterface)createDao(HolidayBalanceDaoInterface.class);
+		paidHolidayDataDao = (PaidHolidayDataDaoInterface)createDao(PaidHolidayDataDaoInterface.class);
+		holidayBalanceRefer = (HolidayBalanceReferenceBeanInterface)createBean(
+				HolidayBalanceReferenceBeanInterface.class);
+	}
+	
+	@Override
+	public void refresh(String personalId) throws MospException {
+		// 休暇残高台帳を利用しない場合
+		if (HolidayBalanceUtility.isEnabled(mospParams) == false) {
+			return;
+		}
+		refresh(personalId, getSystemDate());
+	}
+	
+	@Override
+	public Date startSweep(Date targetDate) throws MospException {
+		// 他のサーバ或いはスレッドの一括算出の開始を待たせる(初回の登録を含む)
+		lockPersonal(SWEEP_PERSONAL_ID, RESOURCE_HOLIDAY_BALANCE);
+		// 一括算出の情報を取得
+		HolidayBalanceDtoInterface dto = dao.findForCalculatedForUpdate(SWEEP_PERSONAL_ID);
+		// 初回の場合(前日に期限の切れたものから積み立てる)
+		if (dto == null) {
+			dto = createCalculatedDto(SWEEP_PERSONAL_ID, targetDate);
+			dto.setLimitDate(addDay(targetDate, -1));
+			// 予約したレコード識別IDで登録(同時に登録された場合は一意制約違反)
+			dto.setTmdHolidayBalanceId(SWEEP_RECORD_ID);
+			dao.insert(dto);
+			return dto.getLimitDate();
+		}
+		// 対象日の一括算出を開始済の場合
+		if (dto.getBalanceDate().before(targetDate) == false) {
+			return null;
+		}
+		dto.setBalanceDate(targetDate);
+		dao.update(dto);
+		return dto.getLimitDate();
+	}
+	
+	@Override
+	public void finishSweep(Date targetDate) throws MospException {
+		HolidayBalanceDtoInterface dto = dao.findForCalculatedForUpdate(SWEEP_PERSONAL_ID);
+		if (dto == null || dto.getLimitDate().before(targetDate) == false) {
+			return;
+		}
+		dto.setLimitDate(targetDate);
+		dao.update(dto);
+	}
+	
+	@Override
+	public Map<String, Set<Date>> getExpiredLimitDates(Date startDate, Date endDate) throws MospException {
+		Map<String, Set<Date>> map = new TreeMap<String, Set<Date>>();
+		for (PaidHolidayDataDtoInterface dto : paidHolidayDataDao.findForLimitDateList(startDate, endDate)) {
+			Set<Date> limitDates = map.get(dto.getPersonalId());
+			if (limitDates == null) {
+				limitDates = new TreeSet<Date>();
+				map.put(dto.getPersonalId(), limitDates);
+			}
+			limitDates.add(dto.getLimitDate());
+		}
+		return map;
+	}
+	
+	@Override
+	public void convert(String personalId, Collection<Date> limitDates) throws MospException {
+		// 付与が終わるまで、同じ個人のストック休暇申請及び積立を待たせる
+		PaidHolidayInfoReferenceBeanInterface paidHolidayInfo = (PaidHolidayInfoReferenceBeanInterface)createBean(
+				PaidHolidayInfoReferenceBeanInterface.class);
+		paidHolidayInfo.lockHoliday(personalId, TimeConst.CODE_HOLIDAYTYPE_STOCK);
+		StockHolidayDataGrantBeanInterface stockHolidayDataGrant = (StockHolidayDataGrantBeanInterface)createBean(
+				StockHolidayDataGrantBeanInterface.class);
+		for (Date limitDate : new TreeSet<Date>(limitDates)) {
+			// 期限日の翌日時点で期限の切れた有給休暇を、期限日の翌日を取得日として積立(付与済の場合は付与しない)
+			stockHolidayDataGrant.grant(personalId, addDay(limitDate, 1), false);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+		}
+	}
+	
+	@Override
+	public List<String> getSweepTargetList(Date targetDate) throws MospException {
+		List<String> list = new ArrayList<String>();
+		for (HolidayBalanceDtoInterface dto : dao.findForCalculatedList(targetDate)) {
+			list.add(dto.getPersonalId());
+		}
+		return list;
+	}
+	
+	@Override
+	public void sweep(String personalId, Date targetDate) throws MospException {
+		refresh(personalId, targetDate);
+	}
+	
+	/**
+	 * 対象個人の休暇残高台帳を、対象日時点で算出し直す。<br>
+	 * 台帳に保持するのはストック休暇の残高だけであるため、ストック休暇の残高だけを算出する。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void refresh(String personalId, Date targetDate) throws MospException {
+		// 算出が終わるまで、同じ個人の台帳の算出を待たせる
+		lockPersonal(personalId, RESOURCE_HOLIDAY_BALANCE);
+		// 既存の台帳を物理削除
+		dao.deleteForPersonalIds(new String[]{ personalId });
+		// 残高を算出(残高が無い場合も算出済の台帳を登録)
+		List<HolidayBalanceDtoInterface> list = holidayBalanceRefer.calcBalanceList(personalId, targetDate);
+		list.add(createCalculatedDto(personalId, targetDate));
+		// 一括登録
+		long[] recordIds = dao.nextRecordIds(list.size());
+		for (int i = 0; i < list.size(); i++) {
+			list.get(i).setTmdHolidayBalanceId(recordIds[i]);
+		}
+		dao.insert(list);
+	}
+	
+	/**
+	 * 算出済の休暇残高台帳DTOを作成する。<br>
+	 * @param personalId  個人ID
+	 * @param balanceDate 残高算出日
+	 * @return 算出済の休暇残高台帳DTO
+	 */
+	protected HolidayBalanceDtoInterface createCalculatedDto(String personalId, Date balanceDate) {
+		HolidayBalanceDtoInterface dto = new TmdHolidayBalanceDto();
+		dto.setPersonalId(personalId);
+		dto.setHolidayType(TimeConst.CODE_HOLIDAY_BALANCE_TYPE_CALCULATED);
+		dto.setAcquisitionDate(balanceDate);
+		dto.setLimitDate(balanceDate);
+		dto.setRemainDay(0D);
+		dto.setRemainHour(0);
+		dto.setBalanceDate(balanceDate);
+		return dto;
+	}
+	
+}
@@ -78,8 +78,10 @@ import jp.mosp.time.dto.settings.WorkTypeDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmdHolidayRequestDto;
 import jp.mosp.time.entity.WorkTypeEntityInterface;
+import jp.mosp.time.utils.HolidayBalanceUtility;
 import jp.mosp.time.utils.TimeMessageUtility;
 import jp.mosp.time.utils.TimeNamingUtility;
+import jp.mosp.time.utils.TimeRequestUtility;
 import jp.mosp.time.utils.TimeUtility;
 
 /**
@@ -295,6 +297,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		dto.setTmdHolidayRequestId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 休暇残高台帳を算出し直す
+		refreshHolidayBalance(dto, false);
 	}
 	
 	@Override
@@ -309,12 +313,16 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
+		// 更新前がストック休暇であるかを確認(休暇区分を変更した場合も台帳を算出し直すため)
+		boolean isStock = isStockHoliday(dto.getTmdHolidayRequestId());
 		// 論理削除
 		logicalDelete(dao, dto.getTmdHolidayRequestId());
 		// レコード識別ID最大値をインクリメントしてDTOに設定
 		dto.setTmdHolidayRequestId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 休暇残高台帳を算出し直す
+		refreshHolidayBalance(dto, isStock);
 	}
 	
 	@Override
@@ -367,14 +375,53 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 			// ワークフローDTOの準備
 			WorkflowDtoInterface workflowDto = workflowIntegrate.getLatestWorkflowInfo(dto.getWorkflow());
 			// 取下
-			workflowDto = workflowRegist.withdrawn(workflowDto);
-			if (workflowDto != null) {
-				// ワークフローコメント登録
-				workflowCommentRegist.addComment(workflowDto, mospParams.getUser().getPersonalId(),
-						mospParams.getProperties().getMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED,
-								new String[]{ mospParams.getName("TakeDown") }));
-			}
+			withdrawn(dto, workflowDto);
+		}
+	}
+	
+	@Override
+	public WorkflowDtoInterface withdrawn(HolidayRequestDtoInterface dto, WorkflowDtoInterface workflowDto)
+			throws MospException {
+		// 取下
+		WorkflowDtoInterface withdrawn = workflowRegist.withdrawn(workflowDto);
+		if (withdrawn != null) {
+			// ワークフローコメント登録
+			workflowCommentRegist.addComment(withdrawn, mospParams.getUser().getPersonalId(),
+					mospParams.getProperties().getMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED,
+							new String[]{ mospParams.getName("TakeDown") }));
+			// 休暇残高台帳を算出し直す
+			refreshHolidayBalance(dto, false);
 		}
+		return withdrawn;
+	}
+	
+	/**
+	 * 休暇残高台帳を算出し直す。<br>
+	 * 台帳に保持するのはストック休暇の残高だけであるため、
+	 * ストック休暇の休暇申請の場合(或いは更新前がストック休暇の場合)のみ、算出し直す。<br>
+	 * @param dto     対象DTO
+	 * @param isStock 更新前がストック休暇であるか(true：ストック休暇である、false：そうでない)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void refreshHolidayBalance(HolidayRequestDtoInterface dto, boolean isStock) throws MospException {
+		if (isStock || TimeRequestUtility.isStockHoliday(dto)) {
+			HolidayBalanceUtility.refresh(mospParams, connection, dto.getPersonalId());
+		}
+	}
+	
+	/**
+	 * 対象レコード識別IDの休暇申請がストック休暇であるかを確認する。<br>
+	 * 休暇残高台帳を利用しない場合は、休暇申請を取得せずにfalseを返す。<br>
+	 * @param id 休暇申請のレコード識別ID
+	 * @return 確認結果(true：ストック休暇である、false：ストック休暇でない)
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected boolean isStockHoliday(long id) throws MospException {
+		if (HolidayBalanceUtility.isEnabled(mospParams) == false) {
+			return false;
+		}
+		BaseDtoInterface previous = dao.findForKey(id, false);
+		return previous != null && TimeRequestUtility.isStockHoliday((HolidayRequestDtoInterface)previous);
 	}
 	
 	/**
@@ -439,6 +486,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 	
 	@Override
 	public void checkDraft(HolidayRequestDtoInterface dto) throws MospException {
+		// 残日数の確認から登録までの間、同じ個人の同じ休暇種別の処理を待たせる
+		lockHoliday(dto);
 		// 休暇申請が申請として妥当であるかを確認
 		checkForRequest(dto, false);
 		// 休暇が残っているかを確認(下書)
@@ -447,6 +496,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 	
 	@Override
 	public void checkAppli(HolidayRequestDtoInterface dto) throws MospException {
+		// 残日数の確認から登録までの間、同じ個人の同じ休暇種別の処理を待たせる
+		lockHoliday(dto);
 		// 休暇申請が申請として妥当であるかを確認
 		checkForRequest(dto, false);
 		if (mospParams.hasErrorMessage()) {
@@ -472,6 +523,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 	
 	@Override
 	public void checkApproval(HolidayRequestDtoInterface dto) throws MospException {
+		// 残日数の確認から登録までの間、同じ個人の同じ休暇種別の処理を待たせる
+		lockHoliday(dto);
 		// 休暇申請が申請として妥当であるかを確認
 		checkForRequest(dto, true);
 		if (mospParams.hasErrorMessage()) {
@@ -1272,6 +1325,17 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		
 	}
 	
+	/**
+	 * 休暇申請の対象個人及び休暇種別でロックする。<br>
+	 * 残日数を読む前に取得し、トランザクション終了時まで保持する。<br>
+	 * 同じトランザクションで重ねて取得しても待たない。<br>
+	 * @param dto 休暇申請情報
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected void lockHoliday(HolidayRequestDtoInterface dto) throws MospException {
+		paidHolidayInfoReference.lockHoliday(dto.getPersonalId(), dto.getHolidayType1());
+	}
+	
 	/**
 	 * 休暇が残っているかを確認する。<br>
 	 * <br>
@@ -1289,6 +1353,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		int holidayType = dto.getHolidayType1();
 		String holidayCode = dto.getHolidayType2();
 		int holidayRange = dto.getHolidayRange();
+		// 残日数の確認から登録までの間、同じ個人の同じ休暇種別の処理を待たせる
+		lockHoliday(dto);
 		// 特別休暇・その他休暇でない場合
 		if (holidayType != TimeConst.CODE_HOLIDAYTYPE_SPECIAL && holidayType != TimeConst.CODE_HOLIDAYTYPE_OTHER) {
 			// 処理なし
@@ -1626,6 +1692,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 	
 	@Override
 	public void setHolidayRequest(HolidayRequestDtoInterface dto) throws MospException {
+		// 残日数の取得から登録までの間、同じ個人の同じ休暇種別の処理を待たせる
+		lockHoliday(dto);
 		int holidayType1 = dto.getHolidayType1();
 		if (holidayType1 == TimeConst.CODE_HOLIDAYTYPE_HOLIDAY) {
 			// 有給休暇・ストック休暇の場合
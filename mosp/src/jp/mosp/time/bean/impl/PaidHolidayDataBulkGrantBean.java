@@ -0,0 +1,397 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.platform.dao.human.EntranceDaoInterface;
+import jp.mosp.platform.dao.human.HumanHistoryDaoInterface;
+import jp.mosp.platform.dto.human.EntranceDtoInterface;
+import jp.mosp.platform.dto.human.HumanHistoryDtoInterface;
+import jp.mosp.time.bean.PaidHolidayDataBulkGrantBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.PaidHolidayDataDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayGrantDaoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayFirstYearDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayGrantDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayPointDateDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayProportionallyDtoInterface;
+import jp.mosp.time.entity.PaidHolidayGrantPlanEntity;
+
+/**
+ * 有給休暇データ一括付与クラス。<br>
+ * <br>
+ * 付与内容の算出は{@link PaidHolidayDataGrantBean}と同じであるが、
+ * 入社日、人事汎用履歴情報、既存の有給休暇データ及び有給休暇付与情報を対象者分纏めて取得し、
+ * 有給休暇設定毎の初年度、基準日及び比例付与情報は一度取得したものを再利用する。<br>
+ * 登録は、論理削除及び新規登録をそれぞれ一括で行う。<br>
+ * 登録前に、個人毎の付与と同じ有給休暇データの妥当性確認を行い、エラーがある場合は登録しない。<br>
+ * 重複は、付与計画作成時に纏めて取得した登録済の情報を置き換えることで防ぐ。<br>
+ */
+public class PaidHolidayDataBulkGrantBean extends PaidHolidayDataGrantBean
+		implements PaidHolidayDataBulkGrantBeanInterface {
+	
+	/**
+	 * 区切文字(キャッシュキー)。<br>
+	 */
+	protected static final String										SEPARATOR			= ",";
+	
+	/**
+	 * 一つのSQLで検索する個人IDの上限数。<br>
+	 */
+	protected static final int											MAX_IN_PERSONAL_IDS	= 1000;
+	
+	/**
+	 * 人事入社情報DAO。<br>
+	 */
+	protected EntranceDaoInterface										entranceDao;
+	
+	/**
+	 * 人事汎用履歴情報DAO。<br>
+	 */
+	protected HumanHistoryDaoInterface									humanHistoryDao;
+	
+	/**
+	 * 有給休暇データDAO。<br>
+	 */
+	protected PaidHolidayDataDaoInterface								paidHolidayDataDao;
+	
+	/**
+	 * 有給休暇付与DAO。<br>
+	 */
+	protected PaidHolidayGrantDaoInterface								paidHolidayGrantDao;
+	
+	/**
+	 * 入社日群。<br>
+	 * key：個人ID、value：入社日<br>
+	 */
+	protected Map<String, Date>											entranceDates;
+	
+	/**
+	 * 人事汎用履歴情報群。<br>
+	 * key：項目名、value：人事汎用履歴情報群(key：個人ID、value：有効日昇順の人事汎用履歴情報リスト)<br>
+	 */
+	protected Map<String, Map<String, List<HumanHistoryDtoInterface>>>	humanHistories;
+	
+	/**
+	 * 有給休暇初年度情報群。<br>
+	 * key：有給休暇コード、有効日及び入社月、value：有給休暇初年度情報<br>
+	 */
+	protected Map<String, PaidHolidayFirstYearDtoInterface>				firstYears;
+	
+	/**
+	 * 有給休暇自動付与(基準日)情報群。<br>
+	 * key：有給休暇コード、有効日及び付与回数、value：有給休暇自動付与(基準日)情報<br>
+	 */
+	protected Map<String, PaidHolidayPointDateDtoInterface>				pointDates;
+	
+	/**
+	 * 有給休暇比例付与情報群。<br>
+	 * key：有給休暇コード、有効日、週所定労働日数及び継続勤務期間、value：有給休暇比例付与情報<br>
+	 */
+	protected Map<String, PaidHolidayProportionallyDtoInterface>		proportionallies;
+	
+	
+	/**
+	 * {@link PaidHolidayDataGrantBean#PaidHolidayDataGrantBean()}を実行する。<br>
+	 */
+	public PaidHolidayDataBulkGrantBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PaidHolidayDataGrantBean#PaidHolidayDataGrantBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection データベースコネクション
+	 */
+	public PaidHolidayDataBulkGrantBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		super.initBean();
+		entranceDao = (EntranceDaoInterface)createDao(EntranceDaoInterface.class);
+		humanHistoryDao = (HumanHistoryDaoInterface)createDao(HumanHistoryDaoInterface.class);
+		paidHolidayDataDao = (PaidHolidayDataDaoInterface)createDao(PaidHolidayDataDaoInterface.class);
+		paidHolidayGrantDao = (PaidHolidayGrantDaoInterface)createDao(PaidHolidayGrantDaoInterface.class);
+		firstYears = new HashMap<String, PaidHolidayFirstYearDtoInterface>();
+		pointDates = new HashMap<String, PaidHolidayPointDateDtoInterface>();
+		proportionallies = new HashMap<String, PaidHolidayProportionallyDtoInterface>();
+	}
+	
+	@Override
+	public List<PaidHolidayGrantPlanEntity> plan(Map<String, Date> targets) throws MospException {
+		// 既存の有給休暇データを取得する前に、対象者の有給休暇申請を待たせる
+		lockHolidays(targets.keySet());
+		// 入社日及び人事汎用履歴情報を纏めて取得
+		preload(targets.keySet());
+		// 付与予定の有給休暇データを算出
+		Map<String, PaidHolidayDataDtoInterface> planned = new HashMap<String, PaidHolidayDataDtoInterface>();
+		Set<Date> grantDates = new LinkedHashSet<Date>();
+		for (Entry<String, Date> entry : targets.entrySet()) {
+			PaidHolidayDataDtoInterface dto = create(entry.getKey(), entry.getValue(), true);
+			if (mospParams.hasErrorMessage()) {
+				// 付与計画を作成しない
+				return new ArrayList<PaidHolidayGrantPlanEntity>();
+			}
+			planned.put(entry.getKey(), dto);
+			if (dto != null) {
+				grantDates.add(dto.getAcquisitionDate());
+			}
+		}
+		// 付与日毎に既存の有給休暇データ及び有給休暇付与情報を纏めて取得
+		Map<String, PaidHolidayDataDtoInterface> currents = new HashMap<String, PaidHolidayDataDtoInterface>();
+		Map<String, PaidHolidayGrantDtoInterface> grants = new HashMap<String, PaidHolidayGrantDtoInterface>();
+		for (Date grantDate : grantDates) {
+			for (PaidHolidayDataDtoInterface dto : paidHolidayDataDao.findForKeyList(grantDate, grantDate)) {
+				currents.put(getKey(dto.getPersonalId(), grantDate), dto);
+			}
+			for (PaidHolidayGrantDtoInterface dto : paidHolidayGrantDao.findForGrantDateList(grantDate)) {
+				grants.put(getKey(dto.getPersonalId(), grantDate), dto);
+			}
+		}
+		// 付与計画を作成
+		List<PaidHolidayGrantPlanEntity> plans = new ArrayList<PaidHolidayGrantPlanEntity>();
+		for (Entry<String, Date> entry : targets.entrySet()) {
+			String personalId = entry.getKey();
+			PaidHolidayDataDtoInterface dto = planned.get(personalId);
+			if (dto == null) {
+				plans.add(new PaidHolidayGrantPlanEntity(personalId, entry.getValue(), null, null, null));
+				continue;
+			}
+			String key = getKey(personalId, dto.getAcquisitionDate());
+			plans.add(new PaidHolidayGrantPlanEntity(personalId, entry.getValue(), currents.get(key), dto,
+					grants.get(key)));
+		}
+		return plans;
+	}
+	
+	@Override
+	public int grant(List<PaidHolidayGrantPlanEntity> plans) throws MospException {
+		// 変更される付与計画を取得
+		List<PaidHolidayGrantPlanEntity> changed = new ArrayList<PaidHolidayGrantPlanEntity>();
+		Set<String> personalIds = new TreeSet<String>();
+		for (PaidHolidayGrantPlanEntity plan : plans) {
+			if (plan.isChanged()) {
+				changed.add(plan);
+				personalIds.add(plan.getPersonalId());
+			}
+		}
+		if (changed.isEmpty()) {
+			return 0;
+		}
+		// 付与が終わるまで、同じ個人の有給休暇申請を待たせる(付与計画作成時に取得済であれば待たない)
+		lockHolidays(personalIds);
+		// 付与予定の有給休暇データを確認
+		for (PaidHolidayGrantPlanEntity plan : changed) {
+			paidHolidayDataRegist.checkBulkInsert(plan.getPlanned(), plan.getCurrent());
+		}
+		if (mospParams.hasErrorMessage()) {
+			return 0;
+		}
+		// 既存の情報を論理削除
+		List<Long> dataIds = new ArrayList<Long>();
+		List<Long> grantIds = new ArrayList<Long>();
+		for (PaidHolidayGrantPlanEntity plan : changed) {
+			if (plan.getCurrent() != null) {
+				dataIds.add(plan.getCurrent().getTmdPaidHolidayId());
+			}
+			if (plan.getGrant() != null) {
+				grantIds.add(plan.getGrant().getTmtPaidHolidayGrantId());
+			}
+		}
+		paidHolidayDataDao.logicalDelete(dataIds);
+		paidHolidayGrantDao.logicalDelete(grantIds);
+		// 有給休暇データ及び有給休暇付与情報を準備
+		List<PaidHolidayDataDtoInterface> dataList = new ArrayList<PaidHolidayDataDtoInterface>();
+		List<PaidHolidayGrantDtoInterface> grantList = new ArrayList<PaidHolidayGrantDtoInterface>();
+		long[] dataRecordIds = paidHolidayDataDao.nextRecordIds(changed.size());
+		long[] grantRecordIds = paidHolidayGrantDao.nextRecordIds(changed.size());
+		for (int i = 0; i < changed.size(); i++) {
+			PaidHolidayDataDtoInterface dto = changed.get(i).getPlanned();
+			dto.setTmdPaidHolidayId(dataRecordIds[i]);
+			dataList.add(dto);
+			PaidHolidayGrantDtoInterface grantDto = paidHolidayGrantRegist.getInitDto();
+			grantDto.setTmtPaidHolidayGrantId(grantRecordIds[i]);
+			grantDto.setPersonalId(dto.getPersonalId());
+			grantDto.setGrantDate(dto.getAcquisitionDate());
+			grantDto.setGrantStatus(PaidHolidayDataSearchBean.GRANTED);
+			grantList.add(grantDto);
+		}
+		// 一括登録
+		paidHolidayDataDao.insert(dataList);
+		paidHolidayGrantDao.insert(grantList);
+		return changed.size();
+	}
+	
+	@Override
+	public int grant(Map<String, Date> targets) throws MospException {
+		List<PaidHolidayGrantPlanEntity> plans = plan(targets);
+		if (mospParams.hasErrorMessage()) {
+			return 0;
+		}
+		return grant(plans);
+	}
+	
+	/**
+	 * 対象者の有給休暇をロックする。<br>
+	 * デッドロックを避けるため、個人ID順にロックする。<br>
+	 * ロックはトランザクション終了時に解放される。<br>
+	 * @param personalIds 対象個人ID群
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected void lockHolidays(Collection<String> personalIds) throws MospException {
+		for (String personalId : new TreeSet<String>(personalIds)) {
+			lockPersonal(personalId, PaidHolidayInfoReferenceBean.RESOURCE_HOLIDAY
+					+ TimeConst.CODE_HOLIDAYTYPE_HOLIDAY);
+		}
+	}
+	
+	/**
+	 * 対象者の入社日及び人事汎用履歴情報を纏めて取得する。<br>
+	 * @param personalIds 対象個人ID群
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void preload(Set<String> personalIds) throws MospException {
+		// 入社日を取得(IN句の要素数を抑えるため上限数毎)
+		entranceDates = new HashMap<String, Date>();
+		Map<String, EntranceDtoInterface> entrances = new HashMap<String, EntranceDtoInterface>();
+		List<String> ids = new ArrayList<String>(personalIds);
+		for (int from = 0; from < ids.size(); from += MAX_IN_PERSONAL_IDS) {
+			List<String> sub = ids.subList(from, Math.min(from + MAX_IN_PERSONAL_IDS, ids.size()));
+			entrances.putAll(entranceDao.findForPersonalIds(sub.toArray(new String[sub.size()])));
+		}
+		for (String personalId : personalIds) {
+			EntranceDtoInterface dto = entrances.get(personalId);
+			entranceDates.put(personalId, dto == null ? null : dto.getEntranceDate());
+		}
+		// 人事汎用履歴情報を取得(IN句の要素数を抑えるため上限数毎)
+		humanHistories = new HashMap<String, Map<String, List<HumanHistoryDtoInterface>>>();
+		for (String itemName : new String[]{ PRESCRIBED_WEEKLY_WORKING_HOURS, PRESCRIBED_WEEKLY_WORKING_DAYS,
+			PRESCRIBED_ANNUAL_WORKING_DAYS }) {
+			Map<String, List<HumanHistoryDtoInterface>> map = new HashMap<String, List<HumanHistoryDtoInterface>>();
+			for (int from = 0; from < ids.size(); from += MAX_IN_PERSONAL_IDS) {
+				List<String> sub = ids.subList(from, Math.min(from + MAX_IN_PERSONAL_IDS, ids.size()));
+				for (HumanHistoryDtoInterface dto : humanHistoryDao.findForItemTypeList(itemName,
+						sub.toArray(new String[sub.size()]))) {
+					List<HumanHistoryDtoInterface> list = map.get(dto.getPersonalId());
+					if (list == null) {
+						list = new ArrayList<HumanHistoryDtoInterface>();
+						map.put(dto.getPersonalId(), list);
+					}
+					list.add(dto);
+				}
+			}
+			humanHistories.put(itemName, map);
+		}
+	}
+	
+	@Override
+	protected Date getEntranceDate(String personalId) throws MospException {
+		// 纏めて取得した入社日がある場合
+		if (entranceDates != null && entranceDates.containsKey(personalId)) {
+			return entranceDates.get(personalId);
+		}
+		return super.getEntranceDate(personalId);
+	}
+	
+	@Override
+	protected HumanHistoryDtoInterface findHumanHistory(String personalId, String itemName, Date targetDate)
+			throws MospException {
+		// 纏めて取得した人事汎用履歴情報がない場合
+		if (humanHistories == null || humanHistories.containsKey(itemName) == false) {
+			return super.findHumanHistory(personalId, itemName, targetDate);
+		}
+		List<HumanHistoryDtoInterface> list = humanHistories.get(itemName).get(personalId);
+		if (list == null) {
+			return null;
+		}
+		// 対象日以前で最新の情報を取得(リストは有効日昇順)
+		HumanHistoryDtoInterface latest = null;
+		for (HumanHistoryDtoInterface dto : list) {
+			if (dto.getActivateDate().after(targetDate)) {
+				break;
+			}
+			latest = dto;
+		}
+		return latest;
+	}
+	
+	@Override
+	protected PaidHolidayFirstYearDtoInterface findFirstYear(int entranceMonth) throws MospException {
+		String key = getSettingKey(entranceMonth);
+		if (firstYears.containsKey(key) == false) {
+			firstYears.put(key, super.findFirstYear(entranceMonth));
+		}
+		return firstYears.get(key);
+	}
+	
+	@Override
+	protected PaidHolidayPointDateDtoInterface findPointDate(int grantTimes) throws MospException {
+		String key = getSettingKey(grantTimes);
+		if (pointDates.containsKey(key) == false) {
+			pointDates.put(key, super.findPointDate(grantTimes));
+		}
+		return pointDates.get(key);
+	}
+	
+	@Override
+	protected PaidHolidayProportionallyDtoInterface findProportionally(int prescribedWeeklyWorkingDays,
+			int continuousServiceTerms) throws MospException {
+		String key = getSettingKey(prescribedWeeklyWorkingDays) + SEPARATOR + continuousServiceTerms;
+		if (proportionallies.containsKey(key) == false) {
+			proportionallies.put(key, super.findProportionally(prescribedWeeklyWorkingDays, continuousServiceTerms));
+		}
+		return proportionallies.get(key);
+	}
+	
+	/**
+	 * 有給休暇設定情報毎のキャッシュキーを取得する。<br>
+	 * @param value 値
+	 * @return キャッシュキー
+	 */
+	protected String getSettingKey(int value) {
+		return paidHolidayDto.getPaidHolidayCode() + SEPARATOR + paidHolidayDto.getActivateDate().getTime()
+				+ SEPARATOR + value;
+	}
+	
+	/**
+	 * 個人ID及び付与日のキーを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param grantDate  付与日
+	 * @return キー
+	 */
+	protected String getKey(String personalId, Date grantDate) {
+		return personalId + SEPARATOR + grantDate.getTime();
+	}
+	
+}
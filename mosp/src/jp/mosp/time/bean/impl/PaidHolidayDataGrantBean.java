@@ -161,7 +161,10 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 		if (dto == null) {
 			return;
 		}
-		PaidHolidayDataDtoInterface paidHolidayDataDto = paidHolidayDataRefer.findForKey(dto.getPersonalId(),
+		// 付与が終わるまで、同じ個人の有給休暇申請を待たせる
+		lockPersonal(dto.getPersonalId(), PaidHolidayInfoReferenceBean.RESOURCE_HOLIDAY
+				+ TimeConst.CODE_HOLIDAYTYPE_HOLIDAY);
+		PaidHolidayDataDtoInterface paidHolidayDataDto = findPaidHolidayData(dto.getPersonalId(),
 				dto.getActivateDate(), dto.getAcquisitionDate());
 		if (paidHolidayDataDto != null) {
 			// 削除
@@ -188,7 +191,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected void paidHolidayGrantRegist(String personalId, Date grantDate) throws MospException {
-		PaidHolidayGrantDtoInterface dto = paidHolidayGrantRefer.findForKey(personalId, grantDate);
+		PaidHolidayGrantDtoInterface dto = findPaidHolidayGrant(personalId, grantDate);
 		if (dto == null) {
 			dto = paidHolidayGrantRegist.getInitDto();
 			dto.setPersonalId(personalId);
@@ -283,7 +286,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 			// 初年度付与日以後の場合
 			// 付与回数
 			int count = 0;
-			Date entranceDate = entranceRefer.getEntranceDate(personalId);
+			Date entranceDate = getEntranceDate(personalId);
 			if (entranceDate == null) {
 				return 0;
 			}
@@ -334,7 +337,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 			return 0;
 		} else if (paidHolidayType == TimeConst.CODE_PAID_HOLIDAY_TYPE_PROPORTIONALLY) {
 			// 比例付与の場合
-			Date entranceDate = entranceRefer.getEntranceDate(personalId);
+			Date entranceDate = getEntranceDate(personalId);
 			if (entranceDate == null) {
 				return 0;
 			}
@@ -362,7 +365,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 	
 	@Override
 	public Date getGrantDate(String personalId, int grantTimes) throws MospException {
-		return getGrantDate(personalId, grantTimes, entranceRefer.getEntranceDate(personalId));
+		return getGrantDate(personalId, grantTimes, getEntranceDate(personalId));
 	}
 	
 	@Override
@@ -447,15 +450,14 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected Date getGrantDateOfFirstFiscalYear(String personalId) throws MospException {
-		Date entranceDate = entranceRefer.getEntranceDate(personalId);
+		Date entranceDate = getEntranceDate(personalId);
 		if (entranceDate == null) {
 			return null;
 		}
 		if (paidHolidayDto == null) {
 			return null;
 		}
-		PaidHolidayFirstYearDtoInterface dto = paidHolidayFirstYearRefer.findForKey(paidHolidayDto.getPaidHolidayCode(),
-				paidHolidayDto.getActivateDate(), DateUtility.getMonth(entranceDate));
+		PaidHolidayFirstYearDtoInterface dto = findFirstYear(DateUtility.getMonth(entranceDate));
 		if (dto == null) {
 			return null;
 		}
@@ -521,17 +523,14 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected Date getExpirationDateOfFirstFiscalYear(String personalId, Date grantDate) throws MospException {
-		Date entranceDate = entranceRefer.getEntranceDate(personalId);
+		Date entranceDate = getEntranceDate(personalId);
 		if (entranceDate == null) {
 			return null;
 		}
 		if (paidHolidayDto == null) {
 			return null;
 		}
-		return getExpirationDateOfFirstFiscalYear(
-				paidHolidayFirstYearRefer.findForKey(paidHolidayDto.getPaidHolidayCode(),
-						paidHolidayDto.getActivateDate(), DateUtility.getMonth(entranceDate)),
-				grantDate);
+		return getExpirationDateOfFirstFiscalYear(findFirstYear(DateUtility.getMonth(entranceDate)), grantDate);
 	}
 	
 	/**
@@ -577,8 +576,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 				return getGrantDaysOfFirstFiscalYear(personalId, accomplish);
 			}
 			// 1より大きい場合
-			PaidHolidayPointDateDtoInterface paidHolidayPointDateDto = paidHolidayPointDateRefer
-				.findForKey(paidHolidayDto.getPaidHolidayCode(), paidHolidayDto.getActivateDate(), grantTimes);
+			PaidHolidayPointDateDtoInterface paidHolidayPointDateDto = findPointDate(grantTimes);
 			if (paidHolidayPointDateDto == null) {
 				// 登録情報最大まで経過後の場合
 				return paidHolidayDto.getGeneralPointAmount();
@@ -626,7 +624,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 		Integer prescribedWeeklyWorkingDays = null;
 		Integer prescribedAnnualWorkingDays = null;
 		// 週所定労働時間数取得
-		HumanHistoryDtoInterface prescribedWeeklyWorkingHoursDto = humanHistoryRefer.findForInfo(personalId,
+		HumanHistoryDtoInterface prescribedWeeklyWorkingHoursDto = findHumanHistory(personalId,
 				PRESCRIBED_WEEKLY_WORKING_HOURS, grantDate);
 		// 週所定労働時間数が設定されている場合
 		if (prescribedWeeklyWorkingHoursDto != null && !prescribedWeeklyWorkingHoursDto.getHumanItemValue().isEmpty()) {
@@ -634,7 +632,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 			prescribedWeeklyWorkingHours = Double.valueOf(prescribedWeeklyWorkingHoursDto.getHumanItemValue());
 		}
 		// 週所定労働日数取得
-		HumanHistoryDtoInterface prescribedWeeklyWorkingDaysDto = humanHistoryRefer.findForInfo(personalId,
+		HumanHistoryDtoInterface prescribedWeeklyWorkingDaysDto = findHumanHistory(personalId,
 				PRESCRIBED_WEEKLY_WORKING_DAYS, grantDate);
 		// 週所定労働日数が設定されている場合
 		if (prescribedWeeklyWorkingDaysDto != null && !prescribedWeeklyWorkingDaysDto.getHumanItemValue().isEmpty()) {
@@ -642,7 +640,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 			prescribedWeeklyWorkingDays = Integer.valueOf(prescribedWeeklyWorkingDaysDto.getHumanItemValue());
 		}
 		// 年所定労働日数取得
-		HumanHistoryDtoInterface prescribedAnnualWorkingDaysDto = humanHistoryRefer.findForInfo(personalId,
+		HumanHistoryDtoInterface prescribedAnnualWorkingDaysDto = findHumanHistory(personalId,
 				PRESCRIBED_ANNUAL_WORKING_DAYS, grantDate);
 		// 年所定労働日数が設定されている場合
 		if (prescribedAnnualWorkingDaysDto != null && !prescribedAnnualWorkingDaysDto.getHumanItemValue().isEmpty()) {
@@ -707,8 +705,7 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 			// 0以下の場合
 			return 0;
 		}
-		PaidHolidayProportionallyDtoInterface dto = paidHolidayProportionallyRefer.findForInfo(
-				paidHolidayDto.getPaidHolidayCode(), paidHolidayDto.getActivateDate(), days,
+		PaidHolidayProportionallyDtoInterface dto = findProportionally(days,
 				continuousServiceTermsCountingFromTheEmploymentDay);
 		if (dto == null) {
 			return 0;
@@ -761,19 +758,102 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 			return 0;
 		}
 		// 達成の場合
-		Date entranceDate = entranceRefer.getEntranceDate(personalId);
+		Date entranceDate = getEntranceDate(personalId);
 		if (entranceDate == null) {
 			return 0;
 		}
 		if (paidHolidayDto == null) {
 			return 0;
 		}
-		PaidHolidayFirstYearDtoInterface dto = paidHolidayFirstYearRefer.findForKey(paidHolidayDto.getPaidHolidayCode(),
-				paidHolidayDto.getActivateDate(), DateUtility.getMonth(entranceDate));
+		PaidHolidayFirstYearDtoInterface dto = findFirstYear(DateUtility.getMonth(entranceDate));
 		if (dto == null) {
 			return 0;
 		}
 		return dto.getGivingAmount();
 	}
 	
+	/**
+	 * 入社日を取得する。<br>
+	 * 一括付与では、予め取得した入社日を用いるために上書きする。<br>
+	 * @param personalId 個人ID
+	 * @return 入社日
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Date getEntranceDate(String personalId) throws MospException {
+		return entranceRefer.getEntranceDate(personalId);
+	}
+	
+	/**
+	 * 有給休暇設定情報の有給休暇初年度情報を取得する。<br>
+	 * @param entranceMonth 入社月
+	 * @return 有給休暇初年度情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected PaidHolidayFirstYearDtoInterface findFirstYear(int entranceMonth) throws MospException {
+		return paidHolidayFirstYearRefer.findForKey(paidHolidayDto.getPaidHolidayCode(),
+				paidHolidayDto.getActivateDate(), entranceMonth);
+	}
+	
+	/**
+	 * 有給休暇設定情報の有給休暇自動付与(基準日)情報を取得する。<br>
+	 * @param grantTimes 付与回数
+	 * @return 有給休暇自動付与(基準日)情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected PaidHolidayPointDateDtoInterface findPointDate(int grantTimes) throws MospException {
+		return paidHolidayPointDateRefer.findForKey(paidHolidayDto.getPaidHolidayCode(),
+				paidHolidayDto.getActivateDate(), grantTimes);
+	}
+	
+	/**
+	 * 有給休暇設定情報の有給休暇比例付与情報を取得する。<br>
+	 * @param prescribedWeeklyWorkingDays 週所定労働日数
+	 * @param continuousServiceTerms      継続勤務期間(月)
+	 * @return 有給休暇比例付与情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected PaidHolidayProportionallyDtoInterface findProportionally(int prescribedWeeklyWorkingDays,
+			int continuousServiceTerms) throws MospException {
+		return paidHolidayProportionallyRefer.findForInfo(paidHolidayDto.getPaidHolidayCode(),
+				paidHolidayDto.getActivateDate(), prescribedWeeklyWorkingDays, continuousServiceTerms);
+	}
+	
+	/**
+	 * 人事汎用履歴情報を取得する。<br>
+	 * @param personalId 個人ID
+	 * @param itemName   項目名
+	 * @param targetDate 対象日
+	 * @return 人事汎用履歴情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected HumanHistoryDtoInterface findHumanHistory(String personalId, String itemName, Date targetDate)
+			throws MospException {
+		return humanHistoryRefer.findForInfo(personalId, itemName, targetDate);
+	}
+	
+	/**
+	 * 有給休暇データを取得する。<br>
+	 * @param personalId      個人ID
+	 * @param activateDate    有効日
+	 * @param acquisitionDate 取得日
+	 * @return 有給休暇データ
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected PaidHolidayDataDtoInterface findPaidHolidayData(String personalId, Date activateDate,
+			Date acquisitionDate) throws MospException {
+		return paidHolidayDataRefer.findForKey(personalId, activateDate, acquisitionDate);
+	}
+	
+	/**
+	 * 有給休暇付与情報を取得する。<br>
+	 * @param personalId 個人ID
+	 * @param grantDate  付与日
+	 * @return 有給休暇付与情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected PaidHolidayGrantDtoInterface findPaidHolidayGrant(String personalId, Date grantDate)
+			throws MospException {
+		return paidHolidayGrantRefer.findForKey(personalId, grantDate);
+	}
+	
 }
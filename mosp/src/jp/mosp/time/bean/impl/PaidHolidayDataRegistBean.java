@@ -174,6 +174,19 @@ public class PaidHolidayDataRegistBean extends PlatformBean implements PaidHolid
 		}
 	}
 	
+	@Override
+	public void checkBulkInsert(PaidHolidayDataDtoInterface dto, PaidHolidayDataDtoInterface current)
+			throws MospException {
+		// DTO妥当性確認
+		validate(dto);
+		// 置き換える有給休暇データが存在する場合
+		if (current != null) {
+			// DTO妥当性確認
+			validate(current);
+		}
+		// 登録済の有給休暇データは置き換える有給休暇データのみであり論理削除されるため、重複確認は不要
+	}
+	
 	/**
 	 * 新規登録時の確認処理を行う。<br>
 	 * @param dto 対象DTO
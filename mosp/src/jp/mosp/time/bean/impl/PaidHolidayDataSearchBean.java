@@ -21,7 +21,10 @@ import java.math.BigDecimal;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
@@ -33,6 +36,7 @@ import jp.mosp.platform.bean.human.HumanSearchBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.time.base.TimeApplicationBean;
+import jp.mosp.time.bean.AttendanceRateBeanInterface;
 import jp.mosp.time.bean.AttendanceTransactionReferenceBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataReferenceBeanInterface;
@@ -41,12 +45,12 @@ import jp.mosp.time.bean.PaidHolidayGrantReferenceBeanInterface;
 import jp.mosp.time.bean.PaidHolidayGrantRegistBeanInterface;
 import jp.mosp.time.bean.ScheduleUtilBeanInterface;
 import jp.mosp.time.constant.TimeConst;
-import jp.mosp.time.dto.settings.AttendanceTransactionDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayDataGrantListDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayGrantDtoInterface;
 import jp.mosp.time.dto.settings.impl.PaidHolidayDataGrantListDto;
-import jp.mosp.time.utils.TimeUtility;
+import jp.mosp.time.entity.AttendanceRateEntity;
 
 /**
  * 有給休暇データ検索クラス。
@@ -93,6 +97,11 @@ public class PaidHolidayDataSearchBean extends TimeApplicationBean implements Pa
 	 */
 	protected AttendanceTransactionReferenceBeanInterface	attendanceTransactionReference;
 	
+	/**
+	 * 出勤率算出クラス。<br>
+	 */
+	protected AttendanceRateBeanInterface					attendanceRate;
+	
 	/**
 	 * 有効日。
 	 */
@@ -165,12 +174,15 @@ public class PaidHolidayDataSearchBean extends TimeApplicationBean implements Pa
 		paidHolidayDataGrant = (PaidHolidayDataGrantBeanInterface)createBean(PaidHolidayDataGrantBeanInterface.class);
 		attendanceTransactionReference = (AttendanceTransactionReferenceBeanInterface)createBean(
 				AttendanceTransactionReferenceBeanInterface.class);
+		attendanceRate = (AttendanceRateBeanInterface)createBean(AttendanceRateBeanInterface.class);
 	}
 	
 	@Override
 	public List<PaidHolidayDataGrantListDtoInterface> getSearchList() throws MospException {
 		// 有給休暇データ一覧準備
 		List<PaidHolidayDataGrantListDtoInterface> list = new ArrayList<PaidHolidayDataGrantListDtoInterface>();
+		// 有給休暇設定情報群(key：個人ID)を準備
+		Map<String, PaidHolidayDtoInterface> paidHolidays = new HashMap<String, PaidHolidayDtoInterface>();
 		// 人事マスタリストを取得
 		List<HumanDtoInterface> humanList = getHumanList();
 		// 人事マスタリスト毎に処理
@@ -181,6 +193,15 @@ public class PaidHolidayDataSearchBean extends TimeApplicationBean implements Pa
 			}
 			// 有給休暇データ一覧に追加
 			list.add(dto);
+			paidHolidays.put(dto.getPersonalId(), paidHolidayDto);
+		}
+		// 出勤率を算定期間毎に纏めて設定
+		setAttendanceRates(list);
+		// 有給休暇データ一覧毎に処理
+		for (PaidHolidayDataGrantListDtoInterface dto : list) {
+			// 対象者の有給休暇設定情報で達成状況を設定
+			paidHolidayDto = paidHolidays.get(dto.getPersonalId());
+			setAccomplish(dto);
 			paidHolidayGrantRegist(dto);
 		}
 		return list;
@@ -263,8 +284,8 @@ public class PaidHolidayDataSearchBean extends TimeApplicationBean implements Pa
 		Date startDate = getStartDate(dto, grantTimes, grantDate);
 		// 終了日を取得
 		Date endDate = getEndDate(startDate, grantTimes);
-		// 出勤率設定
-		setAttendanceRate(paidHolidayDataGrantListDto, dto, grantDate, startDate, endDate);
+		// 出勤率初期化(出勤率は一覧作成後に纏めて設定)
+		initAttendanceRate(paidHolidayDataGrantListDto);
 		// 有給休暇データ一覧情報設定
 		setDto(paidHolidayDataGrantListDto, dto, paidHolidayDataDto, grantDate, startDate, endDate);
 		// 有給休暇データ一覧に追加
@@ -475,12 +496,29 @@ public class PaidHolidayDataSearchBean extends TimeApplicationBean implements Pa
 		dto.setGrantDate(grantDate);
 		dto.setFirstDate(firstDate);
 		dto.setLastDate(lastDate);
+		dto.setGrant(mospParams.getName("Ram", "Giving"));
+		dto.setActivateDate(null);
+		dto.setGrantDays(null);
+		if (paidHolidayDataDto != null) {
+			// 付与済の場合
+			dto.setGrant(mospParams.getName("Giving", "Finish"));
+			dto.setActivateDate(paidHolidayDataDto.getActivateDate());
+			dto.setGrantDays(paidHolidayDataDto.getHoldDay());
+		}
+	}
+	
+	/**
+	 * 達成状況を設定する。<br>
+	 * 出勤率を設定した後に、対象者の有給休暇設定情報を設定した状態で用いる。<br>
+	 * @param dto 対象DTO
+	 */
+	protected void setAccomplish(PaidHolidayDataGrantListDtoInterface dto) {
 		dto.setAccomplish(mospParams.getName("Ram", "Accomplish"));
 		if (isAccomplished(dto.getAttendanceRate())) {
 			// 達成の場合
 			dto.setAccomplish(mospParams.getName("Accomplish"));
 		}
-		if (grantDate == null) {
+		if (dto.getGrantDate() == null) {
 			dto.setAccomplish(mospParams.getName("Hyphen"));
 		}
 		if (dto.getAttendanceRate() == null) {
@@ -489,15 +527,6 @@ public class PaidHolidayDataSearchBean extends TimeApplicationBean implements Pa
 		if (!dto.getError().isEmpty()) {
 			dto.setAccomplish(mospParams.getName("Hyphen"));
 		}
-		dto.setGrant(mospParams.getName("Ram", "Giving"));
-		dto.setActivateDate(null);
-		dto.setGrantDays(null);
-		if (paidHolidayDataDto != null) {
-			// 付与済の場合
-			dto.setGrant(mospParams.getName("Giving", "Finish"));
-			dto.setActivateDate(paidHolidayDataDto.getActivateDate());
-			dto.setGrantDays(paidHolidayDataDto.getHoldDay());
-		}
 	}
 	
 	/**
@@ -633,55 +662,89 @@ public class PaidHolidayDataSearchBean extends TimeApplicationBean implements Pa
 	 */
 	protected void setAttendanceRate(PaidHolidayDataGrantListDtoInterface dto, String personalId, Date grantDate,
 			Date startDate, Date endDate) throws MospException {
-		dto.setWorkDays(null);
-		dto.setTotalWorkDays(null);
-		dto.setAttendanceRate(null);
-		dto.setError("");
+		initAttendanceRate(dto);
 		if (startDate == null) {
 			return;
 		}
 		if (!calcAttendanceRate) {
 			return;
 		}
-		int attendanceDays = 0;
-		int totalWorkDays = 0;
-		Date firstDate = startDate;
-		Date lastDate = addDay(grantDate, -1);
-		Set<Long> set = attendanceTransactionReference.findForMilliseconds(personalId, firstDate, lastDate);
-		if (getNumberOfDays(firstDate, lastDate) != set.size()) {
-			// 日数がセットの数と一致しない場合
-			int milliseconds = 1000 * 60 * TimeConst.CODE_DEFINITION_HOUR * TimeConst.TIME_DAY_ALL_HOUR;
-			long firstTime = firstDate.getTime();
-			long lastTime = lastDate.getTime();
-			for (long i = firstTime; i <= lastTime; i += milliseconds) {
-				if (set.contains(i)) {
-					continue;
-				}
-				Date date = new Date(i);
-				
-				// カレンダに登録されている勤務形態コードを取得
-				String workTypeCode = scheduleUtil.getScheduledWorkTypeCodeNoMessage(personalId, date);
-				// カレンダに登録されている勤務形態コードを取得できなかった場合
-				if (MospUtility.isEmpty(workTypeCode)) {
-					// 次の日へ
-					continue;
-				}
-				// カレンダに登録されている勤務形態コードが所定休日又は法定休日である場合
-				if (TimeUtility.isHoliday(workTypeCode)) {
-					// 次の日へ
-					continue;
-				}
-				totalWorkDays++;
-			}
+		// 付与日前日までの出勤率を算出
+		AttendanceRateEntity entity = attendanceRate.calc(personalId, startDate, addDay(grantDate, -1));
+		setAttendanceRate(dto, entity, grantDate, endDate);
+	}
+	
+	/**
+	 * 有給休暇データ一覧の出勤率を、算定期間毎に纏めて設定する。<br>
+	 * 算定期間初日及び付与日が同じ対象者の出勤率を、纏めて算出する。<br>
+	 * @param list 有給休暇データ一覧
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void setAttendanceRates(List<PaidHolidayDataGrantListDtoInterface> list) throws MospException {
+		if (!calcAttendanceRate) {
+			return;
 		}
-		// 勤怠トランザクションの和を取得
-		AttendanceTransactionDtoInterface attendanceTransactionDto = attendanceTransactionReference.sum(personalId,
-				firstDate, lastDate);
-		// 勤怠トランザクションの和がある場合
-		if (attendanceTransactionDto != null) {
-			attendanceDays += attendanceTransactionDto.getNumerator();
-			totalWorkDays += attendanceTransactionDto.getDenominator();
+		// 算定期間毎の有給休暇データ一覧を準備
+		Map<String, List<PaidHolidayDataGrantListDtoInterface>> terms;
+		terms = new LinkedHashMap<String, List<PaidHolidayDataGrantListDtoInterface>>();
+		for (PaidHolidayDataGrantListDtoInterface dto : list) {
+			// 算定期間初日が無い場合
+			if (dto.getFirstDate() == null) {
+				continue;
+			}
+			// 付与日が無い場合
+			if (dto.getGrantDate() == null) {
+				// 個人毎に設定
+				setAttendanceRate(dto, dto.getPersonalId(), dto.getGrantDate(), dto.getFirstDate(), dto.getLastDate());
+				continue;
+			}
+			String key = dto.getFirstDate().getTime() + "," + dto.getGrantDate().getTime();
+			List<PaidHolidayDataGrantListDtoInterface> term = terms.get(key);
+			if (term == null) {
+				term = new ArrayList<PaidHolidayDataGrantListDtoInterface>();
+				terms.put(key, term);
+			}
+			term.add(dto);
+		}
+		// 算定期間毎に処理
+		for (List<PaidHolidayDataGrantListDtoInterface> term : terms.values()) {
+			Date firstDate = term.get(0).getFirstDate();
+			Date grantDate = term.get(0).getGrantDate();
+			List<String> personalIds = new ArrayList<String>();
+			for (PaidHolidayDataGrantListDtoInterface dto : term) {
+				personalIds.add(dto.getPersonalId());
+			}
+			// 付与日前日までの出勤率を纏めて算出
+			Map<String, AttendanceRateEntity> map = attendanceRate.calc(personalIds, firstDate, addDay(grantDate, -1));
+			for (PaidHolidayDataGrantListDtoInterface dto : term) {
+				setAttendanceRate(dto, map.get(dto.getPersonalId()), grantDate, dto.getLastDate());
+			}
 		}
+	}
+	
+	/**
+	 * 出勤率を初期化する。<br>
+	 * @param dto 対象DTO
+	 */
+	protected void initAttendanceRate(PaidHolidayDataGrantListDtoInterface dto) {
+		dto.setWorkDays(null);
+		dto.setTotalWorkDays(null);
+		dto.setAttendanceRate(null);
+		dto.setError("");
+	}
+	
+	/**
+	 * 出勤率を設定する。<br>
+	 * 付与日から算定期間末日までは、出勤したものとみなす。<br>
+	 * @param dto       対象DTO
+	 * @param entity    出勤率(付与日前日まで)
+	 * @param grantDate 付与日
+	 * @param endDate   終了日
+	 */
+	protected void setAttendanceRate(PaidHolidayDataGrantListDtoInterface dto, AttendanceRateEntity entity,
+			Date grantDate, Date endDate) {
+		int attendanceDays = entity.getWorkDays();
+		int totalWorkDays = entity.getTotalWorkDays();
 		// 付与日から算定期間末日までの日数
 		int days = getNumberOfDays(grantDate, endDate);
 		attendanceDays += days;
@@ -66,6 +66,12 @@ import jp.mosp.time.utils.TimeUtility;
  */
 public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements PaidHolidayInfoReferenceBeanInterface {
 	
+	/**
+	 * 個人単位ロックのリソース名(休暇)。<br>
+	 * 休暇種別1を付加して用いる。<br>
+	 */
+	protected static final String							RESOURCE_HOLIDAY	= "Holiday";
+	
 	/**
 	 * 有給休暇データDAO。
 	 */
@@ -2006,6 +2012,11 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 		super.lockTables();
 	}
 	
+	@Override
+	public void lockHoliday(String personalId, int holidayType) throws MospException {
+		lockPersonal(personalId, RESOURCE_HOLIDAY + holidayType);
+	}
+	
 	@Override
 	public void unlockTable() throws MospException {
 		super.unlockTable();
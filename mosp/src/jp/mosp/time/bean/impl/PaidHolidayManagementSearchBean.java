@@ -29,12 +29,14 @@ import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.human.HumanSearchBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
+import jp.mosp.time.bean.HolidayBalanceReferenceBeanInterface;
 import jp.mosp.time.bean.PaidHolidayInfoReferenceBeanInterface;
 import jp.mosp.time.bean.PaidHolidayManagementSearchBeanInterface;
 import jp.mosp.time.bean.StockHolidayInfoReferenceBeanInterface;
 import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.dto.settings.PaidHolidayManagementListDtoInterface;
 import jp.mosp.time.dto.settings.impl.PaidHolidayManagementListDto;
+import jp.mosp.time.utils.HolidayBalanceUtility;
 
 /**
  * 有給休暇確認検索クラス。
@@ -56,6 +58,11 @@ public class PaidHolidayManagementSearchBean extends PlatformBean implements Pai
 	 */
 	private StockHolidayInfoReferenceBeanInterface	stockHolidayInfo;
 	
+	/**
+	 * 休暇残高参照。
+	 */
+	private HolidayBalanceReferenceBeanInterface	holidayBalance;
+	
 	private Date									activateDate;
 	private String									employeeCode;
 	private String									employeeName;
@@ -91,6 +98,8 @@ public class PaidHolidayManagementSearchBean extends PlatformBean implements Pai
 		// ストック休暇情報参照クラス取得
 		stockHolidayInfo = (StockHolidayInfoReferenceBeanInterface)createBean(
 				StockHolidayInfoReferenceBeanInterface.class);
+		// 休暇残高参照クラス取得
+		holidayBalance = (HolidayBalanceReferenceBeanInterface)createBean(HolidayBalanceReferenceBeanInterface.class);
 	}
 	
 	@Override
@@ -131,17 +140,31 @@ public class PaidHolidayManagementSearchBean extends PlatformBean implements Pai
 			paidHolidayManagementListDto.setDate(((Double)map.get(TimeConst.CODE_CURRENT_YEAR_DAY)).doubleValue());
 			paidHolidayManagementListDto.setTime(((Integer)map.get(TimeConst.CODE_CURRENT_TIME)).intValue());
 			// ストック休暇
-			double stock = 0;
-			Double remainDay = stockHolidayInfo.getRemainDay(personalId, activateDate);
-			if (remainDay != null) {
-				stock = remainDay.doubleValue();
-			}
-			paidHolidayManagementListDto.setStockDate(stock);
+			paidHolidayManagementListDto.setStockDate(getStockRemainDay(personalId));
 			paidHolidayManagementList.add(paidHolidayManagementListDto);
 		}
 		return paidHolidayManagementList;
 	}
 	
+	/**
+	 * ストック休暇残日数を取得する。<br>
+	 * 休暇残高台帳を利用する場合は、台帳から取得する。<br>
+	 * @param personalId 個人ID
+	 * @return ストック休暇残日数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected double getStockRemainDay(String personalId) throws MospException {
+		// 休暇残高台帳を利用する場合
+		if (HolidayBalanceUtility.isEnabled(mospParams)) {
+			return holidayBalance.getRemainDay(personalId, activateDate);
+		}
+		Double remainDay = stockHolidayInfo.getRemainDay(personalId, activateDate);
+		if (remainDay == null) {
+			return 0;
+		}
+		return remainDay.doubleValue();
+	}
+	
 	@Override
 	public void setActivateDate(Date activateDate) {
 		this.activateDate = getDateClone(activateDate);
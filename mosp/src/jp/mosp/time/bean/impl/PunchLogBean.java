@@ -0,0 +1,190 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.time.bean.PunchLogBeanInterface;
+import jp.mosp.time.bean.TimeRecordBeanInterface;
+import jp.mosp.time.dao.settings.PunchLogDaoInterface;
+import jp.mosp.time.dto.settings.PunchLogDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdPunchLogDto;
+import jp.mosp.time.portal.bean.impl.PortalTimeCardBean;
+import jp.mosp.time.utils.PunchLogUtility;
+
+/**
+ * 打刻ログクラス。
+ */
+public class PunchLogBean extends PlatformBean implements PunchLogBeanInterface {
+	
+	/**
+	 * 打刻ログDAOクラス。<br>
+	 */
+	protected PunchLogDaoInterface dao;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public PunchLogBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	public PunchLogBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		dao = (PunchLogDaoInterface)createDao(PunchLogDaoInterface.class);
+	}
+	
+	@Override
+	public boolean accept(String personalId, String recordType, Date recordTime, String device,
+			String clientNonce) throws MospException {
+		// 未反映打刻ログの定期再投入を開始(DB接続先毎に起動後初回のみ)
+		PunchLogUtility.register(mospParams);
+		// 同じ打刻識別子の打刻ログが存在する場合
+		if (dao.findForNonce(personalId, clientNonce) != null) {
+			return false;
+		}
+		// 同じ打刻区分の直前の打刻から二度押し判定期間内である場合
+		PunchLogDtoInterface latest = dao.findForLatest(personalId, recordType);
+		if (latest != null && PunchLogUtility.isDoubleTap(mospParams, latest.getRecordTime(), recordTime)) {
+			return false;
+		}
+		// 打刻ログ作成
+		PunchLogDtoInterface dto = new TmdPunchLogDto();
+		dto.setPersonalId(personalId);
+		dto.setRecordType(recordType);
+		dto.setRecordTime(recordTime);
+		dto.setDevice(device);
+		dto.setClientNonce(clientNonce);
+		dto.setApplyStatus(PunchLogUtility.CODE_APPLY_STATUS_UNAPPLIED);
+		// 打刻ログを登録
+		if (insert(dto) == false) {
+			return false;
+		}
+		// 打刻反映スレッドに投入
+		PunchLogUtility.submit(mospParams, dto);
+		return true;
+	}
+	
+	/**
+	 * 打刻ログを登録する。<br>
+	 * 打刻反映スレッドが登録直後に確保できるよう、
+	 * 打刻ログ登録用のDBコネクションで登録してコミットする。<br>
+	 * リクエスト処理のトランザクションは、コミット或いはロールバックしない。<br>
+	 * @param dto 打刻ログ
+	 * @return 処理結果(true：登録した、false：同じ打刻識別子の打刻ログが存在する)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected boolean insert(PunchLogDtoInterface dto) throws MospException {
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			PunchLogDaoInterface punchLogDao = InstanceFactory.loadDaoInstance(PunchLogDaoInterface.class,
+					mospParams, dbConnBean.getConnection());
+			try {
+				// レコード識別ID最大値をインクリメントしてDTOに設定
+				dto.setTmdPunchLogId(punchLogDao.nextRecordId());
+				// 登録処理
+				punchLogDao.insert(dto);
+				// コミット
+				dbConnBean.commit();
+			} catch (MospException e) {
+				// 同時に同じ打刻識別子で登録された場合(一意制約違反)
+				dbConnBean.rollback();
+				if (punchLogDao.findForNonce(dto.getPersonalId(), dto.getClientNonce()) != null) {
+					return false;
+				}
+				throw e;
+			}
+			return true;
+		} finally {
+			try {
+				dbConnBean.releaseConnection();
+			} catch (MospException e) {
+				LogUtility.error(mospParams, e);
+			}
+		}
+	}
+	
+	@Override
+	public boolean apply(PunchLogDtoInterface dto) throws MospException {
+		// 打刻クラス取得(打刻毎に対象個人ID等を保持するため都度取得)
+		TimeRecordBeanInterface timeRecord = (TimeRecordBeanInterface)createBean(TimeRecordBeanInterface.class);
+		String personalId = dto.getPersonalId();
+		Date recordTime = dto.getRecordTime();
+		String recordType = dto.getRecordType();
+		// 打刻区分毎の処理
+		if (PortalTimeCardBean.RECODE_START_WORK.equals(recordType)) {
+			// 始業
+			timeRecord.recordStartWork(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_END_WORK.equals(recordType)) {
+			// 終業
+			timeRecord.recordEndWork(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_START_REST.equals(recordType)) {
+			// 休憩入
+			timeRecord.recordStartRest(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_END_REST.equals(recordType)) {
+			// 休憩戻
+			timeRecord.recordEndRest(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_REGULAR_END.equals(recordType)) {
+			// 定時終業
+			timeRecord.recordRegularEnd(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_OVER_END.equals(recordType)) {
+			// 残業有終業
+			timeRecord.recordOverEnd(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_REGULAR_WORK.equals(recordType)) {
+			// 出勤
+			timeRecord.recordRegularWork(personalId, recordTime);
+		}
+		return mospParams.hasErrorMessage() == false;
+	}
+	
+	@Override
+	public boolean claim(PunchLogDtoInterface dto) throws MospException {
+		return dao.findForClaim(dto.getTmdPunchLogId(), PunchLogUtility.CODE_APPLY_STATUS_UNAPPLIED) != null;
+	}
+	
+	@Override
+	public void updateApplyStatus(PunchLogDtoInterface dto, int applyStatus) throws MospException {
+		dto.setApplyStatus(applyStatus);
+		dto.setApplyTime(getSystemTimeAndSecond());
+		dao.update(dto);
+	}
+	
+	@Override
+	public List<PunchLogDtoInterface> getUnappliedList(Date acceptTime) throws MospException {
+		return dao.findForApplyStatus(PunchLogUtility.CODE_APPLY_STATUS_UNAPPLIED, acceptTime);
+	}
+	
+}
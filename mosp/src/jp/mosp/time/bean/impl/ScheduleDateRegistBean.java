@@ -33,6 +33,7 @@ import jp.mosp.time.constant.TimeMessageConst;
 import jp.mosp.time.dao.settings.ScheduleDateDaoInterface;
 import jp.mosp.time.dto.settings.ScheduleDateDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmmScheduleDateDto;
+import jp.mosp.time.utils.ScheduleTimelineUtility;
 
 /**
  * カレンダ日登録クラス。
@@ -89,6 +90,8 @@ public class ScheduleDateRegistBean extends PlatformBean implements ScheduleDate
 			dto.setTmmScheduleDateId(dao.nextRecordId());
 			// 登録処理
 			dao.insert(dto);
+			// 保持しているカレンダを破棄
+			ScheduleTimelineUtility.invalidate(mospParams, connection);
 		}
 	}
 	
@@ -109,6 +112,8 @@ public class ScheduleDateRegistBean extends PlatformBean implements ScheduleDate
 			dto.setTmmScheduleDateId(dao.nextRecordId());
 			// 登録処理
 			dao.insert(dto);
+			// 保持しているカレンダを破棄
+			ScheduleTimelineUtility.invalidate(mospParams, connection);
 		}
 	}
 	
@@ -142,6 +147,8 @@ public class ScheduleDateRegistBean extends PlatformBean implements ScheduleDate
 			dto.setTmmScheduleDateId(dao.nextRecordId());
 			// 登録処理
 			dao.insert(dto);
+			// 保持しているカレンダを破棄
+			ScheduleTimelineUtility.invalidate(mospParams, connection);
 		}
 	}
 	
@@ -166,6 +173,8 @@ public class ScheduleDateRegistBean extends PlatformBean implements ScheduleDate
 			}
 			// 論理削除
 			logicalDelete(dao, dto.getTmmScheduleDateId());
+			// 保持しているカレンダを破棄
+			ScheduleTimelineUtility.invalidate(mospParams, connection);
 		}
 	}
 	
@@ -278,6 +287,8 @@ public class ScheduleDateRegistBean extends PlatformBean implements ScheduleDate
 			dto.setTmmScheduleDateId(dao.nextRecordId());
 			// 登録処理
 			dao.insert(dto);
+			// 保持しているカレンダを破棄
+			ScheduleTimelineUtility.invalidate(mospParams, connection);
 		}
 	}
 	
@@ -42,6 +42,8 @@ import jp.mosp.time.dto.settings.ScheduleDtoInterface;
 import jp.mosp.time.dto.settings.SubstituteDtoInterface;
 import jp.mosp.time.dto.settings.WorkOnHolidayRequestDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeChangeRequestDtoInterface;
+import jp.mosp.time.utils.ScheduleTimelineUtility;
+import jp.mosp.time.utils.ScheduleTimelineUtility.ScheduleYear;
 import jp.mosp.time.utils.TimeMessageUtility;
 import jp.mosp.time.utils.TimeUtility;
 
@@ -181,6 +183,15 @@ public class ScheduleUtilBean extends ScheduleUtilBaseBean implements ScheduleUt
 	@Override
 	public Map<Date, String> getScheduledWorkTypeCodes(String personalId, Date startDate, Date endDate)
 			throws MospException {
+		// カレンダユーティリティ追加処理が無い場合
+		if (getAddonBeans().isEmpty()) {
+			// 保持しているカレンダから勤務形態コード群を取得
+			Map<Date, String> workTypeCodes = getScheduledWorkTypeCodesTimeline(personalId, startDate, endDate);
+			// 勤務形態コード群を取得できた場合
+			if (workTypeCodes != null) {
+				return workTypeCodes;
+			}
+		}
 		// 勤務形態コード群を準備
 		Map<Date, String> scheduleMap = new HashMap<Date, String>();
 		// カレンダ日情報群を取得(カレンダ日情報群に保持)
@@ -430,6 +441,51 @@ public class ScheduleUtilBean extends ScheduleUtilBaseBean implements ScheduleUt
 		return scheduleDates;
 	}
 	
+	/**
+	 * 保持しているカレンダ(通常のカレンダ)から期間中の勤務形態コード群を取得する。<br>
+	 * 設定適用情報をまとめて取得し、日毎のカレンダコードで年度別カレンダを参照する。<br>
+	 * 年度別カレンダを保持しない設定である場合は、nullを返す。<br>
+	 * @param personalId 個人ID
+	 * @param startDate  期間開始日
+	 * @param endDate    期間終了日
+	 * @return 勤務形態コード群(キー：日)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<Date, String> getScheduledWorkTypeCodesTimeline(String personalId, Date startDate, Date endDate)
+			throws MospException {
+		// 勤務形態コード群を準備
+		Map<Date, String> workTypeCodes = new HashMap<Date, String>();
+		// 設定適用情報群を取得
+		Map<Date, ApplicationDtoInterface> applications = timeMaster.getApplicationMap(personalId, startDate, endDate);
+		// 年度別カレンダを準備
+		ScheduleYear scheduleYear = null;
+		// 期間中の日毎に処理
+		for (Date targetDate : TimeUtility.getDateList(startDate, endDate)) {
+			// カレンダコードを取得
+			ApplicationDtoInterface application = applications.get(targetDate);
+			String scheduleCode = application == null ? MospConst.STR_EMPTY : application.getScheduleCode();
+			// カレンダコードが無いか特殊カレンダである場合
+			if (MospUtility.isEmpty(scheduleCode) || scheduleCode.startsWith(CODE_PREFIX_ADDON_SCHEDULE)) {
+				workTypeCodes.put(targetDate, MospConst.STR_EMPTY);
+				continue;
+			}
+			// 年度別カレンダが対象カレンダ及び対象日を含まない場合
+			if (scheduleYear == null || scheduleYear.isTarget(scheduleCode, targetDate) == false) {
+				// 年度別カレンダを取得
+				scheduleYear = ScheduleTimelineUtility.getScheduleYear(mospParams, connection, scheduleCode,
+						targetDate);
+				// 年度別カレンダを保持しない場合
+				if (scheduleYear == null) {
+					return null;
+				}
+			}
+			// 予定勤務形態コードを設定
+			workTypeCodes.put(targetDate, scheduleYear.getWorkTypeCode(targetDate));
+		}
+		// 勤務形態コード群を取得
+		return workTypeCodes;
+	}
+	
 	/**
 	 * カレンダ日情報群に保持されたカレンダ日情報を取得する。<br>
 	 * カレンダ日情報群に保持されていない場合はnullを返す。<br>
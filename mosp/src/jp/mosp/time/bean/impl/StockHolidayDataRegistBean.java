@@ -31,6 +31,7 @@ import jp.mosp.time.constant.TimeFileConst;
 import jp.mosp.time.dao.settings.StockHolidayDataDaoInterface;
 import jp.mosp.time.dto.settings.StockHolidayDataDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmdStockHolidayDto;
+import jp.mosp.time.utils.HolidayBalanceUtility;
 
 /**
  * ストック休暇データ登録クラス。
@@ -99,6 +100,8 @@ public class StockHolidayDataRegistBean extends PlatformBean implements StockHol
 		dto.setTmdStockHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 休暇残高台帳を算出し直す
+		HolidayBalanceUtility.refresh(mospParams, connection, dto.getPersonalId());
 	}
 	
 	@Override
@@ -119,6 +122,8 @@ public class StockHolidayDataRegistBean extends PlatformBean implements StockHol
 		dto.setTmdStockHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 休暇残高台帳を算出し直す
+		HolidayBalanceUtility.refresh(mospParams, connection, dto.getPersonalId());
 	}
 	
 	@Override
@@ -135,6 +140,8 @@ public class StockHolidayDataRegistBean extends PlatformBean implements StockHol
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getTmdStockHolidayId());
+		// 休暇残高台帳を算出し直す
+		HolidayBalanceUtility.refresh(mospParams, connection, dto.getPersonalId());
 	}
 	
 	@Override
@@ -149,6 +156,8 @@ public class StockHolidayDataRegistBean extends PlatformBean implements StockHol
 			// 論理削除
 			logicalDelete(dao, dto.getTmdStockHolidayId());
 		}
+		// 休暇残高台帳を算出し直す
+		HolidayBalanceUtility.refresh(mospParams, connection, personalId);
 	}
 	
 	/**
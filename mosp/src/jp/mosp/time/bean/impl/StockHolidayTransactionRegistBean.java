@@ -29,6 +29,7 @@ import jp.mosp.time.bean.StockHolidayTransactionRegistBeanInterface;
 import jp.mosp.time.dao.settings.StockHolidayTransactionDaoInterface;
 import jp.mosp.time.dto.settings.StockHolidayTransactionDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmtStockHolidayDto;
+import jp.mosp.time.utils.HolidayBalanceUtility;
 
 /**
  * ストック休暇トランザクション登録クラス。
@@ -85,6 +86,8 @@ public class StockHolidayTransactionRegistBean extends PlatformBean
 		dto.setTmtStockHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 休暇残高台帳を算出し直す
+		HolidayBalanceUtility.refresh(mospParams, connection, dto.getPersonalId());
 	}
 	
 	@Override
@@ -105,6 +108,8 @@ public class StockHolidayTransactionRegistBean extends PlatformBean
 		dto.setTmtStockHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 休暇残高台帳を算出し直す
+		HolidayBalanceUtility.refresh(mospParams, connection, dto.getPersonalId());
 	}
 	
 	/**
@@ -52,6 +52,8 @@ import jp.mosp.time.dto.settings.SubHolidayRequestDtoInterface;
 import jp.mosp.time.dto.settings.SubstituteDtoInterface;
 import jp.mosp.time.dto.settings.WorkOnHolidayRequestDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeChangeRequestDtoInterface;
+import jp.mosp.time.utils.HolidayBalanceUtility;
+import jp.mosp.time.utils.TimeRequestUtility;
 import jp.mosp.time.utils.TimeUtility;
 
 /**
@@ -188,6 +190,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		}
 		// 勤怠トランザクション登録
 		registAttendanceTransaction(dto.getPersonalId(), dto.getWorkflowDate(), requestDto);
+		// 休暇残高台帳を算出し直す
+		refreshHolidayBalance(dto);
 	}
 	
 	@Override
@@ -202,6 +206,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		}
 		// 差戻処理
 		workflowRegist.revert(dto, PlatformConst.WORKFLOW_TYPE_TIME, workflowComment);
+		// 休暇残高台帳を算出し直す
+		refreshHolidayBalance(dto);
 	}
 	
 	@Override
@@ -224,6 +230,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 			// 承認済の場合は勤怠を下書し直す
 			reDraft(dto.getPersonalId(), dto.getWorkflowDate(), false, false, false);
 		}
+		// 休暇残高台帳を算出し直す
+		refreshHolidayBalance(dto);
 	}
 	
 	@Override
@@ -264,6 +272,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		}
 		// 勤怠トランザクション登録
 		registAttendanceTransaction(dto.getPersonalId(), dto.getWorkflowDate(), requestDto);
+		// 休暇残高台帳を算出し直す
+		refreshHolidayBalance(dto);
 	}
 	
 	@Override
@@ -306,6 +316,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		}
 		// 勤怠トランザクション登録
 		registAttendanceTransaction(dto.getPersonalId(), dto.getWorkflowDate(), requestDto);
+		// 休暇残高台帳を算出し直す
+		refreshHolidayBalance(dto);
 	}
 	
 	@Override
@@ -545,4 +557,25 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 				useSchedule);
 	}
 	
+	/**
+	 * 休暇残高台帳を算出し直す。<br>
+	 * 台帳に保持するのはストック休暇の残高だけであるため、
+	 * ストック休暇の休暇申請の場合のみ、算出し直す。<br>
+	 * @param dto ワークフロー情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void refreshHolidayBalance(WorkflowDtoInterface dto) throws MospException {
+		// 休暇残高台帳を利用しない場合或いは休暇申請でない場合
+		if (HolidayBalanceUtility.isEnabled(mospParams) == false
+				|| TimeConst.CODE_FUNCTION_VACATION.equals(dto.getFunctionCode()) == false) {
+			return;
+		}
+		// 申請情報の取得
+		BaseDtoInterface requestDto = approvalInfo.getRequestDtoForWorkflow(dto.getWorkflow(), true);
+		if (requestDto instanceof HolidayRequestDtoInterface
+				&& TimeRequestUtility.isStockHoliday((HolidayRequestDtoInterface)requestDto)) {
+			HolidayBalanceUtility.refresh(mospParams, connection, dto.getPersonalId());
+		}
+	}
+	
 }
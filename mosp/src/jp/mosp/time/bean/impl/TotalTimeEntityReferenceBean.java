@@ -35,6 +35,8 @@ import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
 import jp.mosp.platform.dto.human.EntranceDtoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.RetirementDtoInterface;
+import jp.mosp.platform.utils.EmploymentTimelineUtility;
+import jp.mosp.platform.utils.EmploymentTimelineUtility.EmploymentTimeline;
 import jp.mosp.platform.utils.WorkflowUtility;
 import jp.mosp.time.base.TimeBean;
 import jp.mosp.time.bean.ScheduleDateReferenceBeanInterface;
@@ -336,9 +338,9 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 	protected Date getPersonalFirstDate(String personalId, int targetYear, int targetMonth, int cutoffDate)
 			throws MospException {
 		// 入社日取得
-		EntranceDtoInterface entranceDto = entranceDao.findForInfo(personalId);
+		Date entranceDate = getEntranceDate(personalId);
 		// 入社日確認
-		if (entranceDto == null) {
+		if (entranceDate == null) {
 			return null;
 		}
 		// 人事基本情報履歴を取得
@@ -355,9 +357,9 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 			return humanList.get(0).getActivateDate();
 		}
 		// 締期間初日が入社日よりも前の場合
-		if (cutoffFirstDate.before(entranceDto.getEntranceDate())) {
+		if (cutoffFirstDate.before(entranceDate)) {
 			// 入社日を取得
-			return entranceDto.getEntranceDate();
+			return entranceDate;
 		}
 		// 締期間初日を取得
 		return cutoffFirstDate;
@@ -379,20 +381,56 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 		// 締期間最終日を取得
 		Date cutoffLastDate = TimeUtility.getCutoffLastDate(cutoffDate, targetYear, targetMonth);
 		// 退社日取得
-		RetirementDtoInterface retirementDto = retirementDao.findForInfo(personalId);
+		Date retirementDate = getRetirementDate(personalId);
 		// 退社日確認
-		if (retirementDto == null) {
+		if (retirementDate == null) {
 			return cutoffLastDate;
 		}
 		// 締期間最終日が退社日よりも後の場合
-		if (cutoffLastDate.after(retirementDto.getRetirementDate())) {
+		if (cutoffLastDate.after(retirementDate)) {
 			// 退社日を取得
-			return retirementDto.getRetirementDate();
+			return retirementDate;
 		}
 		// 締期間最終日を取得
 		return cutoffLastDate;
 	}
 	
+	/**
+	 * 入社日を取得する。<br>
+	 * 在職状態を保持している場合は、DBに問い合わせずに取得する。<br>
+	 * @param personalId 対象個人ID
+	 * @return 入社日(入社情報が存在しない場合はnull)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected Date getEntranceDate(String personalId) throws MospException {
+		// 在職状態を保持している場合
+		EmploymentTimeline timeline = EmploymentTimelineUtility.getTimeline(mospParams, connection);
+		if (timeline != null) {
+			return timeline.getEntranceDate(personalId);
+		}
+		// 入社情報取得
+		EntranceDtoInterface entranceDto = entranceDao.findForInfo(personalId);
+		return entranceDto == null ? null : entranceDto.getEntranceDate();
+	}
+	
+	/**
+	 * 退社日を取得する。<br>
+	 * 在職状態を保持している場合は、DBに問い合わせずに取得する。<br>
+	 * @param personalId 対象個人ID
+	 * @return 退社日(退職情報が存在しない場合はnull)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected Date getRetirementDate(String personalId) throws MospException {
+		// 在職状態を保持している場合
+		EmploymentTimeline timeline = EmploymentTimelineUtility.getTimeline(mospParams, connection);
+		if (timeline != null) {
+			return timeline.getRetirementDate(personalId);
+		}
+		// 退職情報取得
+		RetirementDtoInterface retirementDto = retirementDao.findForInfo(personalId);
+		return retirementDto == null ? null : retirementDto.getRetirementDate();
+	}
+	
 	/**
 	 * 締期間初日から代休取得期限だけ遡った日付を取得する。<br>
 	 * <br>
@@ -623,6 +623,17 @@ public final class TimeConst {
 	 */
 	public static final String	CODE_HOLIDAYTYPE2_STOCK												= "2";
 	
+	/**
+	 * 休暇残高区分(算出済)。<br>
+	 * 残高が無い場合も含め、個人毎に残高算出日時点の台帳を算出済であることを示す。<br>
+	 */
+	public static final int		CODE_HOLIDAY_BALANCE_TYPE_CALCULATED								= 0;
+	
+	/**
+	 * 休暇残高区分(ストック休暇)。<br>
+	 */
+	public static final int		CODE_HOLIDAY_BALANCE_TYPE_STOCK										= 2;
+	
 	/**
 	 * 出勤率区分(出勤扱い)。<br>
 	 */
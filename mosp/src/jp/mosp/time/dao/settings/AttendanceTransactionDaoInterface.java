@@ -80,4 +80,26 @@ public interface AttendanceTransactionDaoInterface extends BaseDaoInterface {
 	 */
 	Set<Long> findForMilliseconds(String personalId, Date firstDate, Date lastDate) throws MospException;
 	
+	/**
+	 * 個人ID毎の勤怠トランザクションの和を取得する。<br>
+	 * @param personalIds 個人ID配列
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間末日
+	 * @return 勤怠トランザクションの和群(key：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, AttendanceTransactionDtoInterface> sum(String[] personalIds, Date firstDate, Date lastDate)
+			throws MospException;
+	
+	/**
+	 * 個人ID毎の勤務日を表すミリ秒数セットを取得する。<br>
+	 * @param personalIds 個人ID配列
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間末日
+	 * @return 勤務日を表すミリ秒数セット群(key：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, Set<Long>> findForMilliseconds(String[] personalIds, Date firstDate, Date lastDate)
+			throws MospException;
+	
 }
@@ -0,0 +1,71 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.HolidayBalanceDtoInterface;
+
+/**
+ * 休暇残高台帳DAOインターフェース
+ */
+public interface HolidayBalanceDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 休暇残高台帳リストを取得する。<br>
+	 * 残高算出日の対象休暇残高区分及び算出済の台帳を、取得日の順に並べる。<br>
+	 * 算出済の台帳が含まれない場合は、残高算出日時点で算出されていない。<br>
+	 * @param personalId  個人ID
+	 * @param holidayType 休暇残高区分
+	 * @param balanceDate 残高算出日
+	 * @return 休暇残高台帳DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HolidayBalanceDtoInterface> findForList(String personalId, int holidayType, Date balanceDate)
+			throws MospException;
+	
+	/**
+	 * 残高算出日が対象日より前の算出済の休暇残高台帳リストを取得する。<br>
+	 * 個人IDの順に並べる。<br>
+	 * @param targetDate 対象日
+	 * @return 休暇残高台帳DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HolidayBalanceDtoInterface> findForCalculatedList(Date targetDate) throws MospException;
+	
+	/**
+	 * 対象個人IDの算出済の休暇残高台帳を取得し、ロックする。<br>
+	 * ロックはトランザクション終了時に解放される。<br>
+	 * @param personalId 個人ID
+	 * @return 休暇残高台帳DTO(存在しない場合はnull)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	HolidayBalanceDtoInterface findForCalculatedForUpdate(String personalId) throws MospException;
+	
+	/**
+	 * 対象個人IDの休暇残高台帳を物理削除する。<br>
+	 * @param personalIds 個人ID配列
+	 * @return 削除件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int deleteForPersonalIds(String[] personalIds) throws MospException;
+	
+}
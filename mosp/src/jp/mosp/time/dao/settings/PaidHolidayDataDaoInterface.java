@@ -41,6 +41,16 @@ public interface PaidHolidayDataDaoInterface extends BaseDaoInterface {
 	PaidHolidayDataDtoInterface findForKey(String personalId, Date activateDate, Date acquisitionDate)
 			throws MospException;
 	
+	/**
+	 * 有効日と取得日から全個人の有給休暇データリストを取得する。<br>
+	 * 一括付与時に、付与対象者の登録済情報をまとめて取得するために用いる。<br>
+	 * @param activateDate 有効日
+	 * @param acquisitionDate 取得日
+	 * @return 有給休暇データリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PaidHolidayDataDtoInterface> findForKeyList(Date activateDate, Date acquisitionDate) throws MospException;
+	
 	/**
 	 * 有効日から有給休暇データリストを取得する。<br>
 	 * @param targetDate 対象日
@@ -156,4 +166,14 @@ public interface PaidHolidayDataDaoInterface extends BaseDaoInterface {
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	List<PaidHolidayDataDtoInterface> findForAllTermOfEffectiveList(Date startDate, Date endDate) throws MospException;
+	
+	/**
+	 * 期間内に期限の切れた有給休暇情報リストを取得する。<br>
+	 * 期間開始日≦期限日＜期間終了日 の有給休暇情報リストを、個人ID及び期限日の順に取得する。<br>
+	 * @param startDate 期間開始日
+	 * @param endDate 期間終了日
+	 * @return 有給休暇データリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PaidHolidayDataDtoInterface> findForLimitDateList(Date startDate, Date endDate) throws MospException;
 }
@@ -18,6 +18,7 @@
 package jp.mosp.time.dao.settings;
 
 import java.util.Date;
+import java.util.List;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -37,4 +38,13 @@ public interface PaidHolidayGrantDaoInterface extends BaseDaoInterface {
 	 */
 	PaidHolidayGrantDtoInterface findForKey(String personalId, Date grantDate) throws MospException;
 	
+	/**
+	 * 付与日から全個人の有給休暇付与リストを取得する。<br>
+	 * 一括付与時に、付与対象者の登録済情報をまとめて取得するために用いる。<br>
+	 * @param grantDate 付与日
+	 * @return 有給休暇付与DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PaidHolidayGrantDtoInterface> findForGrantDateList(Date grantDate) throws MospException;
+	
 }
@@ -0,0 +1,71 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.PunchLogDtoInterface;
+
+/**
+ * 打刻ログDAOインターフェース
+ */
+public interface PunchLogDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 打刻ログを取得する。
+	 * @param personalId  個人ID
+	 * @param clientNonce 打刻識別子
+	 * @return 打刻ログDTO
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	PunchLogDtoInterface findForNonce(String personalId, String clientNonce) throws MospException;
+	
+	/**
+	 * 対象個人IDの対象打刻区分の打刻ログのうち、打刻時刻が最新のものを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param recordType 打刻区分
+	 * @return 打刻ログDTO
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	PunchLogDtoInterface findForLatest(String personalId, String recordType) throws MospException;
+	
+	/**
+	 * 対象反映状態で対象日時以前に登録された打刻ログリストを取得する。<br>
+	 * 打刻時刻及びレコード識別IDの順に並べる。<br>
+	 * @param applyStatus 反映状態
+	 * @param insertDate  対象日時
+	 * @return 打刻ログDTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PunchLogDtoInterface> findForApplyStatus(int applyStatus, Date insertDate) throws MospException;
+	
+	/**
+	 * 対象反映状態の打刻ログを行ロックして取得する。<br>
+	 * 他のトランザクションがロックしている場合は、取得しない。<br>
+	 * ロックはトランザクション終了時に解放される。<br>
+	 * @param tmdPunchLogId レコード識別ID
+	 * @param applyStatus   反映状態
+	 * @return 打刻ログDTO
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	PunchLogDtoInterface findForClaim(long tmdPunchLogId, int applyStatus) throws MospException;
+	
+}
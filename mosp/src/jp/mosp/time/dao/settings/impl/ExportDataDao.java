@@ -177,10 +177,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			if (!sectionCode.isEmpty()) {
 				// 下位所属含むチェックボックスで判定
 				if (ckbNeedLowerSection == 1) {
-					setParam(index++, endDate);
-					setParam(index++, endDate);
-					setParam(index++, sectionCode);
-					setParam(index++, containsParam(sectionCode));
+					index = humanDao.setParamsForLowerSection(index, sectionCode, endDate, ps);
 				} else {
 					setParam(index++, endDate);
 					setParam(index++, sectionCode);
@@ -297,10 +294,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			if (!sectionCode.isEmpty()) {
 				// 下位所属含むチェックボックスで判定
 				if (ckbNeedLowerSection == 1) {
-					setParam(index++, endDate);
-					setParam(index++, endDate);
-					setParam(index++, sectionCode);
-					setParam(index++, containsParam(sectionCode));
+					index = humanDao.setParamsForLowerSection(index, sectionCode, endDate, ps);
 				} else {
 					setParam(index++, endDate);
 					setParam(index++, sectionCode);
@@ -419,10 +413,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			if (!sectionCode.isEmpty()) {
 				// 下位所属含むチェックボックスで判定
 				if (ckbNeedLowerSection == 1) {
-					setParam(index++, endDate);
-					setParam(index++, endDate);
-					setParam(index++, sectionCode);
-					setParam(index++, containsParam(sectionCode));
+					index = humanDao.setParamsForLowerSection(index, sectionCode, endDate, ps);
 				} else {
 					setParam(index++, endDate);
 					setParam(index++, sectionCode);
@@ -542,10 +533,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			if (!sectionCode.isEmpty()) {
 				// 下位所属含むチェックボックスで判定
 				if (ckbNeedLowerSection == 1) {
-					setParam(index++, endDate);
-					setParam(index++, endDate);
-					setParam(index++, sectionCode);
-					setParam(index++, containsParam(sectionCode));
+					index = humanDao.setParamsForLowerSection(index, sectionCode, endDate, ps);
 				} else {
 					setParam(index++, endDate);
 					setParam(index++, sectionCode);
@@ -664,10 +652,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			if (!sectionCode.isEmpty()) {
 				// 下位所属含むチェックボックスで判定
 				if (ckbNeedLowerSection == 1) {
-					setParam(index++, endDate);
-					setParam(index++, endDate);
-					setParam(index++, sectionCode);
-					setParam(index++, containsParam(sectionCode));
+					index = humanDao.setParamsForLowerSection(index, sectionCode, endDate, ps);
 				} else {
 					setParam(index++, endDate);
 					setParam(index++, sectionCode);
@@ -0,0 +1,285 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDao;
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.HolidayBalanceDaoInterface;
+import jp.mosp.time.dto.settings.HolidayBalanceDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdHolidayBalanceDto;
+
+/**
+ * 休暇残高台帳DAOクラス。
+ */
+public class TmdHolidayBalanceDao extends BaseDao implements HolidayBalanceDaoInterface {
+	
+	/**
+	 * 休暇残高台帳。
+	 */
+	public static final String	TABLE						= "tmd_holiday_balance";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_TMD_HOLIDAY_BALANCE_ID	= "tmd_holiday_balance_id";
+	
+	/**
+	 * 個人ID。
+	 */
+	public static final String	COL_PERSONAL_ID				= "personal_id";
+	
+	/**
+	 * 休暇残高区分。
+	 */
+	public static final String	COL_HOLIDAY_TYPE			= "holiday_type";
+	
+	/**
+	 * 取得日。
+	 */
+	public static final String	COL_ACQUISITION_DATE		= "acquisition_date";
+	
+	/**
+	 * 期限日。
+	 */
+	public static final String	COL_LIMIT_DATE				= "limit_date";
+	
+	/**
+	 * 残日数。
+	 */
+	public static final String	COL_REMAIN_DAY				= "remain_day";
+	
+	/**
+	 * 残時間。
+	 */
+	public static final String	COL_REMAIN_HOUR				= "remain_hour";
+	
+	/**
+	 * 残高算出日。
+	 */
+	public static final String	COL_BALANCE_DATE			= "balance_date";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1						= COL_TMD_HOLIDAY_BALANCE_ID;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public TmdHolidayBalanceDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		TmdHolidayBalanceDto dto = new TmdHolidayBalanceDto();
+		dto.setTmdHolidayBalanceId(getLong(COL_TMD_HOLIDAY_BALANCE_ID));
+		dto.setPersonalId(getString(COL_PERSONAL_ID));
+		dto.setHolidayType(getInt(COL_HOLIDAY_TYPE));
+		dto.setAcquisitionDate(getDate(COL_ACQUISITION_DATE));
+		dto.setLimitDate(getDate(COL_LIMIT_DATE));
+		dto.setRemainDay(getDouble(COL_REMAIN_DAY));
+		dto.setRemainHour(getInt(COL_REMAIN_HOUR));
+		dto.setBalanceDate(getDate(COL_BALANCE_DATE));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<HolidayBalanceDtoInterface> mappingAll() throws MospException {
+		List<HolidayBalanceDtoInterface> list = new ArrayList<HolidayBalanceDtoInterface>();
+		while (next()) {
+			list.add((HolidayBalanceDtoInterface)mapping());
+		}
+		return list;
+	}
+	
+	@Override
+	public List<HolidayBalanceDtoInterface> findForList(String personalId, int holidayType, Date balanceDate)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(in(COL_HOLIDAY_TYPE, 2));
+			sb.append(and());
+			sb.append(equal(COL_BALANCE_DATE));
+			sb.append(getOrderByColumn(COL_ACQUISITION_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, holidayType);
+			setParam(index++, TimeConst.CODE_HOLIDAY_BALANCE_TYPE_CALCULATED);
+			setParam(index++, balanceDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<HolidayBalanceDtoInterface> findForCalculatedList(Date targetDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_HOLIDAY_TYPE));
+			sb.append(and());
+			sb.append(less(COL_BALANCE_DATE));
+			sb.append(and());
+			sb.append(notEqual(COL_PERSONAL_ID));
+			sb.append(getOrderByColumn(COL_PERSONAL_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, TimeConst.CODE_HOLIDAY_BALANCE_TYPE_CALCULATED);
+			setParam(index++, targetDate);
+			setParam(index++, "");
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public HolidayBalanceDtoInterface findForCalculatedForUpdate(String personalId) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(equal(COL_HOLIDAY_TYPE));
+			sb.append(getForUpdate());
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, TimeConst.CODE_HOLIDAY_BALANCE_TYPE_CALCULATED);
+			executeQuery();
+			HolidayBalanceDtoInterface dto = null;
+			if (next()) {
+				dto = (HolidayBalanceDtoInterface)mapping();
+			}
+			return dto;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int deleteForPersonalIds(String[] personalIds) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			sb.append("DELETE ");
+			sb.append(from(TABLE));
+			sb.append(where());
+			// 一括算出の情報(個人IDが空白)は削除しない
+			sb.append(notEqual(COL_PERSONAL_ID));
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			prepareStatement(sb.toString());
+			setParam(index++, "");
+			setParamsIn(personalIds);
+			executeUpdate();
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			HolidayBalanceDtoInterface dto = (HolidayBalanceDtoInterface)baseDto;
+			setParam(index++, dto.getTmdHolidayBalanceId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			HolidayBalanceDtoInterface dto = (HolidayBalanceDtoInterface)baseDto;
+			setParam(index++, dto.getTmdHolidayBalanceId());
+			executeUpdate();
+			chkDelete(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		HolidayBalanceDtoInterface dto = (HolidayBalanceDtoInterface)baseDto;
+		setParam(index++, dto.getTmdHolidayBalanceId());
+		setParam(index++, dto.getPersonalId());
+		setParam(index++, dto.getHolidayType());
+		setParam(index++, dto.getAcquisitionDate());
+		setParam(index++, dto.getLimitDate());
+		setParam(index++, dto.getRemainDay());
+		setParam(index++, dto.getRemainHour());
+		setParam(index++, dto.getBalanceDate());
+		setCommonParams(baseDto, isInsert);
+	}
+	
+}
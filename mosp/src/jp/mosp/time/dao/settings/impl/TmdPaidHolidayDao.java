@@ -202,6 +202,31 @@ public class TmdPaidHolidayDao extends PlatformDao implements PaidHolidayDataDao
 		}
 	}
 	
+	@Override
+	public List<PaidHolidayDataDtoInterface> findForKeyList(Date activateDate, Date acquisitionDate)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_ACTIVATE_DATE));
+			sb.append(and());
+			sb.append(equal(COL_ACQUISITION_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, activateDate);
+			setParam(index++, acquisitionDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<PaidHolidayDataDtoInterface> findForList(String personalId, Date activateDate) throws MospException {
 		try {
@@ -646,6 +671,34 @@ public class TmdPaidHolidayDao extends PlatformDao implements PaidHolidayDataDao
 		}
 	}
 	
+	@Override
+	public List<PaidHolidayDataDtoInterface> findForLimitDateList(Date startDate, Date endDate)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(inactivateFlagOff());
+			sb.append(and());
+			sb.append(greaterEqual(COL_LIMIT_DATE));
+			sb.append(and());
+			sb.append(less(COL_LIMIT_DATE));
+			sb.append(getOrderByColumns(COL_PERSONAL_ID, COL_LIMIT_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	/**
 	 * 
 	 * @param column 対象カラム
@@ -0,0 +1,286 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDao;
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dao.settings.PunchLogDaoInterface;
+import jp.mosp.time.dto.settings.PunchLogDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdPunchLogDto;
+
+/**
+ * 打刻ログDAOクラス。
+ */
+public class TmdPunchLogDao extends BaseDao implements PunchLogDaoInterface {
+	
+	/**
+	 * 打刻ログ。
+	 */
+	public static final String	TABLE					= "tmd_punch_log";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_TMD_PUNCH_LOG_ID	= "tmd_punch_log_id";
+	
+	/**
+	 * 個人ID。
+	 */
+	public static final String	COL_PERSONAL_ID			= "personal_id";
+	
+	/**
+	 * 打刻区分。
+	 */
+	public static final String	COL_RECORD_TYPE			= "record_type";
+	
+	/**
+	 * 打刻時刻。
+	 */
+	public static final String	COL_RECORD_TIME			= "record_time";
+	
+	/**
+	 * 打刻端末。
+	 */
+	public static final String	COL_DEVICE				= "device";
+	
+	/**
+	 * 打刻識別子。
+	 */
+	public static final String	COL_CLIENT_NONCE		= "client_nonce";
+	
+	/**
+	 * 反映状態。
+	 */
+	public static final String	COL_APPLY_STATUS		= "apply_status";
+	
+	/**
+	 * 反映時刻。
+	 */
+	public static final String	COL_APPLY_TIME			= "apply_time";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1					= COL_TMD_PUNCH_LOG_ID;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public TmdPunchLogDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		TmdPunchLogDto dto = new TmdPunchLogDto();
+		dto.setTmdPunchLogId(getLong(COL_TMD_PUNCH_LOG_ID));
+		dto.setPersonalId(getString(COL_PERSONAL_ID));
+		dto.setRecordType(getString(COL_RECORD_TYPE));
+		dto.setRecordTime(getTimestamp(COL_RECORD_TIME));
+		dto.setDevice(getString(COL_DEVICE));
+		dto.setClientNonce(getString(COL_CLIENT_NONCE));
+		dto.setApplyStatus(getInt(COL_APPLY_STATUS));
+		dto.setApplyTime(getTimestamp(COL_APPLY_TIME));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<PunchLogDtoInterface> mappingAll() throws MospException {
+		List<PunchLogDtoInterface> list = new ArrayList<PunchLogDtoInterface>();
+		while (next()) {
+			list.add((PunchLogDtoInterface)mapping());
+		}
+		return list;
+	}
+	
+	@Override
+	public PunchLogDtoInterface findForNonce(String personalId, String clientNonce) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(equal(COL_CLIENT_NONCE));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, clientNonce);
+			executeQuery();
+			PunchLogDtoInterface dto = null;
+			if (next()) {
+				dto = (PunchLogDtoInterface)mapping();
+			}
+			return dto;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public PunchLogDtoInterface findForLatest(String personalId, String recordType) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(equal(COL_RECORD_TYPE));
+			sb.append(getOrderByColumnDescLimit1(COL_RECORD_TIME));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, recordType);
+			executeQuery();
+			PunchLogDtoInterface dto = null;
+			if (next()) {
+				dto = (PunchLogDtoInterface)mapping();
+			}
+			return dto;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<PunchLogDtoInterface> findForApplyStatus(int applyStatus, Date insertDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_APPLY_STATUS));
+			sb.append(and());
+			sb.append(lessEqual(colInsertDate));
+			sb.append(getOrderByColumn(COL_RECORD_TIME, COL_TMD_PUNCH_LOG_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, applyStatus);
+			setParam(index++, insertDate, true);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public PunchLogDtoInterface findForClaim(long tmdPunchLogId, int applyStatus) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_TMD_PUNCH_LOG_ID));
+			sb.append(and());
+			sb.append(equal(COL_APPLY_STATUS));
+			sb.append(getForUpdateSkipLocked());
+			prepareStatement(sb.toString());
+			setParam(index++, tmdPunchLogId);
+			setParam(index++, applyStatus);
+			executeQuery();
+			PunchLogDtoInterface dto = null;
+			if (next()) {
+				dto = (PunchLogDtoInterface)mapping();
+			}
+			return dto;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			PunchLogDtoInterface dto = (PunchLogDtoInterface)baseDto;
+			setParam(index++, dto.getTmdPunchLogId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			PunchLogDtoInterface dto = (PunchLogDtoInterface)baseDto;
+			setParam(index++, dto.getTmdPunchLogId());
+			executeUpdate();
+			chkDelete(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		PunchLogDtoInterface dto = (PunchLogDtoInterface)baseDto;
+		setParam(index++, dto.getTmdPunchLogId());
+		setParam(index++, dto.getPersonalId());
+		setParam(index++, dto.getRecordType());
+		setParam(index++, dto.getRecordTime(), true);
+		setParam(index++, dto.getDevice());
+		setParam(index++, dto.getClientNonce());
+		setParam(index++, dto.getApplyStatus());
+		setParam(index++, dto.getApplyTime(), true);
+		setCommonParams(baseDto, isInsert);
+	}
+	
+}
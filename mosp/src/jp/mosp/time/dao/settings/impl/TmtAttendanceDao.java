@@ -355,4 +355,110 @@ public class TmtAttendanceDao extends PlatformDao implements AttendanceTransacti
 		}
 	}
 	
+	@Override
+	public Map<String, AttendanceTransactionDtoInterface> sum(String[] personalIds, Date firstDate, Date lastDate)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			sb.append(select());
+			sb.append(0);
+			sb.append(as(COL_TMT_ATTENDANCE_ID));
+			sb.append(comma());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(comma());
+			sb.append("NULL");
+			sb.append(as(COL_WORK_DATE));
+			sb.append(comma());
+			sb.append("''");
+			sb.append(as(COL_ATTENDANCE_TYPE));
+			sb.append(comma());
+			sb.append(sum(COL_NUMERATOR, COL_NUMERATOR));
+			sb.append(comma());
+			sb.append(sum(COL_DENOMINATOR, COL_DENOMINATOR));
+			sb.append(comma());
+			sb.append(0);
+			sb.append(as(colDeleteFlag));
+			sb.append(comma());
+			sb.append("LOCALTIMESTAMP");
+			sb.append(as(colInsertDate));
+			sb.append(comma());
+			sb.append("''");
+			sb.append(as(colInsertUser));
+			sb.append(comma());
+			sb.append("LOCALTIMESTAMP");
+			sb.append(as(colUpdateDate));
+			sb.append(comma());
+			sb.append("''");
+			sb.append(as(colUpdateUser));
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			sb.append(groupBy(COL_PERSONAL_ID));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, lastDate);
+			setParam(index++, firstDate);
+			executeQuery();
+			Map<String, AttendanceTransactionDtoInterface> map = new HashMap<String, AttendanceTransactionDtoInterface>();
+			while (next()) {
+				AttendanceTransactionDtoInterface dto = (AttendanceTransactionDtoInterface)mapping();
+				map.put(dto.getPersonalId(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public Map<String, Set<Long>> findForMilliseconds(String[] personalIds, Date firstDate, Date lastDate)
+			throws MospException {
+		try {
+			index = 1;
+			List<String> columnList = new ArrayList<String>();
+			columnList.add(COL_PERSONAL_ID);
+			columnList.add(COL_WORK_DATE);
+			StringBuffer sb = new StringBuffer();
+			sb.append(getSelectStatement(columnList));
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, lastDate);
+			setParam(index++, firstDate);
+			executeQuery();
+			Map<String, Set<Long>> map = new HashMap<String, Set<Long>>();
+			while (next()) {
+				String personalId = getString(COL_PERSONAL_ID);
+				Set<Long> set = map.get(personalId);
+				if (set == null) {
+					set = new HashSet<Long>();
+					map.put(personalId, set);
+				}
+				set.add(getDate(COL_WORK_DATE).getTime());
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 }
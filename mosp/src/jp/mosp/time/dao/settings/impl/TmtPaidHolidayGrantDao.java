@@ -165,4 +165,25 @@ public class TmtPaidHolidayGrantDao extends PlatformDao implements PaidHolidayGr
 		}
 	}
 	
+	@Override
+	public List<PaidHolidayGrantDtoInterface> findForGrantDateList(Date grantDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_GRANT_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, grantDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 }
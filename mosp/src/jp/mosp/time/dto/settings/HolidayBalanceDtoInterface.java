@@ -0,0 +1,109 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * 休暇残高台帳DTOインターフェース
+ */
+public interface HolidayBalanceDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getTmdHolidayBalanceId();
+	
+	/**
+	 * @return 個人ID。
+	 */
+	String getPersonalId();
+	
+	/**
+	 * @return 休暇残高区分。
+	 */
+	int getHolidayType();
+	
+	/**
+	 * @return 取得日。
+	 */
+	Date getAcquisitionDate();
+	
+	/**
+	 * @return 期限日。
+	 */
+	Date getLimitDate();
+	
+	/**
+	 * @return 残日数。
+	 */
+	double getRemainDay();
+	
+	/**
+	 * @return 残時間。
+	 */
+	int getRemainHour();
+	
+	/**
+	 * @return 残高算出日。
+	 */
+	Date getBalanceDate();
+	
+	/**
+	 * @param tmdHolidayBalanceId セットする レコード識別ID。
+	 */
+	void setTmdHolidayBalanceId(long tmdHolidayBalanceId);
+	
+	/**
+	 * @param personalId セットする 個人ID。
+	 */
+	void setPersonalId(String personalId);
+	
+	/**
+	 * @param holidayType セットする 休暇残高区分。
+	 */
+	void setHolidayType(int holidayType);
+	
+	/**
+	 * @param acquisitionDate セットする 取得日。
+	 */
+	void setAcquisitionDate(Date acquisitionDate);
+	
+	/**
+	 * @param limitDate セットする 期限日。
+	 */
+	void setLimitDate(Date limitDate);
+	
+	/**
+	 * @param remainDay セットする 残日数。
+	 */
+	void setRemainDay(double remainDay);
+	
+	/**
+	 * @param remainHour セットする 残時間。
+	 */
+	void setRemainHour(int remainHour);
+	
+	/**
+	 * @param balanceDate セットする 残高算出日。
+	 */
+	void setBalanceDate(Date balanceDate);
+	
+}
@@ -0,0 +1,146 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.time.dto.settings.HolidayBalanceDtoInterface;
+
+/**
+ * 休暇残高台帳DTO
+ */
+public class TmdHolidayBalanceDto extends BaseDto implements HolidayBalanceDtoInterface {
+	
+	private static final long	serialVersionUID	= 7180264417235519663L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				tmdHolidayBalanceId;
+	/**
+	 * 個人ID。
+	 */
+	private String				personalId;
+	/**
+	 * 休暇残高区分。
+	 */
+	private int					holidayType;
+	/**
+	 * 取得日。
+	 */
+	private Date				acquisitionDate;
+	/**
+	 * 期限日。
+	 */
+	private Date				limitDate;
+	/**
+	 * 残日数。
+	 */
+	private double				remainDay;
+	/**
+	 * 残時間。
+	 */
+	private int					remainHour;
+	/**
+	 * 残高算出日。
+	 */
+	private Date				balanceDate;
+	
+	
+	@Override
+	public long getTmdHolidayBalanceId() {
+		return tmdHolidayBalanceId;
+	}
+	
+	@Override
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	@Override
+	public int getHolidayType() {
+		return holidayType;
+	}
+	
+	@Override
+	public Date getAcquisitionDate() {
+		return getDateClone(acquisitionDate);
+	}
+	
+	@Override
+	public Date getLimitDate() {
+		return getDateClone(limitDate);
+	}
+	
+	@Override
+	public double getRemainDay() {
+		return remainDay;
+	}
+	
+	@Override
+	public int getRemainHour() {
+		return remainHour;
+	}
+	
+	@Override
+	public Date getBalanceDate() {
+		return getDateClone(balanceDate);
+	}
+	
+	@Override
+	public void setTmdHolidayBalanceId(long tmdHolidayBalanceId) {
+		this.tmdHolidayBalanceId = tmdHolidayBalanceId;
+	}
+	
+	@Override
+	public void setPersonalId(String personalId) {
+		this.personalId = personalId;
+	}
+	
+	@Override
+	public void setHolidayType(int holidayType) {
+		this.holidayType = holidayType;
+	}
+	
+	@Override
+	public void setAcquisitionDate(Date acquisitionDate) {
+		this.acquisitionDate = getDateClone(acquisitionDate);
+	}
+	
+	@Override
+	public void setLimitDate(Date limitDate) {
+		this.limitDate = getDateClone(limitDate);
+	}
+	
+	@Override
+	public void setRemainDay(double remainDay) {
+		this.remainDay = remainDay;
+	}
+	
+	@Override
+	public void setRemainHour(int remainHour) {
+		this.remainHour = remainHour;
+	}
+	
+	@Override
+	public void setBalanceDate(Date balanceDate) {
+		this.balanceDate = getDateClone(balanceDate);
+	}
+	
+}
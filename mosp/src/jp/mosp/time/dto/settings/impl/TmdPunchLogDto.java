@@ -0,0 +1,146 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.time.dto.settings.PunchLogDtoInterface;
+
+/**
+ * 打刻ログDTO
+ */
+public class TmdPunchLogDto extends BaseDto implements PunchLogDtoInterface {
+	
+	private static final long	serialVersionUID	= 4302687615731120394L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				tmdPunchLogId;
+	/**
+	 * 個人ID。
+	 */
+	private String				personalId;
+	/**
+	 * 打刻区分。
+	 */
+	private String				recordType;
+	/**
+	 * 打刻時刻。
+	 */
+	private Date				recordTime;
+	/**
+	 * 打刻端末。
+	 */
+	private String				device;
+	/**
+	 * 打刻識別子。
+	 */
+	private String				clientNonce;
+	/**
+	 * 反映状態。
+	 */
+	private int					applyStatus;
+	/**
+	 * 反映時刻。
+	 */
+	private Date				applyTime;
+	
+	
+	@Override
+	public long getTmdPunchLogId() {
+		return tmdPunchLogId;
+	}
+	
+	@Override
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	@Override
+	public String getRecordType() {
+		return recordType;
+	}
+	
+	@Override
+	public Date getRecordTime() {
+		return getDateClone(recordTime);
+	}
+	
+	@Override
+	public String getDevice() {
+		return device;
+	}
+	
+	@Override
+	public String getClientNonce() {
+		return clientNonce;
+	}
+	
+	@Override
+	public int getApplyStatus() {
+		return applyStatus;
+	}
+	
+	@Override
+	public Date getApplyTime() {
+		return getDateClone(applyTime);
+	}
+	
+	@Override
+	public void setTmdPunchLogId(long tmdPunchLogId) {
+		this.tmdPunchLogId = tmdPunchLogId;
+	}
+	
+	@Override
+	public void setPersonalId(String personalId) {
+		this.personalId = personalId;
+	}
+	
+	@Override
+	public void setRecordType(String recordType) {
+		this.recordType = recordType;
+	}
+	
+	@Override
+	public void setRecordTime(Date recordTime) {
+		this.recordTime = getDateClone(recordTime);
+	}
+	
+	@Override
+	public void setDevice(String device) {
+		this.device = device;
+	}
+	
+	@Override
+	public void setClientNonce(String clientNonce) {
+		this.clientNonce = clientNonce;
+	}
+	
+	@Override
+	public void setApplyStatus(int applyStatus) {
+		this.applyStatus = applyStatus;
+	}
+	
+	@Override
+	public void setApplyTime(Date applyTime) {
+		this.applyTime = getDateClone(applyTime);
+	}
+	
+}
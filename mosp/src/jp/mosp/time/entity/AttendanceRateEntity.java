@@ -0,0 +1,131 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.entity;
+
+import java.util.Date;
+
+/**
+ * 出勤率エンティティクラス。<br>
+ * <br>
+ * 対象期間における個人の出勤日数、全労働日数及び除外日数を保持する。<br>
+ * 全労働日数は、勤怠トランザクションの出勤率算定分母の和に、
+ * 勤怠トランザクションが無い日のうちカレンダで勤務日とされている日数を加えたものである。<br>
+ * 除外日数は、勤怠トランザクションが無い日のうち、カレンダが無いか休日である日数である。<br>
+ */
+public class AttendanceRateEntity {
+	
+	/**
+	 * 個人ID。<br>
+	 */
+	protected String	personalId;
+	
+	/**
+	 * 対象期間初日。<br>
+	 */
+	protected Date		firstDate;
+	
+	/**
+	 * 対象期間末日。<br>
+	 */
+	protected Date		lastDate;
+	
+	/**
+	 * 出勤日数(出勤率算定分子)。<br>
+	 */
+	protected int		workDays;
+	
+	/**
+	 * 全労働日数(出勤率算定分母)。<br>
+	 */
+	protected int		totalWorkDays;
+	
+	/**
+	 * 除外日数。<br>
+	 */
+	protected int		excludedDays;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param personalId    個人ID
+	 * @param firstDate     対象期間初日
+	 * @param lastDate      対象期間末日
+	 * @param workDays      出勤日数
+	 * @param totalWorkDays 全労働日数
+	 * @param excludedDays  除外日数
+	 */
+	public AttendanceRateEntity(String personalId, Date firstDate, Date lastDate, int workDays, int totalWorkDays,
+			int excludedDays) {
+		// フィールドに設定
+		this.personalId = personalId;
+		this.firstDate = firstDate;
+		this.lastDate = lastDate;
+		this.workDays = workDays;
+		this.totalWorkDays = totalWorkDays;
+		this.excludedDays = excludedDays;
+	}
+	
+	/**
+	 * 個人IDを取得する。<br>
+	 * @return 個人ID
+	 */
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	/**
+	 * 対象期間初日を取得する。<br>
+	 * @return 対象期間初日
+	 */
+	public Date getFirstDate() {
+		return firstDate;
+	}
+	
+	/**
+	 * 対象期間末日を取得する。<br>
+	 * @return 対象期間末日
+	 */
+	public Date getLastDate() {
+		return lastDate;
+	}
+	
+	/**
+	 * 出勤日数を取得する。<br>
+	 * @return 出勤日数
+	 */
+	public int getWorkDays() {
+		return workDays;
+	}
+	
+	/**
+	 * 全労働日数を取得する。<br>
+	 * @return 全労働日数
+	 */
+	public int getTotalWorkDays() {
+		return totalWorkDays;
+	}
+	
+	/**
+	 * 除外日数を取得する。<br>
+	 * @return 除外日数
+	 */
+	public int getExcludedDays() {
+		return excludedDays;
+	}
+	
+}
@@ -0,0 +1,212 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.entity;
+
+import java.util.Date;
+
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.time.bean.impl.PaidHolidayDataSearchBean;
+import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayGrantDtoInterface;
+
+/**
+ * 有給休暇付与計画エンティティクラス。<br>
+ * <br>
+ * 有給休暇一括付与において、対象者毎に、現在の有給休暇データと付与予定の
+ * 有給休暇データとを保持する。<br>
+ * 付与前に差分を確認(ドライラン)するために用いる。<br>
+ */
+public class PaidHolidayGrantPlanEntity {
+	
+	/**
+	 * 個人ID。<br>
+	 */
+	protected String						personalId;
+	
+	/**
+	 * 対象日。<br>
+	 */
+	protected Date							targetDate;
+	
+	/**
+	 * 現在の有給休暇データ。<br>
+	 * 付与日に有給休暇データが存在しない場合はnull。<br>
+	 */
+	protected PaidHolidayDataDtoInterface	current;
+	
+	/**
+	 * 付与予定の有給休暇データ。<br>
+	 * 付与対象でない場合はnull。<br>
+	 */
+	protected PaidHolidayDataDtoInterface	planned;
+	
+	/**
+	 * 現在の有給休暇付与情報。<br>
+	 * 付与日に有給休暇付与情報が存在しない場合はnull。<br>
+	 */
+	protected PaidHolidayGrantDtoInterface	grant;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @param current    現在の有給休暇データ
+	 * @param planned    付与予定の有給休暇データ
+	 * @param grant      現在の有給休暇付与情報
+	 */
+	public PaidHolidayGrantPlanEntity(String personalId, Date targetDate, PaidHolidayDataDtoInterface current,
+			PaidHolidayDataDtoInterface planned, PaidHolidayGrantDtoInterface grant) {
+		// フィールドに設定
+		this.personalId = personalId;
+		this.targetDate = targetDate;
+		this.current = current;
+		this.planned = planned;
+		this.grant = grant;
+	}
+	
+	/**
+	 * 付与対象であるかを確認する。<br>
+	 * @return 確認結果(true：付与対象である、false：付与対象でない)
+	 */
+	public boolean isTarget() {
+		return planned != null;
+	}
+	
+	/**
+	 * 付与により有給休暇データ或いは有給休暇付与情報が変更されるかを確認する。<br>
+	 * 付与対象でない場合は、変更されないと判断する。<br>
+	 * @return 確認結果(true：変更される、false：変更されない)
+	 */
+	public boolean isChanged() {
+		// 付与対象でない場合
+		if (isTarget() == false) {
+			return false;
+		}
+		// 付与済でない場合
+		if (grant == null || grant.getGrantStatus() != PaidHolidayDataSearchBean.GRANTED) {
+			return true;
+		}
+		// 有給休暇データが存在しない場合
+		if (current == null) {
+			return true;
+		}
+		// 有給休暇データの内容を比較
+		return current.getHoldDay() != planned.getHoldDay() || current.getHoldHour() != planned.getHoldHour()
+				|| current.getGivingDay() != planned.getGivingDay()
+				|| current.getGivingHour() != planned.getGivingHour()
+				|| current.getCancelDay() != planned.getCancelDay()
+				|| current.getCancelHour() != planned.getCancelHour() || current.getUseDay() != planned.getUseDay()
+				|| current.getUseHour() != planned.getUseHour()
+				|| current.getDenominatorDayHour() != planned.getDenominatorDayHour()
+				|| current.getTemporaryFlag() != planned.getTemporaryFlag()
+				|| isSameDate(current.getLimitDate(), planned.getLimitDate()) == false;
+	}
+	
+	/**
+	 * 差分を表す文字列を取得する。<br>
+	 * 付与前の確認に用いる。<br>
+	 * @return 差分を表す文字列
+	 */
+	public String getDescription() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(personalId);
+		sb.append(' ');
+		sb.append(DateUtility.getStringDate(targetDate));
+		sb.append(": ");
+		sb.append(getDescription(current));
+		sb.append(" -> ");
+		sb.append(getDescription(planned));
+		return sb.toString();
+	}
+	
+	/**
+	 * 有給休暇データの概要を表す文字列を取得する。<br>
+	 * @param dto 有給休暇データ
+	 * @return 有給休暇データの概要を表す文字列
+	 */
+	protected String getDescription(PaidHolidayDataDtoInterface dto) {
+		if (dto == null) {
+			return "-";
+		}
+		StringBuilder sb = new StringBuilder();
+		sb.append(dto.getHoldDay());
+		sb.append('/');
+		sb.append(dto.getHoldHour());
+		sb.append(" (");
+		sb.append(DateUtility.getStringDate(dto.getAcquisitionDate()));
+		sb.append('-');
+		sb.append(DateUtility.getStringDate(dto.getLimitDate()));
+		sb.append(')');
+		return sb.toString();
+	}
+	
+	/**
+	 * 日付が同じであるかを確認する。<br>
+	 * @param date1 日付1
+	 * @param date2 日付2
+	 * @return 確認結果(true：同じである、false：同じでない)
+	 */
+	protected boolean isSameDate(Date date1, Date date2) {
+		if (date1 == null || date2 == null) {
+			return date1 == date2;
+		}
+		return date1.equals(date2);
+	}
+	
+	/**
+	 * 個人IDを取得する。<br>
+	 * @return 個人ID
+	 */
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	/**
+	 * 対象日を取得する。<br>
+	 * @return 対象日
+	 */
+	public Date getTargetDate() {
+		return targetDate;
+	}
+	
+	/**
+	 * 現在の有給休暇データを取得する。<br>
+	 * @return 現在の有給休暇データ
+	 */
+	public PaidHolidayDataDtoInterface getCurrent() {
+		return current;
+	}
+	
+	/**
+	 * 付与予定の有給休暇データを取得する。<br>
+	 * @return 付与予定の有給休暇データ
+	 */
+	public PaidHolidayDataDtoInterface getPlanned() {
+		return planned;
+	}
+	
+	/**
+	 * 現在の有給休暇付与情報を取得する。<br>
+	 * @return 現在の有給休暇付与情報
+	 */
+	public PaidHolidayGrantDtoInterface getGrant() {
+		return grant;
+	}
+	
+}
@@ -21,7 +21,10 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.BaseVo;
@@ -63,6 +66,7 @@ import jp.mosp.time.dto.settings.StockHolidayDataDtoInterface;
 import jp.mosp.time.dto.settings.TimeSettingDtoInterface;
 import jp.mosp.time.entity.ApplicationEntity;
 import jp.mosp.time.input.vo.HolidayRequestVo;
+import jp.mosp.time.utils.HolidayBalanceUtility;
 import jp.mosp.time.utils.TimeUtility;
 
 /**
@@ -584,9 +588,14 @@ public class HolidayRequestAction extends TimeAction {
 		setPaidLeaveByHour();
 		// ストック休暇
 		double stock = 0;
-		Double remainDay = stockHolidayInfo.getRemainDay(personalId, date);
-		if (remainDay != null) {
-			stock = remainDay.doubleValue();
+		if (HolidayBalanceUtility.isEnabled(mospParams)) {
+			// 休暇残高台帳から取得
+			stock = timeReference().holidayBalance().getRemainDay(personalId, date);
+		} else {
+			Double remainDay = stockHolidayInfo.getRemainDay(personalId, date);
+			if (remainDay != null) {
+				stock = remainDay.doubleValue();
+			}
 		}
 		vo.setLblPaidHolidayStock(String.valueOf(stock));
 		// 有給休暇情報欄表示
@@ -833,6 +842,8 @@ public class HolidayRequestAction extends TimeAction {
 		HolidayReferenceBeanInterface holiday = timeReference().holiday();
 		HolidayInfoReferenceBeanInterface holidayInfo = timeReference().holidayInfo();
 		PaidHolidayInfoReferenceBeanInterface paidHolidayInfo = timeReference().paidHolidayInfo();
+		// 残日数の取得から登録までの間、同じ個人の同じ休暇種別の処理を待たせる
+		paidHolidayInfo.lockHoliday(vo.getPersonalId(), getInt(vo.getPltEditHolidayType1()));
 		// 開始・終了日取得
 		Date startDate = getEditStartDate();
 		Date endDate = getEditEndDate();
@@ -1359,6 +1370,8 @@ public class HolidayRequestAction extends TimeAction {
 		HolidayReferenceBeanInterface holiday = timeReference().holiday();
 		HolidayInfoReferenceBeanInterface holidayInfo = timeReference().holidayInfo();
 		PaidHolidayInfoReferenceBeanInterface paidHolidayInfo = timeReference().paidHolidayInfo();
+		// 残日数の取得から登録までの間、同じ個人の同じ休暇種別の処理を待たせる
+		paidHolidayInfo.lockHoliday(vo.getPersonalId(), getInt(vo.getPltEditHolidayType1()));
 		// 申請開始日終了日取得
 		Date startDate = getEditStartDate();
 		Date endDate = getEditEndDate();
@@ -1920,15 +1933,8 @@ public class HolidayRequestAction extends TimeAction {
 				.deleteList(reference().workflowComment().getWorkflowCommentList(workflowDto.getWorkflow()));
 			regist.delete(dto);
 		} else {
-			// 下書でない場合は取下する
-			// ワークフロー登録
-			workflowDto = workflowRegist.withdrawn(workflowDto);
-			if (workflowDto != null) {
-				// ワークフローコメント登録
-				workflowCommentRegist.addComment(workflowDto, mospParams.getUser().getPersonalId(),
-						mospParams.getProperties().getMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED,
-								new String[]{ mospParams.getName("TakeDown") }));
-			}
+			// 下書でない場合は取下する(休暇残高台帳も算出し直す)
+			regist.withdrawn(dto, workflowDto);
 		}
 		// 削除結果確認
 		if (mospParams.hasErrorMessage()) {
@@ -2552,6 +2558,8 @@ public class HolidayRequestAction extends TimeAction {
 			mospParams.addErrorMessage(PlatformMessageConst.MSG_CHECK);
 			return;
 		}
+		// 残日数の取得から登録までの間、対象個人の対象休暇種別の処理を待たせる
+		lockHolidays(idArray);
 		for (long id : idArray) {
 			HolidayRequestDtoInterface dto = timeReference().holidayRequest().findForKey(id);
 			if (dto == null || dto.getDeleteFlag() == MospConst.DELETE_FLAG_ON) {
@@ -3189,6 +3197,36 @@ public class HolidayRequestAction extends TimeAction {
 		return 0;
 	}
 	
+	/**
+	 * 対象休暇申請の個人及び休暇種別でロックする。<br>
+	 * 処理同士で待ち合わないよう、個人ID及び休暇種別の順にロックする。<br>
+	 * @param idArray 対象休暇申請レコード識別ID配列
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void lockHolidays(long[] idArray) throws MospException {
+		// 個人ID毎の休暇種別群を取得
+		Map<String, Set<Integer>> map = new TreeMap<String, Set<Integer>>();
+		for (long id : idArray) {
+			HolidayRequestDtoInterface dto = timeReference().holidayRequest().findForKey(id);
+			if (dto == null) {
+				continue;
+			}
+			Set<Integer> set = map.get(dto.getPersonalId());
+			if (set == null) {
+				set = new TreeSet<Integer>();
+				map.put(dto.getPersonalId(), set);
+			}
+			set.add(dto.getHolidayType1());
+		}
+		// ロック
+		PaidHolidayInfoReferenceBeanInterface paidHolidayInfo = timeReference().paidHolidayInfo();
+		for (Entry<String, Set<Integer>> entry : map.entrySet()) {
+			for (Integer holidayType : entry.getValue()) {
+				paidHolidayInfo.lockHoliday(entry.getKey(), holidayType);
+			}
+		}
+	}
+	
 	/**
 	 * 有給休暇の保有日数を確認する。
 	 * @param personalId 対象個人ID
@@ -28,10 +28,12 @@ import jp.mosp.platform.bean.portal.impl.PortalBean;
 import jp.mosp.platform.utils.IpAddressUtility;
 import jp.mosp.time.base.TimeBean;
 import jp.mosp.time.bean.ApplicationReferenceBeanInterface;
+import jp.mosp.time.bean.PunchLogBeanInterface;
 import jp.mosp.time.bean.TimeRecordBeanInterface;
 import jp.mosp.time.bean.TimeRecordReferenceBeanInterface;
 import jp.mosp.time.dto.settings.TimeRecordDtoInterface;
 import jp.mosp.time.entity.ApplicationEntity;
+import jp.mosp.time.utils.PunchLogUtility;
 import jp.mosp.time.utils.TimeMessageUtility;
 import jp.mosp.time.utils.TimeUtility;
 
@@ -157,6 +159,12 @@ public class PortalTimeCardBean extends PortalBean implements PortalBeanInterfac
 	public void regist() throws MospException {
 		// VOから値を受け取り変数に詰める
 		String recodeType = getPortalParameter(PRM_RECODE_TYPE);
+		// 打刻受付を利用する場合
+		if (PunchLogUtility.isEnabled(mospParams)) {
+			// 打刻受付
+			acceptPunch(recodeType);
+			return;
+		}
 		// コマンド毎の処理
 		if (recodeType.equals(RECODE_START_WORK)) {
 			// 出勤
@@ -308,6 +316,42 @@ public class PortalTimeCardBean extends PortalBean implements PortalBeanInterfac
 		TimeMessageUtility.addMessageRecordRegularWork(mospParams, recordTime);
 	}
 	
+	/**
+	 * 打刻を受け付ける。<br>
+	 * 打刻ログを登録し、勤怠データへの反映は打刻反映スレッドに委ねる。<br>
+	 * 二度押し判定期間内の同じ打刻区分の打刻は、受付済として扱う。<br>
+	 * @param recodeType 打刻区分
+	 * @throws MospException インスタンスの取得及びSQL実行に失敗した場合
+	 */
+	protected void acceptPunch(String recodeType) throws MospException {
+		// 打刻時刻取得
+		Date recordTime = getSystemTimeAndSecond();
+		// 打刻受付
+		getPunchLogBean().accept(mospParams.getUser().getPersonalId(), recodeType, recordTime,
+				PunchLogUtility.DEVICE_PORTAL, PunchLogUtility.getNonce(recodeType, recordTime));
+		// 処理結果確認
+		if (mospParams.hasErrorMessage()) {
+			// 打刻失敗メッセージ設定
+			TimeMessageUtility.addMessageRecordTimeFailed(mospParams);
+			return;
+		}
+		String time = DateUtility.getStringTimeAndSecond(recordTime);
+		// 打刻メッセージ設定
+		if (recodeType.equals(RECODE_START_WORK)) {
+			TimeMessageUtility.addMessageRecordStartWork(mospParams, time);
+		} else if (recodeType.equals(RECODE_END_WORK)) {
+			TimeMessageUtility.addMessageRecordEndWork(mospParams, time);
+		} else if (recodeType.equals(RECODE_START_REST)) {
+			TimeMessageUtility.addMessageRecordStartRest(mospParams, time);
+		} else if (recodeType.equals(RECODE_END_REST)) {
+			TimeMessageUtility.addMessageRecordEndRest(mospParams, time);
+		} else if (recodeType.equals(RECODE_REGULAR_END)) {
+			TimeMessageUtility.addMessageRecordRegularEnd(mospParams, time);
+		} else if (recodeType.equals(RECODE_REGULAR_WORK)) {
+			TimeMessageUtility.addMessageRecordRegularWork(mospParams, time);
+		}
+	}
+	
 	/**
 	 * 設定適用参照クラスを取得する。<br>
 	 * @return 設定適用参照ユーティリティクラス
@@ -335,4 +379,13 @@ public class PortalTimeCardBean extends PortalBean implements PortalBeanInterfac
 		return (TimeRecordReferenceBeanInterface)createBean(TimeRecordReferenceBeanInterface.class);
 	}
 	
+	/**
+	 * 打刻ログクラスを取得する。<br>
+	 * @return 打刻ログクラス
+	 * @throws MospException インスタンスの取得に失敗した場合
+	 */
+	protected PunchLogBeanInterface getPunchLogBean() throws MospException {
+		return (PunchLogBeanInterface)createBean(PunchLogBeanInterface.class);
+	}
+	
 }
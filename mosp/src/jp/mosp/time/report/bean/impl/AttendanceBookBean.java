@@ -17,13 +17,14 @@
  */
 package jp.mosp.time.report.bean.impl;
 
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.constant.MospConst;
+import jp.mosp.jasperreport.JasperReportLazyDataSource;
 import jp.mosp.jasperreport.JasperReportUtility;
+import jp.mosp.jasperreport.JasperReportVirtualPrint;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.time.bean.AttendanceListReferenceBeanInterface;
 import jp.mosp.time.dto.settings.impl.AttendanceListDto;
@@ -72,22 +73,47 @@ public class AttendanceBookBean extends PlatformBean implements AttendanceBookBe
 	}
 	
 	@Override
-	public void makeAttendanceBooks(String[] personalIds, int year, int month) throws MospException {
-		// 勤怠一覧情報リスト準備
-		List<AttendanceListDto> list = new ArrayList<AttendanceListDto>();
-		// 個人ID毎に出勤簿を作成
-		for (String personalId : personalIds) {
-			// 勤怠一覧(出勤簿)情報取得
-			List<AttendanceListDto> attendanceList = attendanceListRefer.getActualList(personalId, year, month);
-			// 処理結果確認
-			if (mospParams.hasErrorMessage()) {
-				return;
+	public void makeAttendanceBooks(final String[] personalIds, final int year, final int month)
+			throws MospException {
+		// 帳票のタイトルを取得
+		final String title = getReportTitle();
+		// 個人毎に勤怠一覧(出勤簿)情報を取得するデータソースを準備
+		JasperReportLazyDataSource dataSource = new JasperReportLazyDataSource() {
+			
+			/**
+			 * 次に処理する個人IDのインデックス。<br>
+			 */
+			private int index;
+			
+			
+			@Override
+			protected List<?> nextRows() throws MospException {
+				// 処理結果確認
+				if (index >= personalIds.length || mospParams.hasErrorMessage()) {
+					return null;
+				}
+				// 勤怠一覧(出勤簿)情報取得
+				List<AttendanceListDto> attendanceList = attendanceListRefer.getActualList(personalIds[index++], year,
+						month);
+				// ヘッダ情報(帳票タイトル)付加
+				for (AttendanceListDto dto : attendanceList) {
+					dto.setTitle(title);
+				}
+				return attendanceList;
 			}
-			// 勤怠一覧情報リストに追加
-			list.addAll(attendanceList);
+		};
+		// 帳票を作成(仮想化)
+		JasperReportVirtualPrint print = JasperReportUtility.createVirtualPrint(mospParams, getTemplatePath(),
+				dataSource);
+		// 処理結果確認
+		if (mospParams.hasErrorMessage()) {
+			print.cleanup();
+			return;
 		}
-		// 出勤簿作成
-		makeAttendanceBook(list);
+		// 帳票を送出ファイルとして設定
+		mospParams.setFile(print);
+		// 送出ファイル名設定
+		mospParams.setFileName(APP_REPORT_ATTENDANCE_BOOK);
 	}
 	
 	/**
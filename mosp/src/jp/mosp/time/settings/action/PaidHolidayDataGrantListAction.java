@@ -21,7 +21,9 @@ import java.text.Format;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -38,7 +40,6 @@ import jp.mosp.platform.constant.PlatformMessageConst;
 import jp.mosp.platform.utils.MonthUtility;
 import jp.mosp.platform.utils.PlatformUtility;
 import jp.mosp.time.base.TimeAction;
-import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataSearchBeanInterface;
 import jp.mosp.time.bean.PaidHolidayReferenceBeanInterface;
 import jp.mosp.time.bean.StockHolidayDataGrantBeanInterface;
@@ -329,20 +330,22 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 	protected void batchUpdate() throws MospException {
 		// VO取得
 		PaidHolidayDataGrantListVo vo = (PaidHolidayDataGrantListVo)mospParams.getVo();
-		PaidHolidayDataGrantBeanInterface paidHolidayDataGrant = time().paidHolidayDataGrant();
+		// 付与対象者群(key：個人ID、value：付与日)
+		Map<String, Date> targets = new LinkedHashMap<String, Date>();
 		for (String index : vo.getCkbSelect()) {
 			int i = Integer.parseInt(index);
 			if (!mospParams.getName("Accomplish").equals(vo.getAryLblAccomplish()[i])) {
 				// 達成でない場合
 				continue;
 			}
-			// 付与
-			paidHolidayDataGrant.grant(vo.getAryPersonalId()[i], getDate(vo.getAryLblGrantDate()[i]));
-			if (mospParams.hasErrorMessage()) {
-				// 登録失敗メッセージ設定
-				addInsertFailedMessage();
-				return;
-			}
+			targets.put(vo.getAryPersonalId()[i], getDate(vo.getAryLblGrantDate()[i]));
+		}
+		// 一括付与
+		time().paidHolidayDataBulkGrant().grant(targets);
+		if (mospParams.hasErrorMessage()) {
+			// 登録失敗メッセージ設定
+			addInsertFailedMessage();
+			return;
 		}
 		// コミット
 		commit();
@@ -476,25 +479,25 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 	protected void otherBatchUpdate1() throws MospException {
 		// VO取得
 		PaidHolidayDataGrantListVo vo = (PaidHolidayDataGrantListVo)mospParams.getVo();
-		PaidHolidayDataGrantBeanInterface paidHolidayDataGrant = time().paidHolidayDataGrant();
-		// 検索対象個人ID
-		Set<String> set = new HashSet<String>();
+		// 付与対象者群(key：個人ID、value：付与日)
+		Map<String, Date> targets = new LinkedHashMap<String, Date>();
 		// 社員毎に処理
 		for (int i = 0; i < vo.getAryPersonalId().length; i++) {
 			// 達成でない場合
 			if (!mospParams.getName("Accomplish").equals(vo.getAryLblAccomplish()[i])) {
 				continue;
 			}
-			// 付与
-			paidHolidayDataGrant.grant(vo.getAryPersonalId()[i], getDate(vo.getAryLblGrantDate()[i]));
-			if (mospParams.hasErrorMessage()) {
-				// 登録失敗メッセージ設定
-				addInsertFailedMessage();
-				return;
-			}
-			// 付与した社員追加
-			set.add(vo.getAryPersonalId()[i]);
+			targets.put(vo.getAryPersonalId()[i], getDate(vo.getAryLblGrantDate()[i]));
+		}
+		// 一括付与
+		time().paidHolidayDataBulkGrant().grant(targets);
+		if (mospParams.hasErrorMessage()) {
+			// 登録失敗メッセージ設定
+			addInsertFailedMessage();
+			return;
 		}
+		// 付与した社員(検索対象個人ID)
+		Set<String> set = targets.keySet();
 		// コミット
 		commit();
 		// 付与した社員がいる場合
@@ -0,0 +1,288 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.utils;
+
+import java.sql.Connection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.time.bean.HolidayBalanceRegistBeanInterface;
+
+/**
+ * 休暇残高台帳に関する有用なメソッドを提供する。<br>
+ * <br>
+ * 休暇残高台帳は、有給休暇、ストック休暇及び代休の付与毎の残高を、
+ * 残高算出日時点で保持する。<br>
+ * 休暇申請の承認や解除、手動付与・廃棄、付与及び休暇データの登録・削除の際に、
+ * 同じトランザクション内で対象個人の台帳を算出し直す。<br>
+ * <br>
+ * DB接続先毎に日付が変わった後最初に台帳を参照した際に、期限の切れた残高を除くため、
+ * 前日以前に算出された台帳を休暇残高台帳スレッドで一括して算出し直す。<br>
+ * 一括算出日はDB接続先毎に台帳に保持し、複数のサーバで同じ日の一括算出を行わないようにする。<br>
+ * その際、MosPアプリケーション設定(HolidayBalanceStockConversion)によって、
+ * 前回積立を終えた日以降に期限の切れた有給休暇データをストック休暇に積み立てる。<br>
+ */
+public class HolidayBalanceUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(休暇残高台帳利用可否)。<br>
+	 */
+	protected static final String				APP_HOLIDAY_BALANCE_LEDGER				= "HolidayBalanceLedger";
+	
+	/**
+	 * MosPアプリケーション設定キー(期限切れ有給休暇のストック休暇積立可否)。<br>
+	 */
+	protected static final String				APP_HOLIDAY_BALANCE_STOCK_CONVERSION	= "HolidayBalanceStockConversion";
+	
+	/**
+	 * 休暇残高台帳スレッド名。<br>
+	 */
+	protected static final String				THREAD_NAME								= "MospHolidayBalance";
+	
+	/**
+	 * 一括算出投入済日(ミリ秒)群。<br>
+	 * key：DB接続先キー、value：一括算出投入済日(ミリ秒)<br>
+	 * 一括算出を行うかは、DB接続先毎に台帳に保持した一括算出日で判断する。<br>
+	 */
+	static final ConcurrentMap<String, Long>	sweptDates								= new ConcurrentHashMap<String, Long>();
+	
+	/**
+	 * 休暇残高台帳スレッド。<br>
+	 * 一括算出中でない間は、スレッドを保持しない。<br>
+	 */
+	static final ExecutorService				executor								= createExecutor();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private HolidayBalanceUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 休暇残高台帳を利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：休暇残高台帳を利用する、false：参照の度に残高を算出する)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_HOLIDAY_BALANCE_LEDGER);
+	}
+	
+	/**
+	 * 一括算出時に期限の切れた有給休暇をストック休暇に積み立てるかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：積み立てる、false：積み立てない)
+	 */
+	public static boolean isStockConversion(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_HOLIDAY_BALANCE_STOCK_CONVERSION);
+	}
+	
+	/**
+	 * 対象個人の休暇残高台帳を算出し直す。<br>
+	 * 休暇残高台帳を利用しない場合は、何もしない。<br>
+	 * 呼出元と同じDBコネクション(トランザクション)で登録する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @param personalId 個人ID
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	public static void refresh(MospParams mospParams, Connection connection, String personalId)
+			throws MospException {
+		if (isEnabled(mospParams) == false) {
+			return;
+		}
+		getRegistBean(mospParams, connection).refresh(personalId);
+	}
+	
+	/**
+	 * 前日以前に算出された休暇残高台帳の一括算出を、休暇残高台帳スレッドに投入する。<br>
+	 * 休暇残高台帳を利用しない場合、或いはDB接続先毎にシステム日付で投入済の場合は、何もしない。<br>
+	 * 一括算出は、呼出元のユーザではなく休暇残高台帳スレッド名をユーザIDとして行う。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void sweep(MospParams mospParams) {
+		if (isEnabled(mospParams) == false) {
+			return;
+		}
+		final Date targetDate = DateUtility.getSystemDate();
+		String key = DBConnBean.getConnectionKey(mospParams);
+		Long last = sweptDates.get(key);
+		// システム日付で投入済の場合
+		if (last != null && last.longValue() == targetDate.getTime()) {
+			return;
+		}
+		// 他のスレッドが先に投入した場合
+		if (last == null ? sweptDates.putIfAbsent(key, targetDate.getTime()) != null
+				: sweptDates.replace(key, last, targetDate.getTime()) == false) {
+			return;
+		}
+		final MospParams backgroundParams = mospParams.createBackgroundParams(THREAD_NAME);
+		executor.execute(new Runnable() {
+			
+			@Override
+			public void run() {
+				sweep(backgroundParams, targetDate);
+			}
+		});
+	}
+	
+	/**
+	 * 対象日の一括算出を行う。<br>
+	 * 他のサーバ或いはスレッドで対象日の一括算出を開始済の場合は、何もしない。<br>
+	 * 前回積立を終えた日以降に期限の切れた有給休暇をストック休暇に積み立てた後、
+	 * 前日以前に算出された休暇残高台帳を個人毎に算出し直す。<br>
+	 * 個人毎にコミットし、失敗した個人はロールバックした上でログに出力する。<br>
+	 * 失敗した個人の台帳は前日以前のまま残るため、参照時は残高を算出する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param targetDate 対象日
+	 */
+	static void sweep(MospParams mospParams, Date targetDate) {
+		DBConnBean dbConnBean = null;
+		try {
+			dbConnBean = new DBConnBean(mospParams);
+			HolidayBalanceRegistBeanInterface bean = getRegistBean(mospParams, dbConnBean.getConnection());
+			// 一括算出を開始
+			Date convertedDate = bean.startSweep(targetDate);
+			dbConnBean.commit();
+			// 他のサーバ或いはスレッドで開始済の場合
+			if (convertedDate == null) {
+				return;
+			}
+			int failed = 0;
+			// 期限の切れた有給休暇をストック休暇に積み立てる場合
+			if (isStockConversion(mospParams)) {
+				Map<String, Set<Date>> map = bean.getExpiredLimitDates(convertedDate, targetDate);
+				for (Entry<String, Set<Date>> entry : map.entrySet()) {
+					try {
+						bean.convert(entry.getKey(), entry.getValue());
+						if (commit(mospParams, dbConnBean, entry.getKey())) {
+							continue;
+						}
+					} catch (MospException e) {
+						LogUtility.error(mospParams, e);
+						dbConnBean.rollback();
+					}
+					// 積立に失敗した場合
+					failed++;
+				}
+			}
+			// 積立に失敗しなかった場合(失敗した場合は次回の一括算出で積み立て直す)
+			if (failed == 0) {
+				bean.finishSweep(targetDate);
+				dbConnBean.commit();
+			}
+			// 前日以前に算出された台帳を算出し直す
+			List<String> personalIds = bean.getSweepTargetList(targetDate);
+			for (String personalId : personalIds) {
+				try {
+					bean.sweep(personalId, targetDate);
+					if (commit(mospParams, dbConnBean, personalId)) {
+						continue;
+					}
+				} catch (MospException e) {
+					LogUtility.error(mospParams, e);
+					dbConnBean.rollback();
+				}
+				// 算出に失敗した場合
+				failed++;
+			}
+			LogUtility.debug(mospParams, "HolidayBalance sweep=" + personalIds.size() + " failed=" + failed);
+		} catch (Throwable e) {
+			LogUtility.error(mospParams, e);
+		} finally {
+			if (dbConnBean != null) {
+				try {
+					dbConnBean.releaseConnection();
+				} catch (MospException e) {
+					LogUtility.error(mospParams, e);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 個人毎の処理結果をコミットする。<br>
+	 * エラーメッセージがある場合は、エラーメッセージをログに出力した上でロールバックする。<br>
+	 * @param mospParams MosP処理情報
+	 * @param dbConnBean DBコネクション
+	 * @param personalId 個人ID
+	 * @return 処理結果(true：コミットした、false：ロールバックした)
+	 * @throws MospException コミット或いはロールバックに失敗した場合
+	 */
+	static boolean commit(MospParams mospParams, DBConnBean dbConnBean, String personalId) throws MospException {
+		if (mospParams.hasErrorMessage() == false) {
+			dbConnBean.commit();
+			return true;
+		}
+		LogUtility.application(mospParams, personalId + mospParams.getErrorMessageList());
+		mospParams.getErrorMessageList().clear();
+		dbConnBean.rollback();
+		return false;
+	}
+	
+	/**
+	 * 休暇残高台帳登録クラスを取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @return 休暇残高台帳登録クラス
+	 * @throws MospException インスタンスの取得に失敗した場合
+	 */
+	static HolidayBalanceRegistBeanInterface getRegistBean(MospParams mospParams, Connection connection)
+			throws MospException {
+		return (HolidayBalanceRegistBeanInterface)InstanceFactory.loadBean(HolidayBalanceRegistBeanInterface.class,
+				mospParams, connection);
+	}
+	
+	/**
+	 * 休暇残高台帳スレッドを生成する。<br>
+	 * @return 休暇残高台帳スレッド
+	 */
+	static ExecutorService createExecutor() {
+		ThreadPoolExecutor created = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+					
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, THREAD_NAME);
+						// アプリケーションの停止を妨げないようにする
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		created.allowCoreThreadTimeOut(true);
+		return created;
+	}
+	
+}
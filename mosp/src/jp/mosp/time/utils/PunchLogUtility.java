@@ -0,0 +1,674 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.time.bean.PunchLogBeanInterface;
+import jp.mosp.time.dto.settings.PunchLogDtoInterface;
+
+/**
+ * 打刻ログの受付及び反映に関する有用なメソッドを提供する。<br>
+ * <br>
+ * 受け付けた打刻は、打刻ログとして一件登録するのみとし、
+ * 勤怠データへの反映は打刻反映スレッドで行う。<br>
+ * 打刻反映スレッドは個人IDによって振り分け、同じ個人の打刻は受付順に反映する。<br>
+ * 一度に取り出した打刻は、DB接続先毎に一つのDBコネクションで反映する。<br>
+ * 反映する打刻ログは行ロックして確保するため、複数のサーバで同じ打刻を反映することは無い。<br>
+ * 一度に取り出した打刻のうち、同じ個人の同じ打刻区分の打刻を二度押し判定期間内に反映している打刻は、
+ * 重複として扱う。<br>
+ * 打刻反映スレッド毎の反映待ち打刻数には上限を設け、上限を超えた打刻は未反映のまま残して再投入時に反映する。<br>
+ * <br>
+ * 停止等で反映されなかった打刻ログは、DB接続先毎に一定間隔で打刻反映スレッドに再投入する。<br>
+ * 反映待ち或いは反映中の打刻ログは、再投入しない。<br>
+ * 各スレッドは、アプリケーションの終了時に{@link #shutdown()}で停止する。<br>
+ * <br>
+ * 受付待ち件数及び反映遅延は、{@link #getQueueDepth()}及び{@link #getApplyLag()}で確認でき、
+ * 反映毎にデバッグログにも出力される。<br>
+ */
+public class PunchLogUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(打刻受付利用可否)。<br>
+	 */
+	public static final String			APP_PUNCH_INGESTION				= "PunchIngestion";
+	
+	/**
+	 * MosPアプリケーション設定キー(打刻反映スレッド数)。<br>
+	 */
+	protected static final String		APP_PUNCH_LANES					= "PunchLanes";
+	
+	/**
+	 * MosPアプリケーション設定キー(二度押し判定期間(秒))。<br>
+	 */
+	protected static final String		APP_PUNCH_DEDUP_WINDOW			= "PunchDedupWindow";
+	
+	/**
+	 * MosPアプリケーション設定キー(未反映打刻ログ再投入間隔(秒))。<br>
+	 */
+	protected static final String		APP_PUNCH_RECOVERY_INTERVAL		= "PunchRecoveryInterval";
+	
+	/**
+	 * MosPアプリケーション設定キー(打刻反映スレッド毎の反映待ち打刻数上限)。<br>
+	 */
+	protected static final String		APP_PUNCH_LANE_CAPACITY			= "PunchLaneCapacity";
+	
+	/**
+	 * 打刻反映スレッド数のデフォルト値。<br>
+	 */
+	protected static final int			DEFAULT_PUNCH_LANES				= 4;
+	
+	/**
+	 * 二度押し判定期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int			DEFAULT_PUNCH_DEDUP_WINDOW		= 60;
+	
+	/**
+	 * 未反映打刻ログ再投入間隔(秒)のデフォルト値。<br>
+	 */
+	protected static final int			DEFAULT_PUNCH_RECOVERY_INTERVAL	= 60;
+	
+	/**
+	 * 打刻反映スレッド毎の反映待ち打刻数上限のデフォルト値。<br>
+	 */
+	protected static final int			DEFAULT_PUNCH_LANE_CAPACITY		= 10000;
+	
+	/**
+	 * 反映状態(未反映)。<br>
+	 */
+	public static final int				CODE_APPLY_STATUS_UNAPPLIED		= 0;
+	
+	/**
+	 * 反映状態(反映済)。<br>
+	 */
+	public static final int				CODE_APPLY_STATUS_APPLIED		= 1;
+	
+	/**
+	 * 反映状態(反映失敗)。<br>
+	 */
+	public static final int				CODE_APPLY_STATUS_FAILED		= 2;
+	
+	/**
+	 * 反映状態(重複)。<br>
+	 */
+	public static final int				CODE_APPLY_STATUS_DUPLICATED	= 3;
+	
+	/**
+	 * 打刻端末(ポータル)。<br>
+	 */
+	public static final String			DEVICE_PORTAL					= "portal";
+	
+	/**
+	 * ミリ秒(1秒)。<br>
+	 */
+	protected static final long			MILLI_SECOND					= 1000L;
+	
+	/**
+	 * 打刻反映スレッド名。<br>
+	 */
+	protected static final String		THREAD_NAME						= "MospPunchLog";
+	
+	/**
+	 * 未反映打刻ログ再投入スレッド名。<br>
+	 */
+	protected static final String		THREAD_NAME_RECOVERY			= "MospPunchLogRecovery";
+	
+	/**
+	 * 打刻反映スレッド群。<br>
+	 */
+	static Lane[]						lanes;
+	
+	/**
+	 * 受付待ち件数。<br>
+	 */
+	static final AtomicInteger			depth							= new AtomicInteger();
+	
+	/**
+	 * 反映遅延(ミリ秒)。<br>
+	 * 最後に反映した打刻の、受付から反映までの時間。<br>
+	 */
+	static volatile long				applyLag;
+	
+	/**
+	 * 未反映打刻ログ再投入スレッド。<br>
+	 */
+	static ScheduledThreadPoolExecutor	recoveryExecutor;
+	
+	/**
+	 * 未反映打刻ログ再投入を開始したDB接続先キー群。<br>
+	 */
+	static final Set<String>			recoveryKeys					= Collections
+			.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	
+	/**
+	 * 反映待ち或いは反映中の打刻ログのキー群(DB接続先キー及びレコード識別ID)。<br>
+	 * 再投入時に、同じ打刻ログを重ねて投入しないために用いる。<br>
+	 */
+	static final Set<String>			inFlightKeys					= Collections
+			.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private PunchLogUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 打刻受付を利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：打刻受付を利用する、false：リクエスト処理内で打刻する)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_PUNCH_INGESTION);
+	}
+	
+	/**
+	 * 打刻識別子を取得する。<br>
+	 * 打刻識別子を送信しない端末(ポータル等)のために、打刻区分と打刻時刻から打刻識別子を作成する。<br>
+	 * 二度押しは打刻識別子ではなく、受付時に直前の打刻時刻と比較して判定する
+	 * ({@link #isDoubleTap(MospParams, Date, Date)})。<br>
+	 * @param recordType 打刻区分
+	 * @param recordTime 打刻時刻
+	 * @return 打刻識別子
+	 */
+	public static String getNonce(String recordType, Date recordTime) {
+		return recordType + "-" + recordTime.getTime();
+	}
+	
+	/**
+	 * 二度押しであるかを確認する。<br>
+	 * 同じ個人の同じ打刻区分の打刻時刻の差が、二度押し判定期間未満である場合に二度押しとする。<br>
+	 * @param mospParams MosP処理情報
+	 * @param previous   先の打刻時刻
+	 * @param recordTime 打刻時刻
+	 * @return 確認結果(true：二度押し、false：二度押しでない)
+	 */
+	public static boolean isDoubleTap(MospParams mospParams, Date previous, Date recordTime) {
+		return Math.abs(recordTime.getTime() - previous.getTime()) < getDedupWindow(mospParams);
+	}
+	
+	/**
+	 * 打刻ログを打刻反映スレッドに投入する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param dto        打刻ログ
+	 */
+	public static void submit(MospParams mospParams, PunchLogDtoInterface dto) {
+		submit(new Punch(mospParams.createWorkerParams(), dto, System.currentTimeMillis()));
+	}
+	
+	/**
+	 * 未反映打刻ログの定期再投入を開始する。<br>
+	 * DB接続先毎に起動後最初に呼び出された時に、
+	 * 停止等で反映されなかった打刻ログを一定間隔で打刻反映スレッドに再投入する処理を開始する。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void register(MospParams mospParams) {
+		String key = DBConnBean.getConnectionKey(mospParams);
+		if (recoveryKeys.add(key) == false) {
+			return;
+		}
+		final MospParams backgroundParams = mospParams.createBackgroundParams(THREAD_NAME_RECOVERY);
+		ScheduledThreadPoolExecutor executor = getRecoveryExecutor();
+		// 停止されている場合
+		if (executor.isShutdown()) {
+			return;
+		}
+		long interval = getRecoveryInterval(mospParams);
+		executor.scheduleWithFixedDelay(new Runnable() {
+			
+			@Override
+			public void run() {
+				recover(backgroundParams);
+			}
+		}, 0L, interval, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * 停止する。<br>
+	 * アプリケーションの終了時に用いる。<br>
+	 * 反映待ちの打刻ログは未反映のまま残り、次回の起動後に再投入される。<br>
+	 */
+	public static synchronized void shutdown() {
+		getRecoveryExecutor().shutdownNow();
+		for (Lane lane : getLanes(null)) {
+			lane.executor.shutdownNow();
+		}
+		recoveryKeys.clear();
+	}
+	
+	/**
+	 * 受付待ち件数を取得する。<br>
+	 * @return 受付待ち件数
+	 */
+	public static int getQueueDepth() {
+		return depth.get();
+	}
+	
+	/**
+	 * 反映遅延(ミリ秒)を取得する。<br>
+	 * @return 最後に反映した打刻の、受付から反映までの時間(ミリ秒)
+	 */
+	public static long getApplyLag() {
+		return applyLag;
+	}
+	
+	/**
+	 * 打刻を打刻反映スレッドに投入する。<br>
+	 * 打刻反映スレッドが停止されている場合は投入せず、未反映のまま残す。<br>
+	 * 反映待ち或いは反映中の打刻ログである場合は、投入しない。<br>
+	 * 反映待ち打刻数が上限に達している場合は投入せず、未反映のまま残して再投入時に反映する。<br>
+	 * @param punch 反映待ち打刻
+	 */
+	static void submit(Punch punch) {
+		Lane lane = getLane(punch.mospParams, punch.dto.getPersonalId());
+		if (lane.executor.isShutdown()) {
+			return;
+		}
+		// 反映待ち或いは反映中である場合
+		if (inFlightKeys.add(punch.key) == false) {
+			return;
+		}
+		// 反映待ち打刻数が上限に達している場合
+		if (lane.queue.offer(punch) == false) {
+			inFlightKeys.remove(punch.key);
+			return;
+		}
+		depth.incrementAndGet();
+		lane.schedule();
+	}
+	
+	/**
+	 * 未反映の打刻ログを打刻反映スレッドに再投入する。<br>
+	 * 再投入間隔より前に受け付けた打刻ログを対象とし、
+	 * 受付直後で反映待ちの打刻ログは対象としない。<br>
+	 * 打刻反映スレッドで反映待ち或いは反映中の打刻ログは、投入時に除かれる。<br>
+	 * 再投入した打刻は、打刻ログの登録者を更新者とし、打刻対象者を個人IDとするMosPユーザで反映する。<br>
+	 * @param backgroundParams 再投入処理用のMosP処理情報
+	 */
+	static void recover(MospParams backgroundParams) {
+		DBConnBean dbConnBean = null;
+		try {
+			dbConnBean = new DBConnBean(backgroundParams);
+			PunchLogBeanInterface bean = (PunchLogBeanInterface)InstanceFactory.loadBean(PunchLogBeanInterface.class,
+					backgroundParams, dbConnBean.getConnection());
+			Date acceptTime = new Date(System.currentTimeMillis() - getRecoveryInterval(backgroundParams));
+			for (PunchLogDtoInterface dto : bean.getUnappliedList(acceptTime)) {
+				MospParams punchParams = backgroundParams.createBackgroundParams(dto.getInsertUser());
+				punchParams.getUser().setPersonalId(dto.getPersonalId());
+				submit(new Punch(punchParams, dto, System.currentTimeMillis()));
+			}
+		} catch (Throwable e) {
+			LogUtility.error(backgroundParams, e);
+		} finally {
+			if (dbConnBean != null) {
+				try {
+					dbConnBean.releaseConnection();
+				} catch (MospException e) {
+					LogUtility.error(backgroundParams, e);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 打刻反映スレッドから打刻を取り出して反映する。<br>
+	 * 一度に取り出した打刻は、DB接続先毎に振り分けて反映する。<br>
+	 * @param lane 打刻反映スレッド
+	 */
+	static void drain(Lane lane) {
+		// 打刻を取り出しDB接続先毎に振り分け
+		Map<String, List<Punch>> batches = new LinkedHashMap<String, List<Punch>>();
+		Punch polled = lane.queue.poll();
+		while (polled != null) {
+			String key = DBConnBean.getConnectionKey(polled.mospParams);
+			List<Punch> batch = batches.get(key);
+			if (batch == null) {
+				batch = new ArrayList<Punch>();
+				batches.put(key, batch);
+			}
+			batch.add(polled);
+			polled = lane.queue.poll();
+		}
+		for (Entry<String, List<Punch>> entry : batches.entrySet()) {
+			drain(entry.getValue());
+		}
+	}
+	
+	/**
+	 * 同じDB接続先の打刻を反映する。<br>
+	 * 打刻は、一つのDBコネクションで順に反映する。<br>
+	 * 打刻毎にコミットし、反映に失敗した打刻はロールバックした上で反映失敗とする。<br>
+	 * 反映中に例外が発生した打刻も、ロールバックした上で反映失敗とし、
+	 * 再投入で繰り返し反映させないようにする。<br>
+	 * @param batch 同じDB接続先の打刻リスト
+	 */
+	static void drain(List<Punch> batch) {
+		MospParams firstParams = batch.get(0).mospParams;
+		DBConnBean dbConnBean = null;
+		// 処理した打刻数
+		int processed = 0;
+		try {
+			dbConnBean = new DBConnBean(firstParams);
+			Connection connection = dbConnBean.getConnection();
+			// 反映した個人ID及び打刻区分毎の打刻時刻
+			Map<String, Date> applied = new HashMap<String, Date>();
+			for (Punch punch : batch) {
+				try {
+					apply(punch, dbConnBean, connection, applied);
+				} catch (Throwable e) {
+					// 当該打刻のみロールバックし反映失敗とする
+					LogUtility.error(punch.mospParams, e);
+					fail(punch, dbConnBean, connection);
+				}
+				processed++;
+				depth.decrementAndGet();
+				applyLag = System.currentTimeMillis() - punch.acceptTime;
+			}
+			LogUtility.debug(firstParams, "PunchLog batch=" + batch.size() + " depth=" + depth.get() + " lag="
+					+ applyLag);
+		} catch (Throwable e) {
+			// 処理していない打刻は未反映のまま残し、再投入時に反映する
+			depth.addAndGet(processed - batch.size());
+			LogUtility.error(firstParams, e);
+		} finally {
+			if (dbConnBean != null) {
+				try {
+					dbConnBean.releaseConnection();
+				} catch (MospException e) {
+					LogUtility.error(firstParams, e);
+				}
+			}
+			// 反映待ち或いは反映中の打刻ログから除く(反映しなかった打刻は再投入の対象とする)
+			for (Punch punch : batch) {
+				inFlightKeys.remove(punch.key);
+			}
+		}
+	}
+	
+	/**
+	 * 打刻を反映する。<br>
+	 * 打刻ログを確保できなかった場合(反映済或いは他のサーバで反映中等)は、反映しない。<br>
+	 * @param punch      打刻
+	 * @param dbConnBean DBコネクション取得クラス
+	 * @param connection DBコネクション
+	 * @param applied    反映した個人ID及び打刻区分毎の打刻時刻
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	static void apply(Punch punch, DBConnBean dbConnBean, Connection connection, Map<String, Date> applied)
+			throws MospException {
+		PunchLogBeanInterface bean = (PunchLogBeanInterface)InstanceFactory.loadBean(PunchLogBeanInterface.class,
+				punch.mospParams, connection);
+		// 打刻ログを確保できなかった場合
+		if (bean.claim(punch.dto) == false) {
+			dbConnBean.commit();
+			return;
+		}
+		// 同じ個人の同じ打刻区分を二度押し判定期間内に反映している場合
+		String key = punch.dto.getPersonalId() + punch.dto.getRecordType();
+		Date previous = applied.get(key);
+		if (previous != null && isDoubleTap(punch.mospParams, previous, punch.dto.getRecordTime())) {
+			bean.updateApplyStatus(punch.dto, CODE_APPLY_STATUS_DUPLICATED);
+			dbConnBean.commit();
+			return;
+		}
+		// 反映
+		if (bean.apply(punch.dto)) {
+			bean.updateApplyStatus(punch.dto, CODE_APPLY_STATUS_APPLIED);
+			dbConnBean.commit();
+			applied.put(key, punch.dto.getRecordTime());
+			return;
+		}
+		// 反映に失敗した場合
+		LogUtility.application(punch.mospParams,
+				punch.dto.getPersonalId() + punch.dto.getRecordType() + punch.mospParams.getErrorMessageList());
+		fail(punch, dbConnBean, connection);
+	}
+	
+	/**
+	 * 打刻を反映失敗とする。<br>
+	 * 当該打刻の反映処理をロールバックし、打刻ログを改めて確保した上で反映失敗とする。<br>
+	 * @param punch      打刻
+	 * @param dbConnBean DBコネクション取得クラス
+	 * @param connection DBコネクション
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	static void fail(Punch punch, DBConnBean dbConnBean, Connection connection) throws MospException {
+		dbConnBean.rollback();
+		punch.mospParams.getErrorMessageList().clear();
+		PunchLogBeanInterface bean = (PunchLogBeanInterface)InstanceFactory.loadBean(PunchLogBeanInterface.class,
+				punch.mospParams, connection);
+		// ロールバックで解放された打刻ログを再度確保
+		if (bean.claim(punch.dto)) {
+			bean.updateApplyStatus(punch.dto, CODE_APPLY_STATUS_FAILED);
+		}
+		dbConnBean.commit();
+	}
+	
+	/**
+	 * 個人IDに対応する打刻反映スレッドを取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param personalId 個人ID
+	 * @return 打刻反映スレッド
+	 */
+	static Lane getLane(MospParams mospParams, String personalId) {
+		Lane[] current = getLanes(mospParams);
+		return current[(personalId.hashCode() & Integer.MAX_VALUE) % current.length];
+	}
+	
+	/**
+	 * 打刻反映スレッド群を取得する。<br>
+	 * 初めて取得する際に、MosPアプリケーション設定のスレッド数及び反映待ち打刻数上限で生成する。<br>
+	 * MosP処理情報が無い場合は、スレッド数を1、反映待ち打刻数上限をデフォルト値とする。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 打刻反映スレッド群
+	 */
+	static synchronized Lane[] getLanes(MospParams mospParams) {
+		if (lanes == null) {
+			int count = mospParams == null ? 1 : mospParams.getApplicationProperty(APP_PUNCH_LANES,
+					DEFAULT_PUNCH_LANES);
+			int capacity = mospParams == null ? DEFAULT_PUNCH_LANE_CAPACITY : mospParams.getApplicationProperty(
+					APP_PUNCH_LANE_CAPACITY, DEFAULT_PUNCH_LANE_CAPACITY);
+			Lane[] created = new Lane[count < 1 ? 1 : count];
+			for (int i = 0; i < created.length; i++) {
+				created[i] = new Lane(capacity < 1 ? DEFAULT_PUNCH_LANE_CAPACITY : capacity);
+			}
+			lanes = created;
+		}
+		return lanes;
+	}
+	
+	/**
+	 * 未反映打刻ログ再投入スレッドを取得する。<br>
+	 * @return 未反映打刻ログ再投入スレッド
+	 */
+	static synchronized ScheduledThreadPoolExecutor getRecoveryExecutor() {
+		if (recoveryExecutor == null) {
+			recoveryExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+				
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, THREAD_NAME_RECOVERY);
+					// アプリケーションの停止を妨げないようにする
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return recoveryExecutor;
+	}
+	
+	/**
+	 * 二度押し判定期間(ミリ秒)を取得する。<br>
+	 * MosPアプリケーション設定の二度押し判定期間(秒)をミリ秒に換算する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 二度押し判定期間(ミリ秒)
+	 */
+	protected static long getDedupWindow(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_PUNCH_DEDUP_WINDOW, DEFAULT_PUNCH_DEDUP_WINDOW) * MILLI_SECOND;
+	}
+	
+	/**
+	 * 未反映打刻ログ再投入間隔(ミリ秒)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 未反映打刻ログ再投入間隔(ミリ秒)
+	 */
+	protected static long getRecoveryInterval(MospParams mospParams) {
+		int interval = mospParams.getApplicationProperty(APP_PUNCH_RECOVERY_INTERVAL,
+				DEFAULT_PUNCH_RECOVERY_INTERVAL);
+		return (interval < 1 ? 1 : interval) * MILLI_SECOND;
+	}
+	
+	/**
+	 * 打刻反映スレッド。<br>
+	 * 単一のスレッドで打刻を反映するため、同じ個人の打刻は受付順に反映される。<br>
+	 */
+	static final class Lane implements Runnable {
+		
+		/**
+		 * 反映待ち打刻(上限有)。<br>
+		 */
+		final BlockingQueue<Punch>	queue;
+		
+		/**
+		 * スレッド。<br>
+		 * 反映待ちの打刻が無い間は、スレッドを保持しない。<br>
+		 */
+		final ExecutorService		executor	= createExecutor();
+		
+		/**
+		 * 反映処理投入済フラグ。<br>
+		 * スレッドに投入する反映処理を一つに限るために用いる。<br>
+		 */
+		final AtomicBoolean			scheduled	= new AtomicBoolean();
+		
+		
+		/**
+		 * 打刻反映スレッドを生成する。<br>
+		 * @param capacity 反映待ち打刻数上限
+		 */
+		Lane(int capacity) {
+			queue = new LinkedBlockingQueue<Punch>(capacity);
+		}
+		
+		@Override
+		public void run() {
+			// 投入済フラグを解除してから取り出す(以降に投入された打刻は次の反映処理で取り出す)
+			scheduled.set(false);
+			drain(this);
+		}
+		
+		/**
+		 * 反映処理をスレッドに投入する。<br>
+		 * 既に投入済で未実行の反映処理がある場合は、投入しない。<br>
+		 */
+		void schedule() {
+			if (scheduled.compareAndSet(false, true)) {
+				executor.execute(this);
+			}
+		}
+		
+		/**
+		 * スレッドを生成する。<br>
+		 * @return スレッド
+		 */
+		static ExecutorService createExecutor() {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, THREAD_NAME);
+							// アプリケーションの停止を妨げないようにする
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+		
+	}
+	
+	/**
+	 * 反映待ち打刻。<br>
+	 */
+	static final class Punch {
+		
+		/**
+		 * MosP処理情報(受付時)。<br>
+		 */
+		final MospParams			mospParams;
+		
+		/**
+		 * 打刻ログ。<br>
+		 */
+		final PunchLogDtoInterface	dto;
+		
+		/**
+		 * 受付時刻(ミリ秒)。<br>
+		 */
+		final long					acceptTime;
+		
+		/**
+		 * 打刻ログのキー(DB接続先キー及びレコード識別ID)。<br>
+		 */
+		final String				key;
+		
+		
+		/**
+		 * 反映待ち打刻を生成する。<br>
+		 * @param mospParams MosP処理情報(受付時)
+		 * @param dto        打刻ログ
+		 * @param acceptTime 受付時刻(ミリ秒)
+		 */
+		Punch(MospParams mospParams, PunchLogDtoInterface dto, long acceptTime) {
+			this.mospParams = mospParams;
+			this.dto = dto;
+			this.acceptTime = acceptTime;
+			key = DBConnBean.getConnectionKey(mospParams) + ":" + dto.getTmdPunchLogId();
+		}
+		
+	}
+	
+}
@@ -0,0 +1,307 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.MospConst;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.TransactionUtility;
+import jp.mosp.platform.utils.MonthUtility;
+import jp.mosp.time.dao.settings.ScheduleDateDaoInterface;
+import jp.mosp.time.dto.settings.ScheduleDateDtoInterface;
+
+/**
+ * カレンダ(予定勤務形態)の保持に関する有用なメソッドを提供する。<br>
+ * <br>
+ * カレンダ日情報をDB接続先、カレンダコード及び年度毎に取得し、
+ * 年度の日毎の勤務形態コードを、勤務形態コード群への添字の配列として保持する。<br>
+ * 同じカレンダを利用する個人は、保持している配列を共有する。<br>
+ * 保持期間は、MosPアプリケーション設定(ScheduleTimelineTtl)で設定する(秒)。<br>
+ * <br>
+ * カレンダ日情報の登録時には、{@link #invalidate(MospParams, Connection)}で
+ * 当該DB接続先のカレンダをトランザクション終了時に破棄し、次のリクエストで改めて取得させる。<br>
+ * 破棄する前に取得を始めたカレンダが破棄後に保持されないよう、
+ * DB接続先毎の世代番号を破棄の度に進め、取得中に世代が変わったカレンダは保持しない。<br>
+ */
+public class ScheduleTimelineUtility {
+	
+	/**
+	 * MosPアプリケーション設定キー(カレンダ保持期間(秒))。<br>
+	 * 0以下が設定されている場合は、カレンダを保持しない。<br>
+	 */
+	protected static final String			APP_SCHEDULE_TIMELINE_TTL		= "ScheduleTimelineTtl";
+	
+	/**
+	 * カレンダ保持期間(秒)のデフォルト値。<br>
+	 */
+	protected static final int				DEFAULT_SCHEDULE_TIMELINE_TTL	= 300;
+	
+	/**
+	 * ミリ秒(1秒)。<br>
+	 */
+	protected static final long				MILLI_SECOND					= 1000L;
+	
+	/**
+	 * ミリ秒(1日)。<br>
+	 */
+	protected static final double			MILLI_DAY						= 24D * 60D * 60D * 1000D;
+	
+	/**
+	 * 年度別カレンダ群。<br>
+	 * key:DB接続先キー、カレンダコード及び年度<br>
+	 * value:年度別カレンダ<br>
+	 * <br>
+	 * 他パッケージに変更されないよう、パッケージプロテクテッドとする。<br>
+	 */
+	static final Map<String, ScheduleYear>			scheduleYears					= new ConcurrentHashMap<String, ScheduleYear>();
+	
+	/**
+	 * カレンダ世代番号群(key：DB接続先キー)。<br>
+	 * カレンダを破棄する度に進める。<br>
+	 */
+	static final ConcurrentMap<String, AtomicLong>	generations						= new ConcurrentHashMap<String, AtomicLong>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private ScheduleTimelineUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 対象日が含まれる年度の年度別カレンダを取得する。<br>
+	 * 保持している年度別カレンダが保持期間を過ぎている場合は、DBから改めて取得する。<br>
+	 * 保持期間が0以下である場合は、nullを返す。<br>
+	 * @param mospParams   MosP処理情報
+	 * @param connection   DBコネクション
+	 * @param scheduleCode カレンダコード
+	 * @param targetDate   対象日
+	 * @return 年度別カレンダ
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	public static ScheduleYear getScheduleYear(MospParams mospParams, Connection connection, String scheduleCode,
+			Date targetDate) throws MospException {
+		// 保持期間を取得
+		long ttl = mospParams.getApplicationProperty(APP_SCHEDULE_TIMELINE_TTL, DEFAULT_SCHEDULE_TIMELINE_TTL)
+				* MILLI_SECOND;
+		// 保持期間が0以下である場合
+		if (ttl <= 0) {
+			return null;
+		}
+		// 保持している年度別カレンダを取得
+		String connectionKey = DBConnBean.getConnectionKey(mospParams);
+		int fiscalYear = MonthUtility.getFiscalYear(targetDate, mospParams);
+		String key = getKeyPrefix(connectionKey) + scheduleCode + MospConst.APP_PROPERTY_SEPARATOR + fiscalYear;
+		ScheduleYear scheduleYear = scheduleYears.get(key);
+		// 保持期間内である場合
+		if (scheduleYear != null && System.currentTimeMillis() - scheduleYear.loadTime < ttl) {
+			return scheduleYear;
+		}
+		// 取得開始時の世代番号を取得
+		AtomicLong generation = getGeneration(connectionKey);
+		long loadGeneration = generation.get();
+		// 年度の初日及び最終日を取得
+		Date firstDate = MonthUtility.getYearDate(fiscalYear, mospParams);
+		Date lastDate = DateUtility.addDay(MonthUtility.getYearDate(fiscalYear + 1, mospParams), -1);
+		// 年度のカレンダ日情報リストを取得し年度別カレンダを作成
+		ScheduleDateDaoInterface dao = InstanceFactory.loadDaoInstance(ScheduleDateDaoInterface.class, mospParams,
+				connection);
+		scheduleYear = new ScheduleYear(scheduleCode, firstDate, lastDate, System.currentTimeMillis(),
+				dao.findForList(scheduleCode, firstDate, lastDate));
+		scheduleYears.put(key, scheduleYear);
+		// 取得中にカレンダが破棄された場合(取得したカレンダは古い可能性がある)
+		if (generation.get() != loadGeneration) {
+			scheduleYears.remove(key, scheduleYear);
+		}
+		return scheduleYear;
+	}
+	
+	/**
+	 * トランザクション終了時に、保持しているカレンダを破棄する。<br>
+	 * カレンダ日情報が登録された場合に用いる。<br>
+	 * コミット前の情報で作成されたカレンダも、トランザクション終了時に破棄される。<br>
+	 * 破棄するのは、当該DB接続先のカレンダのみとする。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	public static void invalidate(MospParams mospParams, Connection connection) {
+		// DB接続先キーを取得
+		final String connectionKey = DBConnBean.getConnectionKey(mospParams);
+		TransactionUtility.afterTransaction(connection, new Runnable() {
+			
+			@Override
+			public void run() {
+				// 世代番号を進める(取得中のカレンダを保持させない)
+				getGeneration(connectionKey).incrementAndGet();
+				// 当該DB接続先のカレンダを破棄
+				String prefix = getKeyPrefix(connectionKey);
+				Iterator<String> iterator = scheduleYears.keySet().iterator();
+				while (iterator.hasNext()) {
+					if (iterator.next().startsWith(prefix)) {
+						iterator.remove();
+					}
+				}
+			}
+		});
+	}
+	
+	/**
+	 * DB接続先のカレンダ世代番号を取得する。<br>
+	 * @param connectionKey DB接続先キー
+	 * @return カレンダ世代番号
+	 */
+	protected static AtomicLong getGeneration(String connectionKey) {
+		AtomicLong generation = generations.get(connectionKey);
+		if (generation == null) {
+			AtomicLong created = new AtomicLong();
+			generation = generations.putIfAbsent(connectionKey, created);
+			if (generation == null) {
+				generation = created;
+			}
+		}
+		return generation;
+	}
+	
+	/**
+	 * 年度別カレンダ群のキー接頭辞を取得する。<br>
+	 * @param connectionKey DB接続先キー
+	 * @return キー接頭辞
+	 */
+	protected static String getKeyPrefix(String connectionKey) {
+		return connectionKey + MospConst.APP_PROPERTY_SEPARATOR;
+	}
+	
+	/**
+	 * 年度別カレンダ。<br>
+	 * 年度の日毎の勤務形態コードを、勤務形態コード群への添字の配列で保持する。<br>
+	 * カレンダ日情報が無い日の添字は-1とする。<br>
+	 */
+	public static final class ScheduleYear {
+		
+		/**
+		 * カレンダコード。<br>
+		 */
+		final String	scheduleCode;
+		
+		/**
+		 * 年度の初日。<br>
+		 */
+		final Date		firstDate;
+		
+		/**
+		 * 年度の最終日。<br>
+		 */
+		final Date		lastDate;
+		
+		/**
+		 * 取得時刻(ミリ秒)。<br>
+		 */
+		final long		loadTime;
+		
+		/**
+		 * 勤務形態コード群。<br>
+		 */
+		final String[]	workTypeCodes;
+		
+		/**
+		 * 日毎の勤務形態コード群への添字。<br>
+		 */
+		final short[]	days;
+		
+		
+		/**
+		 * 年度別カレンダを生成する。<br>
+		 * @param scheduleCode カレンダコード
+		 * @param firstDate    年度の初日
+		 * @param lastDate     年度の最終日
+		 * @param loadTime     取得時刻(ミリ秒)
+		 * @param list         年度のカレンダ日情報リスト
+		 */
+		ScheduleYear(String scheduleCode, Date firstDate, Date lastDate, long loadTime,
+				List<ScheduleDateDtoInterface> list) {
+			this.scheduleCode = scheduleCode;
+			this.firstDate = firstDate;
+			this.lastDate = lastDate;
+			this.loadTime = loadTime;
+			days = new short[getIndex(lastDate) + 1];
+			Arrays.fill(days, (short)-1);
+			// 勤務形態コード群を作成しつつ日毎の添字を設定
+			List<String> codes = new ArrayList<String>();
+			Map<String, Short> indexes = new HashMap<String, Short>();
+			for (ScheduleDateDtoInterface dto : list) {
+				Short index = indexes.get(dto.getWorkTypeCode());
+				if (index == null) {
+					index = Short.valueOf((short)codes.size());
+					indexes.put(dto.getWorkTypeCode(), index);
+					codes.add(dto.getWorkTypeCode());
+				}
+				days[getIndex(dto.getScheduleDate())] = index.shortValue();
+			}
+			workTypeCodes = codes.toArray(new String[codes.size()]);
+		}
+		
+		/**
+		 * 対象カレンダコード及び対象日の勤務形態コードを保持しているかを確認する。<br>
+		 * @param targetScheduleCode 対象カレンダコード
+		 * @param targetDate         対象日
+		 * @return 確認結果(true：保持している、false：保持していない)
+		 */
+		public boolean isTarget(String targetScheduleCode, Date targetDate) {
+			return scheduleCode.equals(targetScheduleCode) && targetDate.before(firstDate) == false
+					&& targetDate.after(lastDate) == false;
+		}
+		
+		/**
+		 * 対象日の勤務形態コードを取得する。<br>
+		 * カレンダ日情報が無い場合は、空文字を返す。<br>
+		 * @param targetDate 対象日(年度内)
+		 * @return 勤務形態コード
+		 */
+		public String getWorkTypeCode(Date targetDate) {
+			short index = days[getIndex(targetDate)];
+			return index < 0 ? MospConst.STR_EMPTY : workTypeCodes[index];
+		}
+		
+		/**
+		 * 対象日の年度の初日からの日数を取得する。<br>
+		 * @param targetDate 対象日
+		 * @return 年度の初日からの日数
+		 */
+		int getIndex(Date targetDate) {
+			return (int)Math.round((targetDate.getTime() - firstDate.getTime()) / MILLI_DAY);
+		}
+		
+	}
+	
+}